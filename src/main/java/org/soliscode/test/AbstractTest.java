@@ -16,13 +16,17 @@
 
 package org.soliscode.test;
 
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.soliscode.test.contract.support.ContractSupport;
+import org.soliscode.test.perf.ContractMetricsExtension;
 
-/// Utility class for adding optional method support to contract classes.
+/// Utility class for adding optional method support to contract classes. Tests that extend this class also record
+/// timing and allocation metrics for each contract method using the [ContractMetricsExtension].
 ///
 /// @author evanbergstrom
 /// @since 1.0
 /// @see ContractSupport
+@ExtendWith(ContractMetricsExtension.class)
 public abstract class AbstractTest extends OptionalMethodSupport {
 
 }
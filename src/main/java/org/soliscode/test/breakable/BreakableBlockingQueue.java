@@ -0,0 +1,421 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.contract.queue.QueueMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A blocking queue that can be broken in well-defined ways in order to test the blocking queue contract classes.
+/// The elements are stored in a [LinkedBlockingQueue], so unless the queue is broken, it has the same behavior and
+/// performance as `LinkedBlockingQueue`; in particular, it does not permit `null` elements and it uses identity
+/// equality.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. The
+/// blocking methods in [QueueMethods] can also be removed, in which case the method throws an
+/// [UnsupportedOperationException].
+///
+/// A broken queue can be created with a capacity, the initial elements and a set of breaks:
+/// ```java
+///     BreakableBlockingQueue<Integer> broken = new BreakableBlockingQueue<>(16, List.of(1, 2, 3),
+///         Set.of(BreakableBlockingQueue.DRAIN_TO_POLLS_EACH_ELEMENT));
+/// ```
+/// @author evanbergstrom
+/// @param <E> The elements type for the `BlockingQueue`.
+/// @see QueueMethods
+/// @since 1.0
+public class BreakableBlockingQueue<E> extends AbstractBreakable implements BlockingQueue<E> {
+
+    private final @NotNull LinkedBlockingQueue<E> queue;
+    private final @NotNull LongAdder lockAcquisitions = new LongAdder();
+
+    /// The [put][BlockingQueue#put(Object)] method calls [offer][Queue#offer(Object)], so the element is discarded
+    /// instead of waiting for space when the queue is full.
+    /// @see BreakableBlockingQueue#put(Object)
+    public static final Break PUT_DOES_NOT_WAIT = new Break("put does not wait for space");
+
+    /// The [put][BlockingQueue#put(Object)] method ignores a `null` element, instead of throwing a
+    /// [NullPointerException].
+    /// @see BreakableBlockingQueue#put(Object)
+    public static final Break PUT_IGNORES_NULL = new Break("put ignores a null element");
+
+    /// The [take][BlockingQueue#take()] method returns `null` when the queue is empty, instead of waiting for an
+    /// element.
+    /// @see BreakableBlockingQueue#take()
+    public static final Break TAKE_DOES_NOT_WAIT = new Break("take does not wait for an element");
+
+    /// The [offer][BlockingQueue#offer(Object, long, TimeUnit)] method returns `false` at once when the queue is full,
+    /// instead of waiting up to the timeout for space.
+    /// @see BreakableBlockingQueue#offer(Object, long, TimeUnit)
+    public static final Break OFFER_WITH_TIMEOUT_DOES_NOT_WAIT = new Break("offer with a timeout does not wait");
+
+    /// The [poll][BlockingQueue#poll(long, TimeUnit)] method sleeps for the whole timeout when the queue is empty and
+    /// then polls once, instead of returning as soon as an element arrives.
+    /// @see BreakableBlockingQueue#poll(long, TimeUnit)
+    public static final Break POLL_WITH_TIMEOUT_SLEEPS = new Break("poll with a timeout sleeps for the timeout");
+
+    /// The [remainingCapacity][BlockingQueue#remainingCapacity()] method returns the capacity of the queue, without
+    /// subtracting the number of elements.
+    /// @see BreakableBlockingQueue#remainingCapacity()
+    public static final Break REMAINING_CAPACITY_IGNORES_SIZE = new Break("remainingCapacity ignores the size");
+
+    /// The [drainTo][BlockingQueue#drainTo(Collection)] methods remove the elements one at a time with
+    /// [poll][Queue#poll()], which acquires the lock of the queue for each element instead of once for the batch.
+    /// @see BreakableBlockingQueue#drainTo(Collection, int)
+    public static final Break DRAIN_TO_POLLS_EACH_ELEMENT = new Break("drainTo polls each element");
+
+    /// The [drainTo][BlockingQueue#drainTo(Collection, int)] method transfers every element, ignoring the maximum
+    /// number of elements.
+    /// @see BreakableBlockingQueue#drainTo(Collection, int)
+    public static final Break DRAIN_TO_IGNORES_MAX_ELEMENTS = new Break("drainTo ignores maxElements");
+
+    /// Creates an empty queue that has no capacity limit and no breaks.
+    public BreakableBlockingQueue() {
+        this(Integer.MAX_VALUE, Collections.emptyList(), Collections.emptySet());
+    }
+
+    /// Creates a queue with the elements of a collection, no capacity limit and no breaks.
+    /// @param c the initial elements of the queue.
+    public BreakableBlockingQueue(final @NotNull Collection<E> c) {
+        this(Integer.MAX_VALUE, c, Collections.emptySet());
+    }
+
+    /// Creates a queue with a capacity, the elements of a collection and the specified breaks.
+    /// @param capacity the capacity of the queue.
+    /// @param c the initial elements of the queue.
+    /// @param breaks the breaks for the queue.
+    /// @throws IllegalArgumentException if the capacity is not positive or is less than the number of elements.
+    /// @throws NullPointerException if any of the elements or either of the `c` or `breaks` parameters are `null`.
+    public BreakableBlockingQueue(final int capacity, final @NotNull Collection<E> c,
+                                  final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        if (c.size() > capacity) {
+            throw new IllegalArgumentException("the capacity is less than the number of elements: " + capacity);
+        }
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.queue.addAll(c);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return queue.contains(o);
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return queue.iterator();
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return queue.toArray();
+    }
+
+    @Override
+    public <T> T @NotNull [] toArray(final T @NotNull [] a) {
+        return queue.toArray(a);
+    }
+
+    @Override
+    public boolean add(final E e) {
+        return queue.add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return queue.remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return queue.containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends E> c) {
+        return queue.addAll(c);
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return queue.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return queue.retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        queue.clear();
+    }
+
+    @Override
+    public boolean offer(final E e) {
+        return queue.offer(e);
+    }
+
+    @Override
+    public E remove() {
+        lockAcquisitions.increment();
+        return queue.remove();
+    }
+
+    @Override
+    public E poll() {
+        lockAcquisitions.increment();
+        return queue.poll();
+    }
+
+    @Override
+    public E element() {
+        return queue.element();
+    }
+
+    @Override
+    public E peek() {
+        return queue.peek();
+    }
+
+    /// Implements the [put][BlockingQueue#put(Object)] method from the [BlockingQueue] interface. This method can be
+    /// broken using the following queue breaks:
+    /// - [PUT_DOES_NOT_WAIT][#PUT_DOES_NOT_WAIT]
+    /// - [PUT_IGNORES_NULL][#PUT_IGNORES_NULL]
+    ///
+    /// Support for this method can be removed using the optional method identifier [QueueMethods#Put].
+    /// @param e the element to add.
+    /// @throws InterruptedException if interrupted while waiting.
+    /// @throws NullPointerException if the element is `null`.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public void put(final E e) throws InterruptedException {
+        checkSupported(QueueMethods.Put, "put");
+        if (e == null && hasBreak(PUT_IGNORES_NULL)) {
+            return;
+        }
+        if (hasBreak(PUT_DOES_NOT_WAIT)) {
+            queue.offer(e);
+        } else {
+            queue.put(e);
+        }
+    }
+
+    /// Implements the [offer][BlockingQueue#offer(Object, long, TimeUnit)] method from the [BlockingQueue]
+    /// interface. This method can be broken using the following queue break:
+    /// - [OFFER_WITH_TIMEOUT_DOES_NOT_WAIT][#OFFER_WITH_TIMEOUT_DOES_NOT_WAIT]
+    ///
+    /// Support for this method can be removed using the optional method identifier [QueueMethods#Put].
+    /// @param e the element to add.
+    /// @param timeout how long to wait for space, in units of `unit`.
+    /// @param unit the unit of the `timeout` parameter.
+    /// @return `true` if the element was added, or `false` if the timeout expired first.
+    /// @throws InterruptedException if interrupted while waiting.
+    /// @throws NullPointerException if the element is `null`.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public boolean offer(final E e, final long timeout, final @NotNull TimeUnit unit) throws InterruptedException {
+        checkSupported(QueueMethods.Put, "offer");
+        if (hasBreak(OFFER_WITH_TIMEOUT_DOES_NOT_WAIT)) {
+            return queue.offer(e);
+        } else {
+            return queue.offer(e, timeout, unit);
+        }
+    }
+
+    /// Implements the [take][BlockingQueue#take()] method from the [BlockingQueue] interface. This method can be
+    /// broken using the following queue break:
+    /// - [TAKE_DOES_NOT_WAIT][#TAKE_DOES_NOT_WAIT]
+    ///
+    /// Support for this method can be removed using the optional method identifier [QueueMethods#Take].
+    /// @return the head of the queue.
+    /// @throws InterruptedException if interrupted while waiting.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull E take() throws InterruptedException {
+        checkSupported(QueueMethods.Take, "take");
+        lockAcquisitions.increment();
+        return hasBreak(TAKE_DOES_NOT_WAIT) ? queue.poll() : queue.take();
+    }
+
+    /// Implements the [poll][BlockingQueue#poll(long, TimeUnit)] method from the [BlockingQueue] interface. This
+    /// method can be broken using the following queue break:
+    /// - [POLL_WITH_TIMEOUT_SLEEPS][#POLL_WITH_TIMEOUT_SLEEPS]
+    ///
+    /// Support for this method can be removed using the optional method identifier [QueueMethods#Take].
+    /// @param timeout how long to wait for an element, in units of `unit`.
+    /// @param unit the unit of the `timeout` parameter.
+    /// @return the head of the queue, or `null` if the timeout expired first.
+    /// @throws InterruptedException if interrupted while waiting.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public E poll(final long timeout, final @NotNull TimeUnit unit) throws InterruptedException {
+        checkSupported(QueueMethods.Take, "poll");
+        lockAcquisitions.increment();
+        if (hasBreak(POLL_WITH_TIMEOUT_SLEEPS)) {
+            if (queue.isEmpty()) {
+                unit.sleep(timeout);
+            }
+            return queue.poll();
+        } else {
+            return queue.poll(timeout, unit);
+        }
+    }
+
+    /// Implements the [remainingCapacity][BlockingQueue#remainingCapacity()] method from the [BlockingQueue]
+    /// interface. This method can be broken using the following queue break:
+    /// - [REMAINING_CAPACITY_IGNORES_SIZE][#REMAINING_CAPACITY_IGNORES_SIZE]
+    /// @return the number of elements that can be added without blocking.
+    @Override
+    public int remainingCapacity() {
+        final int remaining = queue.remainingCapacity();
+        return hasBreak(REMAINING_CAPACITY_IGNORES_SIZE) ? remaining + queue.size() : remaining;
+    }
+
+    /// Implements the [drainTo][BlockingQueue#drainTo(Collection)] method from the [BlockingQueue] interface. This
+    /// method can be broken in the same ways as [#drainTo(Collection, int)].
+    /// @param c the collection to transfer the elements to.
+    /// @return the number of elements transferred.
+    /// @throws IllegalArgumentException if the collection is this queue.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public int drainTo(final @NotNull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /// Implements the [drainTo][BlockingQueue#drainTo(Collection, int)] method from the [BlockingQueue] interface.
+    /// This method can be broken using the following queue breaks:
+    /// - [DRAIN_TO_POLLS_EACH_ELEMENT][#DRAIN_TO_POLLS_EACH_ELEMENT]
+    /// - [DRAIN_TO_IGNORES_MAX_ELEMENTS][#DRAIN_TO_IGNORES_MAX_ELEMENTS]
+    ///
+    /// Support for this method can be removed using the optional method identifier [QueueMethods#DrainTo].
+    /// @param c the collection to transfer the elements to.
+    /// @param maxElements the maximum number of elements to transfer.
+    /// @return the number of elements transferred.
+    /// @throws IllegalArgumentException if the collection is this queue.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public int drainTo(final @NotNull Collection<? super E> c, final int maxElements) {
+        checkSupported(QueueMethods.DrainTo, "drainTo");
+        if (c == this) {
+            throw new IllegalArgumentException("cannot drain a queue to itself");
+        }
+        final int max = hasBreak(DRAIN_TO_IGNORES_MAX_ELEMENTS) ? Integer.MAX_VALUE : maxElements;
+        if (hasBreak(DRAIN_TO_POLLS_EACH_ELEMENT)) {
+            int transferred = 0;
+            E e;
+            while (transferred < max && (e = poll()) != null) {
+                c.add(e);
+                transferred++;
+            }
+            return transferred;
+        } else {
+            lockAcquisitions.increment();
+            return queue.drainTo(c, max);
+        }
+    }
+
+    /// Returns the number of times that this queue has acquired the lock of the backing [LinkedBlockingQueue] to take
+    /// elements from the head of the queue. Removing a single element acquires the lock once, and so does draining the
+    /// queue, unless it has the [DRAIN_TO_POLLS_EACH_ELEMENT][#DRAIN_TO_POLLS_EACH_ELEMENT] break.
+    /// @return the number of lock acquisitions.
+    public long lockAcquisitions() {
+        return lockAcquisitions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return queue.toString();
+    }
+
+    private void checkSupported(final QueueMethods method, final String name) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException("Unsupported method: " + name);
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableBlockingQueue` that have no capacity limit and no
+    /// breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable blocking queues.
+    public static <E> @NotNull CollectionProvider<E, BreakableBlockingQueue<E>> blockingQueueProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return blockingQueueProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableBlockingQueue` that have no capacity limit, given an
+    /// element provider and a set of breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableBlockingQueue`.
+    /// @return a collection provider for breakable blocking queues.
+    public static <E> @NotNull CollectionProvider<E, BreakableBlockingQueue<E>> blockingQueueProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return blockingQueueProvider(elementProvider, Integer.MAX_VALUE, breaks);
+    }
+
+    /// Creates a collection provider for instances of `BreakableBlockingQueue`, given an element provider, the
+    /// capacity of the queues and a set of breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param capacity the capacity of each instance of `BreakableBlockingQueue`.
+    /// @param breaks the breaks to apply to each instance of `BreakableBlockingQueue`.
+    /// @return a collection provider for breakable blocking queues.
+    public static <E> @NotNull CollectionProvider<E, BreakableBlockingQueue<E>> blockingQueueProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final int capacity,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableBlockingQueue<>(capacity, Collections.emptyList(), breaks),
+                (o) -> new BreakableBlockingQueue<>(capacity, o, breaks),
+                (c) -> new BreakableBlockingQueue<>(capacity, c, breaks),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableBlockingQueue` that have no capacity limit and no breaks applied.
+    /// @param <E> element type
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableBlockingQueue<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableBlockingQueue<E>> provider() {
+            return BreakableBlockingQueue.blockingQueueProvider(elementProvider());
+        }
+    }
+}
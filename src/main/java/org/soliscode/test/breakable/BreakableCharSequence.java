@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.provider.CharSequenceProvider;
+import org.soliscode.test.provider.CharSequenceProviders;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/// A char sequence that can be broken in well-defined ways in order to test the char sequence contract classes. The
+/// characters are stored in an array, and a subsequence is a view that shares the array of the sequence, so unless the
+/// sequence is broken, `length` and `charAt` take constant time and `subSequence` allocates a constant amount of
+/// memory.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. A
+/// subsequence has the same breaks as the sequence it was created from.
+///
+/// A broken sequence can be created from a string and a set of breaks:
+/// ```java
+///     BreakableCharSequence broken = new BreakableCharSequence("abc",
+///         Set.of(BreakableCharSequence.CHAR_AT_SCANS));
+/// ```
+/// @author evanbergstrom
+/// @see org.soliscode.test.contract.text.CharSequenceContract
+/// @since 1.0
+public class BreakableCharSequence extends AbstractBreakable implements CharSequence {
+
+    private final char @NotNull [] chars;
+    private final int offset;
+    private final int length;
+
+    /// The [length][CharSequence#length()] method counts the characters in the sequence, so it takes linear time.
+    /// @see BreakableCharSequence#length()
+    public static final Break LENGTH_COUNTS_CHARS = new Break("length counts the characters");
+
+    /// The [charAt][CharSequence#charAt(int)] method reads each character before the index, in the manner of a
+    /// variable-length encoding, so it takes linear time.
+    /// @see BreakableCharSequence#charAt(int)
+    public static final Break CHAR_AT_SCANS = new Break("charAt scans the sequence");
+
+    /// The [subSequence][CharSequence#subSequence(int, int)] method includes the character at the end index, if
+    /// there is one.
+    /// @see BreakableCharSequence#subSequence(int, int)
+    public static final Break SUB_SEQUENCE_END_IS_INCLUSIVE = new Break("subSequence end is inclusive");
+
+    /// The [subSequence][CharSequence#subSequence(int, int)] method copies the whole sequence before it creates the
+    /// view, so it allocates memory in proportion to the length of the sequence.
+    /// @see BreakableCharSequence#subSequence(int, int)
+    public static final Break SUB_SEQUENCE_COPIES_SEQUENCE = new Break("subSequence copies the sequence");
+
+    /// The [chars][CharSequence#chars()] method converts the sequence to a string and streams its characters, so it
+    /// allocates memory in proportion to the length of the sequence.
+    /// @see BreakableCharSequence#chars()
+    public static final Break CHARS_COPIES_SEQUENCE = new Break("chars copies the sequence");
+
+    /// Creates a sequence with the characters of another sequence and no breaks.
+    /// @param chars the characters of the sequence.
+    public BreakableCharSequence(final @NotNull CharSequence chars) {
+        this(chars, Collections.emptySet());
+    }
+
+    /// Creates a sequence with the characters of another sequence and the specified breaks.
+    /// @param chars the characters of the sequence.
+    /// @param breaks the breaks for the sequence.
+    /// @throws NullPointerException if either argument is `null`.
+    public BreakableCharSequence(final @NotNull CharSequence chars, final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        this.chars = chars.toString().toCharArray();
+        this.offset = 0;
+        this.length = this.chars.length;
+    }
+
+    private BreakableCharSequence(final @NotNull BreakableCharSequence other, final char @NotNull [] chars,
+                                  final int offset, final int length) {
+        super(other);
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /// Implements the [length][CharSequence#length()] method from the [CharSequence] interface. This method can be
+    /// broken using the following break:
+    /// - [LENGTH_COUNTS_CHARS][#LENGTH_COUNTS_CHARS]
+    /// @return the number of characters in the sequence.
+    @Override
+    public int length() {
+        if (hasBreak(LENGTH_COUNTS_CHARS)) {
+            int count = 0;
+            for (int i = offset; i < offset + length; i++) {
+                Blackhole.consume(chars[i]);
+                count++;
+            }
+            return count;
+        }
+        return length;
+    }
+
+    /// Implements the [charAt][CharSequence#charAt(int)] method from the [CharSequence] interface. This method can
+    /// be broken using the following break:
+    /// - [CHAR_AT_SCANS][#CHAR_AT_SCANS]
+    /// @param index the index of the character.
+    /// @return the character at the index.
+    /// @throws IndexOutOfBoundsException if the index is negative or not less than the length.
+    @Override
+    public char charAt(final int index) {
+        Objects.checkIndex(index, length);
+        if (hasBreak(CHAR_AT_SCANS)) {
+            for (int i = offset; i < offset + index; i++) {
+                Blackhole.consume(chars[i]);
+            }
+        }
+        return chars[offset + index];
+    }
+
+    /// Implements the [subSequence][CharSequence#subSequence(int, int)] method from the [CharSequence] interface,
+    /// returning a view that shares the characters of this sequence. This method can be broken using the following
+    /// breaks:
+    /// - [SUB_SEQUENCE_END_IS_INCLUSIVE][#SUB_SEQUENCE_END_IS_INCLUSIVE]
+    /// - [SUB_SEQUENCE_COPIES_SEQUENCE][#SUB_SEQUENCE_COPIES_SEQUENCE]
+    /// @param start the index of the first character, inclusive.
+    /// @param end the index of the last character, exclusive.
+    /// @return a view of the characters in the range.
+    /// @throws IndexOutOfBoundsException if the range is not within the sequence or the start is after the end.
+    @Override
+    public @NotNull CharSequence subSequence(final int start, final int end) {
+        Objects.checkFromToIndex(start, end, length);
+        final int last = hasBreak(SUB_SEQUENCE_END_IS_INCLUSIVE) ? Math.min(end + 1, length) : end;
+        final char[] source = hasBreak(SUB_SEQUENCE_COPIES_SEQUENCE) ? chars.clone() : chars;
+        return new BreakableCharSequence(this, source, offset + start, last - start);
+    }
+
+    /// Implements the [chars][CharSequence#chars()] method from the [CharSequence] interface. This method can be
+    /// broken using the following break:
+    /// - [CHARS_COPIES_SEQUENCE][#CHARS_COPIES_SEQUENCE]
+    /// @return a stream of the characters in the sequence.
+    @Override
+    public @NotNull IntStream chars() {
+        if (hasBreak(CHARS_COPIES_SEQUENCE)) {
+            return toString().chars();
+        }
+        return CharSequence.super.chars();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return new String(chars, offset, length);
+    }
+
+    /// Creates a char sequence provider for instances of `BreakableCharSequence` that do not have any breaks.
+    /// @return a char sequence provider for breakable sequences.
+    public static @NotNull CharSequenceProvider<BreakableCharSequence> provider() {
+        return provider(Set.of());
+    }
+
+    /// Creates a char sequence provider for instances of `BreakableCharSequence`, given a set of breaks.
+    /// @param breaks the breaks to apply to each instance of `BreakableCharSequence`.
+    /// @return a char sequence provider for breakable sequences.
+    public static @NotNull CharSequenceProvider<BreakableCharSequence> provider(final @NotNull Set<Break> breaks) {
+        return CharSequenceProviders.from((chars) -> new BreakableCharSequence(chars, breaks));
+    }
+}
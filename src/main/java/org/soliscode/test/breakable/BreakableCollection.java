@@ -25,6 +25,7 @@ import org.soliscode.test.util.CollectionTestOps;
 import org.soliscode.test.util.IterableTestOps;
 
 import java.util.*;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
 /// A collection that can be broken in well-defined ways in order to test collection utilities or testing classes.
@@ -99,6 +100,16 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#addAll(Collection)
     public static final Break ADD_ALL_SKIPS_LAST_ELEMENT = new Break("ADD_ALL_SKIPS_LAST_ELEMENT");
 
+    /// The [addAll][Collection#addAll(Collection)] method copies the argument into a list before adding the elements,
+    /// so the elements are copied once more than necessary.
+    /// @see BreakableCollection#addAll(Collection)
+    public static final Break ADD_ALL_COPIES_THE_ARGUMENT = new Break("ADD_ALL_COPIES_THE_ARGUMENT");
+
+    /// The [addAll][Collection#addAll(Collection)] method adds the elements one at a time, so the underlying
+    /// collection cannot make room for all the elements at once and may grow its storage many times.
+    /// @see BreakableCollection#addAll(Collection)
+    public static final Break ADD_ALL_ADDS_ONE_AT_A_TIME = new Break("ADD_ALL_ADDS_ONE_AT_A_TIME");
+
     /// The [clear][Collection#clear] method doers not remove any elements,
     /// @see BreakableCollection#clear()
     public static final Break CLEAR_DOES_NOT_REMOVE_ANY_ELEMENTS = new Break("CLEAR_DOES_NOT_REMOVE_ANY_ELEMENTS");
@@ -135,6 +146,11 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#containsAll(Collection)
     public static final Break CONTAINS_ALL_RETURNS_OPPOSITE_VALUE = new Break("CONTAINS_ALL_RETURNS_OPPOSITE_VALUE");
 
+    /// The `containsAll` method compares each element of the argument with the elements of the collection in turn,
+    /// instead of calling `contains`, so it takes linear time per element even if the collection is hash-based.
+    /// @see BreakableCollection#containsAll(Collection)
+    public static final Break CONTAINS_ALL_SCANS_THE_COLLECTION = new Break("CONTAINS_ALL_SCANS_THE_COLLECTION");
+
     /// The `isEmpty` method will always return a true.
     /// @see BreakableCollection#isEmpty()
     public static final Break IS_EMPTY_ALWAYS_RETURNS_TRUE = new Break("IS_EMPTY_ALWAYS_RETURNS_TRUE");
@@ -181,6 +197,11 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#removeAll(Collection)
     public static final Break REMOVE_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE = new Break("REMOVE_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE");
 
+    /// The [removeAll][Collection#removeAll] method copies the argument into a list before removing the elements, so
+    /// each lookup in the argument takes linear time even if the argument is hash-based.
+    /// @see BreakableCollection#removeAll(Collection)
+    public static final Break REMOVE_ALL_COPIES_THE_ARGUMENT = new Break("REMOVE_ALL_COPIES_THE_ARGUMENT");
+
     /// The [removeAll][Collection#removeAll] method skips the first element to be removed.
     /// @see BreakableCollection#removeAll(Collection)
     public static final Break REMOVE_ALL_SKIPS_FIRST_ELEMENT = new Break("REMOVE_ALL_SKIPS_FIRST_ELEMENT");
@@ -215,6 +236,13 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#removeIf(Predicate)
     public static final Break REMOVE_IF_SKIPS_LAST_ELEMENT = new Break("REMOVE_IF_SKIPS_LAST_ELEMENT");
 
+    /// The [removeIf][Collection#removeIf] method removes each matching element as soon as it is found, using the
+    /// iterator of the underlying collection, instead of compacting the remaining elements in a single pass. If the
+    /// elements are stored in an array, the elements after each removed element are shifted, so removing a fraction
+    /// of the elements takes quadratic time.
+    /// @see BreakableCollection#removeIf(Predicate)
+    public static final Break REMOVE_IF_SHIFTS_PER_ELEMENT = new Break("REMOVE_IF_SHIFTS_PER_ELEMENT");
+
     /// The [retainAll][java.util.Collection#retainAll] method will not retain any elements to the collection
     /// @see BreakableCollection#retainAll(Collection)
     public static final Break RETAIN_ALL_DOES_NOT_RETAIN_ANY_ELEMENTS = new Break("RETAIN_ALL_DOES_NOT_RETAIN_ANY_ELEMENTS");
@@ -233,6 +261,11 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#retainAll(Collection)
     public static final Break RETAIN_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE = new Break("RETAIN_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE");
 
+    /// The [retainAll][java.util.Collection#retainAll] method copies the argument into a list before retaining the
+    /// elements, so each lookup in the argument takes linear time even if the argument is hash-based.
+    /// @see BreakableCollection#retainAll(Collection)
+    public static final Break RETAIN_ALL_COPIES_THE_ARGUMENT = new Break("RETAIN_ALL_COPIES_THE_ARGUMENT");
+
     /// The [retainAll][java.util.Collection#retainAll] method skips the first element to be retained.
     /// @see BreakableCollection#retainAll(Collection)
     public static final Break RETAIN_ALL_SKIPS_FIRST_ELEMENT = new Break("RETAIN_ALL_SKIPS_FIRST_ELEMENT");
@@ -265,6 +298,11 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#toArray()
     public static final Break TO_ARRAY_MISSING_LAST_ELEMENT = new Break("TO_ARRAY_MISSING_LAST_ELEMENT");
 
+    /// The 'toArray' method copies the elements into a temporary array and then copies that array into the result,
+    /// so it allocates two arrays instead of one.
+    /// @see BreakableCollection#toArray()
+    public static final Break TO_ARRAY_COPIES_TWICE = new Break("TO_ARRAY_COPIES_TWICE");
+
     /// The 'toArray([])' method does not copy the elements into the array
     /// @see BreakableCollection#toArray(Object[])
     public static final Break TO_ARRAY_STORE_DOES_NOT_COPY_ELEMENTS = new Break("TO_ARRAY_STORE_DOES_NOT_COPY_ELEMENTS");
@@ -285,6 +323,16 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// @see BreakableCollection#toArray(Object[])
     public static final Break TO_ARRAY_STORE_MISSING_LAST_ELEMENT = new Break("TO_ARRAY_STORE_MISSING_LAST_ELEMENT");
 
+    /// The 'toArray([])' method always allocates a new array, even if the array argument is large enough to hold the
+    /// elements.
+    /// @see BreakableCollection#toArray(Object[])
+    public static final Break TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY = new Break("TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY");
+
+    /// The 'toArray(IntFunction)' method copies the elements into a temporary array and then copies that array into
+    /// the array created by the generator, so it allocates two arrays instead of one.
+    /// @see BreakableCollection#toArray(IntFunction)
+    public static final Break TO_ARRAY_GENERATOR_COPIES_TWICE = new Break("TO_ARRAY_GENERATOR_COPIES_TWICE");
+
 
     /// Creates an empty collection that has no breaks.
     public BreakableCollection() {
@@ -447,6 +495,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [TO_ARRAY_RETURNS_EMPTY_ARRAY][BreakableCollection#TO_ARRAY_RETURNS_EMPTY_ARRAY]
     /// - [TO_ARRAY_MISSING_FIRST_ELEMENT][BreakableCollection#TO_ARRAY_MISSING_FIRST_ELEMENT]
     /// - [TO_ARRAY_MISSING_LAST_ELEMENT][BreakableCollection#TO_ARRAY_MISSING_LAST_ELEMENT]
+    /// - [TO_ARRAY_COPIES_TWICE][BreakableCollection#TO_ARRAY_COPIES_TWICE]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -465,6 +514,8 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         Object[] array = collection.toArray();
         if (array.length == 0) {
             return array;
+        } else if (hasBreak(TO_ARRAY_COPIES_TWICE)) {
+            return Arrays.copyOf(array, array.length);
         } else if (hasBreak(TO_ARRAY_RETURNS_EMPTY_ARRAY)) {
             return Arrays.copyOf(array, 0);
         } else if (hasBreak(TO_ARRAY_MISSING_FIRST_ELEMENT)) {
@@ -483,6 +534,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [TO_ARRAY_STORE_RETURNS_EMPTY_ARRAY][BreakableCollection#TO_ARRAY_STORE_RETURNS_EMPTY_ARRAY]
     /// - [TO_ARRAY_STORE_MISSING_FIRST_ELEMENT][BreakableCollection#TO_ARRAY_STORE_MISSING_FIRST_ELEMENT]
     /// - [TO_ARRAY_STORE_MISSING_LAST_ELEMENT][BreakableCollection#TO_ARRAY_STORE_MISSING_LAST_ELEMENT]
+    /// - [TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY][BreakableCollection#TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -501,7 +553,9 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
             return a;
         }
 
-        T[] array = collection.toArray(a);
+        T[] array = hasBreak(TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY)
+                ? collection.toArray(Arrays.copyOf(a, 0))
+                : collection.toArray(a);
         if (hasBreak(TO_ARRAY_STORE_RETURNS_EMPTY_ARRAY)) {
             Arrays.fill(array, null);
         } else if (hasBreak(TO_ARRAY_STORE_MISSING_FIRST_ELEMENT)) {
@@ -515,6 +569,33 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         return array;
     }
 
+    /// Implements the [toArray][Collection#toArray(IntFunction)] method from the [Collection] interface. Unless it
+    /// is broken, the array is created by calling the generator with a length of zero and passing it to
+    /// [#toArray(Object\[\])], which is the default implementation, so the breaks of that method also apply. This
+    /// method can be broken using the following collection break:
+    /// - [TO_ARRAY_GENERATOR_COPIES_TWICE][BreakableCollection#TO_ARRAY_GENERATOR_COPIES_TWICE]
+    ///
+    /// A collection that has this break can be constructed using the builder:
+    /// ```java
+    ///     Collection<Integer> collection = Breakables.buildCollection(1,2,3,4,5)
+    ///         .withBreak(TO_ARRAY_GENERATOR_COPIES_TWICE)
+    ///         .build();
+    /// ```
+    /// @param generator a function which produces a new array of the desired type and the provided length.
+    /// @return An array with the elements from the collection, or some other value if the collection is broken.
+    /// @see Collection#toArray(IntFunction)
+    @Override
+    public <T> T @NotNull [] toArray(@NotNull IntFunction<T[]> generator) {
+        if (hasBreak(TO_ARRAY_GENERATOR_COPIES_TWICE)) {
+            Object[] elements = collection.toArray();
+            T[] array = generator.apply(elements.length);
+            System.arraycopy(elements, 0, array, 0, elements.length);
+            return array;
+        } else {
+            return Collection.super.toArray(generator);
+        }
+    }
+
     /// Implements the [add][Collection#add] method from the [Collection] interface. This method can be broken using
     /// the following collection breaks:
     /// - [ADD_DOES_NOT_ADD_ELEMENT][BreakableCollection#ADD_DOES_NOT_ADD_ELEMENT]
@@ -620,6 +701,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [CONTAINS_ALL_ALWAYS_RETURNS_TRUE][BreakableCollection#CONTAINS_ALL_ALWAYS_RETURNS_TRUE]
     /// - [CONTAINS_ALL_ALWAYS_RETURNS_FALSE][BreakableCollection#CONTAINS_ALL_ALWAYS_RETURNS_FALSE]
     /// - [CONTAINS_ALL_RETURNS_OPPOSITE_VALUE][BreakableCollection#CONTAINS_ALL_RETURNS_OPPOSITE_VALUE]
+    /// - [CONTAINS_ALL_SCANS_THE_COLLECTION][BreakableCollection#CONTAINS_ALL_SCANS_THE_COLLECTION]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -643,6 +725,13 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
                 return false;
             } else if (hasBreak(CONTAINS_ALL_RETURNS_OPPOSITE_VALUE)) {
                 return !collection.containsAll(c);
+            } else if (hasBreak(CONTAINS_ALL_SCANS_THE_COLLECTION)) {
+                for (Object o : c) {
+                    if (collection.stream().noneMatch(e -> Objects.equals(o, e))) {
+                        return false;
+                    }
+                }
+                return true;
             } else {
                 return collection.containsAll(c);
             }
@@ -659,6 +748,11 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [ADD_ALL_ALWAYS_RETURNS_TRUE][BreakableCollection#ADD_ALL_ALWAYS_RETURNS_TRUE]
     /// - [ADD_ALL_ALWAYS_RETURNS_FALSE][BreakableCollection#ADD_ALL_ALWAYS_RETURNS_FALSE]
     /// - [ADD_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE][BreakableCollection#ADD_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE]
+    /// - [ADD_ALL_COPIES_THE_ARGUMENT][BreakableCollection#ADD_ALL_COPIES_THE_ARGUMENT]
+    /// - [ADD_ALL_ADDS_ONE_AT_A_TIME][BreakableCollection#ADD_ALL_ADDS_ONE_AT_A_TIME]
+    ///
+    /// Unless it is broken, the argument is passed directly to the underlying collection, so this method allocates
+    /// no more than the underlying collection does and can be used as a double in performance tests.
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -686,13 +780,20 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         if (supportsMethod(CollectionMethods.AddAll)) {
             boolean result = false;
             if (c.stream().allMatch(this::checkNewElement)) {
-                List<E> l = new ArrayList<>(c);
                 if (hasBreak(ADD_ALL_SKIPS_FIRST_ELEMENT)) {
+                    List<E> l = new ArrayList<>(c);
                     result = collection.addAll(l.subList(1, l.size()));
                 } else if (hasBreak(ADD_ALL_SKIPS_LAST_ELEMENT)) {
+                    List<E> l = new ArrayList<>(c);
                     result = collection.addAll(l.subList(0, l.size() - 1));
+                } else if (hasBreak(ADD_ALL_COPIES_THE_ARGUMENT)) {
+                    result = collection.addAll(new ArrayList<>(c));
+                } else if (hasBreak(ADD_ALL_ADDS_ONE_AT_A_TIME)) {
+                    for (E e : c) {
+                        result |= collection.add(e);
+                    }
                 } else if (!hasBreak(ADD_ALL_DOES_NOT_ADD_ANY_ELEMENTS)) {
-                    result = collection.addAll(l);
+                    result = collection.addAll(c);
                 }
             }
 
@@ -718,6 +819,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [REMOVE_ALL_ALWAYS_RETURNS_TRUE][BreakableCollection#REMOVE_ALL_ALWAYS_RETURNS_TRUE]
     /// - [REMOVE_ALL_ALWAYS_RETURNS_FALSE][BreakableCollection#REMOVE_ALL_ALWAYS_RETURNS_FALSE]
     /// - [REMOVE_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE][BreakableCollection#REMOVE_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE]
+    /// - [REMOVE_ALL_COPIES_THE_ARGUMENT][BreakableCollection#REMOVE_ALL_COPIES_THE_ARGUMENT]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -744,13 +846,16 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         if (supportsMethod(CollectionMethods.RemoveAll)) {
             c.forEach(this::checkArgument);
             boolean result = false;
-            List<?> l = new ArrayList<>(c);
             if (hasBreak(REMOVE_ALL_SKIPS_FIRST_ELEMENT)) {
+                List<?> l = new ArrayList<>(c);
                 result = collection.removeAll(l.subList(1, l.size()));
             } else if (hasBreak(REMOVE_ALL_SKIPS_LAST_ELEMENT)) {
+                List<?> l = new ArrayList<>(c);
                 result = collection.removeAll(l.subList(0, l.size()-1));
+            } else if (hasBreak(REMOVE_ALL_COPIES_THE_ARGUMENT)) {
+                result = collection.removeAll(new ArrayList<>(c));
             } else if (!hasBreak(REMOVE_ALL_DOES_NOT_REMOVE_ANY_ELEMENTS)) {
-                result = collection.removeAll(l);
+                result = collection.removeAll(c);
             }
             if (hasBreak(REMOVE_ALL_ALWAYS_RETURNS_TRUE)) {
                 return true;
@@ -774,6 +879,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [REMOVE_IF_ALWAYS_RETURNS_TRUE][BreakableCollection#REMOVE_IF_ALWAYS_RETURNS_TRUE]
     /// - [REMOVE_IF_ALWAYS_RETURNS_FALSE][BreakableCollection#REMOVE_IF_ALWAYS_RETURNS_FALSE]
     /// - [REMOVE_IF_ALWAYS_RETURNS_OPPOSITE_VALUE][BreakableCollection#REMOVE_IF_ALWAYS_RETURNS_OPPOSITE_VALUE]
+    /// - [REMOVE_IF_SHIFTS_PER_ELEMENT][BreakableCollection#REMOVE_IF_SHIFTS_PER_ELEMENT]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -811,8 +917,17 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
                         i.remove();
                     }
                 }
+            } else if (hasBreak(REMOVE_IF_SHIFTS_PER_ELEMENT)) {
+                Objects.requireNonNull(filter);
+                Iterator<E> i = collection.iterator();
+                while (i.hasNext()) {
+                    if (filter.test(i.next())) {
+                        i.remove();
+                        changed = true;
+                    }
+                }
             } else if (!hasBreak(REMOVE_IF_DOES_NOT_REMOVE_ANY_ELEMENTS)) {
-                changed = Collection.super.removeIf(filter);
+                changed = collection.removeIf(filter);
             }
 
             if (hasBreak(REMOVE_IF_ALWAYS_RETURNS_TRUE)) {
@@ -837,6 +952,7 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
     /// - [RETAIN_ALL_ALWAYS_RETURNS_TRUE][BreakableCollection#RETAIN_ALL_ALWAYS_RETURNS_TRUE]
     /// - [RETAIN_ALL_ALWAYS_RETURNS_FALSE][BreakableCollection#RETAIN_ALL_ALWAYS_RETURNS_FALSE]
     /// - [RETAIN_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE][BreakableCollection#RETAIN_ALL_ALWAYS_RETURNS_OPPOSITE_VALUE]
+    /// - [RETAIN_ALL_COPIES_THE_ARGUMENT][BreakableCollection#RETAIN_ALL_COPIES_THE_ARGUMENT]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -863,13 +979,16 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         if (supportsMethod(CollectionMethods.RetainAll)) {
             c.forEach(this::checkArgument);
             boolean result = false;
-            List<?> l = new ArrayList<>(c);
             if (hasBreak(RETAIN_ALL_SKIPS_FIRST_ELEMENT)) {
+                List<?> l = new ArrayList<>(c);
                 result = collection.retainAll(l.subList(1, l.size()));
             } else if (hasBreak(RETAIN_ALL_SKIPS_LAST_ELEMENT)) {
+                List<?> l = new ArrayList<>(c);
                 result = collection.retainAll(l.subList(0, l.size()-1));
+            } else if (hasBreak(RETAIN_ALL_COPIES_THE_ARGUMENT)) {
+                result = collection.retainAll(new ArrayList<>(c));
             } else if (!hasBreak(RETAIN_ALL_DOES_NOT_RETAIN_ANY_ELEMENTS)) {
-                result = collection.retainAll(l);
+                result = collection.retainAll(c);
             }
             if (hasBreak(RETAIN_ALL_ALWAYS_RETURNS_TRUE)) {
                 return true;
@@ -1088,6 +1207,24 @@ public class BreakableCollection<E> extends BreakableIterable<E> implements Coll
         );
     }
 
+    /// Creates a collection provider for instances of `BreakableCollection` that store their elements in a [HashSet],
+    /// given an element provider and a set of breaks. The collections take constant time to find an element unless
+    /// a break makes them scan the elements.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableCollection`.
+    /// @return a collection provider for hash-based breakable collections.
+    public static <E> @NotNull CollectionProvider<E, BreakableCollection<E>> hashedCollectionProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableCollection<>(new HashSet<>(), breaks, 0),
+                (o) -> new BreakableCollection<>(new HashSet<>(o.collection), breaks, 0),
+                (c) -> new BreakableCollection<>(new HashSet<>(c), breaks, 0),
+                elementProvider
+        );
+    }
+
     /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
     /// `BreakableCollection` that do not have any breaks applied.
     /// @param <E> element type
@@ -0,0 +1,543 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.OptionalMethod;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.queue.QueueMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/// A deque that can be broken in well-defined ways in order to test the queue and deque contract classes. The
+/// elements are stored in a ring buffer, so unless the deque is broken, the operations on both ends take amortized
+/// constant time and a deque with a bounded number of elements has a bounded footprint, like [ArrayDeque]. Unlike
+/// `ArrayDeque`, it permits `null` elements.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. In
+/// addition, it supports the breaks in the [BreakableSequencedCollection] class. The
+/// [BUFFER_DOES_NOT_WRAP][#BUFFER_DOES_NOT_WRAP] break changes how the elements are stored, so it only has an effect
+/// if it is given when the deque is created:
+/// ```java
+///     BreakableDeque<Integer> broken = new BreakableDeque<>(List.of(1, 2, 3),
+///         Set.of(BreakableDeque.BUFFER_DOES_NOT_WRAP), 0);
+/// ```
+/// @author evanbergstrom
+/// @param <E> The elements type for the `Deque`.
+/// @see QueueMethods
+/// @since 1.0
+public class BreakableDeque<E> extends BreakableSequencedCollection<E> implements Deque<E> {
+
+    private final @NotNull RingBuffer<E> buffer;
+
+    /// The [offer][Queue#offer(Object)] method returns `true` without adding the element.
+    /// @see BreakableDeque#offer(Object)
+    public static final Break OFFER_DOES_NOT_ADD_ELEMENT = new Break("offer does not add the element");
+
+    /// The [offer][Queue#offer(Object)] method steps through every element of the deque before adding the element.
+    /// @see BreakableDeque#offer(Object)
+    public static final Break OFFER_IS_LINEAR_TIME = new Break("offer walks the deque");
+
+    /// The [poll][Queue#poll()] method returns the first element without removing it.
+    /// @see BreakableDeque#poll()
+    public static final Break POLL_DOES_NOT_REMOVE_ELEMENT = new Break("poll does not remove the element");
+
+    /// The [poll][Queue#poll()] method removes the last element instead of the first, so the deque is LIFO.
+    /// @see BreakableDeque#poll()
+    public static final Break POLL_REMOVES_LAST_ELEMENT = new Break("poll removes the last element");
+
+    /// The [poll][Queue#poll()] method throws a [NoSuchElementException] when the deque is empty, instead of
+    /// returning `null`.
+    /// @see BreakableDeque#poll()
+    public static final Break POLL_THROWS_WHEN_EMPTY = new Break("poll throws when the deque is empty");
+
+    /// The [poll][Queue#poll()] method steps through every element of the deque before removing the first one.
+    /// @see BreakableDeque#poll()
+    public static final Break POLL_IS_LINEAR_TIME = new Break("poll walks the deque");
+
+    /// The [peek][Queue#peek()] method throws a [NoSuchElementException] when the deque is empty, instead of
+    /// returning `null`.
+    /// @see BreakableDeque#peek()
+    public static final Break PEEK_THROWS_WHEN_EMPTY = new Break("peek throws when the deque is empty");
+
+    /// The [push][Deque#push(Object)] method adds the element to the end of the deque instead of the front.
+    /// @see BreakableDeque#push(Object)
+    public static final Break PUSH_ADDS_TO_END = new Break("push adds to the end");
+
+    /// The [descendingIterator][Deque#descendingIterator()] method returns the elements from the first to the last.
+    /// @see BreakableDeque#descendingIterator()
+    public static final Break DESCENDING_ITERATOR_IS_NOT_REVERSED = new Break("descendingIterator is not reversed");
+
+    /// The ring buffer that stores the elements does not reuse the slots that are freed at the front of the buffer,
+    /// so a deque that is used as a queue grows its storage without bound, even if the number of elements is
+    /// bounded. The operations still take amortized constant time.
+    public static final Break BUFFER_DOES_NOT_WRAP = new Break("the ring buffer does not wrap around");
+
+    /// Creates an empty deque that has no breaks.
+    public BreakableDeque() {
+        this(Collections.emptyList(), Collections.emptySet(), 0);
+    }
+
+    /// Creates a deque with the elements of a collection and no breaks.
+    /// @param c the initial elements of the deque.
+    public BreakableDeque(final @NotNull Collection<E> c) {
+        this(c, Collections.emptySet(), 0);
+    }
+
+    /// Creates a `BreakableDeque` from the elements of an existing collection, specifying the breaks and the
+    /// characteristics.
+    /// @param c               the initial elements of the deque.
+    /// @param breaks          the breaks for the deque.
+    /// @param characteristics the characteristics for the deque.
+    /// @throws NullPointerException if either the `c` or the `breaks` parameters are null.
+    public BreakableDeque(final @NotNull Collection<E> c, final @NotNull Collection<Break> breaks,
+                          final int characteristics) {
+        this(new RingBuffer<>(c, !breaks.contains(BUFFER_DOES_NOT_WRAP)), breaks, characteristics);
+    }
+
+    private BreakableDeque(final @NotNull RingBuffer<E> buffer, final @NotNull Collection<Break> breaks,
+                           final int characteristics) {
+        super(buffer, breaks, characteristics);
+        this.buffer = buffer;
+    }
+
+    /// Implements the [offer][Queue#offer(Object)] method from the [Queue] interface. This method can be broken
+    /// using the following deque breaks:
+    /// - [OFFER_DOES_NOT_ADD_ELEMENT][#OFFER_DOES_NOT_ADD_ELEMENT]
+    /// - [OFFER_IS_LINEAR_TIME][#OFFER_IS_LINEAR_TIME]
+    /// @param e the element to add.
+    /// @return `true`, since the deque is not bounded.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public boolean offer(final E e) {
+        checkSupported(QueueMethods.Offer);
+        if (hasBreak(OFFER_IS_LINEAR_TIME)) {
+            walk();
+        }
+        if (!hasBreak(OFFER_DOES_NOT_ADD_ELEMENT)) {
+            checkNewElement(e);
+            buffer.addLast(e);
+        }
+        return true;
+    }
+
+    /// Implements the [poll][Queue#poll()] method from the [Queue] interface. This method can be broken using the
+    /// following deque breaks:
+    /// - [POLL_DOES_NOT_REMOVE_ELEMENT][#POLL_DOES_NOT_REMOVE_ELEMENT]
+    /// - [POLL_REMOVES_LAST_ELEMENT][#POLL_REMOVES_LAST_ELEMENT]
+    /// - [POLL_THROWS_WHEN_EMPTY][#POLL_THROWS_WHEN_EMPTY]
+    /// - [POLL_IS_LINEAR_TIME][#POLL_IS_LINEAR_TIME]
+    /// @return the first element, or `null` if the deque is empty.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public E poll() {
+        checkSupported(QueueMethods.Poll);
+        if (buffer.isEmpty()) {
+            if (hasBreak(POLL_THROWS_WHEN_EMPTY)) {
+                throw new NoSuchElementException();
+            }
+            return null;
+        } else if (hasBreak(POLL_DOES_NOT_REMOVE_ELEMENT)) {
+            return buffer.getFirst();
+        } else if (hasBreak(POLL_REMOVES_LAST_ELEMENT)) {
+            return buffer.removeLast();
+        } else {
+            if (hasBreak(POLL_IS_LINEAR_TIME)) {
+                walk();
+            }
+            return buffer.removeFirst();
+        }
+    }
+
+    /// Implements the [peek][Queue#peek()] method from the [Queue] interface. This method can be broken using the
+    /// following deque break:
+    /// - [PEEK_THROWS_WHEN_EMPTY][#PEEK_THROWS_WHEN_EMPTY]
+    /// @return the first element, or `null` if the deque is empty.
+    @Override
+    public E peek() {
+        if (buffer.isEmpty() && !hasBreak(PEEK_THROWS_WHEN_EMPTY)) {
+            return null;
+        }
+        return buffer.getFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#Poll] method is not supported.
+    @Override
+    public E remove() {
+        checkSupported(QueueMethods.Poll);
+        return buffer.removeFirst();
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#OfferFirst] method is not supported.
+    @Override
+    public boolean offerFirst(final E e) {
+        checkSupported(QueueMethods.OfferFirst);
+        checkNewElement(e);
+        buffer.addFirst(e);
+        return true;
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#OfferLast] method is not supported.
+    @Override
+    public boolean offerLast(final E e) {
+        checkSupported(QueueMethods.OfferLast);
+        checkNewElement(e);
+        buffer.addLast(e);
+        return true;
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#PollFirst] method is not supported.
+    @Override
+    public E pollFirst() {
+        checkSupported(QueueMethods.PollFirst);
+        return buffer.isEmpty() ? null : buffer.removeFirst();
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#PollLast] method is not supported.
+    @Override
+    public E pollLast() {
+        checkSupported(QueueMethods.PollLast);
+        return buffer.isEmpty() ? null : buffer.removeLast();
+    }
+
+    @Override
+    public E peekFirst() {
+        return buffer.isEmpty() ? null : buffer.getFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return buffer.isEmpty() ? null : buffer.getLast();
+    }
+
+    /// Implements the [push][Deque#push(Object)] method from the [Deque] interface. This method can be broken using
+    /// the following deque break:
+    /// - [PUSH_ADDS_TO_END][#PUSH_ADDS_TO_END]
+    /// @param e the element to push.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public void push(final E e) {
+        checkSupported(QueueMethods.Push);
+        checkNewElement(e);
+        if (hasBreak(PUSH_ADDS_TO_END)) {
+            buffer.addLast(e);
+        } else {
+            buffer.addFirst(e);
+        }
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [QueueMethods#Pop] method is not supported.
+    @Override
+    public E pop() {
+        checkSupported(QueueMethods.Pop);
+        return buffer.removeFirst();
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [CollectionMethods#Remove] method is not supported.
+    @Override
+    public boolean removeFirstOccurrence(final Object o) {
+        return remove(o);
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if the [CollectionMethods#Remove] method is not supported.
+    @Override
+    public boolean removeLastOccurrence(final Object o) {
+        checkSupported(CollectionMethods.Remove);
+        final int index = buffer.lastIndexOf(o);
+        if (index >= 0) {
+            buffer.remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /// Implements the [descendingIterator][Deque#descendingIterator()] method from the [Deque] interface. This
+    /// method can be broken using the following deque break:
+    /// - [DESCENDING_ITERATOR_IS_NOT_REVERSED][#DESCENDING_ITERATOR_IS_NOT_REVERSED]
+    /// @return an iterator over the elements from the last to the first.
+    @Override
+    public @NotNull Iterator<E> descendingIterator() {
+        if (hasBreak(DESCENDING_ITERATOR_IS_NOT_REVERSED)) {
+            return iterator();
+        }
+        final ListIterator<E> iterator = buffer.listIterator(buffer.size());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                checkSupported(CollectionMethods.IteratorRemove);
+                iterator.remove();
+            }
+        };
+    }
+
+    /// Returns a reverse-ordered view of the deque.
+    /// @return a reverse-ordered view of the deque.
+    /// @throws UnsupportedOperationException if the [CollectionMethods#Reversed] method is not supported.
+    @Override
+    public @NotNull Deque<E> reversed() {
+        checkSupported(CollectionMethods.Reversed);
+        return Deque.super.reversed();
+    }
+
+    private void checkSupported(final OptionalMethod method) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /// A list that stores its elements in a circular array, so that elements can be added and removed at both ends
+    /// in amortized constant time. If the buffer does not wrap around, the storage grows when the end of the array
+    /// is reached, even if there are free slots at the front.
+    /// @param <E> the element type.
+    private static final class RingBuffer<E> extends AbstractList<E> implements RandomAccess {
+
+        private static final int MIN_CAPACITY = 8;
+
+        private final boolean wraps;
+        private Object[] elements;
+        private int head;
+        private int size;
+
+        RingBuffer(final @NotNull Collection<E> c, final boolean wraps) {
+            this.wraps = wraps;
+            this.elements = new Object[Math.max(MIN_CAPACITY, c.size() + 1)];
+            for (E e : c) {
+                addLast(e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(final int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[slot(index)];
+        }
+
+        @Override
+        public E set(final int index, final E e) {
+            final E previous = get(index);
+            elements[slot(index)] = e;
+            return previous;
+        }
+
+        @Override
+        public void add(final int index, final E e) {
+            Objects.checkIndex(index, size + 1);
+            if (index == 0) {
+                addFirst(e);
+            } else {
+                addLast(e);
+                for (int i = size - 1; i > index; i--) {
+                    elements[slot(i)] = elements[slot(i - 1)];
+                }
+                elements[slot(index)] = e;
+            }
+        }
+
+        @Override
+        public E remove(final int index) {
+            final E removed = get(index);
+            if (index == 0) {
+                removeFirst();
+            } else {
+                for (int i = index; i < size - 1; i++) {
+                    elements[slot(i)] = elements[slot(i + 1)];
+                }
+                removeLast();
+            }
+            return removed;
+        }
+
+        @Override
+        public void addFirst(final E e) {
+            if (wraps ? size == elements.length : head == 0) {
+                grow(wraps ? 0 : elements.length);
+            }
+            head = (head == 0) ? elements.length - 1 : head - 1;
+            elements[head] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLast(final E e) {
+            if (wraps ? size == elements.length : head + size == elements.length) {
+                grow(0);
+            }
+            elements[slot(size)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public E removeFirst() {
+            final E first = getFirst();
+            elements[head] = null;
+            head = (head + 1 == elements.length) ? 0 : head + 1;
+            removed();
+            return first;
+        }
+
+        @Override
+        public E removeLast() {
+            final E last = getLast();
+            elements[slot(size - 1)] = null;
+            removed();
+            return last;
+        }
+
+        @Override
+        public E getFirst() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return get(0);
+        }
+
+        @Override
+        public E getLast() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return get(size - 1);
+        }
+
+        @Override
+        public boolean removeIf(final @NotNull Predicate<? super E> filter) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                final E e = get(i);
+                if (!filter.test(e)) {
+                    elements[slot(kept++)] = e;
+                }
+            }
+            if (kept == size) {
+                return false;
+            }
+            for (int i = kept; i < size; i++) {
+                elements[slot(i)] = null;
+            }
+            size = kept;
+            if (size == 0) {
+                head = 0;
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(elements, null);
+            head = 0;
+            size = 0;
+            modCount++;
+        }
+
+        private void removed() {
+            size--;
+            if (size == 0) {
+                head = 0;
+            }
+            modCount++;
+        }
+
+        private int slot(final int index) {
+            final int slot = head + index;
+            return (slot >= elements.length) ? slot - elements.length : slot;
+        }
+
+        // Doubles the capacity of the buffer, copying the elements to the new array starting at the given slot.
+        private void grow(final int start) {
+            final Object[] grown = new Object[elements.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[start + i] = elements[slot(i)];
+            }
+            elements = grown;
+            head = start;
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableDeque` that do not have any breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable deques.
+    public static <E> @NotNull CollectionProvider<E, BreakableDeque<E>> dequeProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return dequeProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableDeque`, given an element provider and a set of
+    /// breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableDeque`.
+    /// @return a collection provider for breakable deques.
+    public static <E> @NotNull CollectionProvider<E, BreakableDeque<E>> dequeProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableDeque<>(Collections.emptyList(), breaks, 0),
+                (o) -> new BreakableDeque<>(o, breaks, 0),
+                (c) -> new BreakableDeque<>(c, breaks, 0),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableDeque` that do not have any breaks applied.
+    /// @param <E> element type
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableDeque<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableDeque<E>> provider() {
+            return BreakableDeque.dequeProvider(elementProvider());
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.OptionalMethod;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.contract.support.OffHeapSupport;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/// A list of `int` values stored in a [MemorySegment] that can be broken in well-defined ways in order to test the
+/// off-heap collection contract classes. The storage is allocated from an arena obtained from a supplier, such as a
+/// [org.soliscode.test.perf.NativeMemoryTracker]; when the list grows, the elements are copied to storage from a new
+/// arena and the old arena is closed. Clearing or closing the list closes the arena, releasing the memory.
+///
+/// The elements can be accessed without boxing using [#getInt(int)], [#intIterator()] and [#forEachInt(IntConsumer)].
+/// The methods of the [List] interface box the elements, as a `List<Integer>` must.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. The
+/// modification methods in [CollectionMethods] can also be removed, in which case the method throws an
+/// [UnsupportedOperationException].
+///
+/// A broken list can be created from the elements of a collection, a source of arenas and a set of breaks:
+/// ```java
+///     BreakableIntList broken = new BreakableIntList(List.of(1, 2, 3), Arena::ofConfined,
+///         Set.of(BreakableIntList.CLEAR_KEEPS_STORAGE));
+/// ```
+/// @author evanbergstrom
+/// @see org.soliscode.test.contract.offheap.OffHeapCollectionContract
+/// @since 1.0
+public class BreakableIntList extends AbstractBreakable implements List<Integer>, RandomAccess, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long INT_BYTES = ValueLayout.JAVA_INT.byteSize();
+
+    private final @NotNull Supplier<Arena> arenas;
+    private final @NotNull Elements elements = new Elements();
+    private Arena arena;
+    private MemorySegment segment;
+    private int capacity;
+    private int size;
+    private boolean closed;
+
+    /// The [clear][List#clear()] method removes the elements but keeps the storage, so the native memory is not
+    /// released until the list is closed.
+    /// @see BreakableIntList#clear()
+    public static final Break CLEAR_KEEPS_STORAGE = new Break("clear keeps the storage");
+
+    /// When the list grows, the arena that held the old storage is not closed, so its memory is never released.
+    /// @see BreakableIntList#close()
+    public static final Break GROW_LEAKS_OLD_STORAGE = new Break("grow leaks the old storage");
+
+    /// The [intIterator][#intIterator()] and [forEachInt][#forEachInt(IntConsumer)] methods copy the elements to an
+    /// array on the heap before visiting them, so they allocate memory in proportion to the size of the list.
+    /// @see BreakableIntList#intIterator()
+    public static final Break INT_ITERATOR_COPIES_TO_HEAP = new Break("intIterator copies to the heap");
+
+    /// Creates an empty list that has no breaks.
+    /// @param arenas the source of the arenas for the storage.
+    public BreakableIntList(final @NotNull Supplier<Arena> arenas) {
+        this(Collections.emptyList(), arenas, Collections.emptySet());
+    }
+
+    /// Creates a list with the elements of a collection and no breaks.
+    /// @param c the initial elements of the list.
+    /// @param arenas the source of the arenas for the storage.
+    public BreakableIntList(final @NotNull Collection<Integer> c, final @NotNull Supplier<Arena> arenas) {
+        this(c, arenas, Collections.emptySet());
+    }
+
+    /// Creates a list with the elements of a collection and the specified breaks.
+    /// @param c the initial elements of the list.
+    /// @param arenas the source of the arenas for the storage.
+    /// @param breaks the breaks for the list.
+    /// @throws NullPointerException if any argument is `null`, or the collection contains `null`.
+    public BreakableIntList(final @NotNull Collection<Integer> c, final @NotNull Supplier<Arena> arenas,
+                            final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        this.arenas = Objects.requireNonNull(arenas);
+        if (!c.isEmpty()) {
+            grow(c.size());
+        }
+        for (int e : c) {
+            segment.setAtIndex(ValueLayout.JAVA_INT, size++, e);
+        }
+    }
+
+    /// Returns the element at a position in the list without boxing it.
+    /// @param index the index of the element.
+    /// @return the element.
+    /// @throws IndexOutOfBoundsException if the index is out of range.
+    /// @throws IllegalStateException if the list is closed.
+    public int getInt(final int index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        return segment.getAtIndex(ValueLayout.JAVA_INT, index);
+    }
+
+    /// Replaces the element at a position in the list without boxing it.
+    /// @param index the index of the element.
+    /// @param value the new element.
+    /// @return the element that was replaced.
+    /// @throws IndexOutOfBoundsException if the index is out of range.
+    /// @throws IllegalStateException if the list is closed.
+    public int setInt(final int index, final int value) {
+        final int old = getInt(index);
+        segment.setAtIndex(ValueLayout.JAVA_INT, index, value);
+        return old;
+    }
+
+    /// Inserts an element at a position in the list without boxing it.
+    /// @param index the index at which to insert the element.
+    /// @param value the element to insert.
+    /// @throws IndexOutOfBoundsException if the index is out of range.
+    /// @throws IllegalStateException if the list is closed.
+    public void addInt(final int index, final int value) {
+        checkOpen();
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        if (index < size) {
+            MemorySegment.copy(segment, index * INT_BYTES, segment, (index + 1) * INT_BYTES, (size - index) * INT_BYTES);
+        }
+        segment.setAtIndex(ValueLayout.JAVA_INT, index, value);
+        size++;
+        elements.modified();
+    }
+
+    /// Removes the element at a position in the list without boxing it.
+    /// @param index the index of the element.
+    /// @return the element that was removed.
+    /// @throws IndexOutOfBoundsException if the index is out of range.
+    /// @throws IllegalStateException if the list is closed.
+    public int removeIntAt(final int index) {
+        final int old = getInt(index);
+        if (index < size - 1) {
+            MemorySegment.copy(segment, (index + 1) * INT_BYTES, segment, index * INT_BYTES,
+                    (size - index - 1) * INT_BYTES);
+        }
+        size--;
+        elements.modified();
+        return old;
+    }
+
+    /// Returns an iterator over the elements that does not box them. This method can be broken using the following
+    /// break:
+    /// - [INT_ITERATOR_COPIES_TO_HEAP][#INT_ITERATOR_COPIES_TO_HEAP]
+    /// @return a primitive iterator over the elements.
+    /// @throws IllegalStateException if the list is closed.
+    public @NotNull PrimitiveIterator.OfInt intIterator() {
+        checkOpen();
+        if (hasBreak(INT_ITERATOR_COPIES_TO_HEAP)) {
+            return Arrays.stream(toIntArray()).iterator();
+        }
+        return new PrimitiveIterator.OfInt() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return segment.getAtIndex(ValueLayout.JAVA_INT, next++);
+            }
+        };
+    }
+
+    /// Performs an action for each element without boxing it. This method can be broken using the following break:
+    /// - [INT_ITERATOR_COPIES_TO_HEAP][#INT_ITERATOR_COPIES_TO_HEAP]
+    /// @param action the action to perform.
+    /// @throws IllegalStateException if the list is closed.
+    public void forEachInt(final @NotNull IntConsumer action) {
+        checkOpen();
+        if (hasBreak(INT_ITERATOR_COPIES_TO_HEAP)) {
+            for (int e : toIntArray()) {
+                action.accept(e);
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                action.accept(segment.getAtIndex(ValueLayout.JAVA_INT, i));
+            }
+        }
+    }
+
+    private int @NotNull [] toIntArray() {
+        return (size == 0) ? new int[0] : segment.asSlice(0, size * INT_BYTES).toArray(ValueLayout.JAVA_INT);
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity > capacity) {
+            final Arena oldArena = arena;
+            grow(minCapacity);
+            if (oldArena != null && !hasBreak(GROW_LEAKS_OLD_STORAGE)) {
+                oldArena.close();
+            }
+        }
+    }
+
+    // Moves the elements to new storage that holds at least minCapacity elements, leaving the old arena open. The
+    // constructor calls this method directly, since it must not call the overridable hasBreak method.
+    private void grow(final int minCapacity) {
+        final int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, capacity * 2));
+        final Arena newArena = arenas.get();
+        final MemorySegment newSegment = newArena.allocate(newCapacity * INT_BYTES, INT_BYTES);
+        if (size > 0) {
+            MemorySegment.copy(segment, 0, newSegment, 0, size * INT_BYTES);
+        }
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    private void releaseStorage() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+            segment = null;
+            capacity = 0;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("the list is closed");
+        }
+    }
+
+    private void checkSupported(final OptionalMethod method, final String name) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException("Unsupported method: " + name);
+        }
+    }
+
+    /// Closes the list, releasing the native memory that holds the elements. Closing a list that is already closed has
+    /// no effect. This method is affected by the following break:
+    /// - [GROW_LEAKS_OLD_STORAGE][#GROW_LEAKS_OLD_STORAGE]
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            size = 0;
+            releaseStorage();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return elements.contains(o);
+    }
+
+    @Override
+    public @NotNull Iterator<Integer> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return elements.toArray();
+    }
+
+    @Override
+    public <T> T @NotNull [] toArray(final T @NotNull [] a) {
+        return elements.toArray(a);
+    }
+
+    /// Implements the [add][List#add(Object)] method from the [List] interface.
+    ///
+    /// Support for this method can be removed using the optional method identifier [CollectionMethods#Add].
+    /// @param e the element to add.
+    /// @return `true`.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    /// @throws NullPointerException if the element is `null`.
+    @Override
+    public boolean add(final Integer e) {
+        checkSupported(CollectionMethods.Add, "add");
+        addInt(size, e);
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        checkSupported(CollectionMethods.Remove, "remove");
+        return elements.remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return elements.containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends Integer> c) {
+        checkSupported(CollectionMethods.AddAll, "addAll");
+        checkOpen();
+        ensureCapacity(size + c.size());
+        for (int e : c) {
+            addInt(size, e);
+        }
+        return !c.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends Integer> c) {
+        checkSupported(CollectionMethods.AddAll, "addAll");
+        return elements.addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RemoveAll, "removeAll");
+        return elements.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RetainAll, "retainAll");
+        return elements.retainAll(c);
+    }
+
+    /// Implements the [clear][List#clear()] method from the [List] interface, which releases the native memory that
+    /// holds the elements. This method can be broken using the following break:
+    /// - [CLEAR_KEEPS_STORAGE][#CLEAR_KEEPS_STORAGE]
+    ///
+    /// Support for this method can be removed using the optional method identifier [CollectionMethods#Clear].
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public void clear() {
+        checkSupported(CollectionMethods.Clear, "clear");
+        checkOpen();
+        size = 0;
+        elements.modified();
+        if (!hasBreak(CLEAR_KEEPS_STORAGE)) {
+            releaseStorage();
+        }
+    }
+
+    @Override
+    public Integer get(final int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(final int index, final Integer element) {
+        return setInt(index, element);
+    }
+
+    @Override
+    public void add(final int index, final Integer element) {
+        addInt(index, element);
+    }
+
+    @Override
+    public Integer remove(final int index) {
+        return removeIntAt(index);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return elements.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return elements.lastIndexOf(o);
+    }
+
+    @Override
+    public @NotNull ListIterator<Integer> listIterator() {
+        return elements.listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<Integer> listIterator(final int index) {
+        return elements.listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<Integer> subList(final int fromIndex, final int toIndex) {
+        return elements.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return elements.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return elements.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+
+    // The List view used to implement the methods that AbstractList provides in terms of the positional methods.
+    private class Elements extends AbstractList<Integer> implements RandomAccess {
+
+        void modified() {
+            modCount++;
+        }
+
+        @Override
+        public Integer get(final int index) {
+            return getInt(index);
+        }
+
+        @Override
+        public Integer set(final int index, final Integer element) {
+            return setInt(index, element);
+        }
+
+        @Override
+        public void add(final int index, final Integer element) {
+            addInt(index, element);
+        }
+
+        @Override
+        public Integer remove(final int index) {
+            return removeIntAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableIntList` that do not have any breaks.
+    /// @param elementProvider the element provider to use.
+    /// @param arenas the source of the arenas for the storage of each list.
+    /// @return a collection provider for breakable int lists.
+    public static @NotNull CollectionProvider<Integer, BreakableIntList> intListProvider(
+            final @NotNull ObjectProvider<Integer> elementProvider, final @NotNull Supplier<Arena> arenas) {
+        return intListProvider(elementProvider, arenas, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableIntList`, given an element provider, a source of
+    /// arenas and a set of breaks.
+    /// @param elementProvider the element provider to use.
+    /// @param arenas the source of the arenas for the storage of each list.
+    /// @param breaks the breaks to apply to each instance of `BreakableIntList`.
+    /// @return a collection provider for breakable int lists.
+    public static @NotNull CollectionProvider<Integer, BreakableIntList> intListProvider(
+            final @NotNull ObjectProvider<Integer> elementProvider, final @NotNull Supplier<Arena> arenas,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableIntList(Collections.emptyList(), arenas, breaks),
+                (l) -> new BreakableIntList(l, arenas, breaks),
+                (c) -> new BreakableIntList(c, arenas, breaks),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableIntList` that do not have any breaks applied, whose storage is allocated from the
+    /// [memory tracker][OffHeapSupport#memoryTracker()] of the test.
+    public interface WithProvider extends CollectionProviderSupport<Integer, BreakableIntList>, OffHeapSupport {
+        @Override
+        default @NotNull CollectionProvider<Integer, BreakableIntList> provider() {
+            return BreakableIntList.intListProvider(elementProvider(), memoryTracker());
+        }
+    }
+}
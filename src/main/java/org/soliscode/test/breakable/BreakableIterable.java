@@ -70,6 +70,11 @@ public class BreakableIterable<E> extends AbstractBreakable implements Iterable<
     /// @see BreakableIterable#forEach(Consumer)
     public static final Break FOR_EACH_THROWS_WRONG_EXCEPTION_FOR_NULL_ARGUMENT = new Break("The method `forEach` throws the wrong exception when passes a `null` action argument.");
 
+    /// The method `forEach` creates a new iterator and walks from the first element to reach each element, so it
+    /// takes quadratic time.
+    /// @see BreakableIterable#forEach(Consumer)
+    public static final Break FOR_EACH_WALKS_FROM_START = new Break("The method `forEach` walks from the first element to reach each element.");
+
     /// Creates and empty breakable iterable with no breaks. The spliterator for this iterable will have no
     /// characteristics set.
     public BreakableIterable() {
@@ -159,6 +164,7 @@ public class BreakableIterable<E> extends AbstractBreakable implements Iterable<
     /// - [FOR_EACH_SKIPS_FIRST_ELEMENT][BreakableIterable#FOR_EACH_SKIPS_FIRST_ELEMENT]
     /// - [FOR_EACH_SKIPS_LAST_ELEMENT][BreakableIterable#FOR_EACH_SKIPS_LAST_ELEMENT]
     /// - [FOR_EACH_THROWS_WRONG_EXCEPTION_FOR_NULL_ARGUMENT][BreakableIterable#FOR_EACH_THROWS_WRONG_EXCEPTION_FOR_NULL_ARGUMENT]
+    /// - [FOR_EACH_WALKS_FROM_START][BreakableIterable#FOR_EACH_WALKS_FROM_START]
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -192,6 +198,17 @@ public class BreakableIterable<E> extends AbstractBreakable implements Iterable<
                         action.accept(element);
                     }
                 }
+            } else if (hasBreak(FOR_EACH_WALKS_FROM_START)) {
+                for (int i = 0; ; i++) {
+                    Iterator<E> iterator = this.iterable.iterator();
+                    for (int j = 0; j < i && iterator.hasNext(); j++) {
+                        iterator.next();
+                    }
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    action.accept(iterator.next());
+                }
             } else {
                 iterable.forEach(action);
             }
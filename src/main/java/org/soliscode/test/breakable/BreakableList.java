@@ -4,6 +4,11 @@ import org.intellij.lang.annotations.Flow;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
 
 import java.util.*;
 import java.util.function.UnaryOperator;
@@ -14,6 +19,10 @@ import java.util.function.UnaryOperator;
 /// # Breaks
 /// In addition to the breaks for [BreakableSequencedCollection], the breaks found in [?] are also supported.
 ///
+/// A list created by the [builder][Builder] declares the [RandomAccess] marker interface when its element store does,
+/// unless the [#RANDOM_ACCESS_IS_NOT_DECLARED] break is specified. Lists created with the constructors never declare
+/// the marker.
+///
 /// Builder methods are provided to make declaring a broken list easier, for example:
 /// ```java
 ///     BreakableList<Integer> broken = Breakables.buildList(1, 2)
@@ -197,15 +206,68 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
 
     /// The [sort][List#sort(Comparator)] method sorts the elements in the reverse order.
     /// @see BreakableList#sort(Comparator)
-    public static final Break SORT_REVERSES_THE_ORDER = new Break("");
+    public static final Break SORT_REVERSES_THE_ORDER = new Break("sort(Comparator) reverses the order");
     
     /// The [sort][List#sort(Comparator)] method throws a `NullPointerException` if the argument is `null`.
     /// @see BreakableList#sort(Comparator)
-    public static final Break SORT_THROWS_ON_NULL_ARGUMENT = new Break("");
+    public static final Break SORT_THROWS_ON_NULL_ARGUMENT = new Break("sort(Comparator) throws on a null argument");
 
     /// The [sort][List#sort(Comparator)] method does not sort the elements.
     /// @see BreakableList#sort(Comparator)
-    public static final Break SORT_DOES_NOT_SORT_THE_ELEMENTS  = new Break("");
+    public static final Break SORT_DOES_NOT_SORT_THE_ELEMENTS  = new Break("sort(Comparator) does not sort");
+
+    /// The [sort][List#sort(Comparator)] method does not keep equal elements in their original order.
+    /// @see BreakableList#sort(Comparator)
+    public static final Break SORT_IS_NOT_STABLE = new Break("sort(Comparator) is not stable");
+
+    /// The [sort][List#sort(Comparator)] method sorts the elements with an insertion sort, which makes a quadratic
+    /// number of comparisons.
+    /// @see BreakableList#sort(Comparator)
+    public static final Break SORT_USES_INSERTION_SORT = new Break("sort(Comparator) uses an insertion sort");
+
+    /// The [sort][List#sort(Comparator)] method sorts the elements with a merge sort that does not take advantage of
+    /// input that is already sorted, so it makes `n log n` comparisons on sorted and reverse-sorted input.
+    /// @see BreakableList#sort(Comparator)
+    public static final Break SORT_IS_NOT_ADAPTIVE = new Break("sort(Comparator) is not adaptive");
+
+    /// The [sort][List#sort(Comparator)] method copies the elements into a temporary array twice.
+    /// @see BreakableList#sort(Comparator)
+    public static final Break SORT_COPIES_TWICE = new Break("sort(Comparator) copies the elements twice");
+
+    /// The [sort][List#sort(Comparator)] method calls the comparator twice for each comparison, so it makes twice as
+    /// many comparisons as it needs, although the number of comparisons is still `O(n log n)`.
+    /// @see BreakableList#sort(Comparator)
+    public static final Break SORT_COMPARES_TWICE = new Break("sort(Comparator) compares each pair twice");
+
+    /// The [get][List#get(int)] method walks the list from the start to the index, so it runs in linear time even if
+    /// the list declares the [RandomAccess] marker interface.
+    /// @see BreakableList#get(int)
+    public static final Break GET_IS_LINEAR_TIME = new Break("get(int) walks the list from the start");
+
+    /// The [set][List#set(int, Object)] method walks the list from the start to the index, so it runs in linear time
+    /// even if the list declares the [RandomAccess] marker interface.
+    /// @see BreakableList#set(int, Object)
+    public static final Break SET_IS_LINEAR_TIME = new Break("set(int, Object) walks the list from the start");
+
+    /// The [subList][List#subList(int, int)] method returns a copy of the range instead of a view, so it runs in
+    /// linear time and changes to the sublist are not visible in the list.
+    /// @see BreakableList#subList(int, int)
+    public static final Break SUB_LIST_COPIES_THE_ELEMENTS = new Break("subList(int, int) copies the elements");
+
+    /// The [subList][List#subList(int, int)] method returns a view that is not invalidated by structural changes to
+    /// the list.
+    /// @see BreakableList#subList(int, int)
+    public static final Break SUB_LIST_IS_NOT_FAIL_FAST = new Break("subList(int, int) is not fail-fast");
+
+    /// The [subList][List#subList(int, int)] method returns a view whose own sublists delegate to it, so the cost of
+    /// positional access grows with the depth of a chain of nested sublists.
+    /// @see BreakableList#subList(int, int)
+    public static final Break SUB_LIST_NESTS_VIEWS = new Break("subList(int, int) nests views");
+
+    /// The list created by the [builder][Builder] does not declare the [RandomAccess] marker interface, even though
+    /// its element store supports constant time positional access.
+    /// @see Builder#build()
+    public static final Break RANDOM_ACCESS_IS_NOT_DECLARED = new Break("RandomAccess is not declared");
 
     @Override
     public List<E> reversed() {
@@ -334,6 +396,11 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
     /// | SORT_DOES_NOT_SORT_THE_ELEMENTS | The `sort` method does not sort the elements. |
     /// | SORT_REVERSES_THE_ORDER | The `sort` method sorts the elements in the reverse order. |
     /// | SORT_THROWS_ON_NULL_ARGUMENT | The `sort` method throws a `NullPointerException` if the argument is `null` |
+    /// | SORT_IS_NOT_STABLE | The `sort` method does not keep equal elements in their original order. |
+    /// | SORT_USES_INSERTION_SORT | The `sort` method uses an insertion sort. |
+    /// | SORT_IS_NOT_ADAPTIVE | The `sort` method does not take advantage of sorted input. |
+    /// | SORT_COPIES_TWICE | The `sort` method copies the elements into a temporary array twice. |
+    /// | SORT_COMPARES_TWICE | The `sort` method calls the comparator twice for each comparison. |
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -349,9 +416,28 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
     /// @see List#sort(Comparator)
     @Override
     public void sort(Comparator<? super E> c) {
-        if (supportsMethod(CollectionMethods.ReplaceAll)) {
+        if (supportsMethod(CollectionMethods.Sort)) {
             if (hasBreak(SORT_REVERSES_THE_ORDER)) {
                 list.sort(c.reversed());
+            } else if (hasBreak(SORT_IS_NOT_STABLE)) {
+                list.sort(c);
+                reverseEqualRuns(comparator(c));
+            } else if (hasBreak(SORT_USES_INSERTION_SORT)) {
+                writeBack(insertionSort(list.toArray(), comparator(c)));
+            } else if (hasBreak(SORT_IS_NOT_ADAPTIVE)) {
+                final Object[] elements = list.toArray();
+                mergeSort(elements, elements.clone(), 0, elements.length, comparator(c));
+                writeBack(elements);
+            } else if (hasBreak(SORT_COPIES_TWICE)) {
+                final Object[] elements = Arrays.copyOf(list.toArray(), list.size());
+                Arrays.sort(elements, comparator(c));
+                writeBack(elements);
+            } else if (hasBreak(SORT_COMPARES_TWICE)) {
+                final Comparator<Object> comparator = comparator(c);
+                list.sort((a, b) -> {
+                    comparator.compare(a, b);
+                    return comparator.compare(a, b);
+                });
             } else if (hasBreak(SORT_THROWS_ON_NULL_ARGUMENT)) {
                 if (c == null) {
                     throw new NullPointerException();
@@ -377,6 +463,7 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
     /// | GET_RETURNS_THE_PREVIOUS_ELEMENT | The `get` methods returns the previous element (*i.e.* at index - 1). |
     /// | GET_RETURNS_NULL_ON_BAD_INDEX | The `get` methods returns `null` on a bad index instead of throwing en exception. |
     /// | GET_THROWS_WRONG_EXCEPTION_ON_BAD_INDEX | The `get` methods throws the wrong exception on a bad index. |
+    /// | GET_IS_LINEAR_TIME | The `get` method walks the list from the start to the index. |
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -400,6 +487,8 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
                 return list.get(index + 1);
             } else if (hasBreak(GET_RETURNS_THE_PREVIOUS_ELEMENT)) {
                 return list.get(index - 1);
+            } else if (hasBreak(GET_IS_LINEAR_TIME)) {
+                return walkTo(index).next();
             } else {
                 if (index < 0 || index >= list.size()) {
                     if (hasBreak(GET_RETURNS_NULL_ON_BAD_INDEX)) {
@@ -426,6 +515,7 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
     /// | SET_CHANGES_THE_PREVIOUS_ELEMENT | The `set` methods changes the previous element (*i.e.* at index - 1). |
     /// | SET_RETURNS_NULL_ON_BAD_INDEX | The `set` methods returns `null` on a bad index instead of throwing en exception. |
     /// | SET_THROWS_WRONG_EXCEPTION_ON_BAD_INDEX | The `get` methods throws the wrong exception on a bad index. |
+    /// | SET_IS_LINEAR_TIME | The `set` method walks the list from the start to the index. |
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -456,6 +546,10 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
                 result = list.set(index - 1, element);
             } else if (hasBreak(SET_DOES_NOT_CHANGE_THE_ELEMENT)) {
                 result = list.get(index);
+            } else if (hasBreak(SET_IS_LINEAR_TIME)) {
+                final ListIterator<E> iterator = walkTo(index);
+                result = iterator.next();
+                iterator.set(element);
             } else {
                 result = list.set(index, element);
             }
@@ -586,8 +680,265 @@ public class BreakableList<E> extends BreakableSequencedCollection<E> implements
         return list.listIterator(index);
     }
 
+    /// Implements the [subList][List#subList] method from the [List] interface. This method can be broken using the
+    /// following collection breaks:
+    ///
+    /// | Break                    | Description                                     |
+    /// | ------------------------ | ----------------------------------------------- |
+    /// | SUB_LIST_COPIES_THE_ELEMENTS | The `subList` method returns a copy instead of a view. |
+    /// | SUB_LIST_IS_NOT_FAIL_FAST | The view is not invalidated by structural changes to the list. |
+    /// | SUB_LIST_NESTS_VIEWS | Nested views delegate through each level of the chain. |
+    ///
+    /// @param fromIndex low endpoint (inclusive) of the subList
+    /// @param toIndex high endpoint (exclusive) of the subList
+    /// @return a view of the specified range within this list
+    /// @throws IndexOutOfBoundsException for an illegal endpoint index value
+    /// @see List#subList(int, int)
     @Override
     public @NotNull List<E> subList(int fromIndex, int toIndex) {
-        return list.subList(fromIndex, toIndex);
+        if (hasBreak(SUB_LIST_COPIES_THE_ELEMENTS)) {
+            return new ArrayList<>(list.subList(fromIndex, toIndex));
+        } else if (hasBreak(SUB_LIST_IS_NOT_FAIL_FAST)) {
+            return new NestedView<>(list, list, fromIndex, toIndex, false);
+        } else if (hasBreak(SUB_LIST_NESTS_VIEWS)) {
+            return new NestedView<>(list, list, fromIndex, toIndex, true);
+        } else {
+            return list.subList(fromIndex, toIndex);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Comparator<Object> comparator(final Comparator<? super E> c) {
+        return (c == null) ? (Comparator) Comparator.naturalOrder() : (Comparator<Object>) c;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBack(final Object[] elements) {
+        final ListIterator<E> iterator = list.listIterator();
+        for (Object e : elements) {
+            iterator.next();
+            iterator.set((E) e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reverseEqualRuns(final Comparator<Object> c) {
+        int start = 0;
+        while (start < list.size()) {
+            int end = start + 1;
+            while (end < list.size() && c.compare(list.get(start), list.get(end)) == 0) {
+                end++;
+            }
+            Collections.reverse(list.subList(start, end));
+            start = end;
+        }
+    }
+
+    private static Object[] insertionSort(final Object[] elements, final Comparator<Object> c) {
+        for (int i = 1; i < elements.length; i++) {
+            final Object e = elements[i];
+            int j = i - 1;
+            while (j >= 0 && c.compare(elements[j], e) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = e;
+        }
+        return elements;
+    }
+
+    // A top-down merge sort that always splits and merges, even if the input is already sorted.
+    private static void mergeSort(final Object[] elements, final Object[] work, final int from, final int to,
+                                  final Comparator<Object> c) {
+        if (to - from < 2) {
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(work, elements, from, mid, c);
+        mergeSort(work, elements, mid, to, c);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (i < mid && (j >= to || c.compare(work[i], work[j]) <= 0)) {
+                elements[k] = work[i++];
+            } else {
+                elements[k] = work[j++];
+            }
+        }
+    }
+
+    // Returns a list iterator positioned before the element at the index, reached by stepping from the start of the
+    // list, as a linked list without random access would.
+    private ListIterator<E> walkTo(final int index) {
+        Objects.checkIndex(index, list.size());
+        final ListIterator<E> iterator = list.listIterator();
+        int hash = 0;
+        for (int i = 0; i < index; i++) {
+            hash += Blackhole.hash(iterator.next());
+        }
+        Blackhole.consume(hash);
+        return iterator;
+    }
+
+    /// A view of a range of a list that delegates to the list, or to the view that it was created from. Positional
+    /// access therefore takes time proportional to the depth of the chain of views. If the view is fail-fast, it is
+    /// invalidated when the size of the underlying list changes.
+    /// @param <E> the element type.
+    private static class NestedView<E> extends AbstractList<E> {
+
+        private final List<E> root;
+        private final List<E> parent;
+        private final int offset;
+        private final int size;
+        private final boolean failFast;
+        private final int expectedRootSize;
+
+        NestedView(final List<E> root, final List<E> parent, final int fromIndex, final int toIndex,
+                   final boolean failFast) {
+            Objects.checkFromToIndex(fromIndex, toIndex, parent.size());
+            this.root = root;
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.failFast = failFast;
+            this.expectedRootSize = root.size();
+        }
+
+        @Override
+        public E get(final int index) {
+            checkForComodification();
+            return parent.get(offset + Objects.checkIndex(index, size));
+        }
+
+        @Override
+        public E set(final int index, final E element) {
+            checkForComodification();
+            return parent.set(offset + Objects.checkIndex(index, size), element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public @NotNull List<E> subList(final int fromIndex, final int toIndex) {
+            return new NestedView<>(root, this, fromIndex, toIndex, failFast);
+        }
+
+        private void checkForComodification() {
+            if (failFast && root.size() != expectedRootSize) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /// A breakable list that declares the [RandomAccess] marker interface. Instances are created by the [Builder]
+    /// when the element store supports random access.
+    /// @param <E> the element type.
+    private static class RandomAccessBreakableList<E> extends BreakableList<E> implements RandomAccess {
+
+        RandomAccessBreakableList(@NotNull List<E> c, @NotNull Collection<Break> breaks, int characteristics) {
+            super(c, breaks, characteristics);
+        }
+    }
+
+    /// The builder for `BreakableList` objects.
+    /// @param <E> the element type.
+    /// @author evanbergstrom
+    /// @since 1.0
+    public static class Builder<E> extends AbstractBuilder<BreakableList.Builder<E>, BreakableList<E>, E> {
+
+        private final List<E> list;
+
+        /// Create a builder initialized with the default values. The list is stored in an [ArrayList].
+        public Builder() {
+            // super(this.list = new ArrayList<>()); <-- This will work once Flexible Constructors are available
+            super(new ArrayList<>());
+            this.list = (ArrayList<E>)elements;
+        }
+
+        /// Create a builder initialized with an element store.
+        /// @param elements the element store to use.
+        public Builder(final @NotNull List<E> elements) {
+            // super(this.list = Objects.requireNonNull(elements));  <-- This will work once Flexible Constructors are available
+            super(Objects.requireNonNull(elements));
+            this.list = elements;
+        }
+
+        /// Create a builder initialized with the values copied from another builder.
+        /// @param other the builder to copy the values from.
+        public Builder(final BreakableList.Builder<E> other) {
+            super(other);
+            this.list = other.list;
+        }
+
+        @Override
+        public Builder<E> self() {
+            return this;
+        }
+
+        @Override
+        public BreakableList.Builder<E> copy() {
+            return new BreakableList.Builder<>(this);
+        }
+
+        /// Build a `BreakableList` object using the values from the builder. The list declares the [RandomAccess]
+        /// marker interface if the element store does, unless the [#RANDOM_ACCESS_IS_NOT_DECLARED] break has been
+        /// added.
+        /// @return a new BreakableList object.
+        public BreakableList<E> build() {
+            BreakableList<E> broken = (list instanceof RandomAccess && !breaks.contains(RANDOM_ACCESS_IS_NOT_DECLARED))
+                    ? new RandomAccessBreakableList<>(list, breaks, characteristics)
+                    : new BreakableList<>(list, breaks, characteristics);
+            broken.setPermitsNulls(permitsNulls);
+            broken.setPermitsDuplicates(permitsDuplicates);
+            broken.setPermitsIncompatibleTypes(permitsIncompatibleTypes);
+            unsupportedMethods.forEach(broken::doesNotSupportMethod);
+            return broken;
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableList`, given an element provider. The lists are
+    /// stored in an [ArrayList] and declare the [RandomAccess] marker interface.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable lists.
+    public static <E> @NotNull CollectionProvider<E, BreakableList<E>> listProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return listProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableList`, given an element provider and a set of breaks.
+    /// The lists are stored in an [ArrayList].
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableList`.
+    /// @return a collection provider for breakable lists.
+    public static <E> @NotNull CollectionProvider<E, BreakableList<E>> listProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> build(new ArrayList<>(), breaks),
+                (o) -> build(new ArrayList<>(o.list), breaks),
+                (c) -> build(new ArrayList<>(c), breaks),
+                elementProvider
+        );
+    }
+
+    private static <E> BreakableList<E> build(final List<E> elements, final Set<Break> breaks) {
+        final Builder<E> builder = new Builder<>(elements);
+        breaks.forEach(builder::addBreak);
+        return builder.build();
+    }
+
+    /// Mixin interface for contract tests that use a `BreakableList` with no breaks as the implementation.
+    /// @param <E> the element type.
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableList<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableList<E>> provider() {
+            return BreakableList.listProvider(elementProvider());
+        }
     }
 }
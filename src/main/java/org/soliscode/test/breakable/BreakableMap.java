@@ -0,0 +1,419 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.contract.map.MapMethods;
+import org.soliscode.test.contract.support.MapProviderSupport;
+import org.soliscode.test.provider.MapProvider;
+import org.soliscode.test.provider.MapProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/// A map that can be broken in well-defined ways in order to test map contract classes. The entries are stored in a
+/// [HashMap], so unless the map is broken, it has the same behavior and performance as `HashMap`.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. The
+/// optional methods in [MapMethods] can also be removed, in which case the method throws an
+/// [UnsupportedOperationException]. If [MapMethods#ViewRemove] is not supported, the views of the map cannot be
+/// modified at all.
+///
+/// A broken map can be created from the entries of another map and a set of breaks:
+/// ```java
+///     BreakableMap<Integer, String> broken = new BreakableMap<>(new HashMap<>(Map.of(1, "1", 2, "2")),
+///         Set.of(BreakableMap.GET_SCANS_ENTRIES));
+/// ```
+/// @author evanbergstrom
+/// @param <K> The key type for the `Map`.
+/// @param <V> The value type for the `Map`.
+/// @see MapMethods
+/// @since 1.0
+public class BreakableMap<K, V> extends AbstractBreakable implements Map<K, V> {
+
+    private final @NotNull Map<K, V> map;
+
+    /// The [get][Map#get(Object)] method compares the key with the key of each entry in turn, instead of looking it
+    /// up in the hash table, so it takes linear time.
+    /// @see BreakableMap#get(Object)
+    public static final Break GET_SCANS_ENTRIES = new Break("get scans the entries");
+
+    /// The [put][Map#put(Object, Object)] method compares the key with the key of each entry in turn to find out if
+    /// it is already in the map, so it takes linear time.
+    /// @see BreakableMap#put(Object, Object)
+    public static final Break PUT_SCANS_ENTRIES = new Break("put scans the entries");
+
+    /// The [put][Map#put(Object, Object)] method always returns `null`, instead of the previous value of the key.
+    /// @see BreakableMap#put(Object, Object)
+    public static final Break PUT_ALWAYS_RETURNS_NULL = new Break("put always returns null");
+
+    /// The [remove][Map#remove(Object)] method returns the value of the key without removing the entry.
+    /// @see BreakableMap#remove(Object)
+    public static final Break REMOVE_DOES_NOT_REMOVE_ENTRY = new Break("remove does not remove the entry");
+
+    /// The [putIfAbsent][Map#putIfAbsent(Object, Object)] method replaces the value of a key that is in the map.
+    /// @see BreakableMap#putIfAbsent(Object, Object)
+    public static final Break PUT_IF_ABSENT_REPLACES_VALUE = new Break("putIfAbsent replaces the value");
+
+    /// The [computeIfAbsent][Map#computeIfAbsent(Object, Function)] method calls the mapping function and stores the
+    /// result even if the key is in the map.
+    /// @see BreakableMap#computeIfAbsent(Object, Function)
+    public static final Break COMPUTE_IF_ABSENT_ALWAYS_COMPUTES = new Break("computeIfAbsent always computes");
+
+    /// The [merge][Map#merge(Object, Object, BiFunction)] method stores the given value without calling the
+    /// remapping function, even if the key is in the map.
+    /// @see BreakableMap#merge(Object, Object, BiFunction)
+    public static final Break MERGE_IGNORES_EXISTING_VALUE = new Break("merge ignores the existing value");
+
+    /// The [keySet][Map#keySet()] method returns a copy of the keys instead of a view, so later changes to the map
+    /// are not visible in it, and removing a key from it does not change the map.
+    /// @see BreakableMap#keySet()
+    public static final Break KEY_SET_IS_A_COPY = new Break("keySet is a copy");
+
+    /// The iterator of the [entrySet][Map#entrySet()] copies every entry into a list before returning the first one,
+    /// so iterating over the entries allocates memory in proportion to the size of the map.
+    /// @see BreakableMap#entrySet()
+    public static final Break ENTRY_SET_ITERATOR_COPIES_ENTRIES = new Break("entrySet iterator copies the entries");
+
+    /// Creates an empty map that has no breaks.
+    public BreakableMap() {
+        this(new HashMap<>(), Collections.emptySet());
+    }
+
+    /// Creates a copy of a breakable map, without its breaks.
+    /// @param other the breakable map to copy.
+    public BreakableMap(final @NotNull BreakableMap<K, V> other) {
+        this(new HashMap<>(other.map), Collections.emptySet());
+    }
+
+    /// Creates a breakable map with the entries of another map and no breaks.
+    /// @param m the map to copy the entries from.
+    public BreakableMap(final @NotNull Map<K, V> m) {
+        this(new HashMap<>(m), Collections.emptySet());
+    }
+
+    /// Creates a breakable map that stores its entries in the map provided, with the specified breaks.
+    /// @param m the map to store the entries in.
+    /// @param breaks the breaks for the map.
+    /// @throws NullPointerException if either argument is `null`.
+    public BreakableMap(final @NotNull Map<K, V> m, final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        this.map = Objects.requireNonNull(m);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return map.containsValue(value);
+    }
+
+    /// Implements the [get][Map#get(Object)] method from the [Map] interface. This method can be broken using the
+    /// following map break:
+    /// - [GET_SCANS_ENTRIES][BreakableMap#GET_SCANS_ENTRIES]
+    /// @param key the key whose value is returned.
+    /// @return the value of the key, or `null` if the map does not contain the key.
+    @Override
+    public V get(final Object key) {
+        if (hasBreak(GET_SCANS_ENTRIES)) {
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                if (Objects.equals(key, entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        } else {
+            return map.get(key);
+        }
+    }
+
+    /// Implements the [put][Map#put(Object, Object)] method from the [Map] interface. This method can be broken using
+    /// the following map breaks:
+    /// - [PUT_SCANS_ENTRIES][BreakableMap#PUT_SCANS_ENTRIES]
+    /// - [PUT_ALWAYS_RETURNS_NULL][BreakableMap#PUT_ALWAYS_RETURNS_NULL]
+    ///
+    /// This is an optional method of the [Map] interface. Support for this method can be removed using the optional
+    /// method identifier [MapMethods#Put].
+    /// @param key the key.
+    /// @param value the value to associate with the key.
+    /// @return the previous value of the key, or `null` if the map did not contain the key.
+    /// @throws UnsupportedOperationException if this map does not support this method.
+    @Override
+    public V put(final K key, final V value) {
+        checkSupported(MapMethods.Put, "put");
+        V previous;
+        if (hasBreak(PUT_SCANS_ENTRIES)) {
+            previous = null;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                if (Objects.equals(key, entry.getKey())) {
+                    previous = entry.setValue(value);
+                    break;
+                }
+            }
+            if (previous == null) {
+                map.put(key, value);
+            }
+        } else {
+            previous = map.put(key, value);
+        }
+        return hasBreak(PUT_ALWAYS_RETURNS_NULL) ? null : previous;
+    }
+
+    /// Implements the [remove][Map#remove(Object)] method from the [Map] interface. This method can be broken using
+    /// the following map break:
+    /// - [REMOVE_DOES_NOT_REMOVE_ENTRY][BreakableMap#REMOVE_DOES_NOT_REMOVE_ENTRY]
+    ///
+    /// This is an optional method of the [Map] interface. Support for this method can be removed using the optional
+    /// method identifier [MapMethods#Remove].
+    /// @param key the key to remove.
+    /// @return the previous value of the key, or `null` if the map did not contain the key.
+    /// @throws UnsupportedOperationException if this map does not support this method.
+    @Override
+    public V remove(final Object key) {
+        checkSupported(MapMethods.Remove, "remove");
+        return hasBreak(REMOVE_DOES_NOT_REMOVE_ENTRY) ? map.get(key) : map.remove(key);
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if this map does not support the [MapMethods#Remove] method.
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        checkSupported(MapMethods.Remove, "remove");
+        return map.remove(key, value);
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if this map does not support the [MapMethods#PutAll] method.
+    @Override
+    public void putAll(final @NotNull Map<? extends K, ? extends V> m) {
+        checkSupported(MapMethods.PutAll, "putAll");
+        map.putAll(m);
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if this map does not support the [MapMethods#Clear] method.
+    @Override
+    public void clear() {
+        checkSupported(MapMethods.Clear, "clear");
+        map.clear();
+    }
+
+    /// Implements the [putIfAbsent][Map#putIfAbsent(Object, Object)] method from the [Map] interface. This method
+    /// can be broken using the following map break:
+    /// - [PUT_IF_ABSENT_REPLACES_VALUE][BreakableMap#PUT_IF_ABSENT_REPLACES_VALUE]
+    ///
+    /// This is an optional method of the [Map] interface. Support for this method can be removed using the optional
+    /// method identifier [MapMethods#PutIfAbsent].
+    /// @param key the key.
+    /// @param value the value to associate with the key if it is absent.
+    /// @return the current value of the key, or `null` if the map did not contain the key.
+    /// @throws UnsupportedOperationException if this map does not support this method.
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        checkSupported(MapMethods.PutIfAbsent, "putIfAbsent");
+        return hasBreak(PUT_IF_ABSENT_REPLACES_VALUE) ? map.put(key, value) : map.putIfAbsent(key, value);
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if this map does not support the [MapMethods#Compute] method.
+    @Override
+    public V compute(final K key, final @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        checkSupported(MapMethods.Compute, "compute");
+        return map.compute(key, remappingFunction);
+    }
+
+    /// Implements the [computeIfAbsent][Map#computeIfAbsent(Object, Function)] method from the [Map] interface. This
+    /// method can be broken using the following map break:
+    /// - [COMPUTE_IF_ABSENT_ALWAYS_COMPUTES][BreakableMap#COMPUTE_IF_ABSENT_ALWAYS_COMPUTES]
+    ///
+    /// This is an optional method of the [Map] interface. Support for this method can be removed using the optional
+    /// method identifier [MapMethods#ComputeIfAbsent].
+    /// @param key the key.
+    /// @param mappingFunction the function that computes the value of a missing key.
+    /// @return the current or computed value of the key.
+    /// @throws UnsupportedOperationException if this map does not support this method.
+    @Override
+    public V computeIfAbsent(final K key, final @NotNull Function<? super K, ? extends V> mappingFunction) {
+        checkSupported(MapMethods.ComputeIfAbsent, "computeIfAbsent");
+        if (hasBreak(COMPUTE_IF_ABSENT_ALWAYS_COMPUTES)) {
+            V value = mappingFunction.apply(key);
+            map.put(key, value);
+            return value;
+        } else {
+            return map.computeIfAbsent(key, mappingFunction);
+        }
+    }
+
+    /// {@inheritDoc}
+    /// @throws UnsupportedOperationException if this map does not support the [MapMethods#ComputeIfPresent] method.
+    @Override
+    public V computeIfPresent(final K key,
+                              final @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        checkSupported(MapMethods.ComputeIfPresent, "computeIfPresent");
+        return map.computeIfPresent(key, remappingFunction);
+    }
+
+    /// Implements the [merge][Map#merge(Object, Object, BiFunction)] method from the [Map] interface. This method can
+    /// be broken using the following map break:
+    /// - [MERGE_IGNORES_EXISTING_VALUE][BreakableMap#MERGE_IGNORES_EXISTING_VALUE]
+    ///
+    /// This is an optional method of the [Map] interface. Support for this method can be removed using the optional
+    /// method identifier [MapMethods#Merge].
+    /// @param key the key.
+    /// @param value the value to merge with the current value of the key.
+    /// @param remappingFunction the function that combines the current and given values.
+    /// @return the new value of the key, or `null` if the key was removed.
+    /// @throws UnsupportedOperationException if this map does not support this method.
+    @Override
+    public V merge(final K key, final @NotNull V value,
+                   final @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkSupported(MapMethods.Merge, "merge");
+        if (hasBreak(MERGE_IGNORES_EXISTING_VALUE)) {
+            map.put(key, value);
+            return value;
+        } else {
+            return map.merge(key, value, remappingFunction);
+        }
+    }
+
+    /// Implements the [keySet][Map#keySet()] method from the [Map] interface. This method can be broken using the
+    /// following map break:
+    /// - [KEY_SET_IS_A_COPY][BreakableMap#KEY_SET_IS_A_COPY]
+    /// @return a view of the keys of the map.
+    @Override
+    public @NotNull Set<K> keySet() {
+        if (hasBreak(KEY_SET_IS_A_COPY)) {
+            return new HashSet<>(map.keySet());
+        } else {
+            return supportsMethod(MapMethods.ViewRemove) ? map.keySet() : Collections.unmodifiableSet(map.keySet());
+        }
+    }
+
+    @Override
+    public @NotNull Collection<V> values() {
+        return supportsMethod(MapMethods.ViewRemove) ? map.values() : Collections.unmodifiableCollection(map.values());
+    }
+
+    /// Implements the [entrySet][Map#entrySet()] method from the [Map] interface. This method can be broken using the
+    /// following map break:
+    /// - [ENTRY_SET_ITERATOR_COPIES_ENTRIES][BreakableMap#ENTRY_SET_ITERATOR_COPIES_ENTRIES]
+    /// @return a view of the entries of the map.
+    @Override
+    public @NotNull Set<Map.Entry<K, V>> entrySet() {
+        final Set<Map.Entry<K, V>> entries = supportsMethod(MapMethods.ViewRemove)
+                ? map.entrySet()
+                : Collections.unmodifiableMap(map).entrySet();
+        if (hasBreak(ENTRY_SET_ITERATOR_COPIES_ENTRIES)) {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Map.Entry<K, V>> iterator() {
+                    final List<Map.Entry<K, V>> copy = new ArrayList<>(entries.size());
+                    for (Map.Entry<K, V> entry : entries) {
+                        copy.add(new AbstractMap.SimpleEntry<>(entry));
+                    }
+                    return copy.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        } else {
+            return entries;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return map.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    private void checkSupported(final MapMethods method, final String name) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException("Unsupported method: " + name);
+        }
+    }
+
+    /// Creates a map provider for instances of `BreakableMap` that do not have any breaks.
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param keyProvider the key provider to use.
+    /// @param valueProvider the value provider to use.
+    /// @return a map provider for breakable maps.
+    public static <K, V> @NotNull MapProvider<K, V, BreakableMap<K, V>> mapProvider(
+            final @NotNull ObjectProvider<K> keyProvider,
+            final @NotNull ObjectProvider<V> valueProvider) {
+        return mapProvider(keyProvider, valueProvider, Collections.emptySet());
+    }
+
+    /// Creates a map provider for instances of `BreakableMap`, given the key and value providers and a set of breaks.
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param keyProvider the key provider to use.
+    /// @param valueProvider the value provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableMap`.
+    /// @return a map provider for breakable maps.
+    public static <K, V> @NotNull MapProvider<K, V, BreakableMap<K, V>> mapProvider(
+            final @NotNull ObjectProvider<K> keyProvider,
+            final @NotNull ObjectProvider<V> valueProvider,
+            final @NotNull Set<Break> breaks) {
+        return MapProviders.from(
+                () -> new BreakableMap<>(new HashMap<>(), breaks),
+                (o) -> new BreakableMap<>(new HashMap<>(o.map), breaks),
+                (m) -> new BreakableMap<>(new HashMap<>(m), breaks),
+                keyProvider,
+                valueProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableMap` that do not have any breaks applied.
+    /// @param <K> key type
+    /// @param <V> value type
+    public interface WithProvider<K, V> extends MapProviderSupport<K, V, BreakableMap<K, V>> {
+        @Override
+        default @NotNull MapProvider<K, V, BreakableMap<K, V>> provider() {
+            return BreakableMap.mapProvider(keyProvider(), valueProvider());
+        }
+    }
+}
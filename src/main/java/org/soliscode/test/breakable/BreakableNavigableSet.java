@@ -0,0 +1,431 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.OptionalMethod;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.sorted.SortedSetMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/// A navigable set that can be broken in well-defined ways in order to test the sorted set contract classes. The
+/// elements are stored in a [TreeSet], so unless the set is broken, it has the same behavior and performance as
+/// `TreeSet`. The views of the set are also breakable sets, with the same breaks and supported methods as the set.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. The
+/// optional methods in [SortedSetMethods], and the modification methods in [CollectionMethods], can also be removed,
+/// in which case the method throws an [UnsupportedOperationException].
+///
+/// A broken set can be created from the elements of a collection and a set of breaks:
+/// ```java
+///     BreakableNavigableSet<Integer> broken = new BreakableNavigableSet<>(List.of(3, 1, 2),
+///         Set.of(BreakableNavigableSet.FLOOR_SCANS_ELEMENTS));
+/// ```
+/// @author evanbergstrom
+/// @param <E> The elements type for the `NavigableSet`.
+/// @see SortedSetMethods
+/// @since 1.0
+public class BreakableNavigableSet<E> extends AbstractBreakable implements NavigableSet<E> {
+
+    private final @NotNull NavigableSet<E> set;
+    private final @NotNull NavigableSet<E> root;
+
+    /// The [floor][NavigableSet#floor(Object)] method compares the element with every element of the set, instead
+    /// of searching the tree, so it takes linear time.
+    /// @see BreakableNavigableSet#floor(Object)
+    public static final Break FLOOR_SCANS_ELEMENTS = new Break("floor scans the elements");
+
+    /// The [ceiling][NavigableSet#ceiling(Object)] method returns the least element strictly greater than the
+    /// element, so it does not return an element that is in the set.
+    /// @see BreakableNavigableSet#ceiling(Object)
+    public static final Break CEILING_IS_EXCLUSIVE = new Break("ceiling is exclusive");
+
+    /// The [lower][NavigableSet#lower(Object)] method returns the greatest element less than or equal to the
+    /// element, so it returns an element that is in the set.
+    /// @see BreakableNavigableSet#lower(Object)
+    public static final Break LOWER_IS_INCLUSIVE = new Break("lower is inclusive");
+
+    /// The [subSet][NavigableSet#subSet(Object, boolean, Object, boolean)] method returns a copy of the elements in
+    /// the range, instead of a view, so creating it takes linear time and it is not backed by the set.
+    /// @see BreakableNavigableSet#subSet(Object, boolean, Object, boolean)
+    public static final Break SUB_SET_COPIES_RANGE = new Break("subSet copies the range");
+
+    /// The [headSet][SortedSet#headSet(Object)] method includes the upper bound.
+    /// @see BreakableNavigableSet#headSet(Object)
+    public static final Break HEAD_SET_IS_INCLUSIVE = new Break("headSet is inclusive");
+
+    /// The iterator of a range view steps through every element of the whole set and skips the elements that are not
+    /// in the range, so iterating over a narrow range of a large set takes linear time.
+    /// @see BreakableNavigableSet#iterator()
+    public static final Break RANGE_VIEW_SCANS_SET = new Break("range views scan the whole set");
+
+    /// The [descendingSet][NavigableSet#descendingSet()] method returns a view with the elements in ascending order.
+    /// @see BreakableNavigableSet#descendingSet()
+    public static final Break DESCENDING_SET_IS_NOT_REVERSED = new Break("descendingSet is not reversed");
+
+    /// Creates an empty set that has no breaks.
+    public BreakableNavigableSet() {
+        this(Collections.emptyList(), Collections.emptySet());
+    }
+
+    /// Creates a set with the elements of a collection and no breaks.
+    /// @param c the initial elements of the set.
+    public BreakableNavigableSet(final @NotNull Collection<E> c) {
+        this(c, Collections.emptySet());
+    }
+
+    /// Creates a set with the elements of a collection and the specified breaks. The elements are ordered by their
+    /// natural ordering.
+    /// @param c the initial elements of the set.
+    /// @param breaks the breaks for the set.
+    /// @throws NullPointerException if either argument is `null`.
+    public BreakableNavigableSet(final @NotNull Collection<E> c, final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        this.set = new TreeSet<>(c);
+        this.root = this.set;
+    }
+
+    // Creates a view of a set, which has the same breaks and supported methods as the set.
+    private BreakableNavigableSet(final @NotNull NavigableSet<E> view, final @NotNull NavigableSet<E> root,
+                                  final @NotNull BreakableNavigableSet<E> parent) {
+        super(parent);
+        this.set = view;
+        this.root = root;
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return set.comparator();
+    }
+
+    @Override
+    public E first() {
+        return set.first();
+    }
+
+    @Override
+    public E last() {
+        return set.last();
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return set.contains(o);
+    }
+
+    /// Implements the [iterator][Collection#iterator()] method from the [Collection] interface. The iterator of a
+    /// range view can be broken using the following set break:
+    /// - [RANGE_VIEW_SCANS_SET][#RANGE_VIEW_SCANS_SET]
+    /// @return an iterator over the elements in ascending order.
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        if (hasBreak(RANGE_VIEW_SCANS_SET) && set != root) {
+            return root.stream().filter(set::contains).iterator();
+        } else {
+            return set.iterator();
+        }
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return set.toArray();
+    }
+
+    @Override
+    public <T> T @NotNull [] toArray(final T @NotNull [] a) {
+        return set.toArray(a);
+    }
+
+    @Override
+    public boolean add(final E e) {
+        checkSupported(CollectionMethods.Add, "add");
+        return set.add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        checkSupported(CollectionMethods.Remove, "remove");
+        return set.remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return set.containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends E> c) {
+        checkSupported(CollectionMethods.AddAll, "addAll");
+        return set.addAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RetainAll, "retainAll");
+        return set.retainAll(c);
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RemoveAll, "removeAll");
+        return set.removeAll(c);
+    }
+
+    @Override
+    public boolean removeIf(final @NotNull Predicate<? super E> filter) {
+        checkSupported(CollectionMethods.RemoveIf, "removeIf");
+        return set.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        checkSupported(CollectionMethods.Clear, "clear");
+        set.clear();
+    }
+
+    @Override
+    public E pollFirst() {
+        checkSupported(CollectionMethods.Remove, "pollFirst");
+        return set.pollFirst();
+    }
+
+    @Override
+    public E pollLast() {
+        checkSupported(CollectionMethods.Remove, "pollLast");
+        return set.pollLast();
+    }
+
+    /// Implements the [lower][NavigableSet#lower(Object)] method from the [NavigableSet] interface. This method can
+    /// be broken using the following set break:
+    /// - [LOWER_IS_INCLUSIVE][#LOWER_IS_INCLUSIVE]
+    /// @param e the element to compare with.
+    /// @return the greatest element less than `e`, or `null` if there is no such element.
+    @Override
+    public E lower(final E e) {
+        return hasBreak(LOWER_IS_INCLUSIVE) ? set.floor(e) : set.lower(e);
+    }
+
+    /// Implements the [floor][NavigableSet#floor(Object)] method from the [NavigableSet] interface. This method can
+    /// be broken using the following set break:
+    /// - [FLOOR_SCANS_ELEMENTS][#FLOOR_SCANS_ELEMENTS]
+    /// @param e the element to compare with.
+    /// @return the greatest element less than or equal to `e`, or `null` if there is no such element.
+    @Override
+    public E floor(final E e) {
+        if (hasBreak(FLOOR_SCANS_ELEMENTS)) {
+            E floor = null;
+            for (E x : set) {
+                if (compare(x, e) <= 0) {
+                    floor = x;
+                }
+            }
+            return floor;
+        } else {
+            return set.floor(e);
+        }
+    }
+
+    /// Implements the [ceiling][NavigableSet#ceiling(Object)] method from the [NavigableSet] interface. This method
+    /// can be broken using the following set break:
+    /// - [CEILING_IS_EXCLUSIVE][#CEILING_IS_EXCLUSIVE]
+    /// @param e the element to compare with.
+    /// @return the least element greater than or equal to `e`, or `null` if there is no such element.
+    @Override
+    public E ceiling(final E e) {
+        return hasBreak(CEILING_IS_EXCLUSIVE) ? set.higher(e) : set.ceiling(e);
+    }
+
+    @Override
+    public E higher(final E e) {
+        return set.higher(e);
+    }
+
+    /// Implements the [descendingSet][NavigableSet#descendingSet()] method from the [NavigableSet] interface. This
+    /// method can be broken using the following set break:
+    /// - [DESCENDING_SET_IS_NOT_REVERSED][#DESCENDING_SET_IS_NOT_REVERSED]
+    ///
+    /// Support for this method can be removed using the optional method identifier [SortedSetMethods#DescendingSet].
+    /// @return a reverse order view of the set.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull NavigableSet<E> descendingSet() {
+        checkSupported(SortedSetMethods.DescendingSet, "descendingSet");
+        return view(hasBreak(DESCENDING_SET_IS_NOT_REVERSED) ? set : set.descendingSet());
+    }
+
+    @Override
+    public @NotNull Iterator<E> descendingIterator() {
+        return set.descendingIterator();
+    }
+
+    /// Implements the [subSet][NavigableSet#subSet(Object, boolean, Object, boolean)] method from the
+    /// [NavigableSet] interface. This method can be broken using the following set break:
+    /// - [SUB_SET_COPIES_RANGE][#SUB_SET_COPIES_RANGE]
+    ///
+    /// Support for this method can be removed using the optional method identifier [SortedSetMethods#SubSet].
+    /// @param fromElement the low endpoint of the range.
+    /// @param fromInclusive `true` if the low endpoint is in the range.
+    /// @param toElement the high endpoint of the range.
+    /// @param toInclusive `true` if the high endpoint is in the range.
+    /// @return a view of the elements in the range.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull NavigableSet<E> subSet(final E fromElement, final boolean fromInclusive,
+                                          final E toElement, final boolean toInclusive) {
+        checkSupported(SortedSetMethods.SubSet, "subSet");
+        final NavigableSet<E> range = set.subSet(fromElement, fromInclusive, toElement, toInclusive);
+        if (hasBreak(SUB_SET_COPIES_RANGE)) {
+            final NavigableSet<E> copy = new TreeSet<>(range);
+            return new BreakableNavigableSet<>(copy, copy, this);
+        } else {
+            return view(range);
+        }
+    }
+
+    /// Implements the [headSet][NavigableSet#headSet(Object, boolean)] method from the [NavigableSet] interface.
+    ///
+    /// Support for this method can be removed using the optional method identifier [SortedSetMethods#HeadSet].
+    /// @param toElement the high endpoint of the range.
+    /// @param inclusive `true` if the high endpoint is in the range.
+    /// @return a view of the elements below the endpoint.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull NavigableSet<E> headSet(final E toElement, final boolean inclusive) {
+        checkSupported(SortedSetMethods.HeadSet, "headSet");
+        return view(set.headSet(toElement, inclusive));
+    }
+
+    /// Implements the [tailSet][NavigableSet#tailSet(Object, boolean)] method from the [NavigableSet] interface.
+    ///
+    /// Support for this method can be removed using the optional method identifier [SortedSetMethods#TailSet].
+    /// @param fromElement the low endpoint of the range.
+    /// @param inclusive `true` if the low endpoint is in the range.
+    /// @return a view of the elements above the endpoint.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull NavigableSet<E> tailSet(final E fromElement, final boolean inclusive) {
+        checkSupported(SortedSetMethods.TailSet, "tailSet");
+        return view(set.tailSet(fromElement, inclusive));
+    }
+
+    @Override
+    public @NotNull SortedSet<E> subSet(final E fromElement, final E toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    /// Implements the [headSet][SortedSet#headSet(Object)] method from the [SortedSet] interface. This method can be
+    /// broken using the following set break:
+    /// - [HEAD_SET_IS_INCLUSIVE][#HEAD_SET_IS_INCLUSIVE]
+    ///
+    /// Support for this method can be removed using the optional method identifier [SortedSetMethods#HeadSet].
+    /// @param toElement the high endpoint of the range, which is not in the range.
+    /// @return a view of the elements below the endpoint.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public @NotNull SortedSet<E> headSet(final E toElement) {
+        return headSet(toElement, hasBreak(HEAD_SET_IS_INCLUSIVE));
+    }
+
+    @Override
+    public @NotNull SortedSet<E> tailSet(final E fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return set.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return set.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return set.toString();
+    }
+
+    private @NotNull BreakableNavigableSet<E> view(final @NotNull NavigableSet<E> view) {
+        return new BreakableNavigableSet<>(view, root, this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(final E a, final E b) {
+        final Comparator<? super E> comparator = set.comparator();
+        return (comparator != null) ? comparator.compare(a, b) : ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    private void checkSupported(final OptionalMethod method, final String name) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException("Unsupported method: " + name);
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableNavigableSet` that do not have any breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable navigable sets.
+    public static <E> @NotNull CollectionProvider<E, BreakableNavigableSet<E>> navigableSetProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return navigableSetProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableNavigableSet`, given an element provider and a set of
+    /// breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableNavigableSet`.
+    /// @return a collection provider for breakable navigable sets.
+    public static <E> @NotNull CollectionProvider<E, BreakableNavigableSet<E>> navigableSetProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableNavigableSet<>(Collections.emptyList(), breaks),
+                (o) -> new BreakableNavigableSet<>(o, breaks),
+                (c) -> new BreakableNavigableSet<>(c, breaks),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableNavigableSet` that do not have any breaks applied.
+    /// @param <E> element type
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableNavigableSet<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableNavigableSet<E>> provider() {
+            return BreakableNavigableSet.navigableSetProvider(elementProvider());
+        }
+    }
+}
@@ -2,6 +2,11 @@ package org.soliscode.test.breakable;
 
 import org.jetbrains.annotations.NotNull;
 import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
 
 import java.util.*;
 
@@ -69,7 +74,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
 
     /// The `getLast` method returns the second element.
     /// @see BreakableSequencedCollection#getLast()
-    public static final Break GET_LAST_SKIPS_LAST_ELEMENT = new Break("");
+    public static final Break GET_LAST_SKIPS_LAST_ELEMENT = new Break("getLast returns second to last element");
 
     /// The [removeFirst][SequencedCollection#removeFirst()] method does not remove the first element.
     /// @see BreakableSequencedCollection#removeFirst()
@@ -103,6 +108,46 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// @see BreakableSequencedCollection#reversed()
     public static final Break REVERSED_MODIFIES_THE_COLLECTION = new Break("reversed() modifies the collection");
 
+    /// The [addFirst][SequencedCollection#addFirst] method walks the collection before adding the element, so it runs
+    /// in linear time.
+    /// @see BreakableSequencedCollection#addFirst(Object)
+    public static final Break ADD_FIRST_IS_LINEAR_TIME = new Break("addFirst walks the collection");
+
+    /// The [addLast][SequencedCollection#addLast] method walks the collection before adding the element, so it runs
+    /// in linear time.
+    /// @see BreakableSequencedCollection#addLast(Object)
+    public static final Break ADD_LAST_IS_LINEAR_TIME = new Break("addLast walks the collection");
+
+    /// The [getFirst][SequencedCollection#getFirst] method walks the collection before returning the element, so it
+    /// runs in linear time.
+    /// @see BreakableSequencedCollection#getFirst()
+    public static final Break GET_FIRST_IS_LINEAR_TIME = new Break("getFirst walks the collection");
+
+    /// The [getLast][SequencedCollection#getLast] method walks the collection to reach the last element, so it runs
+    /// in linear time.
+    /// @see BreakableSequencedCollection#getLast()
+    public static final Break GET_LAST_IS_LINEAR_TIME = new Break("getLast walks the collection");
+
+    /// The [removeFirst][SequencedCollection#removeFirst] method walks the collection before removing the element, so
+    /// it runs in linear time.
+    /// @see BreakableSequencedCollection#removeFirst()
+    public static final Break REMOVE_FIRST_IS_LINEAR_TIME = new Break("removeFirst() walks the collection");
+
+    /// The [removeLast][SequencedCollection#removeLast] method walks the collection before removing the element, so
+    /// it runs in linear time.
+    /// @see BreakableSequencedCollection#removeLast()
+    public static final Break REMOVE_LAST_IS_LINEAR_TIME = new Break("removeLast() walks the collection");
+
+    /// The [reversed][SequencedCollection#reversed] method returns a reversed copy of the collection instead of a
+    /// view.
+    /// @see BreakableSequencedCollection#reversed()
+    public static final Break REVERSED_COPIES_THE_ELEMENTS = new Break("reversed() copies the elements");
+
+    /// The [reversed][SequencedCollection#reversed] method returns a view whose iterator copies the elements of the
+    /// collection before iterating over them.
+    /// @see BreakableSequencedCollection#reversed()
+    public static final Break REVERSED_ITERATOR_COPIES_THE_ELEMENTS = new Break("reversed().iterator() copies the elements");
+
     /// Creates an empty sequenced collection that has no breaks.
     public BreakableSequencedCollection() {
         this(new ArrayList<>(), new HashSet<>(), 0);
@@ -136,6 +181,8 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// method can be broken using the following collection breaks:
     /// - REVERSED_DOES_NOT_REVERSE_COLLECTION
     /// - REVERSED_MODIFIES_THE_COLLECTION
+    /// - REVERSED_COPIES_THE_ELEMENTS
+    /// - REVERSED_ITERATOR_COPIES_THE_ELEMENTS
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -153,6 +200,10 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
             } else if (hasBreak(REVERSED_MODIFIES_THE_COLLECTION)) {
                 Collections.reverse(sequenced);
                 return sequenced;
+            } else if (hasBreak(REVERSED_COPIES_THE_ELEMENTS)) {
+                return new ArrayList<>(sequenced).reversed();
+            } else if (hasBreak(REVERSED_ITERATOR_COPIES_THE_ELEMENTS)) {
+                return new CopyingReversedView();
             } else {
                 return sequenced.reversed();
             }
@@ -165,6 +216,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// method can be broken using the following collection breaks:
     /// - ADD_FIRST_DOES_NOT_ADD_ELEMENT
     /// - ADD_FIRST_ADDS_TO_END
+    /// - ADD_FIRST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -179,6 +231,9 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     public void addFirst(E e) {
         if (supportsMethod(CollectionMethods.AddFirst)) {
             checkNewElement(e);
+            if (hasBreak(ADD_FIRST_IS_LINEAR_TIME)) {
+                walk();
+            }
             if(hasBreak(ADD_FIRST_ADDS_TO_END)) {
                 sequenced.addLast(e);
             } else if (!hasBreak(ADD_FIRST_DOES_NOT_ADD_ELEMENT)) {
@@ -193,6 +248,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// method can be broken using the following collection breaks:
     /// - ADD_LAST_DOES_NOT_ADD_ELEMENT
     /// - ADD_LAST_ADDS_TO_FRONT
+    /// - ADD_LAST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -207,6 +263,9 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     public void addLast(E e) {
         if (supportsMethod(CollectionMethods.AddLast)) {
             checkNewElement(e);
+            if (hasBreak(ADD_LAST_IS_LINEAR_TIME)) {
+                walk();
+            }
             if(hasBreak(ADD_LAST_ADDS_TO_FRONT)) {
                 sequenced.addFirst(e);
             } else if (!hasBreak(ADD_LAST_DOES_NOT_ADD_ELEMENT)) {
@@ -222,6 +281,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// - GET_FIRST_RETURNS_NULL
     /// - GET_FIRST_ALWAYS_THROWS
     /// - GET_FIRST_SKIPS_FIRST_ELEMENT
+    /// - GET_FIRST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -243,6 +303,9 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
                 Iterator<E> i = iterator();
                 i.next();
                 return i.next();
+            } else if (hasBreak(GET_FIRST_IS_LINEAR_TIME)) {
+                walk();
+                return sequenced.getFirst();
             } else {
                 return sequenced.getFirst();
             }
@@ -256,6 +319,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// - GET_LAST_RETURNS_NULL
     /// - GET_LAST_ALWAYS_THROWS
     /// - GET_LAST_SKIPS_FIRST_ELEMENT
+    /// - GET_LAST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -275,6 +339,15 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
             Iterator<E> i = reversed().iterator();
             i.next();
             return i.next();
+        } else if (hasBreak(GET_LAST_IS_LINEAR_TIME)) {
+            E last = null;
+            for (E e : sequenced) {
+                last = e;
+            }
+            if (sequenced.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return last;
         } else {
             return sequenced.getLast();
         }
@@ -285,6 +358,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// - REMOVE_FIRST_DOES_NOT_REMOVE_ELEMENT
     /// - REMOVE_FIRST_RETURNS_NULL
     /// - REMOVE_FIRST_ALWAYS_THROWS
+    /// - REMOVE_FIRST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -303,6 +377,9 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
                 return null;
             } else if (hasBreak(REMOVE_FIRST_ALWAYS_THROWS)) {
                 throw new NoSuchElementException();
+            } else if (hasBreak(REMOVE_FIRST_IS_LINEAR_TIME)) {
+                walk();
+                return sequenced.removeFirst();
             } else {
                 return sequenced.removeFirst();
             }
@@ -316,6 +393,7 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
     /// - REMOVE_LAST_DOES_NOT_REMOVE_ELEMENT
     /// - REMOVE_LAST_RETURNS_NULL
     /// - REMOVE_LAST_ALWAYS_THROWS
+    /// - REMOVE_LAST_IS_LINEAR_TIME
     ///
     /// A collection that has any of these breaks can be constructed using the builder:
     /// ```java
@@ -334,6 +412,9 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
                 return null;
             } else if (hasBreak(REMOVE_LAST_ALWAYS_THROWS)) {
                 throw new NoSuchElementException();
+            } else if (hasBreak(REMOVE_LAST_IS_LINEAR_TIME)) {
+                walk();
+                return sequenced.removeLast();
             } else {
                 return sequenced.removeLast();
             }
@@ -342,6 +423,34 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
         }
     }
 
+    // Steps through every element of the collection, as an implementation without direct access to the ends would.
+    protected void walk() {
+        int hash = 0;
+        for (E e : sequenced) {
+            hash += Blackhole.hash(e);
+        }
+        Blackhole.consume(hash);
+    }
+
+    /// A reversed view of the collection whose iterator copies the elements before iterating over them.
+    private class CopyingReversedView extends AbstractCollection<E> implements SequencedCollection<E> {
+
+        @Override
+        public @NotNull Iterator<E> iterator() {
+            return new ArrayList<>(sequenced).reversed().iterator();
+        }
+
+        @Override
+        public int size() {
+            return sequenced.size();
+        }
+
+        @Override
+        public SequencedCollection<E> reversed() {
+            return BreakableSequencedCollection.this;
+        }
+    }
+
     /// The builder for BreakableCollection objects.
     /// @param <E> the element type.
     public static class Builder<E>
@@ -393,4 +502,40 @@ public class BreakableSequencedCollection<E> extends BreakableCollection<E> impl
         }
     }
 
+    /// Creates a collection provider for instances of `BreakableSequencedCollection`, given an element provider. The
+    /// elements are stored in a [LinkedList], so all the operations on the ends of the collection take constant time.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable sequenced collections.
+    public static <E> @NotNull CollectionProvider<E, BreakableSequencedCollection<E>> sequencedCollectionProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return sequencedCollectionProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableSequencedCollection`, given an element provider and a
+    /// set of breaks. The elements are stored in a [LinkedList].
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableSequencedCollection`.
+    /// @return a collection provider for breakable sequenced collections.
+    public static <E> @NotNull CollectionProvider<E, BreakableSequencedCollection<E>> sequencedCollectionProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableSequencedCollection<>(new LinkedList<>(), breaks, 0),
+                (o) -> new BreakableSequencedCollection<>(new LinkedList<>(o.sequenced), breaks, 0),
+                (c) -> new BreakableSequencedCollection<>(new LinkedList<>(c), breaks, 0),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableSequencedCollection` that do not have any breaks applied.
+    /// @param <E> element type
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableSequencedCollection<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableSequencedCollection<E>> provider() {
+            return BreakableSequencedCollection.sequencedCollectionProvider(elementProvider());
+        }
+    }
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.breakable;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.OptionalMethod;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionProviderSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/// A set that can be broken in well-defined ways in order to test the set contract classes. The elements are stored
+/// in a [LinkedHashSet], so unless the set is broken, it has the same behavior and performance as `LinkedHashSet`.
+///
+/// # Breaks
+/// The breaks that are supported for this class are listed in the description of the method that they impact. The
+/// modification methods in [CollectionMethods] can also be removed, in which case the method throws an
+/// [UnsupportedOperationException].
+///
+/// A broken set can be created from the elements of a collection and a set of breaks:
+/// ```java
+///     BreakableSet<Integer> broken = new BreakableSet<>(List.of(1, 2, 3),
+///         Set.of(BreakableSet.HASH_CODE_DEPENDS_ON_ORDER));
+/// ```
+/// @author evanbergstrom
+/// @param <E> The elements type for the `Set`.
+/// @see org.soliscode.test.contract.set.SetContract
+/// @since 1.0
+public class BreakableSet<E> extends AbstractBreakable implements Set<E> {
+
+    private final @NotNull Set<E> set;
+
+    /// The [equals][Set#equals(Object)] method only returns `true` for another `BreakableSet`, so the set is not
+    /// equal to the other set implementations.
+    /// @see BreakableSet#equals(Object)
+    public static final Break EQUALS_REQUIRES_SAME_TYPE = new Break("equals requires the same type");
+
+    /// The [hashCode][Set#hashCode()] method combines the hash codes of the elements in iteration order, in the
+    /// manner of a list, instead of adding them.
+    /// @see BreakableSet#hashCode()
+    public static final Break HASH_CODE_DEPENDS_ON_ORDER = new Break("hashCode depends on the order");
+
+    /// The [add][Set#add(Object)] method removes an existing element and adds it again, which is a structural
+    /// modification that moves the element to the end of the iteration order.
+    /// @see BreakableSet#add(Object)
+    public static final Break ADD_REINSERTS_EXISTING_ELEMENT = new Break("add reinserts an existing element");
+
+    /// The [add][Set#add(Object)] method creates an entry for the element before it checks whether the element is
+    /// already present, so each call allocates memory, even if the element is not added.
+    /// @see BreakableSet#add(Object)
+    public static final Break ADD_ALLOCATES_ENTRY = new Break("add allocates an entry");
+
+    /// The constructor removes the duplicates from the collection it copies by searching the elements that it has
+    /// already copied, so copying a collection takes quadratic time.
+    /// @see BreakableSet#BreakableSet(Collection, Collection)
+    public static final Break COPY_SCANS_FOR_DUPLICATES = new Break("copy scans for duplicates");
+
+    /// Creates an empty set that has no breaks.
+    public BreakableSet() {
+        this(Collections.emptyList(), Collections.emptySet());
+    }
+
+    /// Creates a set with the elements of a collection and no breaks.
+    /// @param c the initial elements of the set.
+    public BreakableSet(final @NotNull Collection<E> c) {
+        this(c, Collections.emptySet());
+    }
+
+    /// Creates a set with the elements of a collection and the specified breaks. The constructor can be broken using
+    /// the following set break:
+    /// - [COPY_SCANS_FOR_DUPLICATES][#COPY_SCANS_FOR_DUPLICATES]
+    /// @param c the initial elements of the set.
+    /// @param breaks the breaks for the set.
+    /// @throws NullPointerException if either argument is `null`.
+    public BreakableSet(final @NotNull Collection<E> c, final @NotNull Collection<Break> breaks) {
+        super(breaks);
+        this.set = breaks.contains(COPY_SCANS_FOR_DUPLICATES) ? copyByScanning(c) : new LinkedHashSet<>(c);
+    }
+
+    // Copies the collection, removing the duplicates by searching the elements that have already been copied. The
+    // breaks are read from the constructor argument, since calling hasBreak would let `this` escape.
+    private static <E> @NotNull Set<E> copyByScanning(final @NotNull Collection<E> c) {
+        final List<E> distinct = new ArrayList<>();
+        for (E e : c) {
+            if (!distinct.contains(e)) {
+                distinct.add(e);
+            }
+        }
+        return new LinkedHashSet<>(distinct);
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return set.iterator();
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return set.toArray();
+    }
+
+    @Override
+    public <T> T @NotNull [] toArray(final T @NotNull [] a) {
+        return set.toArray(a);
+    }
+
+    /// Implements the [add][Set#add(Object)] method from the [Set] interface. This method can be broken using the
+    /// following set breaks:
+    /// - [ADD_REINSERTS_EXISTING_ELEMENT][#ADD_REINSERTS_EXISTING_ELEMENT]
+    /// - [ADD_ALLOCATES_ENTRY][#ADD_ALLOCATES_ENTRY]
+    ///
+    /// Support for this method can be removed using the optional method identifier [CollectionMethods#Add].
+    /// @param e the element to add.
+    /// @return `true` if the set did not already contain the element.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public boolean add(final E e) {
+        checkSupported(CollectionMethods.Add, "add");
+        if (hasBreak(ADD_ALLOCATES_ENTRY)) {
+            Blackhole.consume(new AbstractMap.SimpleImmutableEntry<>(e, Boolean.TRUE));
+        }
+        if (hasBreak(ADD_REINSERTS_EXISTING_ELEMENT) && set.remove(e)) {
+            set.add(e);
+            return false;
+        }
+        return set.add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        checkSupported(CollectionMethods.Remove, "remove");
+        return set.remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return set.containsAll(c);
+    }
+
+    /// Implements the [addAll][Set#addAll(Collection)] method from the [Set] interface, by calling [#add(Object)]
+    /// for each element, so it is affected by the breaks of that method.
+    ///
+    /// Support for this method can be removed using the optional method identifier [CollectionMethods#AddAll].
+    /// @param c the elements to add.
+    /// @return `true` if the set changed.
+    /// @throws UnsupportedOperationException if this method is not supported.
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends E> c) {
+        checkSupported(CollectionMethods.AddAll, "addAll");
+        boolean modified = false;
+        for (E e : c) {
+            modified |= add(e);
+        }
+        return modified;
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RetainAll, "retainAll");
+        return set.retainAll(c);
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        checkSupported(CollectionMethods.RemoveAll, "removeAll");
+        return set.removeAll(c);
+    }
+
+    @Override
+    public boolean removeIf(final @NotNull Predicate<? super E> filter) {
+        checkSupported(CollectionMethods.RemoveIf, "removeIf");
+        return set.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        checkSupported(CollectionMethods.Clear, "clear");
+        set.clear();
+    }
+
+    /// Implements the [equals][Set#equals(Object)] method from the [Set] interface. This method can be broken using
+    /// the following set break:
+    /// - [EQUALS_REQUIRES_SAME_TYPE][#EQUALS_REQUIRES_SAME_TYPE]
+    /// @param o the object to compare with.
+    /// @return `true` if the object is a set with the same elements.
+    @Override
+    public boolean equals(final Object o) {
+        if (hasBreak(EQUALS_REQUIRES_SAME_TYPE) && !(o instanceof BreakableSet<?>)) {
+            return false;
+        }
+        return set.equals(o);
+    }
+
+    /// Implements the [hashCode][Set#hashCode()] method from the [Set] interface. This method can be broken using
+    /// the following set break:
+    /// - [HASH_CODE_DEPENDS_ON_ORDER][#HASH_CODE_DEPENDS_ON_ORDER]
+    /// @return the sum of the hash codes of the elements.
+    @Override
+    public int hashCode() {
+        if (hasBreak(HASH_CODE_DEPENDS_ON_ORDER)) {
+            int hash = 1;
+            for (E e : set) {
+                hash = 31 * hash + Objects.hashCode(e);
+            }
+            return hash;
+        } else {
+            return set.hashCode();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return set.toString();
+    }
+
+    private void checkSupported(final OptionalMethod method, final String name) {
+        if (!supportsMethod(method)) {
+            throw new UnsupportedOperationException("Unsupported method: " + name);
+        }
+    }
+
+    /// Creates a collection provider for instances of `BreakableSet` that do not have any breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @return a collection provider for breakable sets.
+    public static <E> @NotNull CollectionProvider<E, BreakableSet<E>> setProvider(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return setProvider(elementProvider, Set.of());
+    }
+
+    /// Creates a collection provider for instances of `BreakableSet`, given an element provider and a set of breaks.
+    /// @param <E> the element type.
+    /// @param elementProvider the element provider to use.
+    /// @param breaks the breaks to apply to each instance of `BreakableSet`.
+    /// @return a collection provider for breakable sets.
+    public static <E> @NotNull CollectionProvider<E, BreakableSet<E>> setProvider(
+            final @NotNull ObjectProvider<E> elementProvider,
+            final @NotNull Set<Break> breaks) {
+        return CollectionProviders.from(
+                () -> new BreakableSet<>(Collections.emptyList(), breaks),
+                (o) -> new BreakableSet<>(o, breaks),
+                (c) -> new BreakableSet<>(c, breaks),
+                elementProvider
+        );
+    }
+
+    /// Mixin interface that adds an implementation of the `provider()` method that provides instances of
+    /// `BreakableSet` that do not have any breaks applied.
+    /// @param <E> element type
+    public interface WithProvider<E> extends CollectionProviderSupport<E, BreakableSet<E>> {
+        @Override
+        default @NotNull CollectionProvider<E, BreakableSet<E>> provider() {
+            return BreakableSet.setProvider(elementProvider());
+        }
+    }
+}
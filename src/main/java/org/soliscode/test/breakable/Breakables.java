@@ -81,6 +81,24 @@ public final class Breakables {
                 .addElements(e);
     }
 
+    /// Creates a builder for a `BreakableList`.
+    /// @param <E> the type of the elements.
+    /// @param c the class of the element for the list.
+    /// @return a builder.
+    public static <E> BreakableList.Builder<E> buildList(final Class<E> c) {
+        return new BreakableList.Builder<>();
+    }
+
+    /// Creates a builder for a `BreakableList` initialized with a set of elements.
+    /// @param <E> the type of the elements.
+    /// @param e the elements to add to the list.
+    /// @return a builder.
+    @SafeVarargs
+    public static <E> BreakableList.Builder<E> buildList(final E... e) {
+        return new BreakableList.Builder<E>()
+                .addElements(e);
+    }
+
     /// Makes sure that the iterator is not a broken iterator. If the argument is an instance of `BreakableIterator`
     /// then the underlying iterator used as the element store is returned.
     /// @param i an instance of iterator.
@@ -0,0 +1,81 @@
+package org.soliscode.test.contract.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Allocations;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests that the [addAll][Collection#addAll(Collection)] method makes room for all the elements of the argument at
+/// once, so that the storage of an array-based or hash-based collection grows at most once, rather than the
+/// `O(log n)` times it would grow if the elements were added one at a time.
+///
+/// The growth is measured by the memory allocated when the elements are added to an empty collection. The budget is
+/// the memory allocated to create a collection with the same elements, which does not need to grow, plus one array
+/// of the elements, which allows the argument to be copied with [Collection#toArray()] or the storage to be grown
+/// once. The test is skipped if the JVM cannot measure allocations.
+///
+/// This contract is not included in [CollectionContract], since some collections do not presize for `addAll`; for
+/// example, [java.util.HashSet] adds the elements one at a time. Add it to the test class of a collection to enable
+/// it:
+/// ```java
+/// public class MyListTest implements ListContract<Integer, MyList<Integer>>,
+///         AddAllPresizingContract<Integer, MyList<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The collection type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Collection#addAll(Collection)
+public interface AddAllPresizingContract<E, C extends Collection<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// The number of elements ({@value}) added to the collection.
+    int ADD_ALL_SIZE = 4_096;
+
+    /// The number of bytes ({@value}) that the `addAll` method may allocate in addition to the budget, to allow for
+    /// objects such as an iterator.
+    long ADD_ALL_ALLOCATION_SLACK = 256L;
+
+    /// Tests that adding a large collection to an empty collection with the [addAll][Collection#addAll(Collection)]
+    /// method grows the storage at most once.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the addAll method grows the storage at most once")
+    default void testAddAllGrowsAtMostOnce() {
+        if (supportsMethod(CollectionMethods.AddAll) && Allocations.isSupported()
+                && elementProvider().uniqueSizeLimit() >= ADD_ALL_SIZE) {
+            final List<E> values = elementProvider().createUniqueInstances(ADD_ALL_SIZE);
+
+            final long presized = measureAllocation(() -> () -> Blackhole.consume(provider().createInstance(values)));
+            final long added = measureAllocation(() -> {
+                final C collection = provider().emptyInstance();
+                return () -> {
+                    collection.addAll(values);
+                    assertEquals(ADD_ALL_SIZE, collection.size());
+                };
+            });
+
+            final long budget = presized + arrayAllocation(ADD_ALL_SIZE) + ADD_ALL_ALLOCATION_SLACK;
+            if (added > budget) {
+                assertionFailure()
+                        .message("addAll allocated " + added + " bytes, but creating a collection with the same "
+                                + "elements allocated " + presized + " bytes; the budget is " + budget + " bytes")
+                        .buildAndThrow();
+            }
+        }
+    }
+}
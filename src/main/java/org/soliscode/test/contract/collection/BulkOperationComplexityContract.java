@@ -0,0 +1,189 @@
+package org.soliscode.test.contract.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Tests that the bulk operations [removeAll][Collection#removeAll(Collection)],
+/// [retainAll][Collection#retainAll(Collection)] and [containsAll][Collection#containsAll(Collection)] do not take
+/// `O(n·m)` time when they can avoid it. The cost of the operations is measured by counting the calls to the
+/// `equals`, `hashCode` and `compareTo` methods of the elements, using [CountingElement], so the tests are
+/// deterministic.
+///
+/// Each operation is measured with two kinds of argument:
+/// - a [HashSet] that is as large as the collection, which has a constant time `contains` method. The `removeAll`
+///   and `retainAll` methods must make a linear number of calls, so an implementation that copies the argument into
+///   a list, or otherwise scans it for each element, fails. The `containsAll` method must look up each element of
+///   the argument in the collection at the cost given by [#containsComplexity()].
+/// - a list with a fixed number of elements. Since looking up an element in a list takes linear time, the number of
+///   calls can only be bounded if the size of the argument is fixed; the `removeAll` and `retainAll` methods must
+///   then make a linear number of calls, and the `containsAll` method must take no longer than [#containsComplexity()].
+///
+/// This contract requires the collection to contain instances of [CountingElement], so the test class must use an
+/// element provider such as [org.soliscode.test.contract.support.WithCountingElement]:
+/// ```java
+/// public class HashSetBulkOperationTest implements BulkOperationComplexityContract<HashSet<CountingElement>>,
+///         WithCountingElement {
+///
+///     public Complexity containsComplexity() {
+///         return Complexity.CONSTANT;
+///     }
+/// }
+/// ```
+///
+/// @param <C> The collection type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see org.soliscode.test.perf.OperationCounter
+public interface BulkOperationComplexityContract<C extends Collection<CountingElement>>
+        extends CollectionContractSupport<CountingElement, C>, PerformanceSupport {
+
+    /// The number of elements ({@value}) in the list arguments.
+    int LIST_ARGUMENT_SIZE = 8;
+
+    /// Returns the complexity of finding an element in the collection, which is linear by default. A test class for
+    /// a hash-based or tree-based collection should override this method.
+    /// @return the complexity of the `contains` method.
+    default @NotNull Complexity containsComplexity() {
+        return Complexity.LINEAR;
+    }
+
+    /// Tests that the [removeAll][Collection#removeAll(Collection)] method makes a linear number of calls when the
+    /// argument is a [HashSet] as large as the collection.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that removeAll with a hashed argument is linear")
+    default void testRemoveAllWithHashedArgumentIsLinear() {
+        if (supportsMethod(CollectionMethods.RemoveAll)) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size + size / 2);
+                final C collection = provider().createInstance(values.subList(0, size));
+                final Collection<CountingElement> argument = new HashSet<>(values.subList(size / 2, values.size()));
+                return values.getFirst().counter().count(() -> {
+                    collection.removeAll(argument);
+                    assertEquals(size / 2, collection.size());
+                });
+            });
+        }
+    }
+
+    /// Tests that the [retainAll][Collection#retainAll(Collection)] method makes a linear number of calls when the
+    /// argument is a [HashSet] as large as the collection.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that retainAll with a hashed argument is linear")
+    default void testRetainAllWithHashedArgumentIsLinear() {
+        if (supportsMethod(CollectionMethods.RetainAll)) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size + size / 2);
+                final C collection = provider().createInstance(values.subList(0, size));
+                final Collection<CountingElement> argument = new HashSet<>(values.subList(size / 2, values.size()));
+                return values.getFirst().counter().count(() -> {
+                    collection.retainAll(argument);
+                    assertEquals(size - size / 2, collection.size());
+                });
+            });
+        }
+    }
+
+    /// Tests that the [containsAll][Collection#containsAll(Collection)] method looks up each element of a [HashSet]
+    /// argument as large as the collection at the cost given by [#containsComplexity()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that containsAll with a hashed argument looks up each element once")
+    default void testContainsAllWithHashedArgument() {
+        if (supportsMethod(CollectionMethods.ContainsAll)) {
+            countEstimator().assertCountAtMost(containsComplexity().timesSize(), size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size);
+                final C collection = provider().createInstance(values);
+                final Collection<CountingElement> argument = new HashSet<>(values);
+                return values.getFirst().counter().count(() -> assertTrue(collection.containsAll(argument)));
+            });
+        }
+    }
+
+    /// Tests that the [removeAll][Collection#removeAll(Collection)] method makes a linear number of calls when the
+    /// argument is a list with [#LIST_ARGUMENT_SIZE] elements.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that removeAll with a small list argument is linear")
+    default void testRemoveAllWithListArgumentIsLinear() {
+        if (supportsMethod(CollectionMethods.RemoveAll)) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size);
+                final C collection = provider().createInstance(values);
+                final List<CountingElement> argument = evenlySpacedSample(values);
+                return values.getFirst().counter().count(() -> {
+                    collection.removeAll(argument);
+                    assertEquals(size - LIST_ARGUMENT_SIZE, collection.size());
+                });
+            });
+        }
+    }
+
+    /// Tests that the [retainAll][Collection#retainAll(Collection)] method makes a linear number of calls when the
+    /// argument is a list with [#LIST_ARGUMENT_SIZE] elements.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that retainAll with a small list argument is linear")
+    default void testRetainAllWithListArgumentIsLinear() {
+        if (supportsMethod(CollectionMethods.RetainAll)) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size);
+                final C collection = provider().createInstance(values);
+                final List<CountingElement> argument = evenlySpacedSample(values);
+                return values.getFirst().counter().count(() -> {
+                    collection.retainAll(argument);
+                    assertEquals(LIST_ARGUMENT_SIZE, collection.size());
+                });
+            });
+        }
+    }
+
+    /// Tests that the [containsAll][Collection#containsAll(Collection)] method takes no longer than
+    /// [#containsComplexity()] when the argument is a list with [#LIST_ARGUMENT_SIZE] elements.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that containsAll with a small list argument looks up each element once")
+    default void testContainsAllWithListArgument() {
+        if (supportsMethod(CollectionMethods.ContainsAll)) {
+            countEstimator().assertCountAtMost(containsComplexity(), size -> {
+                final List<CountingElement> values = elementProvider().createUniqueInstances(size);
+                final C collection = provider().createInstance(values);
+                final List<CountingElement> argument = evenlySpacedSample(values);
+                return values.getFirst().counter().count(() -> assertTrue(collection.containsAll(argument)));
+            });
+        }
+    }
+
+    // Returns LIST_ARGUMENT_SIZE elements spread evenly over the values, so that finding them in a list takes
+    // linear time.
+    private static List<CountingElement> evenlySpacedSample(final List<CountingElement> values) {
+        final List<CountingElement> sample = new ArrayList<>(LIST_ARGUMENT_SIZE);
+        for (int i = 0; i < LIST_ARGUMENT_SIZE; i++) {
+            sample.add(values.get((i + 1) * values.size() / LIST_ARGUMENT_SIZE - 1));
+        }
+        return sample;
+    }
+}
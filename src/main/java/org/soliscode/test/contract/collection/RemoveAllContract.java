@@ -85,7 +85,7 @@ public interface RemoveAllContract<E, C extends Collection<E>> extends Collectio
     default void testRemoveAllOnIncompatibleObject() {
         if (supportsMethod(CollectionMethods.RemoveAll)) {
             Collection<E> collection = provider().createInstanceWithUniqueElements();
-            assertFalse(collection.removeAll(Collections.singleton(new MatchNothing())));
+            assertFalseForIncompatibleType(() -> collection.removeAll(Collections.singleton(new MatchNothing())));
         }
     }
 
@@ -106,7 +106,7 @@ public interface RemoveContract<E, C extends Collection<E>> extends CollectionCo
     default void testRemoveOnIncompatibleObject() {
         if (supportsMethod(CollectionMethods.Remove)) {
             Collection<E> collection = provider().createInstanceWithUniqueElements();
-            assertFalse(collection.remove(new MatchNothing()));
+            assertFalseForIncompatibleType(() -> collection.remove(new MatchNothing()));
         }
     }
 }
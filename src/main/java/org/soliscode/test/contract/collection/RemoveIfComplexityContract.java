@@ -0,0 +1,55 @@
+package org.soliscode.test.contract.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/// Tests that the [removeIf][Collection#removeIf(Predicate)] method of an array-backed collection compacts the
+/// remaining elements in a single pass. Since the method is given all the elements to remove at once, it does not
+/// need to shift the elements that follow each removed element, which would make removing a fraction of the elements
+/// take quadratic time.
+///
+/// This contract is not included in [CollectionContract], since it measures elapsed time. Add it to the test class
+/// of an array-backed collection to enable it:
+/// ```java
+/// public class MyListTest implements ListContract<Integer, MyList<Integer>>,
+///         RemoveIfComplexityContract<Integer, MyList<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The collection type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Collection#removeIf(Predicate)
+/// @see RemoveIfContract
+public interface RemoveIfComplexityContract<E, C extends Collection<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// Tests that removing every other element with the [removeIf][Collection#removeIf(Predicate)] method takes
+    /// linear time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("The removeIf method takes linear time")
+    default void testRemoveIfIsLinearTime() {
+        final int[] sizes = complexityEstimator().sizes();
+        if (supportsMethod(CollectionMethods.RemoveIf)
+                && elementProvider().uniqueSizeLimit() >= sizes[sizes.length - 1]) {
+            complexityEstimator().assertTimeAtMost(Complexity.LINEAR, size -> {
+                final Collection<E> collection = provider().createInstance(elementProvider().createUniqueInstances(size));
+                final boolean[] remove = {false};
+                return () -> Blackhole.consume(collection.removeIf(e -> remove[0] = !remove[0]));
+            });
+        }
+    }
+}
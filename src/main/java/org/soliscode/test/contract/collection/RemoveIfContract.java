@@ -5,13 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.soliscode.test.contract.CollectionMethods;
 import org.soliscode.test.contract.support.CollectionContractSupport;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.soliscode.test.assertions.collection.CollectionAssertions.assertContainsNone;
 
-/// This interface tests if a collection class has implemented the `removeIf` method correctly.
+/// This interface tests if a collection class has implemented the `removeIf` method correctly. Since the method
+/// is given all the elements to remove at once, the tests also check that the predicate is called once for each
+/// element. The time taken to remove the elements from an array-backed collection is measured by
+/// [RemoveIfComplexityContract], which is not included in this contract since it measures elapsed time.
 ///
 /// @param <E> The element type being tested.
 /// @param <C> The collection type being tested.
@@ -81,4 +83,29 @@ public interface RemoveIfContract<E, C extends Collection<E>> extends Collection
             assertThrows(NullPointerException.class, () -> collection.removeIf(null));
         }
     }
+
+    /// Tests that the `removeIf` method calls the predicate exactly once for each element.
+    /// @throws org.opentest4j.AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("The removeIf method calls the predicate once for each element")
+    default void testRemoveIfCallsPredicateOncePerElement() {
+        if (supportsMethod(CollectionMethods.RemoveIf)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE * 10);
+            Collection<E> collection = provider().createInstance(values);
+            Set<E> removed = new HashSet<>();
+            for (int i = 1; i < values.size(); i += 2) {
+                removed.add(values.get(i));
+            }
+
+            Map<E, Integer> calls = new HashMap<>();
+            assertTrue(collection.removeIf(e -> {
+                calls.merge(e, 1, Integer::sum);
+                return removed.contains(e);
+            }));
+            assertEquals(values.size(), calls.size());
+            calls.forEach((e, n) -> assertEquals(1, n, () -> "predicate was called " + n + " times for " + e));
+            assertEquals(values.size() - removed.size(), collection.size());
+            assertContainsNone(removed, collection);
+        }
+    }
 }
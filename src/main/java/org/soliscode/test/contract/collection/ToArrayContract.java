@@ -1,24 +1,40 @@
 package org.soliscode.test.contract.collection;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.soliscode.test.assertions.Assertions;
 import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /// This interface tests if a collection class has implemented the `toArray` method
-/// correctly.
+/// correctly. In addition to the contents of the arrays, the tests check the memory that the methods allocate:
+/// - `toArray()` and `toArray(IntFunction)` allocate a single array for the elements, and
+/// - `toArray(T[])` returns the argument, without allocating, if it is large enough to hold the elements.
+///
+/// The allocation tests are skipped if the JVM cannot measure allocations.
 ///
 /// @param <E> The element type being tested.
 /// @param <C> The collection type being tested.
 /// @author evanbergstrom
 /// @see Collection#toArray
 /// @see Collection#toArray(Object[])
+/// @see Collection#toArray(java.util.function.IntFunction)
 /// @since 1.0.0
-public interface ToArrayContract<E, C extends Collection<E>> extends CollectionContractSupport<E, C> {
+public interface ToArrayContract<E, C extends Collection<E>> extends CollectionContractSupport<E, C>,
+        PerformanceSupport {
+
+    /// The number of elements ({@value}) in the collections used to measure allocations.
+    int TO_ARRAY_SIZE = 4_096;
+
+    /// The number of bytes ({@value}) that a `toArray` method may allocate in addition to the array of elements, to
+    /// allow for objects such as an iterator.
+    long TO_ARRAY_ALLOCATION_SLACK = 128L;
 
     /// Tests that the `toArray()` method works for an empty collection.
     @Test
@@ -109,4 +125,74 @@ public interface ToArrayContract<E, C extends Collection<E>> extends CollectionC
         Assertions.assertThrowsAny(List.of(NullPointerException.class, IllegalArgumentException.class),
                 () -> collection.toArray((E[]) null));
     }
+
+    /// Tests that the `toArray(T[])` method returns the array argument if it is large enough to hold the elements.
+    @Test
+    @DisplayName("The toArray(T[]) method returns an array that is large enough")
+    @SuppressWarnings("unchecked")
+    default void testToArrayStoreReturnsLargeEnoughArray() {
+        Collection<E> collection = provider().createInstance(elementProvider().createUniqueInstances(DEFAULT_SIZE));
+        E[] store = (E[]) new Object[DEFAULT_SIZE];
+        assertSame(store, collection.toArray(store));
+        E[] larger = (E[]) new Object[DEFAULT_SIZE + 1];
+        assertSame(larger, collection.toArray(larger));
+    }
+
+    /// Tests that the `toArray(IntFunction)` method works for a collection with elements.
+    @Test
+    @DisplayName("The toArray(IntFunction) method works on a container with elements")
+    default void testToArrayGenerator() {
+        Collection<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        Collection<E> collection = provider().createInstance(values);
+
+        Object[] array = collection.toArray(Object[]::new);
+        assertEquals(collection.size(), array.length);
+
+        ArrayList<E> elements = new ArrayList<>(collection);
+        for (Object obj : array) {
+            assertTrue(collection.contains(obj));
+            elements.remove(obj);
+        }
+        assertTrue(elements.isEmpty());
+    }
+
+    /// Tests that the `toArray()` method allocates no more than a single array of the elements.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("The toArray method copies the elements once")
+    default void testToArrayCopiesOnce() {
+        if (elementProvider().uniqueSizeLimit() >= TO_ARRAY_SIZE) {
+            Collection<E> collection = provider().createInstance(elementProvider().createUniqueInstances(TO_ARRAY_SIZE));
+            assertAllocationAtMost("toArray()", arrayAllocation(TO_ARRAY_SIZE) + TO_ARRAY_ALLOCATION_SLACK,
+                    () -> Blackhole.consume(collection.toArray()));
+        }
+    }
+
+    /// Tests that the `toArray(T[])` method does not allocate another array if the argument is large enough to hold
+    /// the elements.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("The toArray(T[]) method does not allocate if the array is large enough")
+    @SuppressWarnings("unchecked")
+    default void testToArrayStoreDoesNotAllocate() {
+        if (elementProvider().uniqueSizeLimit() >= TO_ARRAY_SIZE) {
+            Collection<E> collection = provider().createInstance(elementProvider().createUniqueInstances(TO_ARRAY_SIZE));
+            E[] store = (E[]) new Object[TO_ARRAY_SIZE];
+            assertAllocationAtMost("toArray(T[])", TO_ARRAY_ALLOCATION_SLACK,
+                    () -> Blackhole.consume(collection.toArray(store)));
+        }
+    }
+
+    /// Tests that the `toArray(IntFunction)` method allocates no more than a single array of the elements, in
+    /// addition to the empty array that the default implementation uses to create it.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("The toArray(IntFunction) method copies the elements once")
+    default void testToArrayGeneratorCopiesOnce() {
+        if (elementProvider().uniqueSizeLimit() >= TO_ARRAY_SIZE) {
+            Collection<E> collection = provider().createInstance(elementProvider().createUniqueInstances(TO_ARRAY_SIZE));
+            assertAllocationAtMost("toArray(IntFunction)", arrayAllocation(TO_ARRAY_SIZE) + TO_ARRAY_ALLOCATION_SLACK,
+                    () -> Blackhole.consume(collection.toArray(Object[]::new)));
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package org.soliscode.test.contract.deque;
+
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.queue.QueueContract;
+import org.soliscode.test.contract.queue.QueueMethods;
+import org.soliscode.test.contract.sequenced.SequencedCollectionContract;
+
+import java.util.Deque;
+
+/// Test suite for classes that implement the [Deque] interface. It combines the tests for a
+/// [sequenced collection][SequencedCollectionContract] and a [queue][QueueContract] with the tests for the methods
+/// that a deque adds. The optional methods are identified by [CollectionMethods] and [QueueMethods]:
+/// ```java
+/// public class LinkedListTest extends AbstractTest
+///         implements DequeContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+///
+///     public CollectionProvider<Integer, LinkedList<Integer>> provider() {
+///         return CollectionProviders.provideLinkedList(elementProvider());
+///     }
+/// }
+/// ```
+/// The performance of a deque can be tested by adding
+/// [EndOperationComplexityContract][org.soliscode.test.contract.sequenced.EndOperationComplexityContract],
+/// [QueueThroughputContract][org.soliscode.test.contract.queue.QueueThroughputContract] and, for an array-based
+/// deque, [SteadyStateFootprintContract][org.soliscode.test.contract.queue.SteadyStateFootprintContract].
+///
+/// @param <E> The element type being tested.
+/// @param <C> The deque type being tested.
+/// @author evanbergstrom
+/// @see Deque
+/// @since 1.0
+public interface DequeContract<E, C extends Deque<E>>
+        extends SequencedCollectionContract<E, C>,
+        QueueContract<E, C>,
+        DequeEndsContract<E, C>,
+        PushPopContract<E, C>,
+        DescendingIteratorContract<E, C> {
+
+    /// This method can be called when testing deque classes that do not permit modification.
+    @Override
+    default void doesNotSupportModification() {
+        SequencedCollectionContract.super.doesNotSupportModification();
+        for (QueueMethods method : QueueMethods.values()) {
+            doesNotSupportMethod(method);
+        }
+    }
+}
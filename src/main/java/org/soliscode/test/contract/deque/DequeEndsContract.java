@@ -0,0 +1,123 @@
+package org.soliscode.test.contract.deque;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.queue.QueueMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the methods of the [Deque] interface that insert, remove and examine the elements at either end of the
+/// deque without throwing an exception: [offerFirst][Deque#offerFirst(Object)], [offerLast][Deque#offerLast(Object)],
+/// [pollFirst][Deque#pollFirst()], [pollLast][Deque#pollLast()], [peekFirst][Deque#peekFirst()] and
+/// [peekLast][Deque#peekLast()]. It also tests that the [Queue][java.util.Queue] methods of a deque are FIFO. This
+/// contract class is normally used through the [DequeContract] class.
+/// @param <E> The element type.
+/// @param <C> The deque type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface DequeEndsContract<E, C extends Deque<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [offerFirst][Deque#offerFirst(Object)] method inserts each element at the front of the deque.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the offerFirst method inserts the element at the front")
+    default void testOfferFirst() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.OfferFirst)) {
+            for (E element : elements) {
+                assertTrue(deque.offerFirst(element));
+                assertEquals(element, deque.peekFirst());
+            }
+            assertEquals(elements.reversed(), List.copyOf(deque));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> deque.offerFirst(elements.getFirst()));
+        }
+    }
+
+    /// Tests that the [offerLast][Deque#offerLast(Object)] method inserts each element at the end of the deque.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the offerLast method inserts the element at the end")
+    default void testOfferLast() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.OfferLast)) {
+            for (E element : elements) {
+                assertTrue(deque.offerLast(element));
+                assertEquals(element, deque.peekLast());
+            }
+            assertEquals(elements, List.copyOf(deque));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> deque.offerLast(elements.getFirst()));
+        }
+    }
+
+    /// Tests that the [pollFirst][Deque#pollFirst()] method removes the elements from the front of the deque, and
+    /// returns `null` once it is empty.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the pollFirst method removes the first element")
+    default void testPollFirst() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().createInstance(elements);
+        if (supportsMethod(QueueMethods.PollFirst)) {
+            for (E element : elements) {
+                assertEquals(element, deque.peekFirst());
+                assertEquals(element, deque.pollFirst());
+            }
+            assertTrue(deque.isEmpty());
+            assertNull(assertDoesNotThrow(deque::pollFirst));
+            assertNull(assertDoesNotThrow(deque::peekFirst));
+        } else {
+            assertThrows(UnsupportedOperationException.class, deque::pollFirst);
+        }
+    }
+
+    /// Tests that the [pollLast][Deque#pollLast()] method removes the elements from the end of the deque, and returns
+    /// `null` once it is empty.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the pollLast method removes the last element")
+    default void testPollLast() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().createInstance(elements);
+        if (supportsMethod(QueueMethods.PollLast)) {
+            for (E element : elements.reversed()) {
+                assertEquals(element, deque.peekLast());
+                assertEquals(element, deque.pollLast());
+            }
+            assertTrue(deque.isEmpty());
+            assertNull(assertDoesNotThrow(deque::pollLast));
+            assertNull(assertDoesNotThrow(deque::peekLast));
+        } else {
+            assertThrows(UnsupportedOperationException.class, deque::pollLast);
+        }
+    }
+
+    /// Tests that the [offer][Deque#offer(Object)] and [poll][Deque#poll()] methods of a deque are FIFO: elements
+    /// are polled in the order that they are offered, including when offers and polls are interleaved.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the offer and poll methods are FIFO")
+    default void testOfferAndPollAreFifo() {
+        if (supportsMethod(QueueMethods.Offer) && supportsMethod(QueueMethods.Poll)) {
+            List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE * 2);
+            C deque = provider().emptyInstance();
+            for (E element : elements.subList(0, DEFAULT_SIZE)) {
+                deque.offer(element);
+            }
+            for (int i = 0; i < DEFAULT_SIZE; i++) {
+                assertEquals(elements.get(i), deque.poll());
+                deque.offer(elements.get(DEFAULT_SIZE + i));
+                assertEquals(elements.get(i + 1), deque.peek());
+            }
+            assertEquals(elements.subList(DEFAULT_SIZE, DEFAULT_SIZE * 2), List.copyOf(deque));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.soliscode.test.contract.deque;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [descendingIterator][Deque#descendingIterator()] method of the [Deque] interface. This contract
+/// class is normally used through the [DequeContract] class.
+/// @param <E> The element type.
+/// @param <C> The deque type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface DescendingIteratorContract<E, C extends Deque<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [descendingIterator][Deque#descendingIterator()] method returns the elements from the last to
+    /// the first.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the descendingIterator method returns the elements in reverse order")
+    default void testDescendingIterator() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().createInstance(elements);
+        List<E> descending = new ArrayList<>();
+        deque.descendingIterator().forEachRemaining(descending::add);
+        assertEquals(elements.reversed(), descending);
+    }
+
+    /// Tests that the [descendingIterator][Deque#descendingIterator()] method returns an empty iterator for an empty
+    /// deque.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the descendingIterator method works for an empty deque")
+    default void testDescendingIteratorOnEmptyDeque() {
+        Iterator<E> iterator = provider().emptyInstance().descendingIterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /// Tests that the [remove][Iterator#remove()] method of the descending iterator removes the last element
+    /// returned.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the descendingIterator remove method removes the element")
+    default void testDescendingIteratorRemove() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().createInstance(elements);
+        Iterator<E> iterator = deque.descendingIterator();
+        E last = iterator.next();
+        if (supportsMethod(CollectionMethods.IteratorRemove)) {
+            iterator.remove();
+            assertEquals(elements.subList(0, DEFAULT_SIZE - 1), List.copyOf(deque));
+            assertEquals(elements.get(DEFAULT_SIZE - 2), iterator.next());
+        } else {
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(last, deque.getLast());
+        }
+    }
+}
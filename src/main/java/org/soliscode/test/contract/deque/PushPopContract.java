@@ -0,0 +1,75 @@
+package org.soliscode.test.contract.deque;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.queue.QueueMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.soliscode.test.assertions.Assertions.assertThrowsAny;
+
+/// Tests for the stack methods of the [Deque] interface, [push][Deque#push(Object)] and [pop][Deque#pop()]. This
+/// contract class is normally used through the [DequeContract] class.
+/// @param <E> The element type.
+/// @param <C> The deque type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface PushPopContract<E, C extends Deque<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [push][Deque#push(Object)] method inserts the element at the front of the deque, so that it is
+    /// the next element returned by [peek][Deque#peek()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the push method inserts the element at the front")
+    default void testPush() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C deque = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Push)) {
+            for (E element : elements) {
+                deque.push(element);
+                assertEquals(element, deque.peek());
+            }
+            assertEquals(elements.reversed(), List.copyOf(deque));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> deque.push(elements.getFirst()));
+        }
+    }
+
+    /// Tests that the [pop][Deque#pop()] method removes the elements from the front of the deque, so that elements
+    /// are popped in the reverse of the order that they were pushed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the pop method removes the first element")
+    default void testPop() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        if (supportsMethod(QueueMethods.Push) && supportsMethod(QueueMethods.Pop)) {
+            C deque = provider().emptyInstance();
+            elements.forEach(deque::push);
+            for (E element : elements.reversed()) {
+                assertEquals(element, deque.pop());
+            }
+            assertTrue(deque.isEmpty());
+        } else if (!supportsMethod(QueueMethods.Pop)) {
+            C deque = provider().createInstance(elements);
+            assertThrows(UnsupportedOperationException.class, deque::pop);
+        }
+    }
+
+    /// Tests that the [pop][Deque#pop()] method throws a [NoSuchElementException] for an empty deque.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the pop method throws for an empty deque")
+    default void testPopOnEmptyDeque() {
+        C deque = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Pop)) {
+            assertThrows(NoSuchElementException.class, deque::pop);
+        } else {
+            assertThrowsAny(List.of(UnsupportedOperationException.class, NoSuchElementException.class), deque::pop);
+        }
+    }
+}
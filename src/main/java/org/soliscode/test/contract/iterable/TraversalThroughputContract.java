@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.iterable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Statistics;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+/// This interface tests that the internal traversal methods of an iterable are not substantially slower than
+/// external iteration with an [Iterator]. The following ways of visiting every element of a large instance are
+/// timed and compared with a loop over [Iterable#iterator()]:
+/// - [Iterable#forEach(Consumer)],
+/// - [Iterator#forEachRemaining(Consumer)], and
+/// - [java.util.Spliterator#forEachRemaining(Consumer)] on the spliterator returned by [Iterable#spliterator()].
+///
+/// The default implementations of these methods are built upon the iterator, so they are about as fast as it is. A
+/// method that is much slower usually has an override, often in a decorator, that does more work per element than
+/// the iterator.
+///
+/// A traversal that is more than [#TRAVERSAL_SLOWDOWN_LIMIT] times slower than the iterator always fails. The
+/// slowdowns are also [compared with the baseline][#assertNoRegression(String, double\[\])] recorded for the test
+/// class, which catches smaller regressions once a baseline has been recorded on the machine that runs the tests.
+///
+/// This contract is not included in [IterableContract], since it compares elapsed times. Add it to the test class
+/// of an iterable to enable it:
+/// ```java
+/// public class MyIterableTest implements IterableContract<Integer, MyIterable<Integer>>,
+///         TraversalThroughputContract<Integer, MyIterable<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <I> The iterable type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Iterable#forEach(Consumer)
+/// @see Iterator#forEachRemaining(Consumer)
+public interface TraversalThroughputContract<E, I extends Iterable<E>>
+        extends CollectionContractSupport<E, I>, PerformanceSupport {
+
+    /// The number of elements ({@value}) in the iterable that is traversed.
+    int TRAVERSAL_SIZE = 8_192;
+
+    /// The number of times ({@value}) that each kind of traversal is timed, after it has been warmed up.
+    int TRAVERSAL_REPETITIONS = 25;
+
+    /// The largest ratio ({@value}) allowed between the median time of a traversal and the median time of a loop over
+    /// the iterator. The limit allows for the traversal methods calling the action through a call site that has seen
+    /// many kinds of action, which the JIT cannot inline, while an override that does more than a constant amount of
+    /// extra work per element is still caught.
+    double TRAVERSAL_SLOWDOWN_LIMIT = 10.0;
+
+    /// Tests that the [forEach][Iterable#forEach(Consumer)] method is not substantially slower than a loop over the
+    /// iterator.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that forEach is about as fast as the iterator")
+    default void testForEachIsAsFastAsIterator() {
+        assertAsFastAsIterator("forEach", iterable -> {
+            final int[] hash = {0};
+            iterable.forEach(e -> hash[0] += Blackhole.hash(e));
+            return hash[0];
+        });
+    }
+
+    /// Tests that the [forEachRemaining][Iterator#forEachRemaining(Consumer)] method of the iterator is not
+    /// substantially slower than a loop over the iterator.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that Iterator.forEachRemaining is about as fast as the iterator")
+    default void testIteratorForEachRemainingIsAsFastAsIterator() {
+        assertAsFastAsIterator("Iterator.forEachRemaining", iterable -> {
+            final int[] hash = {0};
+            iterable.iterator().forEachRemaining(e -> hash[0] += Blackhole.hash(e));
+            return hash[0];
+        });
+    }
+
+    /// Tests that the [forEachRemaining][java.util.Spliterator#forEachRemaining(Consumer)] method of the spliterator
+    /// is not substantially slower than a loop over the iterator.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that Spliterator.forEachRemaining is about as fast as the iterator")
+    default void testSpliteratorForEachRemainingIsAsFastAsIterator() {
+        assertAsFastAsIterator("Spliterator.forEachRemaining", iterable -> {
+            final int[] hash = {0};
+            iterable.spliterator().forEachRemaining(e -> hash[0] += Blackhole.hash(e));
+            return hash[0];
+        });
+    }
+
+    // Compares the median slowdown of the traversal relative to a loop over the iterator with the limit and then with
+    // the baseline. Since timing is noisy, the comparison with the limit is repeated once before the assertion fails.
+    private void assertAsFastAsIterator(final String name, final ToIntFunction<Iterable<E>> traversal) {
+        if (elementProvider().uniqueSizeLimit() >= TRAVERSAL_SIZE) {
+            final I iterable = provider().createInstance(elementProvider().createUniqueInstances(TRAVERSAL_SIZE));
+            double[] slowdowns = slowdowns(iterable, traversal);
+            if (Statistics.median(slowdowns) > TRAVERSAL_SLOWDOWN_LIMIT) {
+                slowdowns = slowdowns(iterable, traversal);
+                final double ratio = Statistics.median(slowdowns);
+                if (ratio > TRAVERSAL_SLOWDOWN_LIMIT) {
+                    assertionFailure()
+                            .message(name + " is " + String.format("%.1f", ratio)
+                                    + " times slower than a loop over the iterator, the limit is "
+                                    + TRAVERSAL_SLOWDOWN_LIMIT)
+                            .buildAndThrow();
+                }
+            }
+            assertNoRegression(name + "/slowdown/" + TRAVERSAL_SIZE, slowdowns);
+        }
+    }
+
+    // Returns the ratio of the time of the traversal to the time of a loop over the iterator for each repetition.
+    private static <E> double[] slowdowns(final Iterable<E> iterable, final ToIntFunction<Iterable<E>> traversal) {
+        final ToIntFunction<Iterable<E>> external = TraversalThroughputContract::iterate;
+        for (int i = 0; i < TRAVERSAL_REPETITIONS; i++) {
+            Blackhole.consume(external.applyAsInt(iterable));
+            Blackhole.consume(traversal.applyAsInt(iterable));
+        }
+
+        // The two traversals are interleaved, so that they are equally affected by any change in the load.
+        final double[] slowdowns = new double[TRAVERSAL_REPETITIONS];
+        for (int i = 0; i < TRAVERSAL_REPETITIONS; i++) {
+            final double externalTime = time(iterable, external);
+            slowdowns[i] = time(iterable, traversal) / Math.max(1.0, externalTime);
+        }
+        return slowdowns;
+    }
+
+    private static <E> double time(final Iterable<E> iterable, final ToIntFunction<Iterable<E>> traversal) {
+        final long start = System.nanoTime();
+        final int hash = traversal.applyAsInt(iterable);
+        final long elapsed = System.nanoTime() - start;
+        Blackhole.consume(hash);
+        return elapsed;
+    }
+
+    private static <E> int iterate(final Iterable<E> iterable) {
+        int hash = 0;
+        for (Iterator<E> iterator = iterable.iterator(); iterator.hasNext(); ) {
+            hash += Blackhole.hash(iterator.next());
+        }
+        return hash;
+    }
+}
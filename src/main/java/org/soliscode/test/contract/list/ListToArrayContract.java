@@ -9,9 +9,11 @@ import org.soliscode.test.contract.support.CollectionContractSupport;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-/// This contract tests if a list class has implemented the [toArray][List#toArray()] method correctly.
+/// This contract tests if a list class has implemented the [toArray][List#toArray()] method correctly. The arrays
+/// returned by all the `toArray` methods must hold the elements in the order of the list.
 ///
 /// @param <E> The element type being tested.
 /// @param <L> The list type being tested.
@@ -48,4 +50,40 @@ public interface ListToArrayContract<E, L extends List<E>> extends ToArrayContra
             assertTrue(collection.contains(e));
         }
     }
+
+    /// Tests that the `toArray(T[])` method copies the elements in the order of the list.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("The toArray(T[]) method copies the elements in order")
+    @SuppressWarnings("unchecked")
+    default void testToArrayStorePreservesOrder() {
+        Collection<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        Collection<E> collection = provider().createInstance(values);
+        E[] array = collection.toArray((E[]) new Object[DEFAULT_SIZE]);
+        CollectionAssertions.assertEquals(values, array);
+    }
+
+    /// Tests that the `toArray(T[])` method sets the element following the last element of the list to `null` if the
+    /// array is larger than the list.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("The toArray(T[]) method marks the end of the list with null")
+    @SuppressWarnings("unchecked")
+    default void testToArrayStoreMarksEndWithNull() {
+        List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+        Collection<E> collection = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+        E[] store = (E[]) new Object[DEFAULT_SIZE + 1];
+        Arrays.fill(store, values.getLast());
+        assertNull(collection.toArray(store)[DEFAULT_SIZE]);
+    }
+
+    /// Tests that the `toArray(IntFunction)` method copies the elements in the order of the list.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("The toArray(IntFunction) method copies the elements in order")
+    default void testToArrayGeneratorPreservesOrder() {
+        Collection<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        Collection<E> collection = provider().createInstance(values);
+        CollectionAssertions.assertEquals(values, collection.toArray(Object[]::new));
+    }
 }
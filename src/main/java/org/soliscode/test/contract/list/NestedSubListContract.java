@@ -0,0 +1,74 @@
+package org.soliscode.test.contract.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.ComplexityEstimator;
+
+import java.util.List;
+
+/// This interface tests that positional access on the innermost of a chain of nested sublists does not get slower as
+/// the chain gets deeper. A sublist of a sublist should be a view of the original list, like the sublists of
+/// [java.util.ArrayList], rather than a view that delegates to the sublist it was created from; otherwise, code that
+/// repeatedly narrows a range, such as a recursive divide and conquer algorithm, pays for every level of the
+/// recursion on each access.
+///
+/// This contract is not included in [ListContract], since it measures elapsed time. Add it to the test class of a
+/// list to enable it:
+/// ```java
+/// public class MyListTest implements ListContract<Integer, MyList<Integer>>,
+///         NestedSubListContract<Integer, MyList<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <L> The list type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see List#subList(int, int)
+/// @see SubListContract
+public interface NestedSubListContract<E, L extends List<E>>
+        extends CollectionContractSupport<E, L>, PerformanceSupport {
+
+    /// The depths of the chains of nested sublists that are timed.
+    int[] SUB_LIST_DEPTHS = {16, 32, 64, 128, 256, 512};
+
+    /// The number of positional accesses ({@value}) timed for each depth.
+    int SUB_LIST_OPERATIONS = 2_000;
+
+    /// Tests that the cost of positional access on the innermost of a chain of nested sublists does not depend upon
+    /// the depth of the chain. Each sublist in the chain drops the first and last element of the one it was created
+    /// from. The same elements of the list are accessed at every depth, so that the cost of reaching them in the list
+    /// itself does not change.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that nested sublists do not make positional access slower")
+    default void testNestedSubListGetIsIndependentOfDepth() {
+        final int maxDepth = SUB_LIST_DEPTHS[SUB_LIST_DEPTHS.length - 1];
+        final int size = 4 * maxDepth;
+        if (elementProvider().uniqueSizeLimit() >= size) {
+            final List<E> list = provider().createInstance(elementProvider().createUniqueInstances(size));
+            ComplexityEstimator.builder().sizes(SUB_LIST_DEPTHS).build().assertTimeAtMost(Complexity.LOGARITHMIC, depth -> {
+                List<E> subList = list;
+                for (int i = 0; i < depth; i++) {
+                    subList = subList.subList(1, subList.size() - 1);
+                }
+                final List<E> innermost = subList;
+                final int range = size - 2 * maxDepth;
+                return () -> {
+                    int hash = 0;
+                    for (int i = 0; i < SUB_LIST_OPERATIONS; i++) {
+                        hash += Blackhole.hash(innermost.get(maxDepth - depth + i % range));
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+}
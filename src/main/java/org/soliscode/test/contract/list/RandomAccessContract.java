@@ -0,0 +1,109 @@
+package org.soliscode.test.contract.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.ComplexityEstimate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+/// This interface tests if a list class declares the [RandomAccess] marker interface consistently with the measured
+/// cost of the [get][List#get(int)] and [set][List#set(int, Object)] methods. Algorithms such as
+/// [java.util.Collections#binarySearch(List, Object)] and [java.util.Collections#shuffle(List)] choose their
+/// implementation based upon the marker, so both of these mistakes are detected:
+/// - the list declares `RandomAccess`, but positional access takes linear time, and
+/// - the list does not declare `RandomAccess`, but positional access takes constant time.
+///
+/// Positional access is considered to be constant time if the cost of a fixed number of accesses is
+/// [consistent with constant time][ComplexityEstimate#isConstantTime()], which allows for cache effects on large lists.
+/// An inconsistent measurement is repeated once before the test fails.
+///
+/// This contract is not included in [ListContract], since it measures elapsed time; add it to a list test class to
+/// enable it.
+///
+/// @param <E> The element type being tested.
+/// @param <L> The list type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see RandomAccess
+public interface RandomAccessContract<E, L extends List<E>> extends CollectionContractSupport<E, L>, PerformanceSupport {
+
+    /// The number of positional accesses ({@value}) timed for each size.
+    int RANDOM_ACCESS_OPERATIONS = 2_000;
+
+    /// Tests that the cost of the [get][List#get(int)] method is consistent with the [RandomAccess] marker.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the cost of the get method is consistent with the RandomAccess marker")
+    default void testGetIsConsistentWithRandomAccess() {
+        if (supportsMethod(CollectionMethods.Get)) {
+            assertConsistentWithRandomAccess("get", size -> {
+                List<E> list = provider().createInstance(elementProvider().createUniqueInstances(size));
+                return () -> {
+                    int hash = 0;
+                    for (int i = 0; i < RANDOM_ACCESS_OPERATIONS; i++) {
+                        hash += Blackhole.hash(list.get(strideIndex(i, size)));
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+
+    /// Tests that the cost of the [set][List#set(int, Object)] method is consistent with the [RandomAccess] marker.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the cost of the set method is consistent with the RandomAccess marker")
+    default void testSetIsConsistentWithRandomAccess() {
+        if (supportsMethod(CollectionMethods.Set)) {
+            assertConsistentWithRandomAccess("set", size -> {
+                List<E> values = elementProvider().createUniqueInstances(size);
+                List<E> list = provider().createInstance(values);
+                return () -> {
+                    int hash = 0;
+                    for (int i = 0; i < RANDOM_ACCESS_OPERATIONS; i++) {
+                        int index = strideIndex(i, size);
+                        hash += Blackhole.hash(list.set(index, values.get(index)));
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+
+    private void assertConsistentWithRandomAccess(final String method, final IntFunction<Runnable> setup) {
+        final boolean declared = provider().createInstance(new ArrayList<>()) instanceof RandomAccess;
+        ComplexityEstimate estimate = complexityEstimator().estimateTime(setup);
+        if (estimate.isConstantTime() != declared) {
+            estimate = complexityEstimator().estimateTime(setup);
+            if (declared && !estimate.isConstantTime()) {
+                fail(method + " declares RandomAccess but takes " + estimate.complexity() + " per access: " + estimate);
+            } else if (!declared && estimate.isConstantTime()) {
+                fail(method + " takes " + estimate.complexity() + " per access but does not declare RandomAccess: "
+                        + estimate);
+            }
+        }
+    }
+
+    private static void fail(final String message) {
+        assertionFailure().message(message).buildAndThrow();
+    }
+
+    // Strides the accesses over the whole list by a prime step, so that a linked list cannot benefit from starting at
+    // either end or from visiting the positions in order.
+    private static int strideIndex(final int i, final int size) {
+        return (int) ((i * 7_919L + size / 2) % size);
+    }
+}
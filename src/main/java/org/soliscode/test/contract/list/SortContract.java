@@ -1,18 +1,214 @@
 package org.soliscode.test.contract.list;
 
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
 import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Allocations;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingComparator;
 
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
+import java.util.function.UnaryOperator;
 
-/// This interface tests if a list class has implemented the [sort][List#sort(Comparator)] method correctly.
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a list class has implemented the [sort][List#sort(Comparator)] method correctly. In
+/// addition to the ordering of the elements, the tests check the properties that callers rely upon from the
+/// TimSort-based implementations in the JDK:
+/// - the sort is stable, so equal elements keep their original order,
+/// - the number of comparisons is `O(n log n)` for random input,
+/// - the number of comparisons is `O(n)` for input that is already sorted or reverse-sorted, and
+/// - the elements are copied at most once.
+///
+/// The elements are ordered by their position in the list returned by the element provider, so the tests work for
+/// element types that are not [Comparable]. The comparisons are counted rather than timed, so these tests are
+/// deterministic. Since the counts do not depend upon the machine, they are also compared with the
+/// [baseline][#assertNoRegression(String, double\[\])] recorded for the test class, which catches a sort that still
+/// makes `O(n log n)` comparisons, but many more of them than it used to.
 ///
 /// @param <E> The element type being tested.
 /// @param <L> The list type being tested.
 /// @author evanbergstrom
 /// @since 1.0
 /// @see List#sort(Comparator)
-public interface SortContract<E, L extends List<E>> extends CollectionContractSupport<E, L> {
+public interface SortContract<E, L extends List<E>> extends CollectionContractSupport<E, L>, PerformanceSupport {
+
+    /// The seed ({@value}) used to shuffle the elements before they are sorted.
+    long SORT_SEED = 31L;
+
+    /// The number of shuffles ({@value}) of the largest list whose comparisons are compared with the baseline.
+    int SORT_BASELINE_SAMPLES = 10;
+
+    /// Tests that the [sort][List#sort(Comparator)] method orders the elements using the comparator.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the sort method orders the elements")
+    default void testSort() {
+        if (supportsMethod(CollectionMethods.Sort)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+            List<E> list = provider().createInstance(shuffled(values));
+            list.sort(positionOrder(values));
+            assertIterableEquals(values, list);
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method uses the natural ordering of the elements if the
+    /// comparator is `null`. The test is skipped if the elements are not [Comparable].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the sort method uses the natural ordering for a null comparator")
+    default void testSortWithNullComparator() {
+        List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        if (supportsMethod(CollectionMethods.Sort) && values.getFirst() instanceof Comparable<?>) {
+            List<E> expected = new ArrayList<>(values);
+            expected.sort(null);
+            List<E> list = provider().createInstance(shuffled(values));
+            assertDoesNotThrow(() -> list.sort(null));
+            assertIterableEquals(expected, list);
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method keeps equal elements in their original order.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the sort method is stable")
+    default void testSortIsStable() {
+        if (supportsMethod(CollectionMethods.Sort)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE * 10);
+            List<E> input = shuffled(values);
+            List<E> list = provider().createInstance(input);
+
+            // Pairs of adjacent elements in the original order compare as equal.
+            Map<E, Integer> positions = positions(values);
+            list.sort(Comparator.comparingInt(e -> positions.get(e) / 2));
+
+            for (int i = 1; i < list.size(); i++) {
+                E previous = list.get(i - 1);
+                E current = list.get(i);
+                if (positions.get(previous) / 2 == positions.get(current) / 2) {
+                    assertTrue(input.indexOf(previous) < input.indexOf(current),
+                            () -> "sort is not stable: " + list);
+                }
+            }
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method makes `O(n log n)` comparisons for random input.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the sort method makes O(n log n) comparisons")
+    default void testSortComparisonsAreLinearithmic() {
+        if (supportsMethod(CollectionMethods.Sort) && supportsSortSizes()) {
+            countEstimator().assertCountAtMost(Complexity.LINEARITHMIC, size -> countComparisons(size, this::shuffled));
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method makes `O(n)` comparisons for input that is already sorted.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the sort method makes O(n) comparisons for sorted input")
+    default void testSortComparisonsAreLinearForSortedInput() {
+        if (supportsMethod(CollectionMethods.Sort) && supportsSortSizes()) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> countComparisons(size, UnaryOperator.identity()));
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method makes `O(n)` comparisons for input that is in the reverse
+    /// order.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the sort method makes O(n) comparisons for reverse-sorted input")
+    default void testSortComparisonsAreLinearForReverseSortedInput() {
+        if (supportsMethod(CollectionMethods.Sort) && supportsSortSizes()) {
+            countEstimator().assertCountAtMost(Complexity.LINEAR, size -> countComparisons(size, List::reversed));
+        }
+    }
+
+    /// Tests that the number of comparisons made by the [sort][List#sort(Comparator)] method for random input has not
+    /// significantly regressed from the baseline recorded for the test class. The comparisons are counted for
+    /// [#SORT_BASELINE_SAMPLES] shuffles of the largest list. The test passes if no baseline has been recorded.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the number of comparisons made by the sort method has not regressed")
+    default void testSortComparisonsHaveNotRegressed() {
+        if (supportsMethod(CollectionMethods.Sort) && supportsSortSizes()) {
+            final int size = COUNT_SIZES[COUNT_SIZES.length - 1];
+            final double[] samples = new double[SORT_BASELINE_SAMPLES];
+            for (int i = 0; i < samples.length; i++) {
+                final long seed = SORT_SEED + i;
+                samples[i] = countComparisons(size, values -> shuffled(values, seed));
+            }
+            assertNoRegression("sort/comparisons/" + size, samples);
+        }
+    }
+
+    /// Tests that the [sort][List#sort(Comparator)] method copies the elements at most once. A shuffled list is
+    /// sorted, so that the merge sort used by the JDK allocates the temporary storage used to merge runs; it grows
+    /// that storage by doubling up to half of the elements, which may allocate as much as a second array in total. The
+    /// memory allocated by sorting the largest list must not exceed two and a half times the size of an array holding
+    /// its elements: one copy, the merge storage and half an array to spare, which a second copy exceeds. Each
+    /// measurement sorts a newly shuffled list. The test is skipped if the JVM cannot measure allocations.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the sort method copies the elements at most once")
+    default void testSortCopiesAtMostOnce() {
+        if (supportsMethod(CollectionMethods.Sort) && supportsSortSizes() && Allocations.isSupported()) {
+            final int size = COUNT_SIZES[COUNT_SIZES.length - 1];
+            final List<E> values = elementProvider().createUniqueInstances(size);
+            final Comparator<E> comparator = positionOrder(values);
+            final long arrayBytes = arrayAllocation(size);
+            final long budget = 2 * arrayBytes + arrayBytes / 2;
+            final long bytes = measureAllocation(() -> {
+                final List<E> list = provider().createInstance(shuffled(values));
+                return () -> list.sort(comparator);
+            });
+            assertTrue(bytes <= budget,
+                    () -> "sort allocated " + bytes + " bytes, but the budget is " + budget + " bytes");
+        }
+    }
+
+    private boolean supportsSortSizes() {
+        return elementProvider().uniqueSizeLimit() >= COUNT_SIZES[COUNT_SIZES.length - 1];
+    }
+
+    private long countComparisons(final int size, final UnaryOperator<List<E>> arrangement) {
+        final List<E> values = elementProvider().createUniqueInstances(size);
+        final List<E> list = provider().createInstance(arrangement.apply(values));
+        final CountingComparator<E> comparator = new CountingComparator<>(positionOrder(values));
+        list.sort(comparator);
+        assertIterableEquals(values, list);
+        return comparator.count();
+    }
+
+    private List<E> shuffled(final List<E> values) {
+        return shuffled(values, SORT_SEED);
+    }
+
+    private List<E> shuffled(final List<E> values, final long seed) {
+        final List<E> shuffled = new ArrayList<>(values);
+        Collections.shuffle(shuffled, new Random(seed));
+        return shuffled;
+    }
+
+    private static <E> Comparator<E> positionOrder(final List<E> values) {
+        final Map<E, Integer> positions = positions(values);
+        return Comparator.comparingInt(positions::get);
+    }
 
-    // TODO: Implement tests for the List::sort method.
+    private static <E> Map<E, Integer> positions(final List<E> values) {
+        final Map<E, Integer> positions = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            positions.put(values.get(i), i);
+        }
+        return positions;
+    }
 }
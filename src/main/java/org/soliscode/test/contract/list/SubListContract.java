@@ -1,18 +1,117 @@
 package org.soliscode.test.contract.list;
 
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
 import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
 
+import java.util.ConcurrentModificationException;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 /// This interface tests if a list class has implemented the [subList][List#subList(int, int)] method
-/// correctly.
+/// correctly. The sublist must be a view of the list: changes made through the view are visible in the list, and a
+/// structural change to the list invalidates the view. Since a view is expected, the tests also check that creating a
+/// sublist allocates a constant amount of memory, rather than copying the range.
+///
+/// The cost of positional access through nested sublists is measured by [NestedSubListContract], which is not
+/// included in this contract since it measures elapsed time.
 ///
 /// @param <E> The element type being tested.
 /// @param <L> The list type being tested.
 /// @author evanbergstrom
 /// @since 1.0
 /// @see List#subList(int, int)
-public interface SubListContract<E, L extends List<E>> extends CollectionContractSupport<E, L> {
+public interface SubListContract<E, L extends List<E>> extends CollectionContractSupport<E, L>, PerformanceSupport {
+
+    /// Tests that the [subList][List#subList(int, int)] method returns the elements in the range.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subList method returns the elements in the range")
+    default void testSubList() {
+        List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        List<E> list = provider().createInstance(values);
+        assertIterableEquals(values.subList(2, 7), list.subList(2, 7));
+        assertIterableEquals(values, list.subList(0, DEFAULT_SIZE));
+        assertTrue(list.subList(3, 3).isEmpty());
+    }
+
+    /// Tests that the [subList][List#subList(int, int)] method throws for an invalid range.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subList method throws for an invalid range")
+    default void testSubListThrowsForInvalidRange() {
+        List<E> list = provider().createInstance(elementProvider().createUniqueInstances(DEFAULT_SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, DEFAULT_SIZE + 1));
+    }
+
+    /// Tests that changes made with the [set][List#set(int, Object)] method of a sublist are visible in the list.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that writes through the sublist are visible in the list")
+    default void testSubListWritesAreVisibleInList() {
+        if (supportsMethod(CollectionMethods.Set)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+            E replacement = values.getLast();
+            List<E> list = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+            List<E> subList = list.subList(2, 7);
+            subList.set(1, replacement);
+            assertEquals(replacement, list.get(3));
+            assertEquals(replacement, list.subList(1, 5).get(2));
+        }
+    }
+
+    /// Tests that changes made with the [set][List#set(int, Object)] method of a list are visible in a sublist.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that writes to the list are visible in the sublist")
+    default void testListWritesAreVisibleInSubList() {
+        if (supportsMethod(CollectionMethods.Set)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+            E replacement = values.getLast();
+            List<E> list = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+            List<E> subList = list.subList(2, 7);
+            list.set(4, replacement);
+            assertEquals(replacement, subList.get(2));
+        }
+    }
+
+    /// Tests that a structural change to the list invalidates a sublist, so that using the sublist throws a
+    /// [ConcurrentModificationException].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that a structural change to the list invalidates the sublist")
+    default void testSubListIsInvalidatedByStructuralChange() {
+        if (supportsMethod(CollectionMethods.Add)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+            E added = values.getLast();
+            List<E> list = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+            List<E> subList = list.subList(2, 7);
+            list.add(added);
+            assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+            assertThrows(ConcurrentModificationException.class, subList::size);
+        }
+    }
 
-    // TODO: Implement tests for the List::subList method.
+    /// Tests that creating a sublist allocates a constant amount of memory, regardless of the length of the range. The
+    /// test is skipped if the JVM cannot measure allocations.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the subList method does not copy the elements")
+    default void testSubListDoesNotCopy() {
+        final int[] sizes = complexityEstimator().sizes();
+        if (elementProvider().uniqueSizeLimit() >= sizes[sizes.length - 1]) {
+            assertConstantAllocation(size -> {
+                final List<E> list = provider().createInstance(elementProvider().createUniqueInstances(size));
+                return () -> Blackhole.consume(list.subList(0, size));
+            });
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the [compute][Map#compute],
+/// [computeIfAbsent][Map#computeIfAbsent] and [computeIfPresent][Map#computeIfPresent] methods correctly. Besides the
+/// result, the tests check that the mapping function is only called when the method requires it.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#compute
+public interface ComputeContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [compute][Map#compute] method adds a missing key, passing `null` as the old value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the compute method adds a missing key")
+    default void testComputeWithMissingKey() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.Compute)) {
+            entries.forEach((k, v) -> assertEquals(v, map.compute(k, (key, old) -> {
+                assertEquals(k, key);
+                assertNull(old);
+                return v;
+            })));
+            assertEquals(entries, map);
+        } else {
+            K key = keyProvider().createInstance();
+            V value = valueProvider().createInstance();
+            assertThrows(UnsupportedOperationException.class, () -> map.compute(key, (k, old) -> value));
+        }
+    }
+
+    /// Tests that the [compute][Map#compute] method replaces the value of an existing key, passing the old value to
+    /// the remapping function, and removes the key if the function returns `null`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the compute method replaces or removes an existing key")
+    default void testComputeWithExistingKey() {
+        if (supportsMethod(MapMethods.Compute)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            List<V> replacements = valueProvider().createUniqueInstances(DEFAULT_SIZE, DEFAULT_SIZE);
+            int i = 0;
+            for (Map.Entry<K, V> entry : entries.entrySet()) {
+                V replacement = (i % 2 == 0) ? replacements.get(i) : null;
+                i++;
+                assertEquals(replacement, map.compute(entry.getKey(), (key, old) -> {
+                    assertEquals(entry.getValue(), old);
+                    return replacement;
+                }));
+                assertEquals(replacement != null, map.containsKey(entry.getKey()));
+                assertEquals(replacement, map.get(entry.getKey()));
+            }
+            assertEquals((DEFAULT_SIZE + 1) / 2, map.size());
+        }
+    }
+
+    /// Tests that the [computeIfAbsent][Map#computeIfAbsent] method adds a missing key.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the computeIfAbsent method adds a missing key")
+    default void testComputeIfAbsentWithMissingKey() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.ComputeIfAbsent)) {
+            entries.forEach((k, v) -> assertEquals(v, map.computeIfAbsent(k, key -> v)));
+            assertEquals(entries, map);
+        } else {
+            K key = keyProvider().createInstance();
+            V value = valueProvider().createInstance();
+            assertThrows(UnsupportedOperationException.class, () -> map.computeIfAbsent(key, k -> value));
+        }
+    }
+
+    /// Tests that the [computeIfAbsent][Map#computeIfAbsent] method returns the value of an existing key without
+    /// calling the mapping function.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the computeIfAbsent method does not call the function for an existing key")
+    default void testComputeIfAbsentWithExistingKey() {
+        if (supportsMethod(MapMethods.ComputeIfAbsent)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            entries.forEach((k, v) -> assertEquals(v, map.computeIfAbsent(k, key -> fail("the function was called"))));
+            assertEquals(entries, map);
+        }
+    }
+
+    /// Tests that the [computeIfPresent][Map#computeIfPresent] method replaces the value of an existing key, and
+    /// removes the key if the function returns `null`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the computeIfPresent method replaces or removes an existing key")
+    default void testComputeIfPresentWithExistingKey() {
+        if (supportsMethod(MapMethods.ComputeIfPresent)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            List<V> replacements = valueProvider().createUniqueInstances(DEFAULT_SIZE, DEFAULT_SIZE);
+            int i = 0;
+            for (Map.Entry<K, V> entry : entries.entrySet()) {
+                V replacement = (i % 2 == 0) ? replacements.get(i) : null;
+                i++;
+                assertEquals(replacement, map.computeIfPresent(entry.getKey(), (key, old) -> {
+                    assertEquals(entry.getValue(), old);
+                    return replacement;
+                }));
+                assertEquals(replacement != null, map.containsKey(entry.getKey()));
+            }
+            assertEquals((DEFAULT_SIZE + 1) / 2, map.size());
+        }
+    }
+
+    /// Tests that the [computeIfPresent][Map#computeIfPresent] method does not call the remapping function or add
+    /// the key when the key is missing.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the computeIfPresent method does not call the function for a missing key")
+    default void testComputeIfPresentWithMissingKey() {
+        Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+        K missing = keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+        if (supportsMethod(MapMethods.ComputeIfPresent)) {
+            assertNull(map.computeIfPresent(missing, (key, old) -> fail("the function was called")));
+            assertFalse(map.containsKey(missing));
+            assertEquals(DEFAULT_SIZE, map.size());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if the [entrySet][Map#entrySet()] method of a map class returns a view of the entries, and
+/// that iterating over the view does not allocate memory for each entry. A map that stores its entries in arrays,
+/// such as an open-addressing hash map, may create an entry object for each call to [Iterator#next()], which makes
+/// the iteration allocate memory in proportion to the size of the map. The allocation test is skipped if the JVM
+/// cannot measure allocations.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#entrySet()
+public interface EntrySetContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M>, PerformanceSupport {
+
+    /// Tests that the [entrySet][Map#entrySet()] method returns the entries of the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the entrySet method returns the entries")
+    default void testEntrySet() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        assertEquals(entries.entrySet(), map.entrySet());
+    }
+
+    /// Tests that the [setValue][Map.Entry#setValue(Object)] method of an entry writes through to the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that setting the value of an entry changes the map")
+    default void testEntrySetValue() {
+        if (supportsMethod(MapMethods.EntrySetValue)) {
+            Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+            List<V> replacements = valueProvider().createUniqueInstances(DEFAULT_SIZE, DEFAULT_SIZE);
+            int i = 0;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                V replacement = replacements.get(i++);
+                entry.setValue(replacement);
+                assertEquals(replacement, map.get(entry.getKey()));
+            }
+            assertEquals(new HashSet<>(replacements), new HashSet<>(map.values()));
+        }
+    }
+
+    /// Tests that removing entries with the iterator of the [entrySet][Map#entrySet()] removes them from the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that removing with the entrySet iterator removes the entry")
+    default void testEntrySetIteratorRemove() {
+        if (supportsMethod(MapMethods.ViewRemove)) {
+            Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+            int removed = 0;
+            for (Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator(); iterator.hasNext(); ) {
+                K key = iterator.next().getKey();
+                iterator.remove();
+                assertFalse(map.containsKey(key));
+                removed++;
+            }
+            assertEquals(DEFAULT_SIZE, removed);
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    /// Tests that iterating over the [entrySet][Map#entrySet()] allocates a constant amount of memory, regardless of
+    /// the size of the map. Maps that create an entry object for each call to `next()`, such as the map returned by
+    /// [java.util.Collections#unmodifiableMap(Map)], fail this test; a test class for such a map can override the
+    /// method to disable it.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that iterating over the entrySet does not allocate memory per entry")
+    default void testEntrySetIterationAllocatesConstantMemory() {
+        assertConstantAllocation(size -> {
+            Map<K, V> map = provider().createInstanceWithUniqueKeys(size);
+            return () -> {
+                int hash = 0;
+                for (Map.Entry<K, V> entry : map.entrySet()) {
+                    hash += Blackhole.hash(entry.getKey()) + Blackhole.hash(entry.getValue());
+                }
+                Blackhole.consume(hash);
+            };
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if the [keySet][Map#keySet()] method of a map class returns a view of the keys.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#keySet()
+public interface KeySetContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [keySet][Map#keySet()] method returns the keys of the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the keySet method returns the keys")
+    default void testKeySet() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        assertEquals(entries.keySet(), map.keySet());
+    }
+
+    /// Tests that the set returned by the [keySet][Map#keySet()] method reflects later changes to the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the keySet method returns a view")
+    default void testKeySetIsView() {
+        if (supportsMethod(MapMethods.Put)) {
+            Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+            Set<K> keys = map.keySet();
+            K added = keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+            map.put(added, valueProvider().createInstance());
+            assertTrue(keys.contains(added));
+            assertEquals(DEFAULT_SIZE + 1, keys.size());
+        }
+    }
+
+    /// Tests that removing a key from the set returned by the [keySet][Map#keySet()] method removes the entry from
+    /// the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that removing from the keySet removes the entry")
+    default void testKeySetRemove() {
+        if (supportsMethod(MapMethods.ViewRemove)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            for (K key : entries.keySet()) {
+                assertTrue(map.keySet().remove(key));
+                assertFalse(map.containsKey(key));
+            }
+            assertTrue(map.isEmpty());
+        }
+    }
+}
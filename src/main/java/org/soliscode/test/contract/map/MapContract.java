@@ -0,0 +1,61 @@
+package org.soliscode.test.contract.map;
+
+import org.soliscode.test.OptionalMethod;
+
+import java.util.Map;
+
+/// Test suite for classes that implement the [Map] interface. When implementing this class, the only methods that
+/// will need to be implemented are [org.soliscode.test.contract.support.MapProviderSupport#provider()] and the key
+/// and value providers, which are often provided by mixins. Also, the following methods will allow the tests to be
+/// configured based upon the desired behavior of the map class being tested:
+///
+/// - [permitNullKeys][MapContractConfig#permitNullKeys]: Specifies if the map permits `null` keys.
+/// - [permitNullValues][MapContractConfig#permitNullValues]: Specifies if the map permits `null` values.
+///
+/// For example, a test class for `TreeMap`, which does not permit `null` keys:
+/// ```java
+/// public class TreeMapTest extends AbstractTest
+///         implements MapContract<Integer, String, TreeMap<Integer, String>>, WithIntegerKey, WithStringValue {
+///
+///     public MapProvider<Integer, String, TreeMap<Integer, String>> provider() {
+///         return MapProviders.provideTreeMap(keyProvider(), valueProvider());
+///     }
+///
+///     public boolean permitNullKeys() {
+///         return false;
+///     }
+/// }
+/// ```
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @see Map
+/// @since 1.0
+public interface MapContract<K, V, M extends Map<K, V>> extends MapContractConfig,
+        MapGetContract<K, V, M>,
+        MapPutContract<K, V, M>,
+        MapRemoveContract<K, V, M>,
+        PutIfAbsentContract<K, V, M>,
+        ComputeContract<K, V, M>,
+        MergeContract<K, V, M>,
+        EntrySetContract<K, V, M>,
+        KeySetContract<K, V, M>,
+        ValuesContract<K, V, M> {
+
+    @Override
+    boolean supportsMethod(final OptionalMethod method);
+
+    /// Used to indicate that the class being tested does not support an optional method.
+    /// @param method the method that the class being tested does not support.
+    void doesNotSupportMethod(final OptionalMethod method);
+
+    /// Specifies that the map being tested does not support any of the methods that allow modification. It is a
+    /// convenience function to set the support state for all the modification methods at once.
+    default void doesNotSupportModification() {
+        for (MapMethods method : MapMethods.values()) {
+            doesNotSupportMethod(method);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.soliscode.test.contract.map;
+
+/// Interface for map contract classes that allows tests to check some characteristics of the class being tested.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see org.soliscode.test.contract.CollectionContractConfig
+public interface MapContractConfig {
+
+    /// Determines if the map being tested allows `null` keys.
+    /// @return `true` if the map allows `null` keys, `false` otherwise.
+    default boolean permitNullKeys() {
+        return true;
+    }
+
+    /// Determines if the map being tested allows `null` values.
+    /// @return `true` if the map allows `null` values, `false` otherwise.
+    default boolean permitNullValues() {
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the lookup methods [get][Map#get(Object)],
+/// [getOrDefault][Map#getOrDefault(Object, Object)], [containsKey][Map#containsKey(Object)],
+/// [containsValue][Map#containsValue(Object)], [size][Map#size()] and [isEmpty][Map#isEmpty()] correctly.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#get(Object)
+public interface MapGetContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [get][Map#get(Object)] method returns the value for each key.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the get method works")
+    default void testGet() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        entries.forEach((k, v) -> assertEquals(v, map.get(k)));
+    }
+
+    /// Tests that the [get][Map#get(Object)] method returns `null` for a key that is not in the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the get method returns null for a missing key")
+    default void testGetWithMissingKey() {
+        Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+        K missing = keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+        assertNull(map.get(missing));
+    }
+
+    /// Tests that the [get][Map#get(Object)] method works on an empty map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the get method works on an empty map")
+    default void testGetWithEmptyMap() {
+        Map<K, V> map = provider().emptyInstance();
+        assertNull(map.get(keyProvider().createInstance()));
+    }
+
+    /// Tests that the [getOrDefault][Map#getOrDefault(Object, Object)] method returns the value for a key in the map
+    /// and the default value for a key that is not.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the getOrDefault method works")
+    default void testGetOrDefault() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        V defaultValue = valueProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+        entries.forEach((k, v) -> assertEquals(v, map.getOrDefault(k, defaultValue)));
+
+        K missing = keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+        assertEquals(defaultValue, map.getOrDefault(missing, defaultValue));
+    }
+
+    /// Tests that the [containsKey][Map#containsKey(Object)] and [containsValue][Map#containsValue(Object)] methods
+    /// find the keys and values in the map, and only those.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the containsKey and containsValue methods work")
+    default void testContainsKeyAndValue() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        entries.forEach((k, v) -> {
+            assertTrue(map.containsKey(k));
+            assertTrue(map.containsValue(v));
+        });
+        assertFalse(map.containsKey(keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast()));
+        assertFalse(map.containsValue(valueProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast()));
+    }
+
+    /// Tests that the [size][Map#size()] and [isEmpty][Map#isEmpty()] methods work.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the size and isEmpty methods work")
+    default void testSizeAndIsEmpty() {
+        Map<K, V> empty = provider().emptyInstance();
+        assertEquals(0, empty.size());
+        assertTrue(empty.isEmpty());
+
+        Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+        assertEquals(DEFAULT_SIZE, map.size());
+        assertFalse(map.isEmpty());
+    }
+}
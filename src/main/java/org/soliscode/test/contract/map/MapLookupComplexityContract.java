@@ -0,0 +1,156 @@
+package org.soliscode.test.contract.map;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/// Tests that the [get][Map#get(Object)] and [put][Map#put(Object, Object)] methods of a map take no longer than the
+/// complexity given by [#lookupComplexity()], which is constant time for a hash map and logarithmic time for a tree
+/// map. The cost of the operations is measured by counting the calls to the `equals`, `hashCode` and `compareTo`
+/// methods of the keys, using [CountingElement], so the tests are deterministic. For an open-addressing hash map, the
+/// count grows with the length of the probe sequences, so the tests detect clustering and tables that are allowed to
+/// fill up.
+///
+/// The tests measure:
+/// - [#LOOKUPS] calls to `get` with keys that are in the map, and with keys that are not;
+/// - [#LOOKUPS] calls to `put` that replace the value of an existing key; and
+/// - building a map by calling `put` for each key, which must take no longer than performing an operation with the
+///   lookup complexity for each key, so that growing the table is amortized over the insertions.
+///
+/// This contract requires the map to have keys that are instances of [CountingElement], so the test class must use
+/// a key provider such as [org.soliscode.test.contract.support.WithCountingKey]. It is not included in [MapContract]:
+/// ```java
+/// public class HashMapLookupTest extends AbstractTest
+///         implements MapLookupComplexityContract<String, HashMap<CountingElement, String>>,
+///         WithCountingKey, WithStringValue {
+///
+///     public MapProvider<CountingElement, String, HashMap<CountingElement, String>> provider() {
+///         return MapProviders.provideHashMap(keyProvider(), valueProvider());
+///     }
+/// }
+/// ```
+///
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see org.soliscode.test.perf.OperationCounter
+public interface MapLookupComplexityContract<V, M extends Map<CountingElement, V>>
+        extends MapContractSupport<CountingElement, V, M>, PerformanceSupport {
+
+    /// The number of lookups ({@value}) counted for each size.
+    int LOOKUPS = 64;
+
+    /// Returns the complexity of finding a key in the map, which is constant by default. A test class for a
+    /// tree-based map should override this method.
+    /// @return the complexity of the `get` method.
+    default @NotNull Complexity lookupComplexity() {
+        return Complexity.CONSTANT;
+    }
+
+    /// Tests that [#LOOKUPS] calls to the [get][Map#get(Object)] method with keys that are in the map take no longer
+    /// than [#lookupComplexity()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that get with a present key has the lookup complexity")
+    default void testGetComplexity() {
+        countEstimator().assertCountAtMost(lookupComplexity(), size -> {
+            final Map<CountingElement, V> entries = createEntries(size);
+            final M map = provider().createInstance(entries);
+            final List<CountingElement> keys = List.copyOf(entries.keySet());
+            final List<V> values = List.copyOf(entries.values());
+            return keys.getFirst().counter().count(() -> {
+                for (int i = 0; i < LOOKUPS; i++) {
+                    final int index = spread(i, LOOKUPS, size);
+                    assertEquals(values.get(index), map.get(keys.get(index)));
+                }
+            });
+        });
+    }
+
+    /// Tests that [#LOOKUPS] calls to the [get][Map#get(Object)] method with keys that are not in the map take no
+    /// longer than [#lookupComplexity()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that get with a missing key has the lookup complexity")
+    default void testGetMissingKeyComplexity() {
+        countEstimator().assertCountAtMost(lookupComplexity(), size -> {
+            final List<CountingElement> keys = keyProvider().createUniqueInstances(size + LOOKUPS);
+            final Map<CountingElement, V> entries = createEntries(keys.subList(0, size));
+            final M map = provider().createInstance(entries);
+            return keys.getFirst().counter().count(() -> {
+                for (int i = 0; i < LOOKUPS; i++) {
+                    assertNull(map.get(keys.get(size + i)));
+                }
+            });
+        });
+    }
+
+    /// Tests that [#LOOKUPS] calls to the [put][Map#put(Object, Object)] method that replace the value of an existing
+    /// key take no longer than [#lookupComplexity()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that put with an existing key has the lookup complexity")
+    default void testPutExistingKeyComplexity() {
+        if (supportsMethod(MapMethods.Put)) {
+            countEstimator().assertCountAtMost(lookupComplexity(), size -> {
+                final Map<CountingElement, V> entries = createEntries(size);
+                final M map = provider().createInstance(entries);
+                final List<CountingElement> keys = List.copyOf(entries.keySet());
+                final V value = valueProvider().createInstance();
+                return keys.getFirst().counter().count(() -> {
+                    for (int i = 0; i < LOOKUPS; i++) {
+                        map.put(keys.get(spread(i, LOOKUPS, size)), value);
+                    }
+                    assertEquals(size, map.size());
+                });
+            });
+        }
+    }
+
+    /// Tests that building a map by calling the [put][Map#put(Object, Object)] method for each key takes no longer
+    /// than performing an operation with [#lookupComplexity()] for each key.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that put with new keys has the amortized lookup complexity")
+    default void testPutNewKeysComplexity() {
+        if (supportsMethod(MapMethods.Put)) {
+            countEstimator().assertCountAtMost(lookupComplexity().timesSize(), size -> {
+                final Map<CountingElement, V> entries = createEntries(size);
+                final M map = provider().emptyInstance();
+                final List<CountingElement> keys = List.copyOf(entries.keySet());
+                return keys.getFirst().counter().count(() -> {
+                    entries.forEach(map::put);
+                    assertEquals(size, map.size());
+                });
+            });
+        }
+    }
+
+    // Creates the entries for the keys, with values created by the value provider.
+    private Map<CountingElement, V> createEntries(final List<CountingElement> keys) {
+        final List<V> values = valueProvider().createUniqueInstances(keys.size());
+        final Map<CountingElement, V> entries = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            entries.put(keys.get(i), values.get(i));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,46 @@
+package org.soliscode.test.contract.map;
+
+import org.soliscode.test.OptionalMethod;
+
+import java.util.Map;
+
+/// Values used to identify map class methods for use with the [MapContract#supportsMethod(OptionalMethod)] method.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public enum MapMethods implements OptionalMethod {
+
+    /// The optional method [Map#clear()].
+    Clear,
+
+    /// The optional method [Map#compute(Object, java.util.function.BiFunction)].
+    Compute,
+
+    /// The optional method [Map#computeIfAbsent(Object, java.util.function.Function)].
+    ComputeIfAbsent,
+
+    /// The optional method [Map#computeIfPresent(Object, java.util.function.BiFunction)].
+    ComputeIfPresent,
+
+    /// The optional method [Map.Entry#setValue(Object)] on the entries of [Map#entrySet()].
+    EntrySetValue,
+
+    /// The optional method [Map#merge(Object, Object, java.util.function.BiFunction)].
+    Merge,
+
+    /// The optional method [Map#put(Object, Object)].
+    Put,
+
+    /// The optional method [Map#putAll(Map)].
+    PutAll,
+
+    /// The optional method [Map#putIfAbsent(Object, Object)].
+    PutIfAbsent,
+
+    /// The optional method [Map#remove(Object)].
+    Remove,
+
+    /// The optional methods that remove entries through the [Map#entrySet()], [Map#keySet()] and [Map#values()]
+    /// views.
+    ViewRemove
+}
@@ -0,0 +1,98 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the [put][Map#put(Object, Object)] and
+/// [putAll][Map#putAll(Map)] methods correctly.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#put(Object, Object)
+public interface MapPutContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [put][Map#put(Object, Object)] method adds new keys and returns `null`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the put method adds new keys")
+    default void testPutWithNewKeys() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.Put)) {
+            entries.forEach((k, v) -> assertNull(map.put(k, v)));
+            assertEquals(entries, map);
+        } else {
+            K key = keyProvider().createInstance();
+            V value = valueProvider().createInstance();
+            assertThrows(UnsupportedOperationException.class, () -> map.put(key, value));
+        }
+    }
+
+    /// Tests that the [put][Map#put(Object, Object)] method replaces the value of an existing key and returns the
+    /// previous value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the put method replaces the value of existing keys")
+    default void testPutWithExistingKeys() {
+        if (supportsMethod(MapMethods.Put)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            List<V> replacements = valueProvider().createUniqueInstances(DEFAULT_SIZE, DEFAULT_SIZE);
+            int i = 0;
+            for (Map.Entry<K, V> entry : entries.entrySet()) {
+                V replacement = replacements.get(i++);
+                assertEquals(entry.getValue(), map.put(entry.getKey(), replacement));
+                assertEquals(replacement, map.get(entry.getKey()));
+            }
+            assertEquals(DEFAULT_SIZE, map.size());
+        }
+    }
+
+    /// Tests that the [put][Map#put(Object, Object)] method works with `null` keys and values, if the map permits
+    /// them.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the put method works with null keys and values")
+    default void testPutWithNulls() {
+        if (supportsMethod(MapMethods.Put)) {
+            Map<K, V> map = provider().emptyInstance();
+            if (permitNullValues()) {
+                K key = keyProvider().createInstance();
+                assertNull(map.put(key, null));
+                assertTrue(map.containsKey(key));
+                assertNull(map.get(key));
+            }
+            if (permitNullKeys()) {
+                V value = valueProvider().createInstance();
+                assertNull(map.put(null, value));
+                assertTrue(map.containsKey(null));
+                assertEquals(value, map.get(null));
+            }
+        }
+    }
+
+    /// Tests that the [putAll][Map#putAll(Map)] method adds all the entries of the argument.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the putAll method works")
+    default void testPutAll() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.PutAll)) {
+            map.putAll(entries);
+            assertEquals(entries, map);
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> map.putAll(entries));
+        }
+    }
+}
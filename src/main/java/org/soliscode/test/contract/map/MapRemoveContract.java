@@ -0,0 +1,88 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the [remove][Map#remove(Object)],
+/// [remove][Map#remove(Object, Object)] and [clear][Map#clear()] methods correctly.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#remove(Object)
+public interface MapRemoveContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [remove][Map#remove(Object)] method removes each key and returns its value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the remove method works")
+    default void testRemove() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        if (supportsMethod(MapMethods.Remove)) {
+            entries.forEach((k, v) -> {
+                assertEquals(v, map.remove(k));
+                assertFalse(map.containsKey(k));
+            });
+            assertTrue(map.isEmpty());
+        } else {
+            K key = entries.keySet().iterator().next();
+            assertThrows(UnsupportedOperationException.class, () -> map.remove(key));
+        }
+    }
+
+    /// Tests that the [remove][Map#remove(Object)] method returns `null` for a key that is not in the map and does
+    /// not change the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the remove method works with a missing key")
+    default void testRemoveWithMissingKey() {
+        if (supportsMethod(MapMethods.Remove)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            assertNull(map.remove(keyProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast()));
+            assertEquals(entries, map);
+        }
+    }
+
+    /// Tests that the [remove][Map#remove(Object, Object)] method only removes a key that is mapped to the value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the remove method with a value works")
+    default void testRemoveWithValue() {
+        if (supportsMethod(MapMethods.Remove)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            V other = valueProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+            entries.forEach((k, v) -> {
+                assertFalse(map.remove(k, other));
+                assertTrue(map.containsKey(k));
+                assertTrue(map.remove(k, v));
+                assertFalse(map.containsKey(k));
+            });
+        }
+    }
+
+    /// Tests that the [clear][Map#clear()] method removes all the entries.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the clear method works")
+    default void testClear() {
+        Map<K, V> map = provider().createInstance(createEntries(DEFAULT_SIZE));
+        if (supportsMethod(MapMethods.Clear)) {
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertEquals(0, map.size());
+        } else {
+            assertThrows(UnsupportedOperationException.class, map::clear);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the [merge][Map#merge] method correctly.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#merge
+public interface MergeContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [merge][Map#merge] method adds a missing key with the given value, without calling the
+    /// remapping function.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the merge method adds a missing key")
+    default void testMergeWithMissingKey() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.Merge)) {
+            entries.forEach((k, v) -> assertEquals(v, map.merge(k, v, (old, given) -> fail("the function was called"))));
+            assertEquals(entries, map);
+        } else {
+            K key = keyProvider().createInstance();
+            V value = valueProvider().createInstance();
+            assertThrows(UnsupportedOperationException.class, () -> map.merge(key, value, (old, given) -> given));
+        }
+    }
+
+    /// Tests that the [merge][Map#merge] method passes the old and the given values of an existing key to the
+    /// remapping function, and stores the result, or removes the key if the result is `null`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the merge method combines the values of an existing key")
+    default void testMergeWithExistingKey() {
+        if (supportsMethod(MapMethods.Merge)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            List<V> given = valueProvider().createUniqueInstances(DEFAULT_SIZE, DEFAULT_SIZE);
+            List<V> merged = valueProvider().createUniqueInstances(DEFAULT_SIZE, 2 * DEFAULT_SIZE);
+            int i = 0;
+            for (Map.Entry<K, V> entry : entries.entrySet()) {
+                V value = given.get(i);
+                V result = (i % 2 == 0) ? merged.get(i) : null;
+                i++;
+                assertEquals(result, map.merge(entry.getKey(), value, (old, v) -> {
+                    assertEquals(entry.getValue(), old);
+                    assertEquals(value, v);
+                    return result;
+                }));
+                assertEquals(result != null, map.containsKey(entry.getKey()));
+                assertEquals(result, map.get(entry.getKey()));
+            }
+            assertEquals((DEFAULT_SIZE + 1) / 2, map.size());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a map class has implemented the [putIfAbsent][Map#putIfAbsent(Object, Object)] method
+/// correctly.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#putIfAbsent(Object, Object)
+public interface PutIfAbsentContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [putIfAbsent][Map#putIfAbsent(Object, Object)] method adds a key that is not in the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the putIfAbsent method adds a missing key")
+    default void testPutIfAbsentWithMissingKey() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().emptyInstance();
+        if (supportsMethod(MapMethods.PutIfAbsent)) {
+            entries.forEach((k, v) -> assertNull(map.putIfAbsent(k, v)));
+            assertEquals(entries, map);
+        } else {
+            K key = keyProvider().createInstance();
+            V value = valueProvider().createInstance();
+            assertThrows(UnsupportedOperationException.class, () -> map.putIfAbsent(key, value));
+        }
+    }
+
+    /// Tests that the [putIfAbsent][Map#putIfAbsent(Object, Object)] method does not replace the value of a key that
+    /// is in the map, and returns that value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the putIfAbsent method keeps the value of an existing key")
+    default void testPutIfAbsentWithExistingKey() {
+        if (supportsMethod(MapMethods.PutIfAbsent)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            V other = valueProvider().createUniqueInstances(DEFAULT_SIZE + 1).getLast();
+            entries.forEach((k, v) -> assertEquals(v, map.putIfAbsent(k, other)));
+            assertEquals(entries, map);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.soliscode.test.contract.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.MapContractSupport;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if the [values][Map#values()] method of a map class returns a view of the values.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Map#values()
+public interface ValuesContract<K, V, M extends Map<K, V>> extends MapContractSupport<K, V, M> {
+
+    /// Tests that the [values][Map#values()] method returns the values of the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the values method returns the values")
+    default void testValues() {
+        Map<K, V> entries = createEntries(DEFAULT_SIZE);
+        Map<K, V> map = provider().createInstance(entries);
+        Collection<V> values = map.values();
+        assertEquals(DEFAULT_SIZE, values.size());
+        assertEquals(new HashSet<>(entries.values()), new HashSet<>(values));
+    }
+
+    /// Tests that removing a value from the collection returned by the [values][Map#values()] method removes the
+    /// entry from the map.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that removing from the values removes the entry")
+    default void testValuesRemove() {
+        if (supportsMethod(MapMethods.ViewRemove)) {
+            Map<K, V> entries = createEntries(DEFAULT_SIZE);
+            Map<K, V> map = provider().createInstance(entries);
+            entries.forEach((k, v) -> {
+                assertTrue(map.values().remove(v));
+                assertFalse(map.containsKey(k));
+            });
+            assertTrue(map.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/// Support for testing the implementation of the [java.util.Map] interface methods.
+///
+/// @author evanbergstrom
+/// @since 1.0
+package org.soliscode.test.contract.map;
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.numeric;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.BigNumberSupport;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Test suite for classes that implement the [Number] interface with arbitrary precision, such as [BigInteger] and
+/// [BigDecimal]. It tests the conversions of values that do not fit in a primitive type: `intValue` and `longValue`
+/// keep the low-order bits of the integer part, in the manner of a narrowing primitive conversion, and `doubleValue`
+/// rounds to the nearest `double`, overflowing to an infinity. If the [provider][BigNumberSupport#provider()] permits
+/// fractions, it also tests that the integer conversions discard the fractional part. The conversions of values in
+/// the range of a `long` must not allocate memory, which is tested by the [NumberConversionContract] tests.
+/// ```java
+/// public class BigDecimalTest extends AbstractTest implements BigNumberContract<BigDecimal> {
+///
+///     public BigNumberProvider<BigDecimal> provider() {
+///         return Providers.bigDecimalProvider();
+///     }
+/// }
+/// ```
+///
+/// @param <T> The number type being tested.
+/// @author evanbergstrom
+/// @see BigInteger
+/// @see BigDecimal
+/// @since 1.0
+public interface BigNumberContract<T extends Number> extends BigNumberSupport<T>, NumberConversionContract<T> {
+
+    /// Creates an instance of the class being tested from an integer value.
+    /// @param value the value.
+    /// @return an instance of the class being tested.
+    private @NotNull T createValue(final @NotNull BigInteger value) {
+        return provider().createValue(new BigDecimal(value));
+    }
+
+    /// Tests that the conversion methods work for values in the range of an `int`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the conversions work for values in the range of an int")
+    default void testConversionsOfIntValues() {
+        for (int value : new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+            final T number = provider().createValue(BigDecimal.valueOf(value));
+            assertEquals(value, number.intValue());
+            assertEquals(value, number.longValue());
+            assertEquals((float) value, number.floatValue());
+            assertEquals(value, number.doubleValue());
+        }
+    }
+
+    /// Tests that the [intValue][Number#intValue()] and [longValue][Number#longValue()] methods keep the low-order
+    /// bits of a value that does not fit.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the intValue and longValue methods keep the low-order bits")
+    default void testIntegerValuesKeepLowOrderBits() {
+        final BigInteger twoTo64 = BigInteger.ONE.shiftLeft(64);
+        assertEquals(7, createValue(BigInteger.ONE.shiftLeft(32).add(BigInteger.valueOf(7))).intValue());
+        assertEquals(5L, createValue(twoTo64.add(BigInteger.valueOf(5))).longValue());
+        assertEquals(Long.MIN_VALUE, createValue(BigInteger.ONE.shiftLeft(63)).longValue());
+        assertEquals(-1L, createValue(twoTo64.negate().subtract(BigInteger.ONE)).longValue());
+        assertEquals(-1, createValue(twoTo64.negate().subtract(BigInteger.ONE)).intValue());
+    }
+
+    /// Tests that the [doubleValue][Number#doubleValue()] method rounds a value that cannot be represented exactly to
+    /// the nearest `double`, with ties rounding to the even value.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the doubleValue method rounds to the nearest double")
+    default void testDoubleValueRoundsToNearest() {
+        final BigInteger exact = BigInteger.ONE.shiftLeft(53);
+        assertEquals(0x1p53, createValue(exact.add(BigInteger.ONE)).doubleValue());
+        assertEquals(0x1p53 + 4, createValue(exact.add(BigInteger.valueOf(3))).doubleValue());
+        assertEquals(0x1p100, createValue(BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE)).doubleValue());
+    }
+
+    /// Tests that the [doubleValue][Number#doubleValue()] and [floatValue][Number#floatValue()] methods return an
+    /// infinity for a value whose magnitude is too large.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the doubleValue and floatValue methods overflow to infinity")
+    default void testFloatingPointValuesOverflowToInfinity() {
+        final BigInteger huge = BigInteger.TEN.pow(400);
+        assertEquals(Double.POSITIVE_INFINITY, createValue(huge).doubleValue());
+        assertEquals(Double.NEGATIVE_INFINITY, createValue(huge.negate()).doubleValue());
+        assertEquals(Float.POSITIVE_INFINITY, createValue(BigInteger.TEN.pow(40)).floatValue());
+    }
+
+    /// Tests that the [intValue][Number#intValue()] and [longValue][Number#longValue()] methods discard the
+    /// fractional part of a value, and that [doubleValue][Number#doubleValue()] returns the nearest `double`. The test
+    /// is skipped if the provider does not [permit fractions][org.soliscode.test.provider.BigNumberProvider#permitsFractions()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the conversions of fractions work")
+    default void testConversionsOfFractions() {
+        if (provider().permitsFractions()) {
+            assertEquals(2, provider().createValue(new BigDecimal("2.9")).intValue());
+            assertEquals(-2, provider().createValue(new BigDecimal("-2.9")).intValue());
+            assertEquals(2L, provider().createValue(new BigDecimal("2.9")).longValue());
+            assertEquals(0.1, provider().createValue(new BigDecimal("0.1")).doubleValue());
+            assertEquals(0.0, provider().createValue(new BigDecimal("1e-400")).doubleValue());
+        }
+    }
+}
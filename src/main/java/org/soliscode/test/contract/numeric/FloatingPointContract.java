@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.numeric;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.DoubleSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Test suite for classes that implement the [Number] interface with floating-point values, such as [Double] and
+/// [Float]. In addition to the conversions of ordinary values, it tests the special values: NaN, the infinities and
+/// negative zero. The conversions to `int` and `long` follow the narrowing primitive conversions, so NaN converts to
+/// zero and the infinities convert to the largest and smallest values, and the conversions to `float` and `double`
+/// keep the special values, including the sign of a zero. The [equals][Object#equals(Object)] method is tested
+/// against the rules of [Double#equals(Object)], where NaN is equal to itself and the two zeros are different, since
+/// hash-based collections depend upon these rules. The conversions must not allocate memory, which is tested by the
+/// [NumberConversionContract] tests.
+/// ```java
+/// public class DoubleTest extends AbstractTest implements FloatingPointContract<Double>, WithDouble {
+/// }
+/// ```
+///
+/// @param <T> The number type being tested.
+/// @author evanbergstrom
+/// @see Double
+/// @since 1.0
+public interface FloatingPointContract<T extends Number> extends DoubleSupport<T>, NumberConversionContract<T> {
+
+    /// Tests that the [doubleValue][Number#doubleValue()] and [floatValue][Number#floatValue()] methods work for
+    /// ordinary values that can be represented exactly.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the doubleValue and floatValue methods work for various values")
+    default void testFloatingPointValues() {
+        for (double value : new double[]{-1024.0, -1.5, 0.0, 0.25, 1.0, 1024.0}) {
+            assertEquals(value, provider().createValue(value).doubleValue());
+            assertEquals((float) value, provider().createValue(value).floatValue());
+        }
+    }
+
+    /// Tests that the [intValue][Number#intValue()] and [longValue][Number#longValue()] methods round toward zero.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the intValue and longValue methods round toward zero")
+    default void testIntegerValuesRoundTowardZero() {
+        assertEquals(1, provider().createValue(1.75).intValue());
+        assertEquals(-1, provider().createValue(-1.75).intValue());
+        assertEquals(1L, provider().createValue(1.75).longValue());
+        assertEquals(-1L, provider().createValue(-1.75).longValue());
+    }
+
+    /// Tests that NaN is converted to NaN by the [doubleValue][Number#doubleValue()] and
+    /// [floatValue][Number#floatValue()] methods, and to zero by the [intValue][Number#intValue()] and
+    /// [longValue][Number#longValue()] methods.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that NaN is converted correctly")
+    default void testNaN() {
+        final T nan = provider().createValue(Double.NaN);
+        assertTrue(Double.isNaN(nan.doubleValue()));
+        assertTrue(Float.isNaN(nan.floatValue()));
+        assertEquals(0, nan.intValue());
+        assertEquals(0L, nan.longValue());
+    }
+
+    /// Tests that NaN is equal to itself and has a consistent hash code, so that it can be found in a hash-based
+    /// collection.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that NaN is equal to itself")
+    default void testNaNEqualsItself() {
+        final T nan = provider().createValue(Double.NaN);
+        final T other = provider().createValue(Double.NaN);
+        assertEquals(nan, nan);
+        assertEquals(nan, other);
+        assertEquals(nan.hashCode(), other.hashCode());
+    }
+
+    /// Tests that the infinities are kept by the [doubleValue][Number#doubleValue()] and
+    /// [floatValue][Number#floatValue()] methods, and converted to the largest and smallest values by the
+    /// [intValue][Number#intValue()] and [longValue][Number#longValue()] methods.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the infinities are converted correctly")
+    default void testInfinities() {
+        final T positive = provider().createValue(Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, positive.doubleValue());
+        assertEquals(Float.POSITIVE_INFINITY, positive.floatValue());
+        assertEquals(Integer.MAX_VALUE, positive.intValue());
+        assertEquals(Long.MAX_VALUE, positive.longValue());
+
+        final T negative = provider().createValue(Double.NEGATIVE_INFINITY);
+        assertEquals(Double.NEGATIVE_INFINITY, negative.doubleValue());
+        assertEquals(Float.NEGATIVE_INFINITY, negative.floatValue());
+        assertEquals(Integer.MIN_VALUE, negative.intValue());
+        assertEquals(Long.MIN_VALUE, negative.longValue());
+    }
+
+    /// Tests that the sign of negative zero is kept by the [doubleValue][Number#doubleValue()] and
+    /// [floatValue][Number#floatValue()] methods. The bits of the values are compared, since `-0.0 == 0.0`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that negative zero is converted correctly")
+    default void testNegativeZero() {
+        final T zero = provider().createValue(-0.0);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(zero.doubleValue()));
+        assertEquals(Float.floatToRawIntBits(-0.0f), Float.floatToRawIntBits(zero.floatValue()));
+        assertEquals(0, zero.intValue());
+        assertEquals(0L, zero.longValue());
+    }
+
+    /// Tests that negative zero is not equal to positive zero.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that negative zero is not equal to positive zero")
+    default void testNegativeZeroDoesNotEqualZero() {
+        final T negative = provider().createValue(-0.0);
+        final T positive = provider().createValue(0.0);
+        assertNotEquals(negative, positive);
+        assertEquals(negative, provider().createValue(-0.0));
+    }
+}
@@ -23,13 +23,14 @@ import org.soliscode.test.contract.support.IntegerSupport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
- * Test suite for classes that implement the {@link Integer} interface.
+ * Test suite for classes that implement the {@link Integer} interface. In addition to the conversions of integer
+ * values, it tests that the conversions do not allocate memory, using the {@link NumberConversionContract} tests.
  *
  * @param <T> The number type being tested.
  * @author evanbergstrom
  * @since 1.0.0
  */
-public interface IntegerContract<T extends Number> extends IntegerSupport<T> {
+public interface IntegerContract<T extends Number> extends IntegerSupport<T>, NumberConversionContract<T> {
 
     /**
      * Tests that the implementation of the {@link Number#intValue()} method works for various values.
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.numeric;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.LongSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Test suite for classes that implement the [Number] interface with `long` values, such as [Long]. In addition to
+/// the [IntegerContract] tests, it tests the conversions of values outside the range of an `int`: `intValue` keeps
+/// the low-order 32 bits, and `floatValue` and `doubleValue` round to the nearest value.
+/// ```java
+/// public class LongTest extends AbstractTest implements LongContract<Long>, WithLong {
+/// }
+/// ```
+///
+/// @param <T> The number type being tested.
+/// @author evanbergstrom
+/// @see Long
+/// @since 1.0
+public interface LongContract<T extends Number> extends IntegerContract<T>, LongSupport<T> {
+
+    /// Tests that the [longValue][Number#longValue()] method works for values outside the range of an `int`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the longValue method works for values outside the range of an int")
+    default void testLongValueOfLongValues() {
+        final long max = provider().maxLongValue();
+        final long min = provider().minLongValue();
+
+        assertEquals(min, provider().createLongValue(min).longValue());
+        assertEquals(Integer.MIN_VALUE - 1L, provider().createLongValue(Integer.MIN_VALUE - 1L).longValue());
+        assertEquals(Integer.MAX_VALUE + 1L, provider().createLongValue(Integer.MAX_VALUE + 1L).longValue());
+        assertEquals(max, provider().createLongValue(max).longValue());
+        assertEquals(max, provider().maxValue().longValue());
+        assertEquals(min, provider().minValue().longValue());
+    }
+
+    /// Tests that the [intValue][Number#intValue()] method keeps the low-order 32 bits of a value outside the range
+    /// of an `int`, in the manner of a narrowing primitive conversion.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the intValue method keeps the low-order bits of a long value")
+    default void testIntValueOfLongValues() {
+        assertEquals(5, provider().createLongValue((1L << 32) + 5).intValue());
+        assertEquals(Integer.MIN_VALUE, provider().createLongValue(Integer.MAX_VALUE + 1L).intValue());
+        assertEquals(-1, provider().createLongValue(Long.MAX_VALUE).intValue());
+        assertEquals(0, provider().createLongValue(Long.MIN_VALUE).intValue());
+    }
+
+    /// Tests that the [doubleValue][Number#doubleValue()] method rounds a value that cannot be represented exactly
+    /// to the nearest `double`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the doubleValue method rounds a long value to the nearest double")
+    default void testDoubleValueOfLongValues() {
+        final long exact = 1L << 53;
+        assertEquals((double) exact, provider().createLongValue(exact).doubleValue());
+        assertEquals((double) exact, provider().createLongValue(exact + 1).doubleValue());
+        assertEquals((double) (exact + 4), provider().createLongValue(exact + 3).doubleValue());
+        assertEquals(0x1p63, provider().createLongValue(Long.MAX_VALUE).doubleValue());
+        assertEquals(-0x1p63, provider().createLongValue(Long.MIN_VALUE).doubleValue());
+    }
+
+    /// Tests that the [floatValue][Number#floatValue()] method rounds a value that cannot be represented exactly to
+    /// the nearest `float`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the floatValue method rounds a long value to the nearest float")
+    default void testFloatValueOfLongValues() {
+        final long exact = 1L << 24;
+        assertEquals((float) exact, provider().createLongValue(exact + 1).floatValue());
+        assertEquals(0x1p63f, provider().createLongValue(Long.MAX_VALUE).floatValue());
+        assertEquals(-0x1p63f, provider().createLongValue(Long.MIN_VALUE).floatValue());
+    }
+}
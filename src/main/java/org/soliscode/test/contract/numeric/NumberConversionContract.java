@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.numeric;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.ContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+/// Tests that the conversion methods of the [Number] class, `intValue`, `longValue`, `floatValue` and `doubleValue`,
+/// do not allocate memory. The conversions are called in the inner loops of numeric code, such as pricing and risk
+/// calculations, where a conversion that boxes or creates an intermediate number, such as a `BigDecimal`, creates
+/// garbage for each value. Each test makes [#CONVERSIONS] calls and fails if they allocate more than
+/// [#CONVERSION_BUDGET] bytes, which is less than one object per call. This contract class is normally used through
+/// the other number contracts, such as [IntegerContract] and [FloatingPointContract].
+/// @param <T> The number type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface NumberConversionContract<T extends Number> extends ContractSupport<T>, PerformanceSupport {
+
+    /// The number of conversions ({@value}) that are measured by each test.
+    int CONVERSIONS = 1_024;
+
+    /// The maximum number of bytes ({@value}) that the conversions may allocate.
+    long CONVERSION_BUDGET = CONVERSIONS;
+
+    /// Returns the number that is converted by the tests, which is created by the provider by default.
+    /// @return the number to convert.
+    default @NotNull T conversionInstance() {
+        return provider().createInstance(CONVERSIONS);
+    }
+
+    /// Tests that the [intValue][Number#intValue()] method does not allocate memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the intValue method does not allocate memory")
+    default void testIntValueDoesNotAllocate() {
+        final T number = conversionInstance();
+        assertAllocationAtMost("intValue", CONVERSION_BUDGET, () -> {
+            int total = 0;
+            for (int i = 0; i < CONVERSIONS; i++) {
+                total += number.intValue();
+            }
+            Blackhole.consume(total);
+        });
+    }
+
+    /// Tests that the [longValue][Number#longValue()] method does not allocate memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the longValue method does not allocate memory")
+    default void testLongValueDoesNotAllocate() {
+        final T number = conversionInstance();
+        assertAllocationAtMost("longValue", CONVERSION_BUDGET, () -> {
+            long total = 0;
+            for (int i = 0; i < CONVERSIONS; i++) {
+                total += number.longValue();
+            }
+            Blackhole.consume(total);
+        });
+    }
+
+    /// Tests that the [floatValue][Number#floatValue()] method does not allocate memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the floatValue method does not allocate memory")
+    default void testFloatValueDoesNotAllocate() {
+        final T number = conversionInstance();
+        assertAllocationAtMost("floatValue", CONVERSION_BUDGET, () -> {
+            float total = 0.0f;
+            for (int i = 0; i < CONVERSIONS; i++) {
+                total += number.floatValue();
+            }
+            Blackhole.consume(Float.floatToRawIntBits(total));
+        });
+    }
+
+    /// Tests that the [doubleValue][Number#doubleValue()] method does not allocate memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the doubleValue method does not allocate memory")
+    default void testDoubleValueDoesNotAllocate() {
+        final T number = conversionInstance();
+        assertAllocationAtMost("doubleValue", CONVERSION_BUDGET, () -> {
+            double total = 0.0;
+            for (int i = 0; i < CONVERSIONS; i++) {
+                total += number.doubleValue();
+            }
+            Blackhole.consume(Double.doubleToRawLongBits(total));
+        });
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.object;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/// This interface tests if a class has implemented the [Comparable#compareTo(Object)] method correctly. The natural
+/// ordering must be a total ordering that is consistent with equals; these tests are inherited from
+/// [ComparatorContract], applied to the [natural ordering][Comparator#naturalOrder()] of the class. In addition,
+/// `compareTo` must throw a [NullPointerException] when it is passed `null`. The cost of comparing instances that
+/// share a long prefix is tested by the opt-in [ComparisonCostContract].
+///
+/// A class whose natural ordering is not consistent with equals, such as [java.math.BigDecimal], should override
+/// [#consistentWithEquals()] to return `false`.
+/// @param <T> The type being tested.
+/// @author evanbergstrom
+/// @see Comparable#compareTo(Object)
+/// @see ComparatorContract
+/// @since 1.0
+public interface ComparableContract<T extends Comparable<? super T>> extends ComparatorContract<T> {
+
+    /// Returns the natural ordering of the class being tested.
+    /// @return the natural ordering.
+    @Override
+    default @NotNull Comparator<? super T> comparator() {
+        return Comparator.naturalOrder();
+    }
+
+    /// Tests that the `compareTo()` method throws a [NullPointerException] when it is passed `null`.
+    /// @throws AssertionFailedError if the test fails.
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("the compareTo() method throws for a null value")
+    default void testCompareToNullValue() {
+        final T x = provider().createInstance();
+        assertThrows(NullPointerException.class, () -> x.compareTo(null));
+    }
+}
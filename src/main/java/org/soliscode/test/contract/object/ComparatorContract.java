@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.object;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.ContractSupport;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// This interface tests if a [Comparator] imposes a total ordering on the instances of a class, as required by its
+/// specification. The comparator being tested is returned by [#comparator()]. The ordering is checked over every pair
+/// and every triple of [#COMPARISON_SAMPLE] unique instances from the provider, together with copies of some of them:
+/// - the comparator is _antisymmetric_: `sgn(compare(x, y)) == -sgn(compare(y, x))`;
+/// - the comparator is _transitive_: `compare(x, y) > 0` and `compare(y, z) > 0` implies `compare(x, z) > 0`, and
+///   `compare(x, y) == 0` implies that `x` and `y` compare the same way with every `z`; and
+/// - the comparator is _consistent with equals_: `compare(x, y) == 0` exactly when `x.equals(y)`. An ordering that is
+///   not consistent with equals is allowed, but it makes sorted sets and maps behave strangely, so this check must be
+///   turned off explicitly by overriding [#consistentWithEquals()].
+///
+/// The cost of comparing keys that share a long prefix is tested by [ComparisonCostContract], which is not included
+/// in this contract since it measures elapsed time.
+///
+/// ```java
+/// public class PathComparatorTest extends AbstractTest implements ComparatorContract<String>, WithString {
+///
+///     public Comparator<? super String> comparator() {
+///         return PathComparator.INSTANCE;
+///     }
+/// }
+/// ```
+/// @param <T> The type being compared.
+/// @author evanbergstrom
+/// @see Comparator#compare(Object, Object)
+/// @see ComparableContract
+/// @since 1.0
+public interface ComparatorContract<T> extends ContractSupport<T> {
+
+    /// The number of unique instances ({@value}) whose pairs and triples are compared.
+    int COMPARISON_SAMPLE = 24;
+
+    /// Returns the comparator being tested.
+    /// @return the comparator.
+    @NotNull Comparator<? super T> comparator();
+
+    /// Returns `true` if the ordering is consistent with equals, which it is by default.
+    /// @return `true` if `compare(x, y) == 0` exactly when `x.equals(y)`.
+    default boolean consistentWithEquals() {
+        return true;
+    }
+
+    /// Tests that an instance compares as equal to itself and to a copy of itself.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("the comparison is reflexive")
+    default void testComparisonIsReflexive() {
+        for (T x : provider().createUniqueInstances(COMPARISON_SAMPLE)) {
+            assertEquals(0, comparator().compare(x, x), () -> x + " does not compare as equal to itself");
+            final T copy = provider().copyInstance(x);
+            assertEquals(0, comparator().compare(x, copy), () -> x + " does not compare as equal to a copy");
+        }
+    }
+
+    /// Tests that the comparison is antisymmetric for every pair of instances.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("the comparison is antisymmetric")
+    default void testComparisonIsAntisymmetric() {
+        final List<T> sample = comparisonSample();
+        for (T x : sample) {
+            for (T y : sample) {
+                assertEquals(Integer.signum(comparator().compare(x, y)), -Integer.signum(comparator().compare(y, x)),
+                        () -> "compare(" + x + ", " + y + ") is not the opposite of compare(" + y + ", " + x + ")");
+            }
+        }
+    }
+
+    /// Tests that the comparison is transitive for every triple of instances.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("the comparison is transitive")
+    default void testComparisonIsTransitive() {
+        final List<T> sample = comparisonSample();
+        for (T x : sample) {
+            for (T y : sample) {
+                final int xy = Integer.signum(comparator().compare(x, y));
+                for (T z : sample) {
+                    final int yz = Integer.signum(comparator().compare(y, z));
+                    final int xz = Integer.signum(comparator().compare(x, z));
+                    if (xy == 0) {
+                        assertEquals(yz, xz, () -> x + " and " + y + " are equal but compare differently with " + z);
+                    } else if (xy == yz) {
+                        assertEquals(xy, xz, () -> "the ordering of " + x + ", " + y + " and " + z
+                                + " is not transitive");
+                    }
+                }
+            }
+        }
+    }
+
+    /// Tests that the comparison is consistent with equals for every pair of instances, unless
+    /// [#consistentWithEquals()] returns `false`.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("the comparison is consistent with equals")
+    default void testComparisonIsConsistentWithEquals() {
+        if (consistentWithEquals()) {
+            final List<T> sample = comparisonSample();
+            for (T x : sample) {
+                for (T y : sample) {
+                    assertEquals(x.equals(y), comparator().compare(x, y) == 0,
+                            () -> "compare(" + x + ", " + y + ") is not consistent with equals");
+                }
+            }
+        }
+    }
+
+    // Returns unique instances followed by copies of every third instance, so that the sample has equal instances
+    // that are not the same object.
+    private List<T> comparisonSample() {
+        final List<T> sample = new ArrayList<>(provider().createUniqueInstances(COMPARISON_SAMPLE));
+        for (int i = 0; i < COMPARISON_SAMPLE; i += 3) {
+            sample.add(provider().copyInstance(sample.get(i)));
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.object;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.ComplexityEstimator;
+
+import java.util.Comparator;
+import java.util.List;
+
+/// This interface tests that a [Comparator] compares keys that share a long prefix in linear time. The cost of a
+/// comparison is measured with instances that are equal up to a prefix and differ after it, which are returned by
+/// [#equalPrefixInstances(int)]. The time to compare them must grow no faster than [#prefixComparisonComplexity()]
+/// as the prefix grows; a comparison that rescans the prefix for each character, or that builds a new key for each
+/// comparison, is caught. The hot paths that sort large numbers of keys, such as file paths or composite database
+/// keys, depend upon comparisons being cheap.
+///
+/// This contract is not included in [ComparatorContract] or [ComparableContract], since it measures elapsed time.
+/// Add it to the test class of a comparator or a comparable class to enable it:
+/// ```java
+/// public class StringTest extends AbstractTest
+///         implements ComparableContract<String>, ComparisonCostContract<String>, WithString {
+///
+///     public List<String> equalPrefixInstances(int prefixLength) {
+///         StringProvider strings = new StringProvider();
+///         return List.of(strings.createInstanceWithPrefix(prefixLength, 1),
+///                        strings.createInstanceWithPrefix(prefixLength, 2));
+///     }
+/// }
+/// ```
+/// @param <T> The type being compared.
+/// @author evanbergstrom
+/// @see ComparatorContract
+/// @since 1.0
+public interface ComparisonCostContract<T> extends ComparatorContract<T>, PerformanceSupport {
+
+    /// The prefix lengths used to measure the cost of a comparison.
+    int[] PREFIX_LENGTHS = {64, 128, 256, 512, 1_024, 2_048};
+
+    /// The number of comparisons ({@value}) timed for each prefix length.
+    int PREFIX_COMPARISONS = 128;
+
+    /// Returns instances that are equal up to a prefix of the given length and that differ after it, which are used
+    /// to measure the cost of a comparison as the common prefix grows. There must be at least two instances.
+    /// @param prefixLength the length of the common prefix.
+    /// @return the instances.
+    @NotNull List<T> equalPrefixInstances(int prefixLength);
+
+    /// Returns the largest complexity allowed for comparing instances as the common prefix grows, which is linear by
+    /// default.
+    /// @return the complexity of a comparison.
+    default @NotNull Complexity prefixComparisonComplexity() {
+        return Complexity.LINEAR;
+    }
+
+    /// Tests that the time to compare instances that share a prefix grows no faster than
+    /// [#prefixComparisonComplexity()] as the prefix grows.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("the cost of a comparison grows with the length of a common prefix no faster than allowed")
+    default void testComparisonCostOfEqualPrefixes() {
+        final Comparator<? super T> comparator = comparator();
+        ComplexityEstimator.builder().sizes(PREFIX_LENGTHS).build()
+                .assertTimeAtMost(prefixComparisonComplexity(), length -> {
+                    final List<T> instances = equalPrefixInstances(length);
+                    final int n = instances.size();
+                    return () -> {
+                        int result = 0;
+                        for (int i = 0; i < PREFIX_COMPARISONS; i++) {
+                            result += comparator.compare(instances.get(i % n), instances.get((i + 1) % n));
+                        }
+                        Blackhole.consume(result);
+                    };
+                });
+    }
+}
@@ -0,0 +1,138 @@
+package org.soliscode.test.contract.offheap;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.OffHeapSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Test suite for collections that store their elements in native memory, such as a list of `int` values in a
+/// [java.lang.foreign.MemorySegment]. The collection must allocate its memory from the arenas provided by the
+/// [memory tracker][#memoryTracker()], and release it by closing them. The tests check that:
+/// - the collection holds native memory for its elements;
+/// - [clear][Collection#clear()] releases the memory, other than [#retainedBytesAfterClear()] bytes;
+/// - [close][AutoCloseable#close()] releases all of the memory; and
+/// - visiting the elements, using the [traversal][#traversal(Collection)] of the collection, does not allocate heap
+///   memory for each element.
+///
+/// The test class creates a memory tracker for each test, and passes it to the provider:
+/// ```java
+/// public class IntListTest extends AbstractTest
+///         implements OffHeapCollectionContract<Integer, IntList>, WithIntegerElement {
+///
+///     private final NativeMemoryTracker tracker = new NativeMemoryTracker();
+///
+///     public NativeMemoryTracker memoryTracker() {
+///         return tracker;
+///     }
+///
+///     public CollectionProvider<Integer, IntList> provider() {
+///         return CollectionProviders.from(() -> new IntList(tracker), (l) -> new IntList(l, tracker),
+///                 (c) -> new IntList(c, tracker), elementProvider());
+///     }
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The collection type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+@SuppressWarnings("try")
+public interface OffHeapCollectionContract<E, C extends Collection<E> & AutoCloseable>
+        extends CollectionContractSupport<E, C>, OffHeapSupport, PerformanceSupport {
+
+    /// Returns the number of bytes of native memory that the collection may keep after it is cleared, which is zero
+    /// by default. Override this method for a collection that keeps a minimum capacity.
+    /// @return the number of bytes that may be retained after `clear`.
+    default long retainedBytesAfterClear() {
+        return 0L;
+    }
+
+    /// Returns the operation that visits each element of a collection, which is measured by
+    /// [#testTraversalDoesNotAllocatePerElement()]. The default operation uses the iterator of the collection and
+    /// consumes the identity of each element, so an element that is created by the iterator, such as a boxed primitive,
+    /// is counted. Override this method for a collection of primitive values to use its primitive iterator.
+    /// @param collection the collection to traverse.
+    /// @return the operation that visits the elements.
+    default @NotNull Runnable traversal(final @NotNull C collection) {
+        return () -> {
+            int hash = 0;
+            for (E e : collection) {
+                hash ^= Blackhole.hash(e);
+            }
+            Blackhole.consume(hash);
+        };
+    }
+
+    /// Tests that a collection with elements holds native memory allocated from the memory tracker.
+    /// @throws Exception if the collection cannot be closed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the collection stores its elements in native memory")
+    @SuppressWarnings("try")
+    default void testCollectionHoldsNativeMemory() throws Exception {
+        try (C collection = provider().createInstanceWithUniqueElements(DEFAULT_SIZE)) {
+            assertEquals(DEFAULT_SIZE, collection.size());
+            assertTrue(memoryTracker().liveBytes() > 0, "the collection does not hold any native memory");
+        }
+    }
+
+    /// Tests that [clear][Collection#clear()] releases the native memory held by the collection, and that the
+    /// collection can be used after it has been cleared.
+    /// @throws Exception if the collection cannot be closed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that clear releases the native memory")
+    @SuppressWarnings("try")
+    default void testClearReleasesNativeMemory() throws Exception {
+        if (supportsMethod(CollectionMethods.Clear)) {
+            try (C collection = provider().createInstanceWithUniqueElements(DEFAULT_SIZE)) {
+                collection.clear();
+                assertTrue(collection.isEmpty());
+                assertTrue(memoryTracker().liveBytes() <= retainedBytesAfterClear(),
+                        "clear retained " + memoryTracker().liveBytes() + " bytes");
+
+                if (supportsMethod(CollectionMethods.Add)) {
+                    final E e = elementProvider().createInstance(0);
+                    assertTrue(collection.add(e));
+                    assertTrue(collection.contains(e));
+                }
+            }
+        }
+    }
+
+    /// Tests that [close][AutoCloseable#close()] releases all of the native memory held by the collection, including
+    /// the memory for storage that was replaced as the collection grew.
+    /// @throws Exception if the collection cannot be closed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that close releases the native memory")
+    default void testCloseReleasesNativeMemory() throws Exception {
+        final C collection = provider().createInstanceWithUniqueElements(DEFAULT_SIZE);
+        if (supportsMethod(CollectionMethods.AddAll)) {
+            collection.addAll(elementProvider().createUniqueInstances(DEFAULT_SIZE * 10, DEFAULT_SIZE));
+        }
+        collection.close();
+        assertEquals(0L, memoryTracker().liveBytes(), "close did not release all of the native memory");
+        assertEquals(0, memoryTracker().openArenas(), "close did not close all of the arenas");
+    }
+
+    /// Tests that visiting the elements of a collection allocates a constant amount of heap memory, regardless of the
+    /// number of elements. The elements are visited by the [traversal][#traversal(Collection)] of the collection.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that visiting the elements does not allocate heap memory per element")
+    default void testTraversalDoesNotAllocatePerElement() {
+        assertConstantAllocation(size -> traversal(provider().createInstanceWithUniqueElements(size)));
+    }
+}
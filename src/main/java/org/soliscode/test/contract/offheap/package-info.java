@@ -0,0 +1,6 @@
+/// Support for testing collections that store their elements in native memory allocated from a
+/// [java.lang.foreign.Arena].
+///
+/// @author evanbergstrom
+/// @since 1.0
+package org.soliscode.test.contract.offheap;
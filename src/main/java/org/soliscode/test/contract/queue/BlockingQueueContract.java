@@ -0,0 +1,316 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the methods that the [BlockingQueue] interface adds to [Queue]: [put][BlockingQueue#put(Object)],
+/// [take][BlockingQueue#take()], [offer][BlockingQueue#offer(Object, long, TimeUnit)] and
+/// [poll][BlockingQueue#poll(long, TimeUnit)] with a timeout, [remainingCapacity][BlockingQueue#remainingCapacity()]
+/// and [drainTo][BlockingQueue#drainTo(Collection, int)]. The tests that wait for another thread use a background
+/// thread that acts after [#BLOCKING_DELAY_MILLIS], so they take a fraction of a second each.
+///
+/// The tests for a full queue are only run if the queues created by the provider have a [capacity][#capacity()]. The
+/// tests do not assume that the queue is FIFO, so they can be used for a priority blocking queue. Since most blocking
+/// queues use identity equality, this contract does not include the [Queue] tests; add [QueueContract] as well for a
+/// queue with value equality:
+/// ```java
+/// public class MyBlockingQueueTest extends AbstractTest
+///         implements BlockingQueueContract<Integer, MyBlockingQueue<Integer>>, WithIntegerElement {
+///
+///     public CollectionProvider<Integer, MyBlockingQueue<Integer>> provider() {
+///         return CollectionProviders.from(() -> new MyBlockingQueue<>(16), ..., elementProvider());
+///     }
+///
+///     public int capacity() {
+///         return 16;
+///     }
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The blocking queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see HandoffLatencyContract
+public interface BlockingQueueContract<E, C extends BlockingQueue<E>> extends CollectionContractSupport<E, C> {
+
+    /// The time in milliseconds ({@value}) that a background thread waits before it acts, and that the tests wait to
+    /// check that a method is blocked.
+    long BLOCKING_DELAY_MILLIS = 50L;
+
+    /// The time in milliseconds ({@value}) that a background thread or a blocked method is given to finish.
+    long COMPLETION_TIMEOUT_MILLIS = 2_000L;
+
+    /// Returns the capacity of the queues created by the provider, which is [Integer#MAX_VALUE] by default. A test
+    /// class for a bounded queue should override this method.
+    /// @return the capacity of the queues.
+    default int capacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /// Tests that the elements added with the [put][BlockingQueue#put(Object)] method are removed by the
+    /// [take][BlockingQueue#take()] method.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#put(Object)
+    /// @see BlockingQueue#take()
+    @Test
+    @DisplayName("Test that the elements put into the queue are taken from it")
+    default void testPutAndTake() throws InterruptedException {
+        List<E> elements = elementProvider().createUniqueInstances(Math.min(DEFAULT_SIZE, capacity()));
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Put) && supportsMethod(QueueMethods.Take)) {
+            for (int i = 0; i < elements.size(); i++) {
+                queue.put(elements.get(i));
+                assertEquals(i + 1, queue.size());
+            }
+            Set<E> taken = new HashSet<>();
+            for (int i = elements.size(); i > 0; i--) {
+                taken.add(queue.take());
+                assertEquals(i - 1, queue.size());
+            }
+            assertEquals(new HashSet<>(elements), taken);
+        } else if (!supportsMethod(QueueMethods.Put)) {
+            assertThrows(UnsupportedOperationException.class, () -> queue.put(elements.getFirst()));
+        } else {
+            assertThrows(UnsupportedOperationException.class, queue::take);
+        }
+    }
+
+    /// Tests that the [take][BlockingQueue#take()] method waits for an element when the queue is empty.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#take()
+    @Test
+    @DisplayName("Test that the take method waits for an element")
+    default void testTakeWaitsForElement() throws InterruptedException {
+        E element = elementProvider().createInstance();
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Take)) {
+            Thread producer = startInBackground(BLOCKING_DELAY_MILLIS, () -> queue.offer(element));
+            assertEquals(element, assertTimeoutPreemptively(Duration.ofMillis(COMPLETION_TIMEOUT_MILLIS),
+                    queue::take));
+            producer.join();
+        } else {
+            assertThrows(UnsupportedOperationException.class, queue::take);
+        }
+    }
+
+    /// Tests that the [put][BlockingQueue#put(Object)] method waits for space when the queue is full. The test is
+    /// skipped if the queue does not have a capacity.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#put(Object)
+    @Test
+    @DisplayName("Test that the put method waits for space")
+    default void testPutWaitsForSpace() throws InterruptedException {
+        if (capacity() < Integer.MAX_VALUE && supportsMethod(QueueMethods.Put)) {
+            List<E> elements = elementProvider().createUniqueInstances(capacity() + 1);
+            C queue = provider().createInstance(elements.subList(0, capacity()));
+            Thread producer = startInBackground(0L, () -> {
+                queue.put(elements.getLast());
+                return null;
+            });
+
+            producer.join(BLOCKING_DELAY_MILLIS);
+            assertTrue(producer.isAlive(), "put returned when the queue was full");
+            assertEquals(capacity(), queue.size());
+
+            assertNotNull(queue.poll());
+            producer.join(COMPLETION_TIMEOUT_MILLIS);
+            assertFalse(producer.isAlive(), "put did not return when space became available");
+            assertEquals(capacity(), queue.size());
+            assertTrue(queue.contains(elements.getLast()));
+        }
+    }
+
+    /// Tests that the [offer][BlockingQueue#offer(Object, long, TimeUnit)] method with a timeout adds the element
+    /// when the queue has space.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#offer(Object, long, TimeUnit)
+    @Test
+    @DisplayName("Test that the offer method with a timeout inserts the element")
+    default void testOfferWithTimeout() throws InterruptedException {
+        E element = elementProvider().createInstance();
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Put)) {
+            assertTrue(queue.offer(element, BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+            assertEquals(1, queue.size());
+            assertTrue(queue.contains(element));
+        } else {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> queue.offer(element, BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /// Tests that the [offer][BlockingQueue#offer(Object, long, TimeUnit)] method with a timeout waits for the timeout
+    /// and then returns `false` when the queue is full. The test is skipped if the queue does not have a capacity.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#offer(Object, long, TimeUnit)
+    @Test
+    @DisplayName("Test that the offer method with a timeout waits when the queue is full")
+    default void testOfferWithTimeoutOnFullQueue() throws InterruptedException {
+        if (capacity() < Integer.MAX_VALUE && supportsMethod(QueueMethods.Put)) {
+            List<E> elements = elementProvider().createUniqueInstances(capacity() + 1);
+            C queue = provider().createInstance(elements.subList(0, capacity()));
+
+            long start = System.nanoTime();
+            assertFalse(queue.offer(elements.getLast(), BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+            long elapsed = System.nanoTime() - start;
+            assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(BLOCKING_DELAY_MILLIS),
+                    "offer returned after " + elapsed + "ns, before the timeout");
+            assertEquals(capacity(), queue.size());
+            assertFalse(queue.contains(elements.getLast()));
+        }
+    }
+
+    /// Tests that the [poll][BlockingQueue#poll(long, TimeUnit)] method with a timeout waits for the timeout and then
+    /// returns `null` when the queue is empty.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#poll(long, TimeUnit)
+    @Test
+    @DisplayName("Test that the poll method with a timeout returns null for an empty queue")
+    default void testPollWithTimeoutOnEmptyQueue() throws InterruptedException {
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Take)) {
+            long start = System.nanoTime();
+            assertNull(queue.poll(BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+            long elapsed = System.nanoTime() - start;
+            assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(BLOCKING_DELAY_MILLIS),
+                    "poll returned after " + elapsed + "ns, before the timeout");
+        } else {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> queue.poll(BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /// Tests that the [poll][BlockingQueue#poll(long, TimeUnit)] method with a timeout returns as soon as an element
+    /// is added to an empty queue, rather than when the timeout expires.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#poll(long, TimeUnit)
+    @Test
+    @DisplayName("Test that the poll method with a timeout returns when an element arrives")
+    default void testPollWithTimeoutReturnsWhenElementArrives() throws InterruptedException {
+        E element = elementProvider().createInstance();
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Take)) {
+            Thread producer = startInBackground(BLOCKING_DELAY_MILLIS, () -> queue.offer(element));
+            long start = System.nanoTime();
+            assertEquals(element, queue.poll(COMPLETION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            long elapsed = System.nanoTime() - start;
+            assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(COMPLETION_TIMEOUT_MILLIS),
+                    "poll waited for the timeout after an element was added");
+            producer.join();
+        }
+    }
+
+    /// Tests that the [remainingCapacity][BlockingQueue#remainingCapacity()] method returns the capacity less the
+    /// number of elements in the queue.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#remainingCapacity()
+    @Test
+    @DisplayName("Test that the remainingCapacity method accounts for the elements")
+    default void testRemainingCapacity() {
+        List<E> elements = elementProvider().createUniqueInstances(Math.min(DEFAULT_SIZE, capacity()));
+        assertEquals(capacity(), provider().emptyInstance().remainingCapacity());
+        assertEquals(capacity() - elements.size(), provider().createInstance(elements).remainingCapacity());
+    }
+
+    /// Tests that the [drainTo][BlockingQueue#drainTo(Collection)] method moves every element into the collection.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#drainTo(Collection)
+    @Test
+    @DisplayName("Test that the drainTo method transfers every element")
+    default void testDrainTo() {
+        List<E> elements = elementProvider().createUniqueInstances(Math.min(DEFAULT_SIZE, capacity()));
+        C queue = provider().createInstance(elements);
+        List<E> drained = new ArrayList<>();
+        if (supportsMethod(QueueMethods.DrainTo)) {
+            assertEquals(elements.size(), queue.drainTo(drained));
+            assertTrue(queue.isEmpty());
+            assertEquals(new HashSet<>(elements), new HashSet<>(drained));
+            assertEquals(elements.size(), drained.size());
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> queue.drainTo(drained));
+        }
+    }
+
+    /// Tests that the [drainTo][BlockingQueue#drainTo(Collection, int)] method transfers no more than the maximum
+    /// number of elements.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#drainTo(Collection, int)
+    @Test
+    @DisplayName("Test that the drainTo method transfers at most maxElements elements")
+    default void testDrainToWithMaxElements() {
+        List<E> elements = elementProvider().createUniqueInstances(Math.min(DEFAULT_SIZE, capacity()));
+        C queue = provider().createInstance(elements);
+        List<E> drained = new ArrayList<>();
+        int maxElements = elements.size() / 2;
+        if (supportsMethod(QueueMethods.DrainTo)) {
+            assertEquals(maxElements, queue.drainTo(drained, maxElements));
+            assertEquals(maxElements, drained.size());
+            assertEquals(elements.size() - maxElements, queue.size());
+            for (E e : drained) {
+                assertFalse(queue.contains(e));
+            }
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> queue.drainTo(drained, maxElements));
+        }
+    }
+
+    /// Tests that the [drainTo][BlockingQueue#drainTo(Collection)] method throws an [IllegalArgumentException] when
+    /// the collection is the queue itself.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#drainTo(Collection)
+    @Test
+    @DisplayName("Test that the drainTo method rejects the queue itself")
+    default void testDrainToSelf() {
+        C queue = provider().createInstance(elementProvider().createUniqueInstances(Math.min(DEFAULT_SIZE,
+                capacity())));
+        if (supportsMethod(QueueMethods.DrainTo)) {
+            assertThrows(IllegalArgumentException.class, () -> queue.drainTo(queue));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> queue.drainTo(queue));
+        }
+    }
+
+    /// Tests that the [put][BlockingQueue#put(Object)], [offer][BlockingQueue#offer(Object)] and
+    /// [offer][BlockingQueue#offer(Object, long, TimeUnit)] methods throw a [NullPointerException] for a `null`
+    /// element, which a blocking queue does not permit.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see BlockingQueue#put(Object)
+    @Test
+    @DisplayName("Test that a null element is rejected")
+    default void testNullElementIsRejected() {
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Put)) {
+            assertThrows(NullPointerException.class, () -> queue.put(null));
+            assertThrows(NullPointerException.class,
+                    () -> queue.offer(null, BLOCKING_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+        if (supportsMethod(QueueMethods.Offer)) {
+            assertThrows(NullPointerException.class, () -> queue.offer(null));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    // Starts a daemon thread that performs the action after a delay. An exception thrown by the action is ignored,
+    // since the test fails when it does not see the effect of the action.
+    private static Thread startInBackground(final long delayMillis, final Callable<?> action) {
+        return Thread.ofPlatform().daemon(true).start(() -> {
+            try {
+                Thread.sleep(delayMillis);
+                action.call();
+            } catch (Exception e) {
+                // The test checks the effect of the action.
+            }
+        });
+    }
+}
@@ -0,0 +1,177 @@
+package org.soliscode.test.contract.queue;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.LatencyHistogram;
+import org.soliscode.test.perf.ProducerConsumerHarness;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/// Tests that a [BlockingQueue] hands elements from producer threads to consumer threads promptly, and that the
+/// [drainTo][BlockingQueue#drainTo(Collection)] method transfers the elements in a batch.
+///
+/// The hand-off tests pass [#HANDOFF_MESSAGES] elements through the queue with a [ProducerConsumerHarness], once on
+/// platform threads and once on virtual threads, and record the time from each [put][BlockingQueue#put(Object)] to
+/// the [poll][BlockingQueue#poll(long, java.util.concurrent.TimeUnit)] that receives it in a [LatencyHistogram]. The
+/// 50th, 99th and 99.9th percentiles are published through the [TestReporter], so they appear in the test report; only
+/// the median is compared with [#handoffLatencyLimit()], since the tail of the distribution depends upon the load on
+/// the machine. Every element must be received exactly once.
+///
+/// The batch test counts the times that the queue acquires its lock to [drain][BlockingQueue#drainTo(Collection)]
+/// queues of increasing size, which must not grow with the number of elements: a queue that acquires its lock once for
+/// the batch passes, but a queue that removes the elements one at a time with [poll][BlockingQueue#poll()] does not.
+/// The lock acquisitions are counted, rather than the time to drain the queue compared with the time to poll each
+/// element, since an uncontended lock is too cheap for the difference to be timed reliably. A queue cannot be made to
+/// count the acquisitions of its lock from the outside, so this check is off unless the test class implements
+/// [#lockAcquisitions(BlockingQueue)]; until then the test is reported as skipped rather than passed.
+///
+/// This contract is not included in [BlockingQueueContract], since it measures elapsed times. Add it to the test
+/// class of a blocking queue to enable it:
+/// ```java
+/// public class MyBlockingQueueTest implements BlockingQueueContract<Integer, MyBlockingQueue<Integer>>,
+///         HandoffLatencyContract<Integer, MyBlockingQueue<Integer>> {
+///
+///     public int handoffProducers() {
+///         return 8;
+///     }
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The blocking queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see ProducerConsumerHarness
+public interface HandoffLatencyContract<E, C extends BlockingQueue<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// The number of elements ({@value}) passed through the queue by each hand-off test.
+    int HANDOFF_MESSAGES = 10_000;
+
+    /// Returns the number of producer threads used by the hand-off tests, which is two by default.
+    /// @return the number of producers.
+    default int handoffProducers() {
+        return 2;
+    }
+
+    /// Returns the number of consumer threads used by the hand-off tests, which is two by default.
+    /// @return the number of consumers.
+    default int handoffConsumers() {
+        return 2;
+    }
+
+    /// Returns the largest median latency allowed for a hand-off, which is ten milliseconds by default. The default
+    /// is far above the latency of the blocking queues in the JDK, which is measured in microseconds, so that the
+    /// test does not fail on a loaded machine; it fails for a queue whose consumers sleep or spin instead of being
+    /// woken by the producer.
+    /// @return the latency limit.
+    default @NotNull Duration handoffLatencyLimit() {
+        return Duration.ofMillis(10);
+    }
+
+    /// Returns the number of times that a queue has acquired its lock since it was created. The default returns `-1`,
+    /// which means that the acquisitions are not counted and reports the batch test as skipped; a test class for a queue that can
+    /// count the acquisitions of its lock should override this method.
+    /// @param queue the queue.
+    /// @return the number of lock acquisitions, or `-1` if they are not counted.
+    default long lockAcquisitions(final @NotNull C queue) {
+        return -1L;
+    }
+
+    /// Tests that elements are handed from producers to consumers running on platform threads promptly.
+    /// @param reporter the reporter that the latency percentiles are published to.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test the hand-off latency on platform threads")
+    default void testHandoffLatencyOnPlatformThreads(final TestReporter reporter) throws InterruptedException {
+        assertHandoffLatency(ProducerConsumerHarness.Threads.PLATFORM, reporter);
+    }
+
+    /// Tests that elements are handed from producers to consumers running on virtual threads promptly.
+    /// @param reporter the reporter that the latency percentiles are published to.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test the hand-off latency on virtual threads")
+    default void testHandoffLatencyOnVirtualThreads(final TestReporter reporter) throws InterruptedException {
+        assertHandoffLatency(ProducerConsumerHarness.Threads.VIRTUAL, reporter);
+    }
+
+    /// Tests that the [drainTo][BlockingQueue#drainTo(Collection)] method transfers the elements in a batch, so that
+    /// the number of times it acquires the lock of the queue does not depend upon the number of elements. The test is
+    /// skipped unless [#lockAcquisitions(BlockingQueue)] is implemented.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the drainTo method transfers the elements in a batch")
+    default void testDrainToTransfersInBatch() {
+        assumeTrue(lockAcquisitions(provider().emptyInstance()) >= 0,
+                "the lock acquisitions of the queue are not counted; implement lockAcquisitions to enable this test");
+        final int maxSize = COUNT_SIZES[COUNT_SIZES.length - 1];
+        if (supportsMethod(QueueMethods.DrainTo)
+                && elementProvider().uniqueSizeLimit() >= maxSize
+                && provider().emptyInstance().remainingCapacity() >= maxSize) {
+            countEstimator().assertCountAtMost(Complexity.CONSTANT, size -> {
+                final C queue = provider().createInstance(elementProvider().createUniqueInstances(size));
+                final List<E> drained = new ArrayList<>(size);
+                final long before = lockAcquisitions(queue);
+                queue.drainTo(drained);
+                final long acquisitions = lockAcquisitions(queue) - before;
+                assertEquals(size, drained.size());
+                return acquisitions;
+            });
+        }
+    }
+
+    private void assertHandoffLatency(final ProducerConsumerHarness.Threads threads, final TestReporter reporter)
+            throws InterruptedException {
+        if (supportsMethod(QueueMethods.Put) && supportsMethod(QueueMethods.Take)
+                && elementProvider().uniqueSizeLimit() >= HANDOFF_MESSAGES) {
+            final List<E> messages = elementProvider().createUniqueInstances(HANDOFF_MESSAGES);
+            final ProducerConsumerHarness.Result result = ProducerConsumerHarness.builder()
+                    .producers(handoffProducers())
+                    .consumers(handoffConsumers())
+                    .threads(threads)
+                    .build()
+                    .run(provider().emptyInstance(), messages);
+
+            final LatencyHistogram latencies = result.latencies();
+            reporter.publishEntry(Map.of(
+                    "threads", threads.name().toLowerCase(),
+                    "p50", latencies.valueAtPercentile(50.0) + "ns",
+                    "p99", latencies.valueAtPercentile(99.0) + "ns",
+                    "p999", latencies.valueAtPercentile(99.9) + "ns",
+                    "max", latencies.max() + "ns"));
+
+            assertEquals(HANDOFF_MESSAGES, result.sent(), "not every message was put into the queue");
+            assertEquals(HANDOFF_MESSAGES, result.received(), "not every message was received");
+            assertEquals(0, result.duplicates(), "messages were received more than once");
+
+            final long median = latencies.valueAtPercentile(50.0);
+            if (median > handoffLatencyLimit().toNanos()) {
+                assertionFailure()
+                        .message("the median hand-off latency on " + threads.name().toLowerCase() + " threads is "
+                                + median + "ns, the limit is " + handoffLatencyLimit().toNanos() + "ns ("
+                                + latencies + ")")
+                        .buildAndThrow();
+            }
+        }
+    }
+}
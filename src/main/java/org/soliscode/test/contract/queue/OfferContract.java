@@ -0,0 +1,47 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [offer][Queue#offer(Object)] method of the [Queue] interface. This contract class can be used
+/// individually by a test class, but it is normally used through the [QueueContract] class. If the class being tested
+/// does not support the `offer` method, it can be omitted from the tests using the `doesNotSupportMethod()` method:
+/// ```java
+/// public class MyQueueTest extends QueueContract<Integer, MyQueue<Integer>> {
+///     public MyQueueTest() {
+///         doesNotSupportMethod(QueueMethods.Offer);
+///     }
+/// }
+/// ```
+/// @param <E> The element type.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface OfferContract<E, C extends Queue<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [offer][Queue#offer(Object)] method inserts each element into the queue.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#offer(Object)
+    @Test
+    @DisplayName("Test that the offer method inserts the element")
+    default void testOffer() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Offer)) {
+            for (int i = 0; i < elements.size(); i++) {
+                assertTrue(queue.offer(elements.get(i)));
+                assertEquals(i + 1, queue.size());
+                assertTrue(queue.contains(elements.get(i)));
+            }
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> queue.offer(elements.getFirst()));
+        }
+    }
+}
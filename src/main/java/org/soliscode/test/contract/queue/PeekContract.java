@@ -0,0 +1,57 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [peek][Queue#peek()] and [element][Queue#element()] methods of the [Queue] interface. This contract
+/// class is normally used through the [QueueContract] class.
+/// @param <E> The element type.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface PeekContract<E, C extends Queue<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [peek][Queue#peek()] and [element][Queue#element()] methods return the same element of the
+    /// queue, without removing it.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#peek()
+    @Test
+    @DisplayName("Test that the peek method returns the head of the queue")
+    default void testPeek() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C queue = provider().createInstance(elements);
+        E head = queue.peek();
+        assertTrue(elements.contains(head));
+        assertEquals(head, queue.element());
+        assertEquals(head, queue.peek());
+        assertEquals(elements.size(), queue.size());
+    }
+
+    /// Tests that the [peek][Queue#peek()] method returns `null` for an empty queue.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#peek()
+    @Test
+    @DisplayName("Test that the peek method returns null for an empty queue")
+    default void testPeekOnEmptyQueue() {
+        C queue = provider().emptyInstance();
+        assertNull(assertDoesNotThrow(queue::peek));
+    }
+
+    /// Tests that the [element][Queue#element()] method throws a [NoSuchElementException] for an empty queue.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#element()
+    @Test
+    @DisplayName("Test that the element method throws for an empty queue")
+    default void testElementOnEmptyQueue() {
+        C queue = provider().emptyInstance();
+        assertThrows(NoSuchElementException.class, queue::element);
+    }
+}
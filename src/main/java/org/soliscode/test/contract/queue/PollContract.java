@@ -0,0 +1,81 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.soliscode.test.assertions.Assertions.assertThrowsAny;
+
+/// Tests for the [poll][Queue#poll()] and [remove][Queue#remove()] methods of the [Queue] interface. The tests do
+/// not assume an ordering, so they can be used for a priority queue; they check that each method removes the element
+/// at the [head][Queue#peek()] of the queue. This contract class is normally used through the [QueueContract] class.
+/// @param <E> The element type.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface PollContract<E, C extends Queue<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that the [poll][Queue#poll()] method removes and returns the head of the queue, until the queue is
+    /// empty.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#poll()
+    @Test
+    @DisplayName("Test that the poll method removes the head of the queue")
+    default void testPoll() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C queue = provider().createInstance(elements);
+        if (supportsMethod(QueueMethods.Poll)) {
+            Set<E> polled = new HashSet<>();
+            for (int i = elements.size(); i > 0; i--) {
+                E head = queue.peek();
+                assertEquals(head, queue.poll());
+                assertEquals(i - 1, queue.size());
+                polled.add(head);
+            }
+            assertTrue(queue.isEmpty());
+            assertEquals(new HashSet<>(elements), polled);
+        } else {
+            assertThrows(UnsupportedOperationException.class, queue::poll);
+        }
+    }
+
+    /// Tests that the [poll][Queue#poll()] method returns `null` for an empty queue.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#poll()
+    @Test
+    @DisplayName("Test that the poll method returns null for an empty queue")
+    default void testPollOnEmptyQueue() {
+        C queue = provider().emptyInstance();
+        if (supportsMethod(QueueMethods.Poll)) {
+            assertNull(assertDoesNotThrow(queue::poll));
+        } else {
+            assertThrows(UnsupportedOperationException.class, queue::poll);
+        }
+    }
+
+    /// Tests that the [remove][Queue#remove()] method removes and returns the head of the queue, and that it throws a
+    /// [NoSuchElementException] when the queue is empty.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see Queue#remove()
+    @Test
+    @DisplayName("Test that the remove method removes the head of the queue")
+    default void testRemoveHead() {
+        List<E> elements = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        C queue = provider().createInstance(elements);
+        if (supportsMethod(QueueMethods.Poll)) {
+            for (int i = elements.size(); i > 0; i--) {
+                E head = queue.peek();
+                assertEquals(head, queue.remove());
+                assertEquals(i - 1, queue.size());
+            }
+            assertThrows(NoSuchElementException.class, queue::remove);
+        } else {
+            assertThrowsAny(List.of(UnsupportedOperationException.class, NoSuchElementException.class),
+                    queue::remove);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.soliscode.test.contract.queue;
+
+import org.soliscode.test.contract.collection.CollectionContract;
+
+import java.util.Queue;
+
+/// Test suite for classes that implement the [Queue] interface. The tests do not assume that the queue is FIFO, so
+/// they can be used for a priority queue; the [org.soliscode.test.contract.deque.DequeContract] tests the ordering of
+/// a deque. The methods that a queue adds to [java.util.Collection] are identified by [QueueMethods]:
+/// ```java
+/// public class MyQueueTest extends AbstractTest
+///         implements QueueContract<Integer, MyQueue<Integer>>, WithIntegerElement {
+///
+///     public CollectionProvider<Integer, MyQueue<Integer>> provider() {
+///         return CollectionProviders.from(MyQueue::new, MyQueue::new, MyQueue::new, elementProvider());
+///     }
+/// }
+/// ```
+/// Since [CollectionContract] tests that equal collections are equal, a queue that uses identity equality, such as
+/// [java.util.ArrayDeque] or [java.util.PriorityQueue], has to be narrowed to a collection with value equality.
+///
+/// @param <E> The element type being tested.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @see Queue
+/// @since 1.0
+public interface QueueContract<E, C extends Queue<E>>
+        extends CollectionContract<E, C>,
+        OfferContract<E, C>,
+        PollContract<E, C>,
+        PeekContract<E, C> {
+
+    /// This method can be called when testing queue classes that do not permit modification.
+    @Override
+    default void doesNotSupportModification() {
+        CollectionContract.super.doesNotSupportModification();
+        doesNotSupportMethod(QueueMethods.Offer);
+        doesNotSupportMethod(QueueMethods.Poll);
+    }
+}
@@ -0,0 +1,51 @@
+package org.soliscode.test.contract.queue;
+
+import org.soliscode.test.OptionalMethod;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/// Values used to identify queue and deque class methods for use with the
+/// [QueueContract#supportsMethod(OptionalMethod)] method. The methods that a queue shares with [java.util.Collection]
+/// are identified by [org.soliscode.test.contract.CollectionMethods].
+///
+/// @author evanbergstrom
+/// @since 1.0
+public enum QueueMethods implements OptionalMethod {
+
+    /// The optional method [Queue#offer(Object)].
+    Offer,
+
+    /// The optional method [Deque#offerFirst(Object)].
+    OfferFirst,
+
+    /// The optional method [Deque#offerLast(Object)].
+    OfferLast,
+
+    /// The optional methods [Queue#poll()] and [Queue#remove()].
+    Poll,
+
+    /// The optional method [Deque#pollFirst()].
+    PollFirst,
+
+    /// The optional method [Deque#pollLast()].
+    PollLast,
+
+    /// The optional method [Deque#pop()].
+    Pop,
+
+    /// The optional method [Deque#push(Object)].
+    Push,
+
+    /// The optional methods [BlockingQueue#put(Object)] and [BlockingQueue#offer(Object, long, TimeUnit)].
+    Put,
+
+    /// The optional methods [BlockingQueue#take()] and [BlockingQueue#poll(long, TimeUnit)].
+    Take,
+
+    /// The optional methods [BlockingQueue#drainTo(java.util.Collection)] and
+    /// [BlockingQueue#drainTo(java.util.Collection, int)].
+    DrainTo
+}
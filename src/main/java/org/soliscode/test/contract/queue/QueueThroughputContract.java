@@ -0,0 +1,83 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.List;
+import java.util.Queue;
+
+/// Tests that the [offer][Queue#offer(Object)] and [poll][Queue#poll()] methods take amortized constant time, so
+/// that the throughput of a queue does not depend upon how many elements it holds. Each measurement times
+/// [#QUEUE_OPERATIONS] calls to a method on queues of increasing size; since the calls to `offer` grow the queue, the
+/// time spent growing its storage is included, and must be amortized over the insertions.
+///
+/// This contract is not included in [QueueContract], since it measures elapsed times. Add it to the test class of a
+/// queue to enable it:
+/// ```java
+/// public class MyQueueTest implements QueueContract<Integer, MyQueue<Integer>>,
+///         QueueThroughputContract<Integer, MyQueue<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see SteadyStateFootprintContract
+public interface QueueThroughputContract<E, C extends Queue<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// The number of operations ({@value}) timed for each size.
+    int QUEUE_OPERATIONS = 1_000;
+
+    /// Tests that the [offer][Queue#offer(Object)] method takes amortized constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the offer method takes amortized constant time")
+    default void testOfferIsConstantTime() {
+        if (supportsMethod(QueueMethods.Offer) && supportsQueueSizes()) {
+            assertConstantTime("offer", size -> {
+                final List<E> values = elementProvider().createUniqueInstances(size + QUEUE_OPERATIONS);
+                final C queue = provider().createInstance(values.subList(0, size));
+                final List<E> offered = values.subList(size, size + QUEUE_OPERATIONS);
+                return () -> {
+                    for (E e : offered) {
+                        queue.offer(e);
+                    }
+                };
+            });
+        }
+    }
+
+    /// Tests that the [poll][Queue#poll()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the poll method takes constant time")
+    default void testPollIsConstantTime() {
+        if (supportsMethod(QueueMethods.Poll) && supportsQueueSizes()) {
+            assertConstantTime("poll", size -> {
+                final C queue = provider().createInstance(
+                        elementProvider().createUniqueInstances(size + QUEUE_OPERATIONS));
+                return () -> {
+                    int hash = 0;
+                    for (int i = 0; i < QUEUE_OPERATIONS; i++) {
+                        hash += Blackhole.hash(queue.poll());
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+
+    private boolean supportsQueueSizes() {
+        final int[] sizes = complexityEstimator().sizes();
+        return elementProvider().uniqueSizeLimit() >= sizes[sizes.length - 1] + QUEUE_OPERATIONS;
+    }
+}
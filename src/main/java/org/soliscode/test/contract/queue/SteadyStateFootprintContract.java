@@ -0,0 +1,87 @@
+package org.soliscode.test.contract.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Allocations;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.ComplexityEstimator;
+
+import java.util.List;
+import java.util.Queue;
+
+/// Tests that the memory footprint of a queue stays bounded when it is used as a buffer with a bounded working set:
+/// elements are [offered][Queue#offer(Object)] and [polled][Queue#poll()] in turn, so the number of elements in the
+/// queue never exceeds [#WORKING_SET_SIZE], for up to [#MAX_FOOTPRINT_OPERATIONS] operations. A ring buffer reuses the
+/// slots freed by `poll`, so once its storage has grown to hold the working set it allocates no more memory, however
+/// many operations are performed. A buffer that does not wrap around has to grow its storage to make room at the
+/// tail, so its footprint grows without bound even though the working set does not.
+///
+/// The footprint is measured by the memory allocated during the operations, which must not depend upon the number of
+/// operations. The test is skipped if the JVM cannot measure allocations.
+///
+/// This contract is not included in [QueueContract], since linked queues, such as [java.util.LinkedList] and
+/// [java.util.concurrent.ConcurrentLinkedQueue], allocate a node for each element they hold and so fail it, although
+/// the garbage collector reclaims the nodes. Add it to the test class of an array-based queue to enable it:
+/// ```java
+/// public class MyRingBufferTest implements DequeContract<Integer, MyRingBuffer<Integer>>,
+///         SteadyStateFootprintContract<Integer, MyRingBuffer<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The queue type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see QueueThroughputContract
+public interface SteadyStateFootprintContract<E, C extends Queue<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// The number of elements ({@value}) in the queue while the operations are performed.
+    int WORKING_SET_SIZE = 1_024;
+
+    /// The largest number of operations ({@value}) that are performed.
+    int MAX_FOOTPRINT_OPERATIONS = 10_000_000;
+
+    /// The numbers of operations measured; each operation is a call to `offer` followed by a call to `poll`.
+    int[] FOOTPRINT_OPERATIONS = {312_500, 625_000, 1_250_000, 2_500_000, 5_000_000, MAX_FOOTPRINT_OPERATIONS};
+
+    /// Tests that offering and polling elements with a bounded working set allocates a constant amount of memory,
+    /// regardless of the number of operations.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that offer and poll with a bounded working set have a bounded footprint")
+    default void testSteadyStateFootprintIsBounded() {
+        if (supportsMethod(QueueMethods.Offer) && supportsMethod(QueueMethods.Poll) && Allocations.isSupported()
+                && elementProvider().uniqueSizeLimit() >= WORKING_SET_SIZE) {
+            final List<E> values = elementProvider().createUniqueInstances(WORKING_SET_SIZE);
+            footprintEstimator().assertCountAtMost(Complexity.CONSTANT, operations -> measureAllocation(() -> {
+                // A first cycle, which is not measured, grows the storage to hold the working set.
+                final C queue = provider().createInstance(values);
+                cycle(queue, values, WORKING_SET_SIZE);
+                return () -> cycle(queue, values, operations);
+            }));
+        }
+    }
+
+    // Offers and polls the values in turn, so that the number of elements in the queue does not change.
+    private static <E> void cycle(final Queue<E> queue, final List<E> values, final int operations) {
+        int hash = 0;
+        for (int i = 0; i < operations; i++) {
+            queue.offer(values.get(i & (WORKING_SET_SIZE - 1)));
+            hash += Blackhole.hash(queue.poll());
+        }
+        Blackhole.consume(hash);
+    }
+
+    /// Returns the estimator used to measure the footprint. The sizes are the numbers of operations.
+    /// @return the estimator.
+    private ComplexityEstimator footprintEstimator() {
+        return ComplexityEstimator.builder().sizes(FOOTPRINT_OPERATIONS).build();
+    }
+}
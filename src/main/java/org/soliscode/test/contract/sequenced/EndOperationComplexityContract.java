@@ -0,0 +1,204 @@
+package org.soliscode.test.contract.sequenced;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.SequencedCollection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests that the operations on the ends of a [SequencedCollection] take constant, or amortized constant, time, and
+/// that the [reversed][SequencedCollection#reversed()] method returns a view that can be created and iterated without
+/// copying the elements. These are the costs that callers expect from a deque-like implementation such as
+/// [java.util.ArrayDeque] or [java.util.LinkedList].
+///
+/// This contract is not included in [SequencedCollectionContract], since many sequenced collections, such as
+/// [java.util.ArrayList], take linear time to add or remove the first element. Add it to the test class of a
+/// deque-like collection to enable it:
+/// ```java
+/// public class MyDequeTest implements SequencedCollectionContract<Integer, MyDeque<Integer>>,
+///         EndOperationComplexityContract<Integer, MyDeque<Integer>> {
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The collection type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see SequencedCollection
+public interface EndOperationComplexityContract<E, C extends SequencedCollection<E>>
+        extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// The number of operations ({@value}) timed for each size.
+    int END_OPERATIONS = 1_000;
+
+    /// Tests that the [addFirst][SequencedCollection#addFirst(Object)] method takes amortized constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the addFirst method takes constant time")
+    default void testAddFirstIsConstantTime() {
+        if (supportsMethod(CollectionMethods.AddFirst)) {
+            assertConstantTimeToAdd("addFirst", SequencedCollection::addFirst);
+        }
+    }
+
+    /// Tests that the [addLast][SequencedCollection#addLast(Object)] method takes amortized constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the addLast method takes constant time")
+    default void testAddLastIsConstantTime() {
+        if (supportsMethod(CollectionMethods.AddLast)) {
+            assertConstantTimeToAdd("addLast", SequencedCollection::addLast);
+        }
+    }
+
+    /// Tests that the [removeFirst][SequencedCollection#removeFirst()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the removeFirst method takes constant time")
+    default void testRemoveFirstIsConstantTime() {
+        if (supportsMethod(CollectionMethods.RemoveFirst)) {
+            assertConstantTimeToAccess("removeFirst", END_OPERATIONS, SequencedCollection::removeFirst);
+        }
+    }
+
+    /// Tests that the [removeLast][SequencedCollection#removeLast()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the removeLast method takes constant time")
+    default void testRemoveLastIsConstantTime() {
+        if (supportsMethod(CollectionMethods.RemoveLast)) {
+            assertConstantTimeToAccess("removeLast", END_OPERATIONS, SequencedCollection::removeLast);
+        }
+    }
+
+    /// Tests that the [getFirst][SequencedCollection#getFirst()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the getFirst method takes constant time")
+    default void testGetFirstIsConstantTime() {
+        if (supportsMethod(CollectionMethods.GetFirst)) {
+            assertConstantTimeToAccess("getFirst", 0, SequencedCollection::getFirst);
+        }
+    }
+
+    /// Tests that the [getLast][SequencedCollection#getLast()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the getLast method takes constant time")
+    default void testGetLastIsConstantTime() {
+        if (supportsMethod(CollectionMethods.GetLast)) {
+            assertConstantTimeToAccess("getLast", 0, SequencedCollection::getLast);
+        }
+    }
+
+    /// Tests that the [reversed][SequencedCollection#reversed()] method returns a view, so that an element added to
+    /// the collection after the view is created is visible in the view.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the reversed method returns a view of the collection")
+    default void testReversedIsView() {
+        if (supportsMethod(CollectionMethods.Reversed) && supportsMethod(CollectionMethods.AddLast)) {
+            List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+            C collection = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+            SequencedCollection<E> reversed = collection.reversed();
+            collection.addLast(values.getLast());
+            assertEquals(DEFAULT_SIZE + 1, reversed.size());
+            assertEquals(values.getLast(), reversed.iterator().next());
+        }
+    }
+
+    /// Tests that the [reversed][SequencedCollection#reversed()] method allocates a constant amount of memory,
+    /// regardless of the size of the collection. The test is skipped if the JVM cannot measure allocations.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the reversed method does not copy the elements")
+    default void testReversedDoesNotCopy() {
+        if (supportsMethod(CollectionMethods.Reversed) && supportsSizes(0)) {
+            assertConstantAllocation(size -> {
+                final C collection = provider().createInstance(elementProvider().createUniqueInstances(size));
+                return () -> Blackhole.consume(collection.reversed());
+            });
+        }
+    }
+
+    /// Tests that iterating over the view returned by the [reversed][SequencedCollection#reversed()] method allocates
+    /// a constant amount of memory, regardless of the size of the collection. The test is skipped if the JVM cannot
+    /// measure allocations.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that iterating over the reversed view does not copy the elements")
+    default void testReversedIteratorDoesNotCopy() {
+        if (supportsMethod(CollectionMethods.Reversed) && supportsSizes(0)) {
+            assertConstantAllocation(size -> {
+                final SequencedCollection<E> reversed = provider()
+                        .createInstance(elementProvider().createUniqueInstances(size))
+                        .reversed();
+                return () -> {
+                    int hash = 0;
+                    for (Iterator<E> iterator = reversed.iterator(); iterator.hasNext(); ) {
+                        hash += Blackhole.hash(iterator.next());
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+
+    private boolean supportsSizes(final int extra) {
+        final int[] sizes = complexityEstimator().sizes();
+        return elementProvider().uniqueSizeLimit() >= sizes[sizes.length - 1] + extra;
+    }
+
+    // Times adding END_OPERATIONS new elements to a collection of each size.
+    private void assertConstantTimeToAdd(final String operation, final BiConsumer<SequencedCollection<E>, E> adder) {
+        if (supportsSizes(END_OPERATIONS)) {
+            assertConstantTime(operation, size -> {
+                final List<E> values = elementProvider().createUniqueInstances(size + END_OPERATIONS);
+                final C collection = provider().createInstance(values.subList(0, size));
+                final List<E> added = values.subList(size, size + END_OPERATIONS);
+                return () -> {
+                    for (E e : added) {
+                        adder.accept(collection, e);
+                    }
+                };
+            });
+        }
+    }
+
+    // Times END_OPERATIONS calls to an operation on a collection of each size, plus `extra` elements that the
+    // operation may remove.
+    private void assertConstantTimeToAccess(final String operation, final int extra,
+                                            final Function<SequencedCollection<E>, E> accessor) {
+        if (supportsSizes(END_OPERATIONS)) {
+            assertConstantTime(operation, size -> {
+                final C collection = provider().createInstance(elementProvider().createUniqueInstances(size + extra));
+                return () -> {
+                    int hash = 0;
+                    for (int i = 0; i < END_OPERATIONS; i++) {
+                        hash += Blackhole.hash(accessor.apply(collection));
+                    }
+                    Blackhole.consume(hash);
+                };
+            });
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.soliscode.test.contract.set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests that adding an element that a [Set] already contains leaves the set unchanged. The
+/// [add][Set#add(Object)] and [addAll][Set#addAll(Collection)] methods must return `false` and must not make a
+/// structural modification, so an iterator that was created before the call can still be used afterward. Adding an
+/// existing element must also not allocate memory for each call, which catches a set that copies its elements, or
+/// creates a new entry, before it finds that the element is already present.
+///
+/// This contract class is normally used through the [SetContract] class.
+/// @param <E> The element type.
+/// @param <C> The set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Set#add(Object)
+public interface DuplicateAddContract<E, C extends Set<E>> extends CollectionContractSupport<E, C>, PerformanceSupport {
+
+    /// Tests that adding an element that the set already contains returns `false` and does not modify the set.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that adding an existing element does not modify the set")
+    default void testAddExistingElementDoesNotModifySet() {
+        if (supportsMethod(CollectionMethods.Add)) {
+            final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+            final C set = provider().createInstance(values);
+            final List<E> order = new ArrayList<>(set);
+
+            final Iterator<E> iterator = set.iterator();
+            iterator.next();
+            for (E e : values) {
+                assertFalse(set.add(e), () -> "add returned true for an existing element " + e);
+            }
+            assertDoesNotThrow(() -> iterator.forEachRemaining(Blackhole::consume),
+                    "adding an existing element made a structural modification");
+            assertEquals(DEFAULT_SIZE, set.size());
+            assertEquals(order, new ArrayList<>(set), "adding an existing element changed the iteration order");
+        }
+    }
+
+    /// Tests that adding a collection of elements that the set already contains returns `false` and does not modify
+    /// the set.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that adding existing elements with addAll does not modify the set")
+    default void testAddAllExistingElementsDoesNotModifySet() {
+        if (supportsMethod(CollectionMethods.AddAll)) {
+            final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+            final C set = provider().createInstance(values);
+            final List<E> order = new ArrayList<>(set);
+
+            final Iterator<E> iterator = set.iterator();
+            iterator.next();
+            assertFalse(set.addAll(values), "addAll returned true for existing elements");
+            assertDoesNotThrow(() -> iterator.forEachRemaining(Blackhole::consume),
+                    "adding existing elements made a structural modification");
+            assertEquals(order, new ArrayList<>(set), "adding existing elements changed the iteration order");
+        }
+    }
+
+    /// Tests that adding elements that the set already contains does not allocate memory for each element, by
+    /// checking that the memory allocated while adding every element of the set again does not grow with the size
+    /// of the set.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that adding an existing element does not allocate memory")
+    default void testAddExistingElementDoesNotAllocate() {
+        final int[] sizes = complexityEstimator().sizes();
+        if (supportsMethod(CollectionMethods.Add) && elementProvider().uniqueSizeLimit() >= sizes[sizes.length - 1]) {
+            assertConstantAllocation(size -> {
+                final List<E> values = new ArrayList<>(elementProvider().createUniqueInstances(size));
+                final C set = provider().createInstance(values);
+                return () -> {
+                    boolean added = false;
+                    for (int i = 0; i < values.size(); i++) {
+                        added |= set.add(values.get(i));
+                    }
+                    Blackhole.consume(added);
+                };
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.soliscode.test.contract.set;
+
+import org.soliscode.test.contract.DoesNotPermitDuplicates;
+import org.soliscode.test.contract.collection.CollectionContract;
+
+import java.util.Set;
+
+/// Test suite for classes that implement the [Set] interface. In addition to the [CollectionContract] tests, it
+/// tests the equality and hash code of a set against the other set implementations, that adding an existing element
+/// does not modify the set or allocate memory, and that creating a set from a collection with many duplicates keeps
+/// one copy of each element. A set does not permit duplicates, so this contract includes [DoesNotPermitDuplicates]:
+/// ```java
+/// public class HashSetTest extends AbstractTest
+///         implements SetContract<Integer, HashSet<Integer>>, WithIntegerElement {
+///
+///     public CollectionProvider<Integer, HashSet<Integer>> provider() {
+///         return CollectionProviders.provideHashSet(elementProvider());
+///     }
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The set type being tested.
+/// @author evanbergstrom
+/// @see Set
+/// @since 1.0
+public interface SetContract<E, C extends Set<E>>
+        extends CollectionContract<E, C>,
+        DoesNotPermitDuplicates,
+        SetEqualityContract<E, C>,
+        DuplicateAddContract<E, C>,
+        SetCopyContract<E, C> {
+}
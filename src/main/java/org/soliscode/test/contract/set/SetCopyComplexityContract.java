@@ -0,0 +1,78 @@
+package org.soliscode.test.contract.set;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests that creating a [Set] from a collection that contains duplicates, in the manner of [Set#copyOf(Collection)]
+/// or a copy constructor, takes no longer than [#copyComplexity()]. The set is created with the
+/// [createInstance][org.soliscode.test.provider.CollectionProvider#createInstance(Collection)] method of the
+/// provider, from a list in which each element appears [SetCopyContract#COPY_DUPLICATES] times. A set that removes
+/// the duplicates by searching the elements it has already copied takes quadratic time, and fails the test.
+///
+/// The cost of the copy is measured by counting the calls to the `equals`, `hashCode` and `compareTo` methods of the
+/// elements, using [CountingElement], so the test is deterministic. A set that sorts its elements makes `O(n log n)`
+/// comparisons to copy an unsorted collection, so the test class for such a set should override [#copyComplexity()].
+///
+/// This contract requires the set to contain instances of [CountingElement], so the test class must use an element
+/// provider such as [org.soliscode.test.contract.support.WithCountingElement]. It is not included in [SetContract]:
+/// ```java
+/// public class TreeSetCopyTest extends AbstractTest
+///         implements SetCopyComplexityContract<TreeSet<CountingElement>>, WithCountingElement {
+///
+///     public CollectionProvider<CountingElement, TreeSet<CountingElement>> provider() {
+///         return CollectionProviders.provideTreeSet(elementProvider());
+///     }
+///
+///     public Complexity copyComplexity() {
+///         return Complexity.LINEARITHMIC;
+///     }
+/// }
+/// ```
+///
+/// @param <C> The set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Set#copyOf(Collection)
+/// @see SetCopyContract
+public interface SetCopyComplexityContract<C extends Set<CountingElement>>
+        extends CollectionContractSupport<CountingElement, C>, PerformanceSupport {
+
+    /// Returns the largest complexity allowed for creating a set from a collection, which is linear by default.
+    /// @return the complexity of copying a collection.
+    default @NotNull Complexity copyComplexity() {
+        return Complexity.LINEAR;
+    }
+
+    /// Tests that creating a set from a collection in which each element appears
+    /// [SetCopyContract#COPY_DUPLICATES] times takes no longer than [#copyComplexity()].
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that creating a set from a collection with duplicates has the copy complexity")
+    default void testCopyWithDuplicatesHasCopyComplexity() {
+        countEstimator().assertCountAtMost(copyComplexity(), size -> {
+            final List<CountingElement> distinct =
+                    elementProvider().createUniqueInstances(size / SetCopyContract.COPY_DUPLICATES);
+            final List<CountingElement> values = new ArrayList<>(size);
+            for (int i = 0; i < SetCopyContract.COPY_DUPLICATES; i++) {
+                values.addAll(distinct);
+            }
+            return values.getFirst().counter().count(
+                    () -> assertEquals(distinct.size(), provider().createInstance(values).size()));
+        });
+    }
+}
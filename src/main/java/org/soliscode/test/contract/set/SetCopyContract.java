@@ -0,0 +1,48 @@
+package org.soliscode.test.contract.set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests that creating a [Set] from a collection that contains duplicates, in the manner of [Set#copyOf(Collection)]
+/// or a copy constructor, keeps one copy of each element. The set is created with the provider's
+/// [createInstance][org.soliscode.test.provider.CollectionProvider#createInstance(Collection)] method, from a list
+/// in which each element appears [#COPY_DUPLICATES] times. The cost of the copy is tested by
+/// [SetCopyComplexityContract].
+///
+/// This contract class is normally used through the [SetContract] class.
+/// @param <E> The element type.
+/// @param <C> The set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Set#copyOf(Collection)
+public interface SetCopyContract<E, C extends Set<E>> extends CollectionContractSupport<E, C> {
+
+    /// The number of times ({@value}) that each element appears in the collection that is copied.
+    int COPY_DUPLICATES = 4;
+
+    /// Tests that a set created from a collection with duplicates contains each element once.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that a set created from a collection with duplicates contains each element once")
+    default void testCopyRemovesDuplicates() {
+        final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        final C set = provider().createInstance(withDuplicates(values, DEFAULT_SIZE * COPY_DUPLICATES));
+        assertEquals(DEFAULT_SIZE, set.size());
+        assertEquals(new HashSet<>(values), set);
+    }
+
+    // Returns a list with the given number of elements that repeats the values in order.
+    private static <E> List<E> withDuplicates(final List<E> values, final int size) {
+        final List<E> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values.get(i % values.size()));
+        }
+        return list;
+    }
+}
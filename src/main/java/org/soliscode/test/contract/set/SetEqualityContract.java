@@ -0,0 +1,111 @@
+package org.soliscode.test.contract.set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CollectionContractSupport;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests that the [equals][Set#equals(Object)] and [hashCode][Set#hashCode()] methods of a [Set] follow the
+/// definitions in the `Set` interface, so that sets are interchangeable across implementations: two sets are equal
+/// if they contain the same elements, regardless of their type or iteration order, and the hash code of a set is the
+/// sum of the hash codes of its elements. The set being tested is compared with a [HashSet], a [LinkedHashSet] with
+/// the elements in reverse order and the unmodifiable set returned by [Set#copyOf(Collection)]. This contract class
+/// is normally used through the [SetContract] class.
+/// @param <E> The element type.
+/// @param <C> The set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Set#equals(Object)
+/// @see Set#hashCode()
+public interface SetEqualityContract<E, C extends Set<E>> extends CollectionContractSupport<E, C> {
+
+    /// Tests that a set is equal to the sets of other types that contain the same elements, and that they are equal
+    /// to it.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that a set equals other sets with the same elements")
+    default void testEqualsSetWithSameElements() {
+        final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        final C set = provider().createInstance(values);
+        for (Set<E> other : otherSets(values)) {
+            assertEquals(other, set, () -> "set is not equal to a " + other.getClass().getSimpleName());
+            assertEquals(set, other, () -> "a " + other.getClass().getSimpleName() + " is not equal to the set");
+        }
+    }
+
+    /// Tests that a set is not equal to a set that has one more or one less element.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that a set does not equal sets with different elements")
+    default void testNotEqualsSetWithDifferentElements() {
+        final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE + 1);
+        final C set = provider().createInstance(values.subList(0, DEFAULT_SIZE));
+
+        final Set<E> superset = new HashSet<>(values);
+        assertNotEquals(superset, set);
+        assertNotEquals(set, superset);
+
+        final Set<E> subset = new HashSet<>(values.subList(1, DEFAULT_SIZE));
+        assertNotEquals(subset, set);
+        assertNotEquals(set, subset);
+
+        final Set<E> different = new HashSet<>(values.subList(1, DEFAULT_SIZE + 1));
+        assertNotEquals(different, set);
+        assertNotEquals(set, different);
+    }
+
+    /// Tests that a set is not equal to a list that contains the same elements, since a set is only equal to another
+    /// set.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that a set does not equal a list with the same elements")
+    default void testNotEqualsListWithSameElements() {
+        final C set = provider().createInstanceWithUniqueElements();
+        final List<E> list = new ArrayList<>(set);
+        assertNotEquals(list, set);
+        assertNotEquals(set, list);
+    }
+
+    /// Tests that the hash code of a set is the sum of the hash codes of its elements, which is the same as the hash
+    /// code of any other set with the same elements.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the hash code of a set is the sum of the hash codes of its elements")
+    default void testHashCodeIsSumOfElementHashCodes() {
+        final List<E> values = elementProvider().createUniqueInstances(DEFAULT_SIZE);
+        final C set = provider().createInstance(values);
+        int expected = 0;
+        for (E e : values) {
+            expected += Objects.hashCode(e);
+        }
+        assertEquals(expected, set.hashCode());
+        for (Set<E> other : otherSets(values)) {
+            assertEquals(other.hashCode(), set.hashCode(),
+                    () -> "hash code differs from a " + other.getClass().getSimpleName());
+        }
+    }
+
+    /// Tests that an empty set is equal to the other empty sets and has a hash code of zero.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that an empty set equals other empty sets")
+    default void testEmptySetEquality() {
+        final C set = provider().emptyInstance();
+        assertEquals(Collections.emptySet(), set);
+        assertEquals(set, Collections.emptySet());
+        assertEquals(set, Set.of());
+        assertEquals(0, set.hashCode());
+        assertNotEquals(set, Collections.emptyList());
+    }
+
+    // Returns sets of other types that contain the values.
+    private static <E> List<Set<E>> otherSets(final List<E> values) {
+        final List<E> reversed = new ArrayList<>(values);
+        Collections.reverse(reversed);
+        return List.of(new HashSet<>(values), new LinkedHashSet<>(reversed), Set.copyOf(values));
+    }
+}
@@ -0,0 +1,64 @@
+package org.soliscode.test.contract.sorted;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.SortedSetContractSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [descendingSet][NavigableSet#descendingSet()] method of the [NavigableSet] interface. The tests check
+/// that the view has the elements in the reverse order, that it is backed by the set, and that the descending set of
+/// the descending set has the original order. This contract class is normally used through the
+/// [NavigableSetContract] class.
+/// @param <E> The element type.
+/// @param <C> The navigable set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface DescendingSetContract<E, C extends NavigableSet<E>> extends SortedSetContractSupport<E, C> {
+
+    /// Tests that the [descendingSet][NavigableSet#descendingSet()] method returns the elements in descending order.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#descendingSet()
+    @Test
+    @DisplayName("Test that the descendingSet method reverses the order")
+    default void testDescendingSet() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(sorted);
+        if (supportsMethod(SortedSetMethods.DescendingSet)) {
+            NavigableSet<E> descending = set.descendingSet();
+            assertEquals(sorted.reversed(), new ArrayList<>(descending));
+            assertEquals(sorted.getLast(), descending.first());
+            assertEquals(sorted.getFirst(), descending.last());
+            assertEquals(sorted.get(3), descending.higher(sorted.get(4)));
+            assertEquals(sorted, new ArrayList<>(descending.descendingSet()));
+        } else {
+            assertThrows(UnsupportedOperationException.class, set::descendingSet);
+        }
+    }
+
+    /// Tests that the [descendingSet][NavigableSet#descendingSet()] view is backed by the set.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#descendingSet()
+    @Test
+    @DisplayName("Test that the descending set is backed by the set")
+    default void testDescendingSetIsBackedBySet() {
+        if (supportsMethod(SortedSetMethods.DescendingSet) && supportsMethod(CollectionMethods.Remove)) {
+            List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+            C set = provider().createInstance(sorted);
+            NavigableSet<E> descending = set.descendingSet();
+
+            assertTrue(set.remove(sorted.getLast()));
+            assertEquals(sorted.get(sorted.size() - 2), descending.first());
+
+            assertTrue(descending.remove(sorted.getFirst()));
+            assertFalse(set.contains(sorted.getFirst()));
+            assertEquals(DEFAULT_SIZE - 2, descending.size());
+        }
+    }
+}
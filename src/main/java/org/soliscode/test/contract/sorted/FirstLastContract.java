@@ -0,0 +1,63 @@
+package org.soliscode.test.contract.sorted;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.SortedSetContractSupport;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/// Tests for the [first][SortedSet#first()] and [last][SortedSet#last()] methods of the [SortedSet] interface. The
+/// sets are created from the elements in a shuffled order, so the tests check that the set orders the elements
+/// itself. This contract class is normally used through the [SortedSetContract] class.
+/// @param <E> The element type.
+/// @param <C> The sorted set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface FirstLastContract<E, C extends SortedSet<E>> extends SortedSetContractSupport<E, C> {
+
+    /// Tests that the [first][SortedSet#first()] method returns the lowest element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#first()
+    @Test
+    @DisplayName("Test that the first method returns the lowest element")
+    default void testFirst() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(shuffled(sorted));
+        assertEquals(sorted.getFirst(), set.first());
+    }
+
+    /// Tests that the [last][SortedSet#last()] method returns the highest element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#last()
+    @Test
+    @DisplayName("Test that the last method returns the highest element")
+    default void testLast() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(shuffled(sorted));
+        assertEquals(sorted.getLast(), set.last());
+    }
+
+    /// Tests that the [first][SortedSet#first()] and [last][SortedSet#last()] methods throw a
+    /// [NoSuchElementException] for an empty set.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#first()
+    /// @see SortedSet#last()
+    @Test
+    @DisplayName("Test that the first and last methods throw for an empty set")
+    default void testFirstAndLastOnEmptySet() {
+        C set = provider().emptyInstance();
+        assertThrows(NoSuchElementException.class, set::first);
+        assertThrows(NoSuchElementException.class, set::last);
+    }
+
+    // Returns the elements in a fixed pseudo-random order.
+    private static <E> List<E> shuffled(final List<E> elements) {
+        List<E> shuffled = new ArrayList<>(elements);
+        Collections.shuffle(shuffled, new Random(elements.size()));
+        return shuffled;
+    }
+}
@@ -0,0 +1,28 @@
+package org.soliscode.test.contract.sorted;
+
+import java.util.NavigableSet;
+
+/// Test suite for classes that implement the [NavigableSet] interface. In addition to the [SortedSetContract] tests,
+/// it tests the navigation methods and the [descendingSet][NavigableSet#descendingSet()] view:
+/// ```java
+/// public class TreeSetTest extends AbstractTest
+///         implements NavigableSetContract<Integer, TreeSet<Integer>>, WithIntegerElement, DoesNotPermitNulls,
+///         DoesNotPermitIncompatibleTypes {
+///
+///     public CollectionProvider<Integer, TreeSet<Integer>> provider() {
+///         return CollectionProviders.provideTreeSet(elementProvider());
+///     }
+/// }
+/// ```
+/// The cost of the navigation methods and the range views is tested by [NavigationComplexityContract].
+///
+/// @param <E> The element type being tested.
+/// @param <C> The navigable set type being tested.
+/// @author evanbergstrom
+/// @see NavigableSet
+/// @since 1.0
+public interface NavigableSetContract<E, C extends NavigableSet<E>>
+        extends SortedSetContract<E, C>,
+        NavigationContract<E, C>,
+        DescendingSetContract<E, C> {
+}
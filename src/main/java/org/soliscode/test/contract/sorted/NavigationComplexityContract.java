@@ -0,0 +1,178 @@
+package org.soliscode.test.contract.sorted;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.PerformanceSupport;
+import org.soliscode.test.contract.support.SortedSetContractSupport;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests that the navigation methods and range views of a [NavigableSet] have the cost of a balanced search tree:
+/// - the [floor][NavigableSet#floor(Object)], [ceiling][NavigableSet#ceiling(Object)],
+///   [higher][NavigableSet#higher(Object)] and [lower][NavigableSet#lower(Object)] methods take logarithmic time;
+/// - creating a [subSet][NavigableSet#subSet(Object, Object)], [headSet][NavigableSet#headSet(Object)],
+///   [tailSet][NavigableSet#tailSet(Object)] or [descendingSet][NavigableSet#descendingSet()] view takes constant
+///   time, so the view does not copy the elements; and
+/// - iterating over a range view with [#RANGE_WIDTH] elements takes `O(k + log n)` time, so the view finds the start
+///   of the range and stops at its end rather than filtering the whole set.
+///
+/// The cost of the operations is measured by counting the calls to the `equals`, `hashCode` and `compareTo` methods
+/// of the elements, using [CountingElement], so the tests are deterministic. The sets are created from sorted
+/// elements, as an index over a time series would be.
+///
+/// This contract requires the set to contain instances of [CountingElement], so the test class must use an element
+/// provider such as [org.soliscode.test.contract.support.WithCountingElement]. It is not included in
+/// [NavigableSetContract]:
+/// ```java
+/// public class TreeSetNavigationTest extends AbstractTest
+///         implements NavigationComplexityContract<TreeSet<CountingElement>>, WithCountingElement {
+///
+///     public CollectionProvider<CountingElement, TreeSet<CountingElement>> provider() {
+///         return CollectionProviders.provideTreeSet(elementProvider());
+///     }
+/// }
+/// ```
+///
+/// @param <C> The navigable set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see org.soliscode.test.perf.OperationCounter
+public interface NavigationComplexityContract<C extends NavigableSet<CountingElement>>
+        extends SortedSetContractSupport<CountingElement, C>, PerformanceSupport {
+
+    /// The number of operations ({@value}) counted for each size.
+    int NAVIGATIONS = 64;
+
+    /// The number of elements ({@value}) in each range view that is iterated.
+    int RANGE_WIDTH = 16;
+
+    /// Tests that the [floor][NavigableSet#floor(Object)], [ceiling][NavigableSet#ceiling(Object)],
+    /// [higher][NavigableSet#higher(Object)] and [lower][NavigableSet#lower(Object)] methods take logarithmic time,
+    /// for elements that fall between the elements of the set.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the navigation methods are logarithmic")
+    default void testNavigationIsLogarithmic() {
+        countEstimator().assertCountAtMost(Complexity.LOGARITHMIC, size -> {
+            final List<CountingElement> sorted = createSortedInstances(2 * size);
+            final List<CountingElement> present = new ArrayList<>(size);
+            for (int i = 1; i < sorted.size(); i += 2) {
+                present.add(sorted.get(i));
+            }
+            final C set = provider().createInstance(present);
+            return sorted.getFirst().counter().count(() -> {
+                for (int i = 0; i < NAVIGATIONS; i++) {
+                    final int index = 2 * spread(i, NAVIGATIONS, size);
+                    final CountingElement absent = sorted.get(index);
+                    final CountingElement below = (index > 0) ? sorted.get(index - 1) : null;
+                    assertEquals(sorted.get(index + 1), set.ceiling(absent));
+                    assertEquals(sorted.get(index + 1), set.higher(absent));
+                    assertEquals(below, set.floor(absent));
+                    assertEquals(below, set.lower(absent));
+                }
+            });
+        });
+    }
+
+    /// Tests that creating a [subSet][NavigableSet#subSet(Object, Object)], [headSet][NavigableSet#headSet(Object)],
+    /// [tailSet][NavigableSet#tailSet(Object)] or [descendingSet][NavigableSet#descendingSet()] view takes constant
+    /// time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that creating a range view takes constant time")
+    default void testRangeViewCreationIsConstant() {
+        countEstimator().assertCountAtMost(Complexity.CONSTANT, size -> {
+            final List<CountingElement> sorted = createSortedInstances(size);
+            final C set = provider().createInstance(sorted);
+            final CountingElement from = sorted.get(size / 4);
+            final CountingElement to = sorted.get(3 * size / 4);
+            return sorted.getFirst().counter().count(() -> {
+                for (int i = 0; i < NAVIGATIONS; i++) {
+                    if (supportsMethod(SortedSetMethods.SubSet)) {
+                        Blackhole.consume(set.subSet(from, to));
+                    }
+                    if (supportsMethod(SortedSetMethods.HeadSet)) {
+                        Blackhole.consume(set.headSet(to));
+                    }
+                    if (supportsMethod(SortedSetMethods.TailSet)) {
+                        Blackhole.consume(set.tailSet(from));
+                    }
+                    if (supportsMethod(SortedSetMethods.DescendingSet)) {
+                        Blackhole.consume(set.descendingSet());
+                    }
+                }
+            });
+        });
+    }
+
+    /// Tests that iterating over a [subSet][NavigableSet#subSet(Object, Object)] view with [#RANGE_WIDTH] elements
+    /// takes `O(k + log n)` time, which is logarithmic since the width of the range is fixed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that iterating a narrow subSet takes O(k + log n) time")
+    default void testNarrowSubSetIterationIsLogarithmic() {
+        if (supportsMethod(SortedSetMethods.SubSet)) {
+            countEstimator().assertCountAtMost(Complexity.LOGARITHMIC, size -> {
+                final List<CountingElement> sorted = createSortedInstances(size);
+                final C set = provider().createInstance(sorted);
+                return sorted.getFirst().counter().count(() -> {
+                    for (int i = 0; i < NAVIGATIONS; i++) {
+                        final int from = spread(i, NAVIGATIONS, size - RANGE_WIDTH);
+                        iterate(set.subSet(sorted.get(from), sorted.get(from + RANGE_WIDTH)));
+                    }
+                });
+            });
+        }
+    }
+
+    /// Tests that iterating over a [tailSet][NavigableSet#tailSet(Object)] view and stopping after [#RANGE_WIDTH]
+    /// elements takes `O(k + log n)` time, which is logarithmic since the number of elements is fixed.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that iterating the start of a tailSet takes O(k + log n) time")
+    default void testTailSetIterationIsLogarithmic() {
+        if (supportsMethod(SortedSetMethods.TailSet)) {
+            countEstimator().assertCountAtMost(Complexity.LOGARITHMIC, size -> {
+                final List<CountingElement> sorted = createSortedInstances(size);
+                final C set = provider().createInstance(sorted);
+                return sorted.getFirst().counter().count(() -> {
+                    for (int i = 0; i < NAVIGATIONS; i++) {
+                        final SortedSet<CountingElement> tail = set.tailSet(sorted.get(spread(i, NAVIGATIONS, size - RANGE_WIDTH)));
+                        int remaining = RANGE_WIDTH;
+                        int hash = 0;
+                        for (var iterator = tail.iterator(); remaining > 0; remaining--) {
+                            hash += iterator.next().value();
+                        }
+                        Blackhole.consume(hash);
+                    }
+                });
+            });
+        }
+    }
+
+    // Iterates over the view, which must have RANGE_WIDTH elements.
+    private static void iterate(final SortedSet<CountingElement> view) {
+        int count = 0;
+        int hash = 0;
+        for (CountingElement e : view) {
+            hash += e.value();
+            count++;
+        }
+        Blackhole.consume(hash);
+        assertEquals(RANGE_WIDTH, count);
+    }
+}
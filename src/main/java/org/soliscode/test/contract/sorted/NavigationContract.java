@@ -0,0 +1,94 @@
+package org.soliscode.test.contract.sorted;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.SortedSetContractSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests for the navigation methods of the [NavigableSet] interface: [floor][NavigableSet#floor(Object)],
+/// [ceiling][NavigableSet#ceiling(Object)], [higher][NavigableSet#higher(Object)] and
+/// [lower][NavigableSet#lower(Object)]. The set contains every other element of a sorted list, so each method is
+/// called both with elements that are in the set and with elements that fall between them, or beyond either end of
+/// the set. This contract class is normally used through the [NavigableSetContract] class.
+/// @param <E> The element type.
+/// @param <C> The navigable set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface NavigationContract<E, C extends NavigableSet<E>> extends SortedSetContractSupport<E, C> {
+
+    /// Tests that the [floor][NavigableSet#floor(Object)] method returns the greatest element less than or equal to
+    /// the given element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#floor(Object)
+    @Test
+    @DisplayName("Test that the floor method returns the greatest element at or below")
+    default void testFloor() {
+        List<E> sorted = createSortedInstances(2 * DEFAULT_SIZE + 1);
+        C set = provider().createInstance(oddElements(sorted));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(present(sorted, (i % 2 == 1) ? i : i - 1), set.floor(sorted.get(i)));
+        }
+    }
+
+    /// Tests that the [ceiling][NavigableSet#ceiling(Object)] method returns the least element greater than or equal
+    /// to the given element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#ceiling(Object)
+    @Test
+    @DisplayName("Test that the ceiling method returns the least element at or above")
+    default void testCeiling() {
+        List<E> sorted = createSortedInstances(2 * DEFAULT_SIZE + 1);
+        C set = provider().createInstance(oddElements(sorted));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(present(sorted, (i % 2 == 1) ? i : i + 1), set.ceiling(sorted.get(i)));
+        }
+    }
+
+    /// Tests that the [higher][NavigableSet#higher(Object)] method returns the least element strictly greater than
+    /// the given element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#higher(Object)
+    @Test
+    @DisplayName("Test that the higher method returns the least element above")
+    default void testHigher() {
+        List<E> sorted = createSortedInstances(2 * DEFAULT_SIZE + 1);
+        C set = provider().createInstance(oddElements(sorted));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(present(sorted, (i % 2 == 1) ? i + 2 : i + 1), set.higher(sorted.get(i)));
+        }
+    }
+
+    /// Tests that the [lower][NavigableSet#lower(Object)] method returns the greatest element strictly less than the
+    /// given element.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see NavigableSet#lower(Object)
+    @Test
+    @DisplayName("Test that the lower method returns the greatest element below")
+    default void testLower() {
+        List<E> sorted = createSortedInstances(2 * DEFAULT_SIZE + 1);
+        C set = provider().createInstance(oddElements(sorted));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(present(sorted, (i % 2 == 1) ? i - 2 : i - 1), set.lower(sorted.get(i)));
+        }
+    }
+
+    // Returns the elements at the odd positions, which are the elements in the set.
+    private static <E> List<E> oddElements(final List<E> sorted) {
+        List<E> odd = new ArrayList<>();
+        for (int i = 1; i < sorted.size(); i += 2) {
+            odd.add(sorted.get(i));
+        }
+        return odd;
+    }
+
+    // Returns the element at an odd position, or null if the position is beyond either end of the list.
+    private static <E> E present(final List<E> sorted, final int index) {
+        return (index >= 0 && index < sorted.size()) ? sorted.get(index) : null;
+    }
+}
@@ -0,0 +1,128 @@
+package org.soliscode.test.contract.sorted;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.CollectionMethods;
+import org.soliscode.test.contract.support.SortedSetContractSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the range views of the [SortedSet] interface: [subSet][SortedSet#subSet(Object, Object)],
+/// [headSet][SortedSet#headSet(Object)] and [tailSet][SortedSet#tailSet(Object)]. The tests check the elements in
+/// each view, that a view is backed by the set, so that changes to either are visible in the other, and that a view
+/// rejects elements outside of its range. This contract class is normally used through the [SortedSetContract]
+/// class. If the class being tested does not support a view, it can be omitted from the tests using the
+/// `doesNotSupportMethod()` method:
+/// ```java
+/// public class MySortedSetTest extends SortedSetContract<Integer, MySortedSet<Integer>> {
+///     public MySortedSetTest() {
+///         doesNotSupportMethod(SortedSetMethods.SubSet);
+///     }
+/// }
+/// ```
+/// @param <E> The element type.
+/// @param <C> The sorted set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface RangeViewContract<E, C extends SortedSet<E>> extends SortedSetContractSupport<E, C> {
+
+    /// Tests that the [subSet][SortedSet#subSet(Object, Object)] method returns the elements from the lower bound,
+    /// inclusive, to the upper bound, exclusive.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#subSet(Object, Object)
+    @Test
+    @DisplayName("Test that the subSet method returns the elements in the range")
+    default void testSubSet() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(sorted);
+        if (supportsMethod(SortedSetMethods.SubSet)) {
+            SortedSet<E> view = set.subSet(sorted.get(2), sorted.get(7));
+            assertEquals(sorted.subList(2, 7), new ArrayList<>(view));
+            assertEquals(5, view.size());
+            assertEquals(sorted.get(2), view.first());
+            assertEquals(sorted.get(6), view.last());
+            assertTrue(set.subSet(sorted.get(4), sorted.get(4)).isEmpty());
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> set.subSet(sorted.get(2), sorted.get(7)));
+        }
+    }
+
+    /// Tests that the [headSet][SortedSet#headSet(Object)] method returns the elements below the upper bound.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#headSet(Object)
+    @Test
+    @DisplayName("Test that the headSet method returns the elements below the bound")
+    default void testHeadSet() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(sorted);
+        if (supportsMethod(SortedSetMethods.HeadSet)) {
+            assertEquals(sorted.subList(0, 4), new ArrayList<>(set.headSet(sorted.get(4))));
+            assertTrue(set.headSet(sorted.getFirst()).isEmpty());
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> set.headSet(sorted.get(4)));
+        }
+    }
+
+    /// Tests that the [tailSet][SortedSet#tailSet(Object)] method returns the elements at or above the lower bound.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#tailSet(Object)
+    @Test
+    @DisplayName("Test that the tailSet method returns the elements at or above the bound")
+    default void testTailSet() {
+        List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+        C set = provider().createInstance(sorted);
+        if (supportsMethod(SortedSetMethods.TailSet)) {
+            assertEquals(sorted.subList(4, sorted.size()), new ArrayList<>(set.tailSet(sorted.get(4))));
+            assertEquals(List.of(sorted.getLast()), new ArrayList<>(set.tailSet(sorted.getLast())));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> set.tailSet(sorted.get(4)));
+        }
+    }
+
+    /// Tests that a [subSet][SortedSet#subSet(Object, Object)] view is backed by the set: removing an element from
+    /// the set removes it from the view, and removing an element from the view removes it from the set.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#subSet(Object, Object)
+    @Test
+    @DisplayName("Test that a range view is backed by the set")
+    default void testRangeViewIsBackedBySet() {
+        if (supportsMethod(SortedSetMethods.SubSet) && supportsMethod(CollectionMethods.Remove)) {
+            List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+            C set = provider().createInstance(sorted);
+            SortedSet<E> view = set.subSet(sorted.get(2), sorted.get(7));
+
+            assertTrue(set.remove(sorted.get(3)));
+            assertFalse(view.contains(sorted.get(3)));
+            assertEquals(4, view.size());
+
+            assertTrue(view.remove(sorted.get(5)));
+            assertFalse(set.contains(sorted.get(5)));
+            assertEquals(DEFAULT_SIZE - 2, set.size());
+        }
+    }
+
+    /// Tests that adding an element outside the range of a [subSet][SortedSet#subSet(Object, Object)] view throws an
+    /// [IllegalArgumentException], and that adding an element inside the range adds it to the set.
+    /// @throws AssertionFailedError if the test fails.
+    /// @see SortedSet#subSet(Object, Object)
+    @Test
+    @DisplayName("Test that a range view rejects elements outside the range")
+    default void testRangeViewRejectsElementOutsideRange() {
+        if (supportsMethod(SortedSetMethods.SubSet) && supportsMethod(CollectionMethods.Add)) {
+            List<E> sorted = createSortedInstances(DEFAULT_SIZE);
+            C set = provider().createInstance(sorted.subList(0, 4));
+            SortedSet<E> view = set.subSet(sorted.get(2), sorted.get(7));
+
+            assertThrows(IllegalArgumentException.class, () -> view.add(sorted.get(8)));
+            assertFalse(set.contains(sorted.get(8)));
+
+            assertTrue(view.add(sorted.get(5)));
+            assertTrue(set.contains(sorted.get(5)));
+        }
+    }
+}
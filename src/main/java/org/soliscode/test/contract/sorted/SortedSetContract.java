@@ -0,0 +1,30 @@
+package org.soliscode.test.contract.sorted;
+
+import org.soliscode.test.contract.set.SetContract;
+
+import java.util.SortedSet;
+
+/// Test suite for classes that implement the [SortedSet] interface. In addition to the [SetContract] tests, it tests
+/// [first][SortedSet#first()], [last][SortedSet#last()] and the range views. The methods that a sorted set adds to
+/// [java.util.Set] are identified by [SortedSetMethods]. A set that orders its elements by their natural ordering
+/// usually does not permit `null`:
+/// ```java
+/// public class MySortedSetTest extends AbstractTest
+///         implements SortedSetContract<Integer, MySortedSet<Integer>>, WithIntegerElement, DoesNotPermitNulls {
+///
+///     public CollectionProvider<Integer, MySortedSet<Integer>> provider() {
+///         return CollectionProviders.from(MySortedSet::new, MySortedSet::new, MySortedSet::new, elementProvider());
+///     }
+/// }
+/// ```
+///
+/// @param <E> The element type being tested.
+/// @param <C> The sorted set type being tested.
+/// @author evanbergstrom
+/// @see SortedSet
+/// @since 1.0
+public interface SortedSetContract<E, C extends SortedSet<E>>
+        extends SetContract<E, C>,
+        FirstLastContract<E, C>,
+        RangeViewContract<E, C> {
+}
@@ -0,0 +1,27 @@
+package org.soliscode.test.contract.sorted;
+
+import org.soliscode.test.OptionalMethod;
+
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+/// Values used to identify sorted and navigable set methods for use with the
+/// [SortedSetContract#supportsMethod(OptionalMethod)] method. The methods that a sorted set shares with
+/// [java.util.Collection] are identified by [org.soliscode.test.contract.CollectionMethods].
+///
+/// @author evanbergstrom
+/// @since 1.0
+public enum SortedSetMethods implements OptionalMethod {
+
+    /// The method [NavigableSet#descendingSet()].
+    DescendingSet,
+
+    /// The methods [SortedSet#headSet(Object)] and [NavigableSet#headSet(Object, boolean)].
+    HeadSet,
+
+    /// The methods [SortedSet#subSet(Object, Object)] and [NavigableSet#subSet(Object, boolean, Object, boolean)].
+    SubSet,
+
+    /// The methods [SortedSet#tailSet(Object)] and [NavigableSet#tailSet(Object, boolean)].
+    TailSet
+}
@@ -0,0 +1,6 @@
+/// Support for testing the implementation of the [java.util.SortedSet] and [java.util.NavigableSet] interface
+/// methods.
+///
+/// @author evanbergstrom
+/// @since 1.0
+package org.soliscode.test.contract.sorted;
@@ -0,0 +1,16 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.BigNumberProvider;
+
+/// Common interface for contracts that test classes that implement the [Number] interface with arbitrary precision
+/// (*i.e.* BigInteger, BigDecimal, etc.).
+/// @param <T> the class of the objects being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface BigNumberSupport<T extends Number> extends ContractSupport<T> {
+
+    /// Returns a number provider that can be used to create instances of the class being tested.
+    /// @return a number provider.
+    @NotNull BigNumberProvider<T> provider();
+}
@@ -0,0 +1,15 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.CharSequenceProvider;
+
+/// Common interface for contracts that test classes that implement the [CharSequence] interface.
+/// @param <S> the class of the objects being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface CharSequenceSupport<S extends CharSequence> extends ContractSupport<S>, PerformanceSupport {
+
+    /// Returns a char sequence provider that can be used to create instances of the class being tested.
+    /// @return a char sequence provider.
+    @NotNull CharSequenceProvider<S> provider();
+}
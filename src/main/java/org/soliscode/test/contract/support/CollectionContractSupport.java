@@ -1,7 +1,13 @@
 package org.soliscode.test.contract.support;
 
+import org.jetbrains.annotations.NotNull;
+import org.opentest4j.AssertionFailedError;
 import org.soliscode.test.contract.CollectionContractConfig;
 
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 /// The base interface for all classes that test `Collection` methods. It allows the contract class to create
 /// collections and elements using the associated providers.
 ///
@@ -14,4 +20,20 @@ public interface CollectionContractSupport<E, C extends Iterable<E>>
 
     /// The default number of elements ({@value}) to use for a test.
     int DEFAULT_SIZE = 10;
+
+    /// Asserts that a query with an object of an incompatible type, such as `contains` or `remove`, returns `false`.
+    /// A collection that does not [permit incompatible types][#permitIncompatibleTypes()] may throw a
+    /// [ClassCastException] instead.
+    /// @param query the query, which returns `true` if it found the object.
+    /// @throws AssertionFailedError if the query returns `true`.
+    /// @throws ClassCastException if the query throws it and the collection permits incompatible types.
+    default void assertFalseForIncompatibleType(final @NotNull BooleanSupplier query) {
+        try {
+            assertFalse(query.getAsBoolean());
+        } catch (ClassCastException e) {
+            if (permitIncompatibleTypes()) {
+                throw e;
+            }
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.ObjectProvider;
+
+/// Interface for contract classes that test maps with keys.
+/// @param <K> the key type
+/// @author evanbergstrom
+/// @since 1.0
+public interface KeyProviderSupport<K> {
+
+    /// Returns the key provider for the contract.
+    /// @return the key provider.
+    @NotNull ObjectProvider<K> keyProvider();
+}
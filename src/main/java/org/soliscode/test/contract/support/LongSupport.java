@@ -0,0 +1,16 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.LongNumberProvider;
+
+/// Common interface for contracts that test classes that implement the [Number] interface and have `long` values
+/// (*i.e.* Long, AtomicLong, etc.).
+/// @param <T> the class of the objects being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface LongSupport<T extends Number> extends IntegerSupport<T> {
+
+    /// Returns a number provider that can be used to create instances of the class being tested.
+    /// @return a number provider.
+    @NotNull LongNumberProvider<T> provider();
+}
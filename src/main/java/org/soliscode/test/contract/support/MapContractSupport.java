@@ -0,0 +1,38 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.contract.map.MapContractConfig;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// The base interface for all classes that test `Map` methods. It allows the contract class to create maps, keys and
+/// values using the associated providers.
+///
+/// @param <K> The key type being tested.
+/// @param <V> The value type being tested.
+/// @param <M> The map type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface MapContractSupport<K, V, M extends Map<K, V>>
+        extends ContractSupport<M>, MapProviderSupport<K, V, M>, MapContractConfig {
+
+    /// The default number of entries ({@value}) to use for a test.
+    int DEFAULT_SIZE = 10;
+
+    /// Creates the entries for a map with unique keys, in the same way as
+    /// [createInstanceWithUniqueKeys][org.soliscode.test.provider.MapProvider#createInstanceWithUniqueKeys(int)]. The
+    /// entries are returned in the order that the keys were created.
+    /// @param size the number of entries.
+    /// @return a map with the entries.
+    default @NotNull Map<K, V> createEntries(final int size) {
+        final List<K> keys = keyProvider().createUniqueInstances(size);
+        final List<V> values = valueProvider().createUniqueInstances(size);
+        final Map<K, V> entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            entries.put(keys.get(i), values.get(i));
+        }
+        return entries;
+    }
+}
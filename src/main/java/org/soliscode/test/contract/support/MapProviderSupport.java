@@ -0,0 +1,20 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.MapProvider;
+
+import java.util.Map;
+
+/// Interface for contract classes that need a map provider.
+/// @param <K> the key type of the map.
+/// @param <V> the value type of the map.
+/// @param <M> the type of the map being provided.
+/// @author evanbergstrom
+/// @since 1.0
+public interface MapProviderSupport<K, V, M extends Map<K, V>>
+        extends ProviderSupport<M>, KeyProviderSupport<K>, ValueProviderSupport<V> {
+
+    /// Returns a map provider that can be used to create instances of the map class being tested.
+    /// @return a map provider.
+    @NotNull MapProvider<K, V, M> provider();
+}
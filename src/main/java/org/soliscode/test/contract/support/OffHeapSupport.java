@@ -0,0 +1,23 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.soliscode.test.perf.NativeMemoryTracker;
+
+/// Common interface for contracts that test classes that allocate native memory. The class being tested must obtain
+/// its arenas from the [memory tracker][#memoryTracker()], which is normally a field of the test class, so that each
+/// test has its own tracker. The tracker is closed after each test, which releases any memory the test did not.
+/// @author evanbergstrom
+/// @since 1.0
+public interface OffHeapSupport {
+
+    /// Returns the tracker that provides the arenas for the instances being tested.
+    /// @return the memory tracker for the current test.
+    @NotNull NativeMemoryTracker memoryTracker();
+
+    /// Closes the memory tracker after each test, releasing the memory held by the instances that were not closed.
+    @AfterEach
+    default void closeMemoryTracker() {
+        memoryTracker().close();
+    }
+}
@@ -0,0 +1,173 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.perf.Allocations;
+import org.soliscode.test.perf.Baselines;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.ComplexityEstimate;
+import org.soliscode.test.perf.ComplexityEstimator;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+/// Common interface for contract classes that test the performance of an implementation. The tests in these
+/// contracts are tagged with [#PERFORMANCE_TAG], so they can be included or excluded as a group by the test runner.
+///
+/// Measurements can also be compared with the baselines recorded for the test class with
+/// [#assertNoRegression(String, double\[\])], which fails only if a measurement has significantly regressed. The
+/// baselines are recorded by running the tests with the system property `soliscode.baselines.record` set to `true`.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public interface PerformanceSupport {
+
+    /// The tag ({@value}) used for all performance tests.
+    String PERFORMANCE_TAG = "performance";
+
+    /// Returns the complexity estimator used by the performance tests. Override this method to change the sizes or
+    /// the number of repetitions that are measured.
+    /// @return the complexity estimator.
+    default @NotNull ComplexityEstimator complexityEstimator() {
+        return ComplexityEstimator.defaults();
+    }
+
+    /// The sizes of the collections used by [#countEstimator()].
+    int[] COUNT_SIZES = {256, 512, 1_024, 2_048, 4_096, 8_192};
+
+    /// Returns the complexity estimator used by the performance tests that count operations instead of timing them.
+    /// Since the counts are deterministic, the [#COUNT_SIZES] are smaller than the sizes used by the
+    /// [default][#complexityEstimator()] estimator.
+    /// @return the complexity estimator.
+    default @NotNull ComplexityEstimator countEstimator() {
+        return ComplexityEstimator.builder().sizes(COUNT_SIZES).build();
+    }
+
+    /// Returns the position of the `i`-th of a number of operations, so that the operations are spread evenly over
+    /// the positions from zero to `size`.
+    /// @param i the index of the operation.
+    /// @param operations the number of operations.
+    /// @param size the number of positions.
+    /// @return the position of the operation.
+    default int spread(final int i, final int operations, final int size) {
+        return (int) ((long) i * size / operations);
+    }
+
+    /// Returns the baselines that measurements are compared with. By default, the baselines are
+    /// [configured from the system properties][Baselines#defaults()]. Override this method to change the baseline
+    /// directory or the thresholds for a regression.
+    /// @return the baselines.
+    default @NotNull Baselines baselines() {
+        return Baselines.defaults();
+    }
+
+    /// Returns the name of the group that the baselines of this test are stored in. The default is the name of the
+    /// test class.
+    /// @return the name of the baseline group.
+    default @NotNull String baselineGroup() {
+        return getClass().getName();
+    }
+
+    /// Asserts that the samples for a measurement are not a significant regression from the baseline recorded for
+    /// it. The assertion passes if no baseline has been recorded for the measurement. In record mode, the samples are
+    /// recorded as the new baseline instead.
+    /// @param measurement the name of the measurement, which is unique within the [baseline group][#baselineGroup()].
+    /// @param samples the samples for the measurement, such as elapsed times or operation counts.
+    /// @throws AssertionFailedError if the samples are a significant regression from the baseline.
+    /// @see Baselines#assertNoRegression(String, String, double\[\])
+    default void assertNoRegression(final @NotNull String measurement, final double @NotNull [] samples) {
+        baselines().assertNoRegression(baselineGroup(), measurement, samples);
+    }
+
+    /// Asserts that the elapsed time of an operation is not a significant regression from the baseline recorded for
+    /// it. The operation is [timed several times][ComplexityEstimator#sampleTime(Supplier)] by the
+    /// [complexity estimator][#complexityEstimator()].
+    /// @param measurement the name of the measurement, which is unique within the [baseline group][#baselineGroup()].
+    /// @param setup creates the fixture and returns the operation to time.
+    /// @throws AssertionFailedError if the elapsed time is a significant regression from the baseline.
+    default void assertNoTimeRegression(final @NotNull String measurement, final @NotNull Supplier<Runnable> setup) {
+        assertNoRegression(measurement, complexityEstimator().sampleTime(setup));
+    }
+
+    /// Asserts that the elapsed time of an operation is [consistent with constant time][ComplexityEstimate#isConstantTime()].
+    /// The operation is measured again before the assertion fails, since timing is noisy.
+    /// @param operation the name of the operation, used in the failure message.
+    /// @param setup creates the fixture for a size and returns the operation to time.
+    /// @throws AssertionFailedError if the operation does not take constant time.
+    default void assertConstantTime(final @NotNull String operation, final @NotNull IntFunction<Runnable> setup) {
+        ComplexityEstimate estimate = complexityEstimator().estimateTime(setup);
+        if (!estimate.isConstantTime()) {
+            estimate = complexityEstimator().estimateTime(setup);
+            if (!estimate.isConstantTime()) {
+                assertionFailure()
+                        .message(operation + " should take constant time, but takes " + estimate.complexity() + ": "
+                                + estimate)
+                        .buildAndThrow();
+            }
+        }
+    }
+
+    /// Asserts that the memory allocated by an operation does not depend upon the size of the fixture, which shows
+    /// that the operation does not copy the elements. Each operation is measured several times and the smallest
+    /// measurement is used, so that loading and initializing classes is not counted. The assertion is skipped if the
+    /// JVM cannot [measure allocations][Allocations#isSupported()].
+    /// @param setup creates the fixture for a size and returns the operation to measure.
+    /// @throws AssertionFailedError if the allocated memory grows with the size.
+    default void assertConstantAllocation(final @NotNull IntFunction<Runnable> setup) {
+        if (Allocations.isSupported()) {
+            complexityEstimator().assertCountAtMost(Complexity.CONSTANT, size -> minimumAllocation(setup.apply(size)));
+        }
+    }
+
+    /// Asserts that the memory allocated by an operation does not exceed a budget. The operation is measured several
+    /// times and the smallest measurement is used, so that loading and initializing classes is not counted. The
+    /// assertion is skipped if the JVM cannot [measure allocations][Allocations#isSupported()].
+    /// @param operation the name of the operation, used in the failure message.
+    /// @param budget the maximum number of bytes the operation may allocate.
+    /// @param runnable the operation to measure.
+    /// @throws AssertionFailedError if the operation allocates more than the budget.
+    default void assertAllocationAtMost(final @NotNull String operation, final long budget,
+                                        final @NotNull Runnable runnable) {
+        if (Allocations.isSupported()) {
+            final long bytes = minimumAllocation(runnable);
+            if (bytes > budget) {
+                assertionFailure()
+                        .message(operation + " allocated " + bytes + " bytes, but the budget is " + budget + " bytes")
+                        .buildAndThrow();
+            }
+        }
+    }
+
+    /// Returns the number of bytes allocated for an array of references with the given length, which can be used to
+    /// set the budget for an operation that copies the elements. Returns `-1` if the JVM cannot
+    /// [measure allocations][Allocations#isSupported()].
+    /// @param length the length of the array.
+    /// @return the number of bytes allocated for the array.
+    default long arrayAllocation(final int length) {
+        return Allocations.isSupported() ? minimumAllocation(() -> Blackhole.consume(new Object[length])) : -1L;
+    }
+
+    /// Returns the number of bytes allocated by an operation. The setup function is called before each of several
+    /// measurements to create a new fixture and return the operation to measure; the setup itself is not measured.
+    /// The smallest measurement is returned, so that loading and initializing classes is not counted.
+    /// @param setup creates the fixture and returns the operation to measure.
+    /// @return the number of bytes allocated, or `-1` if the JVM cannot
+    /// [measure allocations][Allocations#isSupported()].
+    default long measureAllocation(final @NotNull Supplier<Runnable> setup) {
+        if (!Allocations.isSupported()) {
+            return -1L;
+        }
+        long bytes = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            bytes = Math.min(bytes, Allocations.measure(setup.get()));
+        }
+        return bytes;
+    }
+
+    private long minimumAllocation(final Runnable runnable) {
+        return measureAllocation(() -> runnable);
+    }
+}
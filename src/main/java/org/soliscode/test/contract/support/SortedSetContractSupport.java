@@ -0,0 +1,37 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+
+/// The base interface for all classes that test `SortedSet` methods. In addition to the collection support, it
+/// creates elements in the order of the sets being tested, so that a test can compute the expected result of a
+/// navigation or range operation by position.
+///
+/// @param <E> The element type being tested.
+/// @param <C> The sorted set type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface SortedSetContractSupport<E, C extends SortedSet<E>> extends CollectionContractSupport<E, C> {
+
+    /// Creates unique elements with the element provider and sorts them by the [comparator][SortedSet#comparator()]
+    /// of the sets created by the provider, or by their natural ordering if the sets do not have a comparator.
+    /// @param size the number of elements.
+    /// @return the elements in ascending order.
+    default @NotNull List<E> createSortedInstances(final int size) {
+        final List<E> elements = new ArrayList<>(elementProvider().createUniqueInstances(size));
+        elements.sort(comparator());
+        return elements;
+    }
+
+    /// Returns the comparator that orders the elements of the sets created by the provider.
+    /// @return the comparator.
+    @SuppressWarnings("unchecked")
+    default @NotNull Comparator<? super E> comparator() {
+        final Comparator<? super E> comparator = provider().emptyInstance().comparator();
+        return (comparator != null) ? comparator : (a, b) -> ((Comparable<? super E>) a).compareTo(b);
+    }
+}
@@ -0,0 +1,15 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.ObjectProvider;
+
+/// Interface for contract classes that test maps with values.
+/// @param <V> the value type
+/// @author evanbergstrom
+/// @since 1.0
+public interface ValueProviderSupport<V> {
+
+    /// Returns the value provider for the contract.
+    /// @return the value provider.
+    @NotNull ObjectProvider<V> valueProvider();
+}
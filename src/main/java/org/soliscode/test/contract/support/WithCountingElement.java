@@ -0,0 +1,25 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.CountingElementProvider;
+import org.soliscode.test.provider.ObjectProvider;
+
+/// Mixin for a collection contract class that implements an element provider for instances of [CountingElement].
+/// Each call returns a provider with a new counter, so the elements created by one call to the provider share a
+/// counter that can be retrieved from any of them with [CountingElement#counter()].
+/// ```java
+///    public class ArrayListBulkTest extends AbstractTest
+///         implements BulkOperationComplexityContract<ArrayList<CountingElement>>,
+///         WithArrayList<CountingElement>, WithCountingElement {
+/// ```
+/// @author evanbergstrom
+/// @since 1.0
+public interface WithCountingElement extends ElementProviderSupport<CountingElement> {
+
+    /// Returns an element provider for instances of [CountingElement].
+    /// @return a `CountingElement` element provider.
+    default @NotNull ObjectProvider<CountingElement> elementProvider() {
+        return new CountingElementProvider();
+    }
+}
@@ -0,0 +1,25 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.CountingElementProvider;
+import org.soliscode.test.provider.ObjectProvider;
+
+/// Mixin for a map contract class that implements a key provider for instances of [CountingElement]. Each call
+/// returns a provider with a new counter, so the keys created by one call to the provider share a counter that can
+/// be retrieved from any of them with [CountingElement#counter()].
+/// ```java
+///    public class HashMapLookupTest extends AbstractTest
+///         implements MapLookupComplexityContract<String, HashMap<CountingElement, String>>,
+///         WithCountingKey, WithStringValue {
+/// ```
+/// @author evanbergstrom
+/// @since 1.0
+public interface WithCountingKey extends KeyProviderSupport<CountingElement> {
+
+    /// Returns a key provider for instances of [CountingElement].
+    /// @return a `CountingElement` key provider.
+    default @NotNull ObjectProvider<CountingElement> keyProvider() {
+        return new CountingElementProvider();
+    }
+}
@@ -18,8 +18,8 @@ package org.soliscode.test.contract.support;
 
 import org.jetbrains.annotations.NotNull;
 import org.soliscode.test.contract.object.ObjectContract;
+import org.soliscode.test.provider.DoubleNumberProvider;
 import org.soliscode.test.provider.DoubleProvider;
-import org.soliscode.test.provider.ObjectProvider;
 
 /// Provides an implementation of the [#provider()] method that provides instances of [Double]. This is a mix-in class
 /// that is meant ot be used alongside a Contract class.
@@ -31,11 +31,11 @@ import org.soliscode.test.provider.ObjectProvider;
 /// @see ObjectContract
 /// @see DoubleProvider
 /// @since 1.0
-public interface WithDouble extends ContractSupport<Double> {
+public interface WithDouble extends DoubleSupport<Double> {
 
-    /// Returns an instance of `ObjectProvider` that provides [Double] objects.
+    /// Returns an instance of `NumberProvider` that provides [Double] objects.
     /// @return an instance of [DoubleProvider].
-    default @NotNull ObjectProvider<Double> provider() {
+    default @NotNull DoubleNumberProvider<Double> provider() {
         return new DoubleProvider();
     }
 }
@@ -1,8 +1,8 @@
 package org.soliscode.test.contract.support;
 
 import org.jetbrains.annotations.NotNull;
-import org.soliscode.test.provider.IntegerProvider;
 import org.soliscode.test.provider.ObjectProvider;
+import org.soliscode.test.provider.Providers;
 
 /// Mixing for a collection contract class that implements a element provider for instances of [Integer].
 /// ```java
@@ -13,9 +13,10 @@ import org.soliscode.test.provider.ObjectProvider;
 /// @since 1.0
 public interface WithIntegerElement extends ElementProviderSupport<Integer> {
 
-    /// Returns an elements provider for instances of [Integer]..
+    /// Returns an elements provider for instances of [Integer]. The element lists created by the provider are
+    /// cached, so they are shared by all the contract methods that use the same size and seed.
     /// @return an `Integer` element provider.
     default @NotNull ObjectProvider<Integer> elementProvider() {
-        return new IntegerProvider();
+        return Providers.cached(Providers.integerProvider());
     }
 }
@@ -0,0 +1,22 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.ObjectProvider;
+import org.soliscode.test.provider.Providers;
+
+/// Mixin for a map contract class that implements a key provider for instances of [Integer].
+/// ```java
+///    public class HashMapTest extends AbstractTest implements MapContract<Integer, String, HashMap<Integer, String>>,
+///         WithIntegerKey, WithStringValue {
+/// ```
+/// @author evanbergstrom
+/// @since 1.0
+public interface WithIntegerKey extends KeyProviderSupport<Integer> {
+
+    /// Returns a key provider for instances of [Integer]. The key lists created by the provider are cached, so they
+    /// are shared by all the contract methods that use the same size and seed.
+    /// @return an `Integer` key provider.
+    default @NotNull ObjectProvider<Integer> keyProvider() {
+        return Providers.cached(Providers.integerProvider());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.contract.numeric.LongContract;
+import org.soliscode.test.provider.LongNumberProvider;
+import org.soliscode.test.provider.LongProvider;
+
+/// Provides an implementation of the [#provider()] method that provides instances of [Long].
+///
+/// @author evanbergstrom
+/// @see LongContract
+/// @see LongProvider
+/// @since 1.0
+public interface WithLong extends LongSupport<Long> {
+
+    /// Returns an instance of `NumberProvider` that provides [Long] objects.
+    /// @return an instance of [LongProvider].
+    default @NotNull LongNumberProvider<Long> provider() {
+        return new LongProvider();
+    }
+}
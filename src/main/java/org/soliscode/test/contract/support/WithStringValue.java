@@ -0,0 +1,22 @@
+package org.soliscode.test.contract.support;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.provider.ObjectProvider;
+import org.soliscode.test.provider.Providers;
+
+/// Mixin for a map contract class that implements a value provider for instances of [String].
+/// ```java
+///    public class HashMapTest extends AbstractTest implements MapContract<Integer, String, HashMap<Integer, String>>,
+///         WithIntegerKey, WithStringValue {
+/// ```
+/// @author evanbergstrom
+/// @since 1.0
+public interface WithStringValue extends ValueProviderSupport<String> {
+
+    /// Returns a value provider for instances of [String]. The value lists created by the provider are cached, so
+    /// they are shared by all the contract methods that use the same size and seed.
+    /// @return a `String` value provider.
+    default @NotNull ObjectProvider<String> valueProvider() {
+        return Providers.cached(Providers.stringProvider());
+    }
+}
@@ -0,0 +1,72 @@
+package org.soliscode.test.contract.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CharSequenceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+/// Tests that the [length][CharSequence#length()] and [charAt][CharSequence#charAt(int)] methods of the
+/// [CharSequence] interface take constant time, since callers that scan a sequence with an index, such as parsers and
+/// regular expressions, take quadratic time otherwise. A sequence whose `charAt` takes logarithmic time, such as a
+/// balanced rope, passes.
+///
+/// This contract is not included in [CharSequenceContract], since it measures elapsed time. Add it to the test class
+/// of a char sequence to enable it:
+/// ```java
+/// public class StringBuilderTest implements CharSequenceContract<StringBuilder>,
+///         CharAccessComplexityContract<StringBuilder> {
+///
+///     public CharSequenceProvider<StringBuilder> provider() {
+///         return CharSequenceProviders.provideStringBuilder();
+///     }
+/// }
+/// ```
+///
+/// @param <S> The char sequence type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CharAccessContract
+public interface CharAccessComplexityContract<S extends CharSequence> extends CharSequenceSupport<S> {
+
+    /// The number of calls ({@value}) to `length` or `charAt` that are timed for each size.
+    int CHAR_ACCESSES = 1_024;
+
+    /// Tests that the [length][CharSequence#length()] method takes constant time.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the length method takes constant time")
+    default void testLengthIsConstantTime() {
+        assertConstantTime("length", size -> {
+            final S sequence = provider().createInstanceOfLength(size, size);
+            return () -> {
+                int total = 0;
+                for (int i = 0; i < CHAR_ACCESSES; i++) {
+                    total += sequence.length();
+                }
+                Blackhole.consume(total);
+            };
+        });
+    }
+
+    /// Tests that the [charAt][CharSequence#charAt(int)] method takes constant time, for indexes spread over the
+    /// whole sequence.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the charAt method takes constant time")
+    default void testCharAtIsConstantTime() {
+        assertConstantTime("charAt", size -> {
+            final S sequence = provider().createInstanceOfLength(size, size);
+            return () -> {
+                int total = 0;
+                for (int i = 0; i < CHAR_ACCESSES; i++) {
+                    total += sequence.charAt((int) ((long) i * size / CHAR_ACCESSES));
+                }
+                Blackhole.consume(total);
+            };
+        });
+    }
+}
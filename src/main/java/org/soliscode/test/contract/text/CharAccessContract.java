@@ -0,0 +1,75 @@
+package org.soliscode.test.contract.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CharSequenceSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [length][CharSequence#length()], [charAt][CharSequence#charAt(int)],
+/// [isEmpty][CharSequence#isEmpty()] and [toString][CharSequence#toString()] methods of the [CharSequence] interface.
+/// The time taken by `length` and `charAt` is tested by [CharAccessComplexityContract]. This contract class is
+/// normally used through the [CharSequenceContract] class.
+/// @param <S> The char sequence type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface CharAccessContract<S extends CharSequence> extends CharSequenceSupport<S> {
+
+    /// Tests that the [length][CharSequence#length()] method returns the number of characters.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the length method returns the number of characters")
+    default void testLength() {
+        for (int length : new int[]{0, 1, 2, 100}) {
+            assertEquals(length, provider().createInstanceOfLength(length, length).length());
+        }
+    }
+
+    /// Tests that the [isEmpty][CharSequence#isEmpty()] method returns `true` only for an empty sequence.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the isEmpty method returns true only for an empty sequence")
+    default void testIsEmpty() {
+        assertTrue(provider().createInstance("").isEmpty());
+        assertFalse(provider().createInstanceOfLength(1, 0).isEmpty());
+        assertFalse(provider().createInstance(0).isEmpty());
+    }
+
+    /// Tests that the [charAt][CharSequence#charAt(int)] method returns the character at each index.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the charAt method returns the character at each index")
+    default void testCharAt() {
+        final String chars = provider().createChars(100, 1);
+        final S sequence = provider().createInstance(chars);
+        for (int i = 0; i < chars.length(); i++) {
+            assertEquals(chars.charAt(i), sequence.charAt(i), "wrong character at index " + i);
+        }
+    }
+
+    /// Tests that the [charAt][CharSequence#charAt(int)] method throws an [IndexOutOfBoundsException] for an index
+    /// outside of the sequence.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the charAt method throws for an index outside of the sequence")
+    default void testCharAtOutOfBounds() {
+        final S sequence = provider().createInstanceOfLength(10, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> provider().createInstance("").charAt(0));
+    }
+
+    /// Tests that the [toString][CharSequence#toString()] method returns a string with the characters of the
+    /// sequence, and that the sequence compares as equal to it.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the toString method returns the characters of the sequence")
+    default void testToString() {
+        final String chars = provider().createChars(100, 2);
+        final S sequence = provider().createInstance(chars);
+        assertEquals(chars, sequence.toString());
+        assertEquals(0, CharSequence.compare(chars, sequence));
+        assertEquals("", provider().createInstance("").toString());
+    }
+}
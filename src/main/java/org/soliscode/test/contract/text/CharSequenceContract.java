@@ -0,0 +1,25 @@
+package org.soliscode.test.contract.text;
+
+/// Test suite for classes that implement the [CharSequence] interface. It tests that `length` and `charAt` return
+/// the characters of the sequence, that `subSequence` either creates a cheap view or copies only the range, as
+/// declared by [#subSequenceIsView()], and that `chars` and `codePoints` stream the characters without allocating
+/// memory per character. The time taken by `length` and `charAt` is tested by the opt-in
+/// [CharAccessComplexityContract]:
+/// ```java
+/// public class StringBuilderTest implements CharSequenceContract<StringBuilder> {
+///
+///     public CharSequenceProvider<StringBuilder> provider() {
+///         return CharSequenceProviders.provideStringBuilder();
+///     }
+/// }
+/// ```
+///
+/// @param <S> The char sequence type being tested.
+/// @author evanbergstrom
+/// @see CharSequence
+/// @since 1.0
+public interface CharSequenceContract<S extends CharSequence>
+        extends CharAccessContract<S>,
+        SubSequenceContract<S>,
+        CharStreamContract<S> {
+}
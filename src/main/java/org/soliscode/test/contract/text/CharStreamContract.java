@@ -0,0 +1,74 @@
+package org.soliscode.test.contract.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CharSequenceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/// Tests for the [chars][CharSequence#chars()] and [codePoints][CharSequence#codePoints()] methods of the
+/// [CharSequence] interface. In addition to checking the values in the streams, the tests check that streaming the
+/// characters allocates a constant amount of memory, so the stream neither boxes each character nor copies the
+/// sequence into an array before streaming it. This contract class is normally used through the
+/// [CharSequenceContract] class.
+/// @param <S> The char sequence type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface CharStreamContract<S extends CharSequence> extends CharSequenceSupport<S> {
+
+    /// A string with a supplementary character, which is encoded as a surrogate pair, between two ASCII characters.
+    String SURROGATE_PAIR_CHARS = "a😀b";
+
+    /// Tests that the [chars][CharSequence#chars()] method streams each character of the sequence.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the chars method streams each character")
+    default void testChars() {
+        final String chars = provider().createChars(100, 7);
+        assertArrayEquals(chars.chars().toArray(), provider().createInstance(chars).chars().toArray());
+        assertArrayEquals(new int[0], provider().createInstance("").chars().toArray());
+        assertArrayEquals(SURROGATE_PAIR_CHARS.chars().toArray(),
+                provider().createInstance(SURROGATE_PAIR_CHARS).chars().toArray());
+    }
+
+    /// Tests that the [codePoints][CharSequence#codePoints()] method streams each code point of the sequence,
+    /// combining a surrogate pair into a single code point.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the codePoints method streams each code point")
+    default void testCodePoints() {
+        final String chars = provider().createChars(100, 8);
+        assertArrayEquals(chars.codePoints().toArray(), provider().createInstance(chars).codePoints().toArray());
+        assertArrayEquals(new int[]{'a', 0x1F600, 'b'},
+                provider().createInstance(SURROGATE_PAIR_CHARS).codePoints().toArray());
+    }
+
+    /// Tests that streaming the characters with the [chars][CharSequence#chars()] method allocates a constant amount
+    /// of memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the chars method does not allocate memory per character")
+    default void testCharsAllocatesConstantMemory() {
+        assertConstantAllocation(size -> {
+            final S sequence = provider().createInstanceOfLength(size, size);
+            return () -> Blackhole.consume(sequence.chars().sum());
+        });
+    }
+
+    /// Tests that streaming the code points with the [codePoints][CharSequence#codePoints()] method allocates a
+    /// constant amount of memory.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the codePoints method does not allocate memory per character")
+    default void testCodePointsAllocatesConstantMemory() {
+        assertConstantAllocation(size -> {
+            final S sequence = provider().createInstanceOfLength(size, size);
+            return () -> Blackhole.consume(sequence.codePoints().sum());
+        });
+    }
+}
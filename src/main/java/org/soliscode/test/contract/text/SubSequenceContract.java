@@ -0,0 +1,109 @@
+package org.soliscode.test.contract.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.contract.support.CharSequenceSupport;
+import org.soliscode.test.perf.Blackhole;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [subSequence][CharSequence#subSequence(int, int)] method of the [CharSequence] interface. The tests
+/// check the characters of a subsequence, and of a subsequence of a subsequence, and the bounds that are rejected.
+///
+/// A subsequence may either be a view that shares the characters of the sequence, or a copy of the characters in the
+/// range, such as the subsequence of a [String]. The test class declares which one the class being tested creates by
+/// overriding [#subSequenceIsView()], and the memory allocated by `subSequence` is checked against the declaration:
+/// - creating a view of half of the sequence must allocate a constant amount of memory; and
+/// - creating a copy of [#SUB_SEQUENCE_WIDTH] characters must allocate a constant amount of memory, so only the
+///   range is copied, not the whole sequence.
+///
+/// This contract class is normally used through the [CharSequenceContract] class.
+/// @param <S> The char sequence type being tested.
+/// @author evanbergstrom
+/// @since 1.0
+public interface SubSequenceContract<S extends CharSequence> extends CharSequenceSupport<S> {
+
+    /// The number of characters ({@value}) in the subsequence copied by the allocation test.
+    int SUB_SEQUENCE_WIDTH = 16;
+
+    /// Returns `true` if the subsequences of the class being tested are views that share its characters, or `false`
+    /// if they are copies of the characters in the range, which is the default.
+    /// @return `true` if a subsequence is a view.
+    default boolean subSequenceIsView() {
+        return false;
+    }
+
+    /// Tests that the [subSequence][CharSequence#subSequence(int, int)] method returns the characters in the range.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subSequence method returns the characters in the range")
+    default void testSubSequence() {
+        final String chars = provider().createChars(100, 3);
+        final S sequence = provider().createInstance(chars);
+        for (int[] range : new int[][]{{0, 100}, {0, 10}, {90, 100}, {25, 75}, {50, 51}}) {
+            final CharSequence sub = sequence.subSequence(range[0], range[1]);
+            assertEquals(range[1] - range[0], sub.length());
+            assertEquals(chars.substring(range[0], range[1]), sub.toString());
+            for (int i = 0; i < sub.length(); i++) {
+                assertEquals(chars.charAt(range[0] + i), sub.charAt(i));
+            }
+        }
+    }
+
+    /// Tests that the [subSequence][CharSequence#subSequence(int, int)] method works on a subsequence, so that the
+    /// offsets of a view are combined correctly.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subSequence method works on a subsequence")
+    default void testSubSequenceOfSubSequence() {
+        final String chars = provider().createChars(100, 4);
+        final CharSequence sub = provider().createInstance(chars).subSequence(20, 80).subSequence(10, 30);
+        assertEquals(chars.substring(30, 50), sub.toString());
+        assertEquals(chars.charAt(30), sub.charAt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.charAt(20));
+    }
+
+    /// Tests that the [subSequence][CharSequence#subSequence(int, int)] method returns an empty sequence for an
+    /// empty range.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subSequence method returns an empty sequence for an empty range")
+    default void testEmptySubSequence() {
+        final S sequence = provider().createInstanceOfLength(10, 5);
+        for (int i = 0; i <= 10; i++) {
+            final CharSequence sub = sequence.subSequence(i, i);
+            assertEquals(0, sub.length());
+            assertTrue(sub.isEmpty());
+        }
+    }
+
+    /// Tests that the [subSequence][CharSequence#subSequence(int, int)] method throws an
+    /// [IndexOutOfBoundsException] for a range outside of the sequence, or whose start is after its end.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @DisplayName("Test that the subSequence method throws for an invalid range")
+    default void testSubSequenceOutOfBounds() {
+        final S sequence = provider().createInstanceOfLength(10, 6);
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(-1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(5, 11));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(6, 5));
+    }
+
+    /// Tests that the memory allocated by the [subSequence][CharSequence#subSequence(int, int)] method does not grow
+    /// with the size of the sequence: for a view, the subsequence covers half of the sequence, and for a copy, it has
+    /// [#SUB_SEQUENCE_WIDTH] characters.
+    /// @throws AssertionFailedError if the test fails.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Test that the subSequence method is a cheap view or copies only the range")
+    default void testSubSequenceAllocation() {
+        assertConstantAllocation(size -> {
+            final S sequence = provider().createInstanceOfLength(size, size);
+            final int start = size / 4;
+            final int end = subSequenceIsView() ? start + size / 2 : start + SUB_SEQUENCE_WIDTH;
+            return () -> Blackhole.consume(sequence.subSequence(start, end));
+        });
+    }
+}
@@ -0,0 +1,5 @@
+/// Support for testing the implementation of the [java.lang.CharSequence] interface methods.
+///
+/// @author evanbergstrom
+/// @since 1.0
+package org.soliscode.test.contract.text;
@@ -3,11 +3,18 @@ package org.soliscode.test.interfaces;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /// An collection that is provided for tests that only implement the [Collection] interface. If the code that is
 /// being tested tries to detect the kind of collection to optimize the algorithm, it will be forced to use only the
 /// methods on `Collection`.
 ///
+/// The wrapper delegates every method, including [#spliterator()], [#forEach], [#removeIf] and [#stream()], to the
+/// underlying collection, so narrowing does not change the cost of the operations being tested. The wrappers for the
+/// other collection interfaces, such as [ListOnly] and [SetOnly], extend this class and delegate in the same way.
+///
 /// @param <E> the element type.
 /// @author evanbergstrom
 /// @since 1.0
@@ -38,6 +45,26 @@ public class CollectionOnly<E> extends IterableOnly<E> implements Collection<E>
         this.collection = c;
     }
 
+    /// Creates a collection that delegates to another collection without copying its elements, so it takes constant
+    /// time and changes to the other collection are visible through it.
+    /// @param <E> the element type.
+    /// @param c the collection to delegate to.
+    /// @return a collection that delegates to `c`.
+    /// @throws NullPointerException if the collection is `null`.
+    public static <E> @NotNull CollectionOnly<E> view(final @NotNull Collection<E> c) {
+        return new CollectionOnly<>(Objects.requireNonNull(c));
+    }
+
+    /// Creates a collection that holds a copy of the elements of another collection, so later changes to the other
+    /// collection are not visible through it. Copying takes linear time.
+    /// @param <E> the element type.
+    /// @param c the collection to copy.
+    /// @return a collection containing the elements of `c`.
+    /// @throws NullPointerException if the collection is `null`.
+    public static <E> @NotNull CollectionOnly<E> snapshot(final @NotNull Collection<E> c) {
+        return new CollectionOnly<>(new ArrayList<>(c));
+    }
+
     @Override
     public int size() {
         return collection.size();
@@ -63,6 +90,11 @@ public class CollectionOnly<E> extends IterableOnly<E> implements Collection<E>
         return collection.toArray(a);
     }
 
+    @Override
+    public <T> T[] toArray(@NotNull IntFunction<T[]> generator) {
+        return collection.toArray(generator);
+    }
+
     @Override
     public boolean add(E e) {
         return collection.add(e);
@@ -93,11 +125,26 @@ public class CollectionOnly<E> extends IterableOnly<E> implements Collection<E>
         return collection.retainAll(c);
     }
 
+    @Override
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        return collection.removeIf(filter);
+    }
+
     @Override
     public void clear() {
         collection.clear();
     }
 
+    @Override
+    public @NotNull Stream<E> stream() {
+        return collection.stream();
+    }
+
+    @Override
+    public @NotNull Stream<E> parallelStream() {
+        return collection.parallelStream();
+    }
+
     /// {@inheritDoc}
     @Override
     public boolean equals(final Object obj) {
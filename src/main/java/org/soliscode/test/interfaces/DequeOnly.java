@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+
+/// A deque that is provided for tests that only implement the [Deque] interface. If the code that is being tested
+/// tries to detect the kind of deque to optimize the algorithm, it will be forced to use only the methods on `Deque`.
+///
+/// Like [CollectionOnly], the wrapper delegates every method to the underlying deque.
+///
+/// @param <E> the element type.
+/// @author evanbergstrom
+/// @since 1.0
+public class DequeOnly<E> extends SequencedCollectionOnly<E> implements Deque<E> {
+
+    private final Deque<E> deque;
+
+    /// Creates an empty deque.
+    public DequeOnly() {
+        this(new ArrayDeque<>());
+    }
+
+    /// Creates a copy of a deque.
+    /// @param other the instance of `DequeOnly` to copy.
+    public DequeOnly(final DequeOnly<E> other) {
+        this(new ArrayDeque<>(other.deque));
+    }
+
+    /// Creates an instance of `DequeOnly` from the deque provided.
+    /// @param deque The deque of elements.
+    public DequeOnly(final Deque<E> deque) {
+        super(deque);
+        this.deque = deque;
+    }
+
+    /// Creates a deque that delegates to another deque without copying its elements, so it takes constant time and
+    /// changes to the other deque are visible through it.
+    /// @param <E> the element type.
+    /// @param deque the deque to delegate to.
+    /// @return a deque that delegates to `deque`.
+    /// @throws NullPointerException if the deque is `null`.
+    public static <E> @NotNull DequeOnly<E> view(final @NotNull Deque<E> deque) {
+        return new DequeOnly<>(Objects.requireNonNull(deque));
+    }
+
+    /// {@inheritDoc}
+    /// The reversed view is also narrowed to `Deque`.
+    @Override
+    public DequeOnly<E> reversed() {
+        return view(deque.reversed());
+    }
+
+    @Override
+    public boolean offerFirst(final E e) {
+        return deque.offerFirst(e);
+    }
+
+    @Override
+    public boolean offerLast(final E e) {
+        return deque.offerLast(e);
+    }
+
+    @Override
+    public E pollFirst() {
+        return deque.pollFirst();
+    }
+
+    @Override
+    public E pollLast() {
+        return deque.pollLast();
+    }
+
+    @Override
+    public E peekFirst() {
+        return deque.peekFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return deque.peekLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(final Object o) {
+        return deque.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(final Object o) {
+        return deque.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean offer(final E e) {
+        return deque.offer(e);
+    }
+
+    @Override
+    public E remove() {
+        return deque.remove();
+    }
+
+    @Override
+    public E poll() {
+        return deque.poll();
+    }
+
+    @Override
+    public E element() {
+        return deque.element();
+    }
+
+    @Override
+    public E peek() {
+        return deque.peek();
+    }
+
+    @Override
+    public void push(final E e) {
+        deque.push(e);
+    }
+
+    @Override
+    public E pop() {
+        return deque.pop();
+    }
+
+    @Override
+    public @NotNull Iterator<E> descendingIterator() {
+        return deque.descendingIterator();
+    }
+}
@@ -19,6 +19,10 @@ package org.soliscode.test.interfaces;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.SequencedCollection;
+import java.util.Set;
 
 /// Utility class that helps create interface-narrowing views on objects.
 ///
@@ -42,19 +46,81 @@ public final class Interfaces {
         return new NumberOnly(n);
     }
 
-    /// Wraps the object so that only the methods in the [Iterable] interface are available.
+    /// Wraps the object so that only the methods in the [Iterable] interface are available. The wrapper delegates to
+    /// the iterable without copying the elements, so it takes constant time and changes to the iterable are visible
+    /// through it.
     /// @param <E> the element type for the iterable.
     /// @param i the iterable to wrap
     /// @return the wrapped iterable.
+    /// @see #snapshotToIterable(Iterable)
     public static <E> IterableOnly<E> narrowToIterable(final Iterable<E> i) {
-        return new IterableOnly<>(i);
+        return IterableOnly.view(i);
     }
 
-    /// Wraps the object so that only the methods in the [Collection] interface are available.
+    /// Copies the elements of the iterable into an object that only implements the methods in the [Iterable]
+    /// interface. Later changes to the iterable are not visible in the copy.
+    /// @param <E> the element type for the iterable.
+    /// @param i the iterable to copy.
+    /// @return the copied iterable.
+    /// @see #narrowToIterable(Iterable)
+    public static <E> IterableOnly<E> snapshotToIterable(final Iterable<E> i) {
+        return IterableOnly.snapshot(i);
+    }
+
+    /// Wraps the object so that only the methods in the [Collection] interface are available. The wrapper delegates
+    /// to the collection without copying the elements, so it takes constant time and changes to the collection are
+    /// visible through it.
     /// @param <E> the element type for the iterable.
     /// @param i the iterable to wrap
     /// @return the wrapped iterable.
+    /// @see #snapshotToCollection(Collection)
     public static <E> CollectionOnly<E> narrowToCollection(final Collection<E> i) {
-        return new CollectionOnly<>(i);
+        return CollectionOnly.view(i);
+    }
+
+    /// Copies the elements of the collection into an object that only implements the methods in the [Collection]
+    /// interface. Later changes to the collection are not visible in the copy.
+    /// @param <E> the element type for the collection.
+    /// @param c the collection to copy.
+    /// @return the copied collection.
+    /// @see #narrowToCollection(Collection)
+    public static <E> CollectionOnly<E> snapshotToCollection(final Collection<E> c) {
+        return CollectionOnly.snapshot(c);
+    }
+
+    /// Wraps the object so that only the methods in the [SequencedCollection] interface are available. The wrapper
+    /// delegates to the collection without copying the elements.
+    /// @param <E> the element type for the collection.
+    /// @param c the sequenced collection to wrap.
+    /// @return the wrapped sequenced collection.
+    public static <E> SequencedCollectionOnly<E> narrowToSequencedCollection(final SequencedCollection<E> c) {
+        return SequencedCollectionOnly.view(c);
+    }
+
+    /// Wraps the object so that only the methods in the [List] interface are available. The wrapper delegates to the
+    /// list without copying the elements, and implements [java.util.RandomAccess] if the list does.
+    /// @param <E> the element type for the list.
+    /// @param list the list to wrap.
+    /// @return the wrapped list.
+    public static <E> ListOnly<E> narrowToList(final List<E> list) {
+        return ListOnly.view(list);
+    }
+
+    /// Wraps the object so that only the methods in the [Set] interface are available. The wrapper delegates to the
+    /// set without copying the elements.
+    /// @param <E> the element type for the set.
+    /// @param set the set to wrap.
+    /// @return the wrapped set.
+    public static <E> SetOnly<E> narrowToSet(final Set<E> set) {
+        return SetOnly.view(set);
+    }
+
+    /// Wraps the object so that only the methods in the [Deque] interface are available. The wrapper delegates to the
+    /// deque without copying the elements.
+    /// @param <E> the element type for the deque.
+    /// @param deque the deque to wrap.
+    /// @return the wrapped deque.
+    public static <E> DequeOnly<E> narrowToDeque(final Deque<E> deque) {
+        return DequeOnly.view(deque);
     }
 }
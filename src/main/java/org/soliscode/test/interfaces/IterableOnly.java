@@ -19,6 +19,7 @@ package org.soliscode.test.interfaces;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /// An iterable that is provided for tests that only implement the [Iterable] interface. If the code that is
 /// being tested tries to detect the kind of iterable to optimize the algorithm, it will be forced to use only the
@@ -39,9 +40,14 @@ public class IterableOnly<E> implements Iterable<E> {
     /// Creates a copy of an iterable.
     /// @param other the instance of `IterableOnly` to copy.
     public IterableOnly(final Iterable<E> other) {
-        final List<E> store = new ArrayList<>();
-        other.forEach(store::add);
-        this.iterable = store;
+        this(other, true);
+    }
+
+    /// Creates an iterable that either delegates to another iterable or holds a copy of its elements.
+    /// @param other the iterable to delegate to or copy.
+    /// @param snapshot `true` to copy the elements, `false` to delegate to the iterable.
+    protected IterableOnly(final @NotNull Iterable<E> other, final boolean snapshot) {
+        this.iterable = snapshot ? copyOf(other) : Objects.requireNonNull(other);
     }
 
     /// Creates an instance of `IterableOnly` from the collection provided.
@@ -85,6 +91,41 @@ public class IterableOnly<E> implements Iterable<E> {
         return iterable.spliterator();
     }
 
+    /// {@inheritDoc}
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        iterable.forEach(action);
+    }
+
+    /// Creates an iterable that delegates to another iterable without copying its elements, so it takes constant time
+    /// and changes to the other iterable are visible through it.
+    /// @param <E> the element type.
+    /// @param iterable the iterable to delegate to.
+    /// @return an iterable that delegates to `iterable`.
+    /// @throws NullPointerException if the iterable is `null`.
+    public static <E> @NotNull IterableOnly<E> view(final @NotNull Iterable<E> iterable) {
+        return new IterableOnly<>(iterable, false);
+    }
+
+    /// Creates an iterable that holds a copy of the elements of another iterable, so later changes to the other
+    /// iterable are not visible through it. Copying takes linear time.
+    /// @param <E> the element type.
+    /// @param iterable the iterable to copy.
+    /// @return an iterable containing the elements of `iterable`.
+    /// @throws NullPointerException if the iterable is `null`.
+    public static <E> @NotNull IterableOnly<E> snapshot(final @NotNull Iterable<E> iterable) {
+        return new IterableOnly<>(iterable, true);
+    }
+
+    private static <E> List<E> copyOf(final Iterable<E> iterable) {
+        if (iterable instanceof Collection<E> c) {
+            return new ArrayList<>(c);
+        }
+        final List<E> store = new ArrayList<>();
+        iterable.forEach(store::add);
+        return store;
+    }
+
     /// Creates an iterable from an empty collection of elements.
     /// @param <E> the element type.
     /// @return an iterable on an empty collection of elements.
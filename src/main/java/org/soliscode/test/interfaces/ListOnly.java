@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/// A list that is provided for tests that only implement the [List] interface. If the code that is being tested
+/// tries to detect the kind of list to optimize the algorithm, it will be forced to use only the methods on `List`.
+///
+/// Like [CollectionOnly], the wrapper delegates every method to the underlying list. A list created with
+/// [#view(List)] also implements the [RandomAccess] marker interface when the underlying list does, so algorithms
+/// such as [Collections#binarySearch(List, Object)] choose the same implementation for the wrapper as for the list.
+///
+/// @param <E> the element type.
+/// @author evanbergstrom
+/// @since 1.0
+public class ListOnly<E> extends SequencedCollectionOnly<E> implements List<E> {
+
+    private final List<E> list;
+
+    /// Creates an empty list.
+    public ListOnly() {
+        this(new ArrayList<>());
+    }
+
+    /// Creates a copy of a list.
+    /// @param other the instance of `ListOnly` to copy.
+    public ListOnly(final ListOnly<E> other) {
+        this(new ArrayList<>(other.list));
+    }
+
+    /// Creates an instance of `ListOnly` from the list provided. The instance does not implement [RandomAccess]; use
+    /// [#view(List)] to carry the marker over from the list.
+    /// @param list The list of elements.
+    public ListOnly(final List<E> list) {
+        super(list);
+        this.list = list;
+    }
+
+    /// Creates a list that delegates to another list without copying its elements, so it takes constant time and
+    /// changes to the other list are visible through it. The list implements [RandomAccess] if the other list does.
+    /// @param <E> the element type.
+    /// @param list the list to delegate to.
+    /// @return a list that delegates to `list`.
+    /// @throws NullPointerException if the list is `null`.
+    public static <E> @NotNull ListOnly<E> view(final @NotNull List<E> list) {
+        Objects.requireNonNull(list);
+        return list instanceof RandomAccess ? new RandomAccessListOnly<>(list) : new ListOnly<>(list);
+    }
+
+    /// {@inheritDoc}
+    /// The reversed view is also narrowed to `List`.
+    @Override
+    public ListOnly<E> reversed() {
+        return view(list.reversed());
+    }
+
+    @Override
+    public boolean addAll(final int index, @NotNull final Collection<? extends E> c) {
+        return list.addAll(index, c);
+    }
+
+    @Override
+    public void replaceAll(final UnaryOperator<E> operator) {
+        list.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(final Comparator<? super E> c) {
+        list.sort(c);
+    }
+
+    @Override
+    public E get(final int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public E remove(final int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return list.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return list.lastIndexOf(o);
+    }
+
+    @Override
+    public @NotNull ListIterator<E> listIterator() {
+        return list.listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<E> listIterator(final int index) {
+        return list.listIterator(index);
+    }
+
+    /// {@inheritDoc}
+    /// The sublist is also narrowed to `List`.
+    @Override
+    public @NotNull ListOnly<E> subList(final int fromIndex, final int toIndex) {
+        return view(list.subList(fromIndex, toIndex));
+    }
+
+    /// A list that only implements the [List] interface and the [RandomAccess] marker interface.
+    /// @param <E> the element type.
+    private static final class RandomAccessListOnly<E> extends ListOnly<E> implements RandomAccess {
+
+        RandomAccessListOnly(final List<E> list) {
+            super(list);
+        }
+    }
+}
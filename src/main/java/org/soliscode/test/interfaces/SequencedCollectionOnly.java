@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.SequencedCollection;
+
+/// A sequenced collection that is provided for tests that only implement the [SequencedCollection] interface. If the
+/// code that is being tested tries to detect the kind of collection to optimize the algorithm, it will be forced to
+/// use only the methods on `SequencedCollection`.
+///
+/// Like [CollectionOnly], the wrapper delegates every method to the underlying collection.
+///
+/// @param <E> the element type.
+/// @author evanbergstrom
+/// @since 1.0
+public class SequencedCollectionOnly<E> extends CollectionOnly<E> implements SequencedCollection<E> {
+
+    private final SequencedCollection<E> sequenced;
+
+    /// Creates an empty sequenced collection.
+    public SequencedCollectionOnly() {
+        this(new ArrayList<>());
+    }
+
+    /// Creates a copy of a sequenced collection.
+    /// @param other the instance of `SequencedCollectionOnly` to copy.
+    public SequencedCollectionOnly(final SequencedCollectionOnly<E> other) {
+        this(new ArrayList<>(other.sequenced));
+    }
+
+    /// Creates an instance of `SequencedCollectionOnly` from the sequenced collection provided.
+    /// @param c The sequenced collection of elements.
+    public SequencedCollectionOnly(final SequencedCollection<E> c) {
+        super(c);
+        this.sequenced = c;
+    }
+
+    /// Creates a sequenced collection that delegates to another sequenced collection without copying its elements,
+    /// so it takes constant time and changes to the other collection are visible through it.
+    /// @param <E> the element type.
+    /// @param c the sequenced collection to delegate to.
+    /// @return a sequenced collection that delegates to `c`.
+    /// @throws NullPointerException if the collection is `null`.
+    public static <E> @NotNull SequencedCollectionOnly<E> view(final @NotNull SequencedCollection<E> c) {
+        return new SequencedCollectionOnly<>(Objects.requireNonNull(c));
+    }
+
+    /// {@inheritDoc}
+    /// The reversed view is also narrowed to `SequencedCollection`.
+    @Override
+    public SequencedCollectionOnly<E> reversed() {
+        return view(sequenced.reversed());
+    }
+
+    @Override
+    public void addFirst(final E e) {
+        sequenced.addFirst(e);
+    }
+
+    @Override
+    public void addLast(final E e) {
+        sequenced.addLast(e);
+    }
+
+    @Override
+    public E getFirst() {
+        return sequenced.getFirst();
+    }
+
+    @Override
+    public E getLast() {
+        return sequenced.getLast();
+    }
+
+    @Override
+    public E removeFirst() {
+        return sequenced.removeFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        return sequenced.removeLast();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/// A set that is provided for tests that only implement the [Set] interface. If the code that is being tested tries
+/// to detect the kind of set to optimize the algorithm, it will be forced to use only the methods on `Set`.
+///
+/// Like [CollectionOnly], the wrapper delegates every method to the underlying set.
+///
+/// @param <E> the element type.
+/// @author evanbergstrom
+/// @since 1.0
+public class SetOnly<E> extends CollectionOnly<E> implements Set<E> {
+
+    /// Creates an empty set.
+    public SetOnly() {
+        this(new HashSet<>());
+    }
+
+    /// Creates a copy of a set.
+    /// @param other the instance of `SetOnly` to copy.
+    public SetOnly(final SetOnly<E> other) {
+        this(new HashSet<>(other));
+    }
+
+    /// Creates an instance of `SetOnly` from the set provided.
+    /// @param set The set of elements.
+    public SetOnly(final Set<E> set) {
+        super(set);
+    }
+
+    /// Creates a set that delegates to another set without copying its elements, so it takes constant time and
+    /// changes to the other set are visible through it.
+    /// @param <E> the element type.
+    /// @param set the set to delegate to.
+    /// @return a set that delegates to `set`.
+    /// @throws NullPointerException if the set is `null`.
+    public static <E> @NotNull SetOnly<E> view(final @NotNull Set<E> set) {
+        return new SetOnly<>(Objects.requireNonNull(set));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/// This class consists exclusively of static methods that measure the memory allocated and the garbage collection
+/// time used by the current thread. The allocation counts are provided by the `com.sun.management` extension of the
+/// [ThreadMXBean]; if the JVM does not support it, [#isSupported()] returns `false` and the allocation methods
+/// return `-1`.
+///
+/// ```java
+///     long bytes = Allocations.measure(() -> list.toArray(new Integer[list.size()]));
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = threadBean();
+
+    private Allocations() {}
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return sunBean;
+        }
+        return null;
+    }
+
+    /// Returns `true` if the JVM can measure the memory allocated by a thread.
+    /// @return `true` if allocation measurement is supported.
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /// Returns the total number of bytes allocated by the current thread since it was started.
+    /// @return the number of bytes allocated, or `-1` if allocation measurement is not supported.
+    public static long allocatedBytes() {
+        return (THREAD_BEAN != null) ? THREAD_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    /// Returns the number of bytes allocated by the current thread while running an operation. The measurement
+    /// includes the small, constant overhead of the measurement itself, which is removed by calibrating against an
+    /// empty operation.
+    /// @param operation the operation to measure.
+    /// @return the number of bytes allocated, or `-1` if allocation measurement is not supported.
+    /// @throws NullPointerException if the operation is `null`.
+    public static long measure(final @NotNull Runnable operation) {
+        if (THREAD_BEAN == null) {
+            operation.run();
+            return -1L;
+        }
+        final long overhead = overhead();
+        final long before = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+        operation.run();
+        final long after = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+        return Math.max(0L, after - before - overhead);
+    }
+
+    private static long overhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            final long before = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+            final long after = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+            overhead = Math.min(overhead, after - before);
+        }
+        return overhead;
+    }
+
+    /// Returns the total time in milliseconds spent in garbage collection by all the collectors in the JVM.
+    /// @return the accumulated collection time, in milliseconds.
+    public static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0L, bean.getCollectionTime());
+        }
+        return total;
+    }
+
+    /// Returns the total number of garbage collections performed by all the collectors in the JVM.
+    /// @return the accumulated collection count.
+    public static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0L, bean.getCollectionCount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/// Reads and writes performance baselines. The baselines are stored in a directory that is committed alongside the
+/// tests, with one JSON file for each group of baselines (usually a test class). Each file maps a measurement name to
+/// the samples recorded for it:
+/// ```json
+/// {
+///   "contains/10000": [1520.0, 1498.0, 1533.0],
+///   "contains/100000": [15230.0, 15101.0, 15388.0]
+/// }
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Baselines
+public final class BaselineStore {
+
+    /// The default directory for the baseline files.
+    public static final String DEFAULT_DIRECTORY = "src/test/resources/soliscode-baselines";
+
+    private final Path directory;
+
+    /// Creates a store that reads and writes the baseline files in a directory.
+    /// @param directory the directory for the baseline files.
+    /// @throws NullPointerException if the directory is `null`.
+    public BaselineStore(final @NotNull Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    /// Returns the directory for the baseline files.
+    /// @return the directory.
+    public @NotNull Path directory() {
+        return directory;
+    }
+
+    /// Returns the path of the file that holds a group of baselines.
+    /// @param group the name of the group.
+    /// @return the path of the baseline file.
+    public @NotNull Path file(final @NotNull String group) {
+        return directory.resolve(group.replaceAll("[^A-Za-z0-9._$-]", "_") + ".json");
+    }
+
+    /// Returns the samples recorded for a measurement.
+    /// @param group the name of the group.
+    /// @param name the name of the measurement.
+    /// @return the recorded samples, or `null` if there is no baseline for the measurement.
+    /// @throws UncheckedIOException if the baseline file cannot be read.
+    /// @throws IllegalStateException if the baseline file is not in the expected format.
+    public double @Nullable [] get(final @NotNull String group, final @NotNull String name) {
+        return load(group).get(name);
+    }
+
+    /// Records the samples for a measurement, replacing any samples previously recorded for it. The other
+    /// measurements in the group are preserved.
+    /// @param group the name of the group.
+    /// @param name the name of the measurement.
+    /// @param samples the samples to record.
+    /// @throws UncheckedIOException if the baseline file cannot be read or written.
+    public synchronized void put(final @NotNull String group, final @NotNull String name,
+                                 final double @NotNull [] samples) {
+        final Map<String, double[]> baselines = load(group);
+        baselines.put(name, samples.clone());
+        save(group, baselines);
+    }
+
+    /// Reads all the baselines in a group.
+    /// @param group the name of the group.
+    /// @return a sorted map of measurement names to samples; the map is empty if the file does not exist.
+    /// @throws UncheckedIOException if the baseline file cannot be read.
+    /// @throws IllegalStateException if the baseline file is not in the expected format.
+    public @NotNull SortedMap<String, double[]> load(final @NotNull String group) {
+        final Path file = file(group);
+        if (!Files.exists(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return new Parser(Files.readString(file, StandardCharsets.UTF_8), file).parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read baseline file " + file, e);
+        }
+    }
+
+    /// Writes all the baselines in a group, replacing the existing file.
+    /// @param group the name of the group.
+    /// @param baselines the map of measurement names to samples.
+    /// @throws UncheckedIOException if the baseline file cannot be written.
+    public void save(final @NotNull String group, final @NotNull Map<String, double[]> baselines) {
+        final StringBuilder json = new StringBuilder("{\n");
+        final Iterator<Map.Entry<String, double[]>> entries = new TreeMap<>(baselines).entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<String, double[]> entry = entries.next();
+            json.append("  ").append(ContractMetrics.json(entry.getKey())).append(": [");
+            final double[] samples = entry.getValue();
+            for (int i = 0; i < samples.length; i++) {
+                json.append(i == 0 ? "" : ", ").append(samples[i]);
+            }
+            json.append(entries.hasNext() ? "],\n" : "]\n");
+        }
+        json.append("}\n");
+
+        final Path file = file(group);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write baseline file " + file, e);
+        }
+    }
+
+    /// A parser for the restricted JSON format of the baseline files: a single object whose values are arrays of
+    /// numbers.
+    private static final class Parser {
+        private final String text;
+        private final Path file;
+        private int pos;
+
+        Parser(final String text, final Path file) {
+            this.text = text;
+            this.file = file;
+        }
+
+        SortedMap<String, double[]> parse() {
+            final SortedMap<String, double[]> result = new TreeMap<>();
+            expect('{');
+            if (peek() == '}') {
+                pos++;
+                return result;
+            }
+            do {
+                final String name = string();
+                expect(':');
+                result.put(name, array());
+            } while (consume(','));
+            expect('}');
+            return result;
+        }
+
+        private double[] array() {
+            expect('[');
+            final List<Double> values = new ArrayList<>();
+            if (peek() != ']') {
+                do {
+                    values.add(number());
+                } while (consume(','));
+            }
+            expect(']');
+            return values.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        private double number() {
+            skipWhitespace();
+            final int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            try {
+                return Double.parseDouble(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("number");
+            }
+        }
+
+        private String string() {
+            expect('"');
+            final StringBuilder builder = new StringBuilder();
+            while (pos < text.length() && text.charAt(pos) != '"') {
+                char c = text.charAt(pos++);
+                if (c == '\\' && pos < text.length()) {
+                    c = text.charAt(pos++);
+                    switch (c) {
+                        case 'n' -> builder.append('\n');
+                        case 'r' -> builder.append('\r');
+                        case 't' -> builder.append('\t');
+                        case 'u' -> {
+                            builder.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                            pos += 4;
+                        }
+                        default -> builder.append(c);
+                    }
+                } else {
+                    builder.append(c);
+                }
+            }
+            expect('"');
+            return builder.toString();
+        }
+
+        private boolean consume(final char c) {
+            if (peek() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (peek() != c) {
+                throw error("'" + c + "'");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            skipWhitespace();
+            return (pos < text.length()) ? text.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalStateException error(final String expected) {
+            return new IllegalStateException("invalid baseline file " + file + ": expected " + expected
+                    + " at offset " + pos);
+        }
+    }
+}
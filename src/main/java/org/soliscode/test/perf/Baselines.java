@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+/// Compares performance measurements against the baselines stored in a [BaselineStore]. A measurement is reported
+/// as a regression only if it is both statistically significant and large enough to matter:
+/// - the one-sided Mann-Whitney U test rejects the hypothesis that the samples are no larger than the baseline at
+///   the significance level [#alpha()], and
+/// - the median of the samples exceeds the median of the baseline by more than the relative [#tolerance()].
+///
+/// Raw timing thresholds are too noisy to gate a build, while the rank test only fails when the whole distribution of
+/// samples has moved.
+///
+/// In record mode, the samples replace the stored baseline and the comparison always passes. Measurements without a
+/// stored baseline also pass, so new measurements can be added before their baselines are recorded.
+///
+/// The default instance is configured with these system properties:
+/// - `soliscode.baselines.dir`: the baseline directory; the default is [BaselineStore#DEFAULT_DIRECTORY].
+/// - `soliscode.baselines.record`: set to `true` to record new baselines; the default is `false`.
+/// - `soliscode.baselines.alpha`: the significance level; the default is `0.01`.
+/// - `soliscode.baselines.tolerance`: the relative increase in the median that is tolerated; the default is `0.10`.
+///
+/// ```java
+///     double[] samples = new double[10];
+///     for (int i = 0; i < samples.length; i++) {
+///         long start = System.nanoTime();
+///         collection.contains(value);
+///         samples[i] = System.nanoTime() - start;
+///     }
+///     Baselines.defaults().assertNoRegression(getClass().getName(), "contains/100000", samples);
+/// ```
+///
+/// @param store the store for the baselines.
+/// @param record `true` if the samples should be recorded as the new baselines.
+/// @param alpha the significance level of the rank test.
+/// @param tolerance the relative increase in the median that is tolerated.
+/// @author evanbergstrom
+/// @since 1.0
+public record Baselines(@NotNull BaselineStore store, boolean record, double alpha, double tolerance) {
+
+    /// The minimum number of samples needed in both the measurement and the baseline for a comparison.
+    public static final int MIN_SAMPLES = 5;
+
+    /// Creates a baseline comparison.
+    /// @throws NullPointerException if the store is `null`.
+    /// @throws IllegalArgumentException if `alpha` is not between zero and one or `tolerance` is negative.
+    public Baselines {
+        Objects.requireNonNull(store);
+        if (!(alpha > 0.0 && alpha < 1.0)) {
+            throw new IllegalArgumentException("alpha must be between 0 and 1: " + alpha);
+        }
+        if (!(tolerance >= 0.0)) {
+            throw new IllegalArgumentException("tolerance must not be negative: " + tolerance);
+        }
+    }
+
+    /// Returns the baseline comparison configured from the system properties.
+    /// @return the default baseline comparison.
+    public static @NotNull Baselines defaults() {
+        return new Baselines(
+                new BaselineStore(Path.of(System.getProperty("soliscode.baselines.dir", BaselineStore.DEFAULT_DIRECTORY))),
+                Boolean.getBoolean("soliscode.baselines.record"),
+                Double.parseDouble(System.getProperty("soliscode.baselines.alpha", "0.01")),
+                Double.parseDouble(System.getProperty("soliscode.baselines.tolerance", "0.10")));
+    }
+
+    /// Returns `true` if the samples represent a significant regression from the baseline samples.
+    /// @param samples the current samples.
+    /// @param baseline the baseline samples.
+    /// @return `true` if the samples are significantly larger than the baseline.
+    public boolean isRegression(final double @NotNull [] samples, final double @NotNull [] baseline) {
+        if (samples.length < MIN_SAMPLES || baseline.length < MIN_SAMPLES) {
+            return false;
+        }
+        final double ratio = Statistics.median(samples) / Statistics.median(baseline);
+        return ratio > 1.0 + tolerance && Statistics.mannWhitneyGreater(samples, baseline) < alpha;
+    }
+
+    /// Asserts that the samples for a measurement are not a significant regression from the stored baseline. In
+    /// record mode, the samples are stored as the new baseline instead.
+    /// @param group the name of the baseline group, usually the name of the test class.
+    /// @param name the name of the measurement.
+    /// @param samples the samples for the measurement, such as elapsed times or operation counts.
+    /// @throws org.opentest4j.AssertionFailedError if the samples are a significant regression.
+    /// @throws IllegalArgumentException if there are fewer than [#MIN_SAMPLES] samples.
+    public void assertNoRegression(final @NotNull String group, final @NotNull String name,
+                                   final double @NotNull [] samples) {
+        if (samples.length < MIN_SAMPLES) {
+            throw new IllegalArgumentException("at least " + MIN_SAMPLES + " samples are needed: " + samples.length);
+        }
+        if (record) {
+            store.put(group, name, samples);
+            return;
+        }
+
+        final double[] baseline = store.get(group, name);
+        if (baseline != null && isRegression(samples, baseline)) {
+            assertionFailure()
+                    .message(String.format("%s/%s regressed: median %.1f vs. baseline %.1f (p = %.4f)", group, name,
+                            Statistics.median(samples), Statistics.median(baseline),
+                            Statistics.mannWhitneyGreater(samples, baseline)))
+                    .expected(Statistics.median(baseline))
+                    .actual(Statistics.median(samples))
+                    .buildAndThrow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+/// Consumes the results of timed operations so that the JIT compiler cannot remove the operations as dead code. A
+/// timed loop should combine the results it produces and pass the combined value to [#consume(int)] once:
+/// ```java
+///     int hash = 0;
+///     for (int i = 0; i < size; i++) {
+///         hash += Blackhole.hash(list.get(i));
+///     }
+///     Blackhole.consume(hash);
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+public final class Blackhole {
+
+    private static volatile int sink;
+
+    private Blackhole() {}
+
+    /// Consumes a value.
+    /// @param value the value to consume.
+    public static void consume(final int value) {
+        sink ^= value;
+    }
+
+    /// Consumes a value.
+    /// @param value the value to consume.
+    public static void consume(final long value) {
+        sink ^= Long.hashCode(value);
+    }
+
+    /// Consumes an object.
+    /// @param obj the object to consume.
+    public static void consume(final Object obj) {
+        sink ^= System.identityHashCode(obj);
+    }
+
+    /// Returns a value derived from an object that can be combined with other values before being consumed. The
+    /// value is the identity hash code, so it does not call any methods on the object being measured.
+    /// @param obj the object, which may be `null`.
+    /// @return a value derived from the object.
+    public static int hash(final Object obj) {
+        return (obj == null) ? 0 : System.identityHashCode(obj);
+    }
+}
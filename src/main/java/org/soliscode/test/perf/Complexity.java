@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+/// The asymptotic complexity models that can be fitted by the [ComplexityEstimator]. The models are declared in
+/// order of increasing growth, so they can be compared with [#compareTo(Enum)] or [#isAtMost(Complexity)].
+///
+/// @author evanbergstrom
+/// @since 1.0
+public enum Complexity {
+
+    /// _Constant time_, O(1).
+    CONSTANT("O(1)"),
+
+    /// _Logarithmic time_, O(log n).
+    LOGARITHMIC("O(log n)"),
+
+    /// _Linear time_, O(n).
+    LINEAR("O(n)"),
+
+    /// _Linearithmic time_, O(n log n).
+    LINEARITHMIC("O(n log n)"),
+
+    /// _Quadratic time_, O(n²).
+    QUADRATIC("O(n²)");
+
+    private final String notation;
+
+    Complexity(final String notation) {
+        this.notation = notation;
+    }
+
+    /// Returns the value of the growth function for this complexity at a size. The constant model returns zero,
+    /// since it has no term that depends upon the size.
+    /// @param n the size.
+    /// @return the value of the growth function.
+    public double growth(final double n) {
+        return switch (this) {
+            case CONSTANT -> 0.0;
+            case LOGARITHMIC -> Math.log(n);
+            case LINEAR -> n;
+            case LINEARITHMIC -> n * Math.log(n);
+            case QUADRATIC -> n * n;
+        };
+    }
+
+    /// Returns the complexity of performing an operation with this complexity once for each of `n` elements. Since
+    /// the models stop at quadratic, anything that grows faster than linear is reported as [#QUADRATIC].
+    /// @return the complexity of the repeated operation.
+    public @NotNull Complexity timesSize() {
+        return switch (this) {
+            case CONSTANT -> LINEAR;
+            case LOGARITHMIC -> LINEARITHMIC;
+            default -> QUADRATIC;
+        };
+    }
+
+    /// Returns `true` if this complexity grows no faster than another.
+    /// @param other the complexity to compare to.
+    /// @return `true` if this complexity is at most `other`.
+    public boolean isAtMost(final @NotNull Complexity other) {
+        return compareTo(other) <= 0;
+    }
+
+    /// Returns the big-O notation for this complexity.
+    /// @return the notation, _e.g._ `O(n log n)`.
+    @Override
+    public String toString() {
+        return notation;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/// The result of fitting the complexity models to a set of measurements.
+///
+/// @param complexity the complexity model selected as the best fit.
+/// @param errors the root-mean-square relative error of the fit for each model.
+/// @param sizes the sizes that were measured.
+/// @param values the measured value (time or operation count) for each size.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see ComplexityEstimator
+public record ComplexityEstimate(@NotNull Complexity complexity, @NotNull Map<Complexity, Double> errors,
+                                 int @NotNull [] sizes, double @NotNull [] values) {
+
+    /// Creates a complexity estimate.
+    /// @throws NullPointerException if any of the arguments are `null`.
+    /// @throws IllegalArgumentException if the number of sizes and values differ.
+    public ComplexityEstimate {
+        Objects.requireNonNull(complexity);
+        errors = Map.copyOf(new EnumMap<>(errors));
+        if (sizes.length != values.length) {
+            throw new IllegalArgumentException("sizes and values must have the same length");
+        }
+        sizes = sizes.clone();
+        values = values.clone();
+    }
+
+    /// Returns `true` if the estimated complexity grows no faster than the complexity provided.
+    /// @param expected the maximum complexity.
+    /// @return `true` if the estimate is at most `expected`.
+    public boolean isAtMost(final @NotNull Complexity expected) {
+        return complexity.isAtMost(expected);
+    }
+
+    /// Returns `true` if the measurements are consistent with an operation that takes constant time. Elapsed times
+    /// for a constant-time operation often grow slowly with the size, since large data structures do not fit in the
+    /// processor caches, so an estimate is considered constant if it is at most [Complexity#LOGARITHMIC], or if the
+    /// value at the largest size is less than the value at the smallest size multiplied by the square root of the
+    /// ratio of the sizes. A linear-time operation fails both tests.
+    /// @return `true` if the measurements are consistent with constant time.
+    public boolean isConstantTime() {
+        final double sizeRatio = (double) sizes[sizes.length - 1] / sizes[0];
+        final double valueRatio = values[values.length - 1] / Math.max(values[0], 1.0);
+        return isAtMost(Complexity.LOGARITHMIC) || valueRatio < Math.sqrt(sizeRatio);
+    }
+
+    @Override
+    public int @NotNull [] sizes() {
+        return sizes.clone();
+    }
+
+    @Override
+    public double @NotNull [] values() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ComplexityEstimate other
+                && complexity == other.complexity
+                && errors.equals(other.errors)
+                && Arrays.equals(sizes, other.sizes)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(complexity, errors, Arrays.hashCode(sizes), Arrays.hashCode(values));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(complexity.toString()).append(" [");
+        for (int i = 0; i < sizes.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(sizes[i]).append(": ").append(String.format("%.1f", values[i]));
+        }
+        return builder.append(']').toString();
+    }
+}
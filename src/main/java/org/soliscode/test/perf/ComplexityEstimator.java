@@ -0,0 +1,422 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+/// Estimates the asymptotic complexity of an operation by measuring it at several sizes and fitting the
+/// [Complexity] models to the measurements.
+///
+/// Each model is fitted as `y = a + b·g(n)` by weighted least squares, where `g` is the growth function of the
+/// model and the weights make the residuals relative to the measured values. This is equivalent to fitting on a
+/// logarithmic value axis, so the small sizes count as much as the large ones. The simplest model whose error is
+/// within [Builder#tolerance(double)] of the best error is selected, so an operation is never reported as more
+/// complex than the measurements require.
+///
+/// Measurements can either be deterministic operation counts, which are preferred because they are not affected by
+/// the JIT compiler or the garbage collector, or elapsed times. Elapsed times are measured after a number of warm-up
+/// rounds, repeated several times per size with the sizes interleaved, and the slowest repetitions for each size are
+/// trimmed before taking the median. Points that are far from the best fit are then trimmed before the final fit.
+///
+/// ```java
+///     ComplexityEstimator estimator = ComplexityEstimator.builder().sizes(1_000, 2_000, 4_000, 8_000).build();
+///     estimator.assertTimeAtMost(Complexity.CONSTANT, size -> {
+///         List<Integer> list = new ArrayList<>(elementProvider().createUniqueInstances(size));
+///         return () -> {
+///             for (int i = 0; i < 10_000; i++) {
+///                 list.get((i * 31) % size);
+///             }
+///         };
+///     });
+/// ```
+///
+/// The default sizes can be scaled with the system property `soliscode.perf.scale`, which is useful for running a
+/// larger profile of the performance contracts on a dedicated machine.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see Complexity
+public final class ComplexityEstimator {
+
+    /// The default sizes used by an estimator, before scaling.
+    public static final int[] DEFAULT_SIZES = {1_000, 2_000, 4_000, 8_000, 16_000, 32_000};
+
+    private static final double OUTLIER_FACTOR = 3.0;
+
+    private final int[] sizes;
+    private final int warmups;
+    private final int repetitions;
+    private final double trim;
+    private final double tolerance;
+    private final int attempts;
+
+    private ComplexityEstimator(final Builder builder) {
+        this.sizes = builder.sizes.clone();
+        this.warmups = builder.warmups;
+        this.repetitions = builder.repetitions;
+        this.trim = builder.trim;
+        this.tolerance = builder.tolerance;
+        this.attempts = builder.attempts;
+    }
+
+    /// Returns an estimator with the default configuration.
+    /// @return an estimator.
+    public static @NotNull ComplexityEstimator defaults() {
+        return builder().build();
+    }
+
+    /// Returns a builder for an estimator.
+    /// @return a builder.
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /// Returns the default sizes scaled by the system property `soliscode.perf.scale`.
+    /// @return the scaled default sizes.
+    public static int @NotNull [] scaledSizes() {
+        final double scale = Double.parseDouble(System.getProperty("soliscode.perf.scale", "1"));
+        return Arrays.stream(DEFAULT_SIZES).map(s -> (int) Math.max(1, Math.round(s * scale))).toArray();
+    }
+
+    /// Returns the sizes measured by this estimator.
+    /// @return the sizes.
+    public int @NotNull [] sizes() {
+        return sizes.clone();
+    }
+
+    /// Estimates the complexity of an operation from a deterministic count, such as the number of comparisons or
+    /// calls to `equals`. The counting function is called once for each size.
+    /// @param count returns the operation count for a size.
+    /// @return the complexity estimate.
+    public @NotNull ComplexityEstimate estimateCount(final @NotNull IntToLongFunction count) {
+        final double[] values = new double[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            values[i] = count.applyAsLong(sizes[i]);
+        }
+        return fit(sizes, values);
+    }
+
+    /// Estimates the complexity of an operation from its elapsed time. The setup function is called for each size
+    /// and repetition to create the fixture, and returns the operation to time; the setup itself is not timed.
+    /// @param setup creates the fixture for a size and returns the operation to time.
+    /// @return the complexity estimate.
+    public @NotNull ComplexityEstimate estimateTime(final @NotNull IntFunction<Runnable> setup) {
+        for (int w = 0; w < warmups; w++) {
+            for (int size : sizes) {
+                setup.apply(size).run();
+            }
+        }
+
+        final double[][] samples = new double[sizes.length][repetitions];
+        for (int r = 0; r < repetitions; r++) {
+            for (int i = 0; i < sizes.length; i++) {
+                final Runnable operation = setup.apply(sizes[i]);
+                final long start = System.nanoTime();
+                operation.run();
+                samples[i][r] = System.nanoTime() - start;
+            }
+        }
+
+        final double[] values = new double[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            values[i] = trimmedMedian(samples[i]);
+        }
+        return fit(sizes, values);
+    }
+
+    /// Measures the elapsed time of an operation at a single size, so that the samples can be compared with a
+    /// [baseline][Baselines]. The operation is run for the [warm-up rounds][Builder#warmups(int)] and then timed
+    /// [Builder#repetitions(int)] times. The setup function is called before each run to create the fixture, and
+    /// returns the operation to time; the setup itself is not timed.
+    /// @param setup creates the fixture and returns the operation to time.
+    /// @return the elapsed time of each repetition in nanoseconds.
+    public double @NotNull [] sampleTime(final @NotNull Supplier<Runnable> setup) {
+        for (int w = 0; w < warmups; w++) {
+            setup.get().run();
+        }
+
+        final double[] samples = new double[repetitions];
+        for (int r = 0; r < repetitions; r++) {
+            final Runnable operation = setup.get();
+            final long start = System.nanoTime();
+            operation.run();
+            samples[r] = System.nanoTime() - start;
+        }
+        return samples;
+    }
+
+    /// Asserts that the operation count grows no faster than the expected complexity.
+    /// @param expected the maximum complexity.
+    /// @param count returns the operation count for a size.
+    /// @return the complexity estimate.
+    /// @throws org.opentest4j.AssertionFailedError if the estimated complexity is greater than `expected`.
+    public @NotNull ComplexityEstimate assertCountAtMost(final @NotNull Complexity expected,
+                                                         final @NotNull IntToLongFunction count) {
+        final ComplexityEstimate estimate = estimateCount(count);
+        if (!estimate.isAtMost(expected)) {
+            fail(expected, estimate, "operation count");
+        }
+        return estimate;
+    }
+
+    /// Asserts that the elapsed time of the operation grows no faster than the expected complexity. Since timing is
+    /// noisy, the measurement is repeated up to [Builder#attempts(int)] times before the assertion fails.
+    /// @param expected the maximum complexity.
+    /// @param setup creates the fixture for a size and returns the operation to time.
+    /// @return the complexity estimate.
+    /// @throws org.opentest4j.AssertionFailedError if the estimated complexity is greater than `expected`.
+    public @NotNull ComplexityEstimate assertTimeAtMost(final @NotNull Complexity expected,
+                                                        final @NotNull IntFunction<Runnable> setup) {
+        ComplexityEstimate estimate = estimateTime(setup);
+        for (int attempt = 1; attempt < attempts && !estimate.isAtMost(expected); attempt++) {
+            estimate = estimateTime(setup);
+        }
+        if (!estimate.isAtMost(expected)) {
+            fail(expected, estimate, "elapsed time");
+        }
+        return estimate;
+    }
+
+    private static void fail(final Complexity expected, final ComplexityEstimate estimate, final String what) {
+        assertionFailure()
+                .message("expected " + what + " to be at most " + expected + " but was " + estimate)
+                .expected(expected)
+                .actual(estimate.complexity())
+                .buildAndThrow();
+    }
+
+    /// Fits the complexity models to a set of measurements using the tolerance of this estimator.
+    /// @param sizes the sizes measured.
+    /// @param values the measured values for each size.
+    /// @return the complexity estimate.
+    /// @throws IllegalArgumentException if there are fewer than three sizes or the lengths differ.
+    public @NotNull ComplexityEstimate fit(final int @NotNull [] sizes, final double @NotNull [] values) {
+        if (sizes.length != values.length) {
+            throw new IllegalArgumentException("sizes and values must have the same length");
+        }
+        if (sizes.length < 3) {
+            throw new IllegalArgumentException("at least three sizes are needed: " + sizes.length);
+        }
+
+        final double max = Arrays.stream(values).max().orElse(0.0);
+        if (max <= 0.0) {
+            return new ComplexityEstimate(Complexity.CONSTANT, Map.of(Complexity.CONSTANT, 0.0), sizes, values);
+        }
+
+        // Values of zero cannot be weighted relative to themselves, so they are raised to a small positive floor.
+        final double floor = Math.max(1e-9, max * 1e-6);
+        final double[] y = Arrays.stream(values).map(v -> Math.max(v, floor)).toArray();
+        final boolean[] used = new boolean[y.length];
+        Arrays.fill(used, true);
+
+        Map<Complexity, Double> errors = errors(sizes, y, used);
+        Complexity best = select(errors);
+
+        if (y.length >= 5) {
+            final double[] residuals = residuals(sizes, y, used, best);
+            int worst = 0;
+            for (int i = 1; i < residuals.length; i++) {
+                if (Math.abs(residuals[i]) > Math.abs(residuals[worst])) {
+                    worst = i;
+                }
+            }
+            double others = 0.0;
+            for (int i = 0; i < residuals.length; i++) {
+                others += (i == worst) ? 0.0 : residuals[i] * residuals[i];
+            }
+            others = Math.sqrt(others / (residuals.length - 1));
+            final double outlier = Math.abs(residuals[worst]);
+            if (outlier > tolerance && outlier > OUTLIER_FACTOR * others) {
+                used[worst] = false;
+                errors = errors(sizes, y, used);
+                best = select(errors);
+            }
+        }
+        return new ComplexityEstimate(best, errors, sizes, values);
+    }
+
+    private Complexity select(final Map<Complexity, Double> errors) {
+        final double best = Collections.min(errors.values());
+        for (Complexity c : Complexity.values()) {
+            if (errors.get(c) <= best + tolerance) {
+                return c;
+            }
+        }
+        throw new IllegalStateException("no complexity selected");
+    }
+
+    private static Map<Complexity, Double> errors(final int[] sizes, final double[] y, final boolean[] used) {
+        final Map<Complexity, Double> errors = new EnumMap<>(Complexity.class);
+        for (Complexity c : Complexity.values()) {
+            final double[] r = residuals(sizes, y, used, c);
+            double sum = 0.0;
+            int count = 0;
+            for (int i = 0; i < r.length; i++) {
+                if (used[i]) {
+                    sum += r[i] * r[i];
+                    count++;
+                }
+            }
+            errors.put(c, Math.sqrt(sum / count));
+        }
+        return errors;
+    }
+
+    // Fits y = a + b·g(n) with weights 1/y² and non-negative coefficients, and returns the relative residuals.
+    private static double[] residuals(final int[] sizes, final double[] y, final boolean[] used, final Complexity c) {
+        double sw = 0, sg = 0, sy = 0, sgg = 0, sgy = 0;
+        for (int i = 0; i < y.length; i++) {
+            if (used[i]) {
+                final double w = 1.0 / (y[i] * y[i]);
+                final double g = c.growth(sizes[i]);
+                sw += w;
+                sg += w * g;
+                sy += w * y[i];
+                sgg += w * g * g;
+                sgy += w * g * y[i];
+            }
+        }
+
+        double a = sy / sw;
+        double b = 0.0;
+        final double d = sw * sgg - sg * sg;
+        if (c != Complexity.CONSTANT && d > 0.0) {
+            b = (sw * sgy - sg * sy) / d;
+            a = (sy - b * sg) / sw;
+            if (b < 0.0) {
+                a = sy / sw;
+                b = 0.0;
+            } else if (a < 0.0) {
+                a = 0.0;
+                b = sgy / sgg;
+            }
+        }
+
+        final double[] residuals = new double[y.length];
+        for (int i = 0; i < y.length; i++) {
+            residuals[i] = (y[i] - a - b * c.growth(sizes[i])) / y[i];
+        }
+        return residuals;
+    }
+
+    private double trimmedMedian(final double[] samples) {
+        final double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        final int kept = Math.max(1, sorted.length - (int) Math.ceil(trim * sorted.length));
+        return Statistics.median(Arrays.copyOf(sorted, kept));
+    }
+
+    /// A builder for a [ComplexityEstimator].
+    ///
+    /// @author evanbergstrom
+    /// @since 1.0
+    public static final class Builder {
+        private int[] sizes = scaledSizes();
+        private int warmups = 2;
+        private int repetitions = 5;
+        private double trim = 0.2;
+        private double tolerance = 0.05;
+        private int attempts = 3;
+
+        private Builder() {}
+
+        /// Sets the sizes to measure. The sizes should grow geometrically so that the models can be distinguished.
+        /// @param sizes the sizes, at least three.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if there are fewer than three sizes or any size is not positive.
+        public @NotNull Builder sizes(final int @NotNull ... sizes) {
+            if (sizes.length < 3 || Arrays.stream(sizes).anyMatch(s -> s <= 0)) {
+                throw new IllegalArgumentException("at least three positive sizes are needed");
+            }
+            this.sizes = sizes.clone();
+            return this;
+        }
+
+        /// Sets the number of untimed rounds over all sizes before measuring.
+        /// @param warmups the number of warm-up rounds.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `warmups` is negative.
+        public @NotNull Builder warmups(final int warmups) {
+            if (warmups < 0) {
+                throw new IllegalArgumentException("warmups must not be negative: " + warmups);
+            }
+            this.warmups = warmups;
+            return this;
+        }
+
+        /// Sets the number of timed repetitions for each size.
+        /// @param repetitions the number of repetitions.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `repetitions` is less than one.
+        public @NotNull Builder repetitions(final int repetitions) {
+            if (repetitions < 1) {
+                throw new IllegalArgumentException("repetitions must be positive: " + repetitions);
+            }
+            this.repetitions = repetitions;
+            return this;
+        }
+
+        /// Sets the fraction of the slowest repetitions for each size that are discarded as outliers.
+        /// @param trim the fraction to discard, from zero up to but not including one.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `trim` is out of range.
+        public @NotNull Builder trim(final double trim) {
+            if (!(trim >= 0.0 && trim < 1.0)) {
+                throw new IllegalArgumentException("trim must be in [0, 1): " + trim);
+            }
+            this.trim = trim;
+            return this;
+        }
+
+        /// Sets the difference in relative error within which a simpler model is preferred to the best model.
+        /// @param tolerance the tolerance.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `tolerance` is negative.
+        public @NotNull Builder tolerance(final double tolerance) {
+            if (!(tolerance >= 0.0)) {
+                throw new IllegalArgumentException("tolerance must not be negative: " + tolerance);
+            }
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        /// Sets the number of times a timed assertion is measured before it fails.
+        /// @param attempts the number of attempts.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `attempts` is less than one.
+        public @NotNull Builder attempts(final int attempts) {
+            if (attempts < 1) {
+                throw new IllegalArgumentException("attempts must be positive: " + attempts);
+            }
+            this.attempts = attempts;
+            return this;
+        }
+
+        /// Builds the estimator.
+        /// @return the estimator.
+        public @NotNull ComplexityEstimator build() {
+            return new ComplexityEstimator(this);
+        }
+    }
+}
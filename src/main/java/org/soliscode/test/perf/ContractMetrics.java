@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/// The metrics recorded by the [ContractMetricsExtension] for the execution of a single test method.
+///
+/// @param implementation the name of the test class, which identifies the implementation under test.
+/// @param contract the name of the class or interface that declares the test method.
+/// @param method the name of the test method.
+/// @param displayName the display name of the test.
+/// @param outcome the outcome of the test: `successful`, `failed` or `aborted`.
+/// @param wallNanos the elapsed time of the test, in nanoseconds.
+/// @param allocatedBytes the bytes allocated by the test thread, or `-1` if this cannot be measured.
+/// @param gcMillis the time spent in garbage collection while the test was running, in milliseconds.
+/// @param gcCount the number of garbage collections while the test was running.
+/// @author evanbergstrom
+/// @since 1.0
+public record ContractMetrics(@NotNull String implementation, @NotNull String contract, @NotNull String method,
+                              @NotNull String displayName, @NotNull String outcome, long wallNanos,
+                              long allocatedBytes, long gcMillis, long gcCount) {
+
+    /// The header line for the CSV format returned by [#toCsv()].
+    public static final String CSV_HEADER =
+            "implementation,contract,method,displayName,outcome,wallNanos,allocatedBytes,gcMillis,gcCount";
+
+    /// Creates the metrics for a test method.
+    /// @throws NullPointerException if any of the string values are `null`.
+    public ContractMetrics {
+        Objects.requireNonNull(implementation);
+        Objects.requireNonNull(contract);
+        Objects.requireNonNull(method);
+        Objects.requireNonNull(displayName);
+        Objects.requireNonNull(outcome);
+    }
+
+    /// Returns the metrics as a line of comma separated values, in the order given by [#CSV_HEADER].
+    /// @return the metrics in CSV format.
+    public @NotNull String toCsv() {
+        return String.join(",", csv(implementation), csv(contract), csv(method), csv(displayName), csv(outcome),
+                String.valueOf(wallNanos), String.valueOf(allocatedBytes), String.valueOf(gcMillis),
+                String.valueOf(gcCount));
+    }
+
+    /// Returns the metrics as a JSON object.
+    /// @return the metrics in JSON format.
+    public @NotNull String toJson() {
+        return "{\"implementation\":" + json(implementation)
+                + ",\"contract\":" + json(contract)
+                + ",\"method\":" + json(method)
+                + ",\"displayName\":" + json(displayName)
+                + ",\"outcome\":" + json(outcome)
+                + ",\"wallNanos\":" + wallNanos
+                + ",\"allocatedBytes\":" + allocatedBytes
+                + ",\"gcMillis\":" + gcMillis
+                + ",\"gcCount\":" + gcCount
+                + "}";
+    }
+
+    private static String csv(final String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    static String json(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
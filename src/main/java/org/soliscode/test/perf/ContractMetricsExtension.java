@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.*;
+import org.opentest4j.TestAbortedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/// A JUnit extension that records the wall time, the bytes allocated and the garbage collection time for each test
+/// method, and writes a report for each test class when the class completes. The extension is registered on
+/// [org.soliscode.test.AbstractTest], so every contract test records metrics without any additional setup. It can
+/// also be registered directly:
+/// ```java
+///     @ExtendWith(ContractMetricsExtension.class)
+///     public class ArrayListTest implements ListContract<Integer, ArrayList<Integer>> {
+/// ```
+///
+/// The test class identifies the implementation under test, and the interface that declares the test method
+/// identifies the contract. Two reports are written for each test class, `<class name>.json` and
+/// `<class name>.csv`, using the fields defined by [ContractMetrics].
+///
+/// The extension is configured with the following JUnit configuration parameters, which may also be set as system
+/// properties:
+/// - `soliscode.metrics.enabled`: set to `false` to disable the extension; the default is `true`.
+/// - `soliscode.metrics.dir`: the directory for the reports; the default is `target/soliscode-metrics`.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see ContractMetrics
+public class ContractMetricsExtension implements BeforeAllCallback, AfterAllCallback,
+        BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    /// The configuration parameter used to enable or disable the extension.
+    public static final String ENABLED_PARAMETER = "soliscode.metrics.enabled";
+
+    /// The configuration parameter used to set the report directory.
+    public static final String DIRECTORY_PARAMETER = "soliscode.metrics.dir";
+
+    /// The default report directory.
+    public static final String DEFAULT_DIRECTORY = "target/soliscode-metrics";
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ContractMetricsExtension.class);
+
+    private record Start(long wallNanos, long allocatedBytes, long gcMillis, long gcCount) {
+
+        static Start now() {
+            final long gcMillis = Allocations.gcTimeMillis();
+            final long gcCount = Allocations.gcCount();
+            final long allocatedBytes = Allocations.allocatedBytes();
+            return new Start(System.nanoTime(), allocatedBytes, gcMillis, gcCount);
+        }
+    }
+
+    @Override
+    public void beforeAll(final @NotNull ExtensionContext context) {
+        if (isEnabled(context)) {
+            context.getStore(NAMESPACE).put(context.getRequiredTestClass(),
+                    Collections.synchronizedList(new ArrayList<ContractMetrics>()));
+        }
+    }
+
+    @Override
+    public void beforeTestExecution(final @NotNull ExtensionContext context) {
+        if (isEnabled(context)) {
+            context.getStore(NAMESPACE).put(Start.class, Start.now());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(final @NotNull ExtensionContext context) {
+        final long wallNanos = System.nanoTime();
+        final long allocatedBytes = Allocations.allocatedBytes();
+        final Start start = context.getStore(NAMESPACE).remove(Start.class, Start.class);
+        final List<ContractMetrics> metrics = metrics(context);
+        if (start == null || metrics == null) {
+            return;
+        }
+
+        final String outcome = context.getExecutionException()
+                .map(e -> (e instanceof TestAbortedException) ? "aborted" : "failed")
+                .orElse("successful");
+
+        metrics.add(new ContractMetrics(
+                context.getRequiredTestClass().getName(),
+                context.getRequiredTestMethod().getDeclaringClass().getName(),
+                context.getRequiredTestMethod().getName(),
+                context.getDisplayName(),
+                outcome,
+                wallNanos - start.wallNanos(),
+                (start.allocatedBytes() < 0) ? -1L : allocatedBytes - start.allocatedBytes(),
+                Allocations.gcTimeMillis() - start.gcMillis(),
+                Allocations.gcCount() - start.gcCount()));
+    }
+
+    @Override
+    public void afterAll(final @NotNull ExtensionContext context) {
+        final List<ContractMetrics> metrics = metrics(context);
+        if (metrics == null || metrics.isEmpty()) {
+            return;
+        }
+
+        final Path directory = Path.of(context.getConfigurationParameter(DIRECTORY_PARAMETER).orElse(DEFAULT_DIRECTORY));
+        final String name = context.getRequiredTestClass().getName();
+        synchronized (metrics) {
+            writeReport(directory, name, metrics);
+        }
+    }
+
+    /// Writes the JSON and CSV reports for a test class.
+    /// @param directory the directory for the reports.
+    /// @param name the base name of the report files.
+    /// @param metrics the metrics to write.
+    /// @throws UncheckedIOException if the reports cannot be written.
+    public static void writeReport(final @NotNull Path directory, final @NotNull String name,
+                                   final @NotNull List<ContractMetrics> metrics) {
+        final StringBuilder json = new StringBuilder("[\n");
+        final StringBuilder csv = new StringBuilder(ContractMetrics.CSV_HEADER).append('\n');
+        for (int i = 0; i < metrics.size(); i++) {
+            json.append("  ").append(metrics.get(i).toJson()).append(i < metrics.size() - 1 ? ",\n" : "\n");
+            csv.append(metrics.get(i).toCsv()).append('\n');
+        }
+        json.append("]\n");
+
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".json"), json, StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve(name + ".csv"), csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write metrics report for " + name, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ContractMetrics> metrics(final ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(context.getRequiredTestClass(), List.class);
+    }
+
+    private static boolean isEnabled(final ExtensionContext context) {
+        return context.getConfigurationParameter(ENABLED_PARAMETER, Boolean::parseBoolean).orElse(true);
+    }
+}
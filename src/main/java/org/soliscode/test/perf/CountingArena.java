@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/// An [Arena] that counts the native memory allocated through it. The memory is allocated by another arena, and is
+/// released when this arena is [closed][#close()], so the count can be used to check that a class that allocates
+/// native memory releases it. Counting arenas are normally created by a [NativeMemoryTracker], which sums the memory
+/// held by all of the arenas it has created that are still open.
+///
+/// ```java
+///     try (CountingArena arena = new CountingArena(Arena.ofConfined())) {
+///         arena.allocate(1024);
+///         assertEquals(1024, arena.allocatedBytes());
+///     }
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see NativeMemoryTracker
+public final class CountingArena implements Arena {
+
+    private final @NotNull Arena delegate;
+    private final @NotNull LongConsumer listener;
+    private long allocatedBytes;
+    private int allocations;
+
+    /// Creates a counting arena that allocates memory from another arena.
+    /// @param delegate the arena that allocates the memory.
+    /// @throws NullPointerException if the arena is `null`.
+    public CountingArena(final @NotNull Arena delegate) {
+        this(delegate, bytes -> {});
+    }
+
+    /// Creates a counting arena that allocates memory from another arena, and reports the change in the number of
+    /// bytes it holds to a listener: the size of each allocation, and the negative of the total when it is closed.
+    /// @param delegate the arena that allocates the memory.
+    /// @param listener the listener for changes in the number of bytes held.
+    /// @throws NullPointerException if either argument is `null`.
+    public CountingArena(final @NotNull Arena delegate, final @NotNull LongConsumer listener) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public @NotNull MemorySegment allocate(final long byteSize, final long byteAlignment) {
+        final MemorySegment segment = delegate.allocate(byteSize, byteAlignment);
+        allocatedBytes += byteSize;
+        allocations++;
+        listener.accept(byteSize);
+        return segment;
+    }
+
+    @Override
+    public @NotNull MemorySegment.Scope scope() {
+        return delegate.scope();
+    }
+
+    /// Closes the arena, releasing the memory allocated through it.
+    /// @throws IllegalStateException if the arena is already closed.
+    @Override
+    public void close() {
+        delegate.close();
+        listener.accept(-allocatedBytes);
+    }
+
+    /// Returns `true` if the arena has not been closed.
+    /// @return `true` if the arena is open.
+    public boolean isOpen() {
+        return delegate.scope().isAlive();
+    }
+
+    /// Returns the number of bytes that have been allocated through the arena, including those that have been released
+    /// by closing it.
+    /// @return the number of bytes allocated.
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /// Returns the number of segments that have been allocated through the arena.
+    /// @return the number of allocations.
+    public int allocations() {
+        return allocations;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/// A comparator that counts the number of comparisons made, so that the complexity of an algorithm can be measured
+/// with a deterministic count instead of elapsed time.
+///
+/// ```java
+///     CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+///     list.sort(comparator);
+///     long comparisons = comparator.count();
+/// ```
+///
+/// @param <T> the type of objects that may be compared.
+/// @author evanbergstrom
+/// @since 1.0
+public final class CountingComparator<T> implements Comparator<T> {
+
+    private final Comparator<? super T> comparator;
+    private long count;
+
+    /// Creates a counting comparator that delegates to another comparator.
+    /// @param comparator the comparator that compares the objects.
+    /// @throws NullPointerException if the comparator is `null`.
+    public CountingComparator(final @NotNull Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    @Override
+    public int compare(final T o1, final T o2) {
+        count++;
+        return comparator.compare(o1, o2);
+    }
+
+    /// Returns the number of comparisons made since the comparator was created or last reset.
+    /// @return the number of comparisons.
+    public long count() {
+        return count;
+    }
+
+    /// Resets the number of comparisons to zero.
+    public void reset() {
+        count = 0;
+    }
+}
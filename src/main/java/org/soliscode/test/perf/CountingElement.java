@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/// An element with an integer value that records each call to its `equals`, `hashCode` and `compareTo` methods in an
+/// [OperationCounter]. Elements are equal if they have the same value, regardless of the counter they use, and are
+/// ordered by their values.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see OperationCounter
+/// @see org.soliscode.test.provider.CountingElementProvider
+public final class CountingElement implements Comparable<CountingElement> {
+
+    private final int value;
+    private final OperationCounter counter;
+
+    /// Creates an element.
+    /// @param value the value of the element.
+    /// @param counter the counter that records the calls to the element.
+    /// @throws NullPointerException if the counter is `null`.
+    public CountingElement(final int value, final @NotNull OperationCounter counter) {
+        this.value = value;
+        this.counter = Objects.requireNonNull(counter);
+    }
+
+    /// Returns the value of the element.
+    /// @return the value.
+    public int value() {
+        return value;
+    }
+
+    /// Returns the counter that records the calls to the element.
+    /// @return the counter.
+    public @NotNull OperationCounter counter() {
+        return counter;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        counter.countEquals();
+        return obj instanceof CountingElement other && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        counter.countHashCode();
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public int compareTo(final @NotNull CountingElement other) {
+        counter.countCompareTo();
+        return Integer.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return "CountingElement[" + value + "]";
+    }
+}
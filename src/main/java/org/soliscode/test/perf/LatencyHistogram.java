@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/// A histogram of latencies, or any other non-negative values, that records each value in constant time and
+/// constant space, in the manner of an HDR histogram. The values are counted in buckets whose width grows with the
+/// magnitude of the value: each power of two is divided into [#SUB_BUCKETS] buckets of equal width, so every
+/// recorded value is reported with a relative error of less than `1 / SUB_BUCKETS`, which is better than two
+/// significant decimal digits. Values below `2 * SUB_BUCKETS` are recorded exactly.
+///
+/// ```java
+///     LatencyHistogram histogram = new LatencyHistogram();
+///     histogram.record(System.nanoTime() - start);
+///     long p99 = histogram.valueAtPercentile(99.0);
+/// ```
+///
+/// A histogram is not thread-safe. Concurrent recorders should each use their own histogram and
+/// [add][#add(LatencyHistogram)] them together when they have finished.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public final class LatencyHistogram {
+
+    // The number of significant bits kept for a value; the top bit is always set, so the remaining bits select one
+    // of SUB_BUCKETS buckets within a power of two.
+    private static final int PRECISION_BITS = 8;
+
+    /// The number of buckets ({@value}) that each power of two is divided into.
+    public static final int SUB_BUCKETS = 1 << (PRECISION_BITS - 1);
+
+    // Enough buckets for the largest long value, whose shift is 63 - PRECISION_BITS.
+    private static final int BUCKETS = (65 - PRECISION_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /// Creates an empty histogram.
+    public LatencyHistogram() {}
+
+    /// Records a value.
+    /// @param value the value to record.
+    /// @throws IllegalArgumentException if the value is negative.
+    public void record(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("negative value: " + value);
+        }
+        counts[bucket(value)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /// Adds the values recorded by another histogram to this histogram.
+    /// @param other the histogram to add.
+    public void add(final @NotNull LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /// Returns the number of values recorded.
+    /// @return the number of values.
+    public long count() {
+        return count;
+    }
+
+    /// Returns the smallest value recorded, which is exact.
+    /// @return the smallest value, or `0` if no values have been recorded.
+    public long min() {
+        return (count == 0) ? 0L : min;
+    }
+
+    /// Returns the largest value recorded, which is exact.
+    /// @return the largest value, or `0` if no values have been recorded.
+    public long max() {
+        return max;
+    }
+
+    /// Returns the mean of the values recorded, which is exact.
+    /// @return the mean, or `0` if no values have been recorded.
+    public double mean() {
+        return (count == 0) ? 0.0 : (double) total / count;
+    }
+
+    /// Returns the value at a percentile: the smallest value such that the given percentage of the recorded values
+    /// are at or below it. The value returned is the largest value in its bucket, but no larger than [#max()], so it
+    /// is never smaller than the exact percentile.
+    /// @param percentile the percentile, from `0` to `100`.
+    /// @return the value at the percentile, or `0` if no values have been recorded.
+    /// @throws IllegalArgumentException if the percentile is not between `0` and `100`.
+    public long valueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, highestValue(i));
+            }
+        }
+        return max;
+    }
+
+    /// Removes all the recorded values.
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /// Returns a summary of the histogram, with the count, the 50th, 99th and 99.9th percentiles and the maximum.
+    /// @return the summary.
+    @Override
+    public String toString() {
+        return "count=" + count
+                + ", p50=" + valueAtPercentile(50.0)
+                + ", p99=" + valueAtPercentile(99.0)
+                + ", p999=" + valueAtPercentile(99.9)
+                + ", max=" + max();
+    }
+
+    // Values below 2 * SUB_BUCKETS have a bucket each. Larger values are shifted right so that PRECISION_BITS
+    // significant bits remain, which leaves a value from SUB_BUCKETS to 2 * SUB_BUCKETS - 1; each shift adds
+    // SUB_BUCKETS buckets.
+    private static int bucket(final long value) {
+        final int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - PRECISION_BITS);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    // Returns the largest value that is recorded in a bucket.
+    private static long highestValue(final int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long significand = bucket - (long) shift * SUB_BUCKETS;
+        return ((significand + 1) << shift) - 1;
+    }
+}
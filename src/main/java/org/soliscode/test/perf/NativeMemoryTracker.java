@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/// Creates [counting arenas][CountingArena] and tracks the native memory that they hold. A class that allocates native
+/// memory, such as an off-heap collection, is given the tracker as the source of its arenas, so a test can check that
+/// the memory is released when the class is cleared or closed. A tracker is normally created for each test, and is
+/// closed after the test to release any memory that the test did not release:
+///
+/// ```java
+///     try (NativeMemoryTracker tracker = new NativeMemoryTracker()) {
+///         OffHeapList list = new OffHeapList(tracker);
+///         list.add(1);
+///         list.close();
+///         assertEquals(0, tracker.liveBytes());
+///     }
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CountingArena
+public final class NativeMemoryTracker implements Supplier<Arena>, AutoCloseable {
+
+    private final @NotNull Supplier<Arena> arenaFactory;
+    private final @NotNull List<CountingArena> arenas = new ArrayList<>();
+    private long liveBytes;
+    private long allocatedBytes;
+
+    /// Creates a tracker whose arenas allocate memory from [confined arenas][Arena#ofConfined()].
+    public NativeMemoryTracker() {
+        this(Arena::ofConfined);
+    }
+
+    /// Creates a tracker whose arenas allocate memory from the arenas created by a factory.
+    /// @param arenaFactory creates the arenas that allocate the memory.
+    /// @throws NullPointerException if the factory is `null`.
+    public NativeMemoryTracker(final @NotNull Supplier<Arena> arenaFactory) {
+        this.arenaFactory = Objects.requireNonNull(arenaFactory);
+    }
+
+    /// Creates a counting arena whose memory is tracked by this tracker.
+    /// @return a new counting arena.
+    @Override
+    public @NotNull CountingArena get() {
+        final CountingArena arena = new CountingArena(arenaFactory.get(), this::update);
+        arenas.add(arena);
+        return arena;
+    }
+
+    private void update(final long bytes) {
+        liveBytes += bytes;
+        if (bytes > 0) {
+            allocatedBytes += bytes;
+        }
+    }
+
+    /// Returns the number of bytes held by the arenas that are still open.
+    /// @return the number of bytes that have not been released.
+    public long liveBytes() {
+        return liveBytes;
+    }
+
+    /// Returns the number of bytes allocated by all of the arenas, including those that have been released.
+    /// @return the number of bytes allocated.
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /// Returns the number of arenas that are still open.
+    /// @return the number of open arenas.
+    public int openArenas() {
+        arenas.removeIf(arena -> !arena.isOpen());
+        return arenas.size();
+    }
+
+    /// Closes the arenas that are still open, releasing the memory that they hold.
+    @Override
+    public void close() {
+        for (CountingArena arena : arenas) {
+            if (arena.isOpen()) {
+                arena.close();
+            }
+        }
+        arenas.clear();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+/// Counts the calls made to the `equals`, `hashCode` and `compareTo` methods of [CountingElement] objects, so that
+/// the complexity of a collection operation can be measured with a deterministic count instead of elapsed time.
+///
+/// ```java
+///     OperationCounter counter = new OperationCounter();
+///     List<CountingElement> values = new CountingElementProvider(counter).createUniqueInstances(1_000);
+///     Collection<CountingElement> collection = new ArrayList<>(values);
+///     counter.reset();
+///     collection.removeAll(new HashSet<>(values.subList(0, 500)));
+///     long equalsCalls = counter.equalsCount();
+/// ```
+///
+/// A counter is not thread-safe; it is intended to be used by a single test thread.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CountingElement
+public final class OperationCounter {
+
+    private long equalsCount;
+    private long hashCodeCount;
+    private long compareToCount;
+
+    /// Creates a counter with all the counts set to zero.
+    public OperationCounter() {}
+
+    void countEquals() {
+        equalsCount++;
+    }
+
+    void countHashCode() {
+        hashCodeCount++;
+    }
+
+    void countCompareTo() {
+        compareToCount++;
+    }
+
+    /// Returns the number of calls to the `equals` method.
+    /// @return the number of calls.
+    public long equalsCount() {
+        return equalsCount;
+    }
+
+    /// Returns the number of calls to the `hashCode` method.
+    /// @return the number of calls.
+    public long hashCodeCount() {
+        return hashCodeCount;
+    }
+
+    /// Returns the number of calls to the `compareTo` method.
+    /// @return the number of calls.
+    public long compareToCount() {
+        return compareToCount;
+    }
+
+    /// Returns the total number of calls to all the counted methods.
+    /// @return the number of calls.
+    public long total() {
+        return equalsCount + hashCodeCount + compareToCount;
+    }
+
+    /// Resets all the counts to zero.
+    public void reset() {
+        equalsCount = 0;
+        hashCodeCount = 0;
+        compareToCount = 0;
+    }
+
+    /// Resets the counts, runs an operation and returns the total number of calls that it made.
+    /// @param operation the operation to count.
+    /// @return the number of calls made by the operation.
+    public long count(final @NotNull Runnable operation) {
+        reset();
+        operation.run();
+        return total();
+    }
+
+    @Override
+    public String toString() {
+        return "OperationCounter[equals=" + equalsCount + ", hashCode=" + hashCodeCount + ", compareTo="
+                + compareToCount + "]";
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/// Passes messages through a [BlockingQueue] from a number of producer threads to a number of consumer threads and
+/// records the time from when each message is [put][BlockingQueue#put(Object)] into the queue until it is
+/// [polled][BlockingQueue#poll(long, TimeUnit)] from it in a [LatencyHistogram].
+///
+/// The messages are divided between the producers, which put them into the queue at a fixed
+/// [interval][Builder#interval(Duration)], so that the queue is not simply filled as fast as possible and the
+/// latency measured is that of a hand-off rather than the time a message waits behind a backlog. Each consumer
+/// records into its own histogram, and the histograms are added together when the consumers have finished. The
+/// threads can be either platform or virtual threads:
+/// ```java
+///     ProducerConsumerHarness harness = ProducerConsumerHarness.builder()
+///         .producers(4).consumers(2).threads(ProducerConsumerHarness.Threads.VIRTUAL).build();
+///     ProducerConsumerHarness.Result result = harness.run(new LinkedBlockingQueue<>(), messages);
+///     long p99 = result.latencies().valueAtPercentile(99.0);
+/// ```
+///
+/// The messages must be distinct, since a consumer identifies a message by looking it up; a message that is
+/// delivered more than once is counted as a [duplicate][Result#duplicates()].
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see LatencyHistogram
+public final class ProducerConsumerHarness {
+
+    /// The kind of thread that the producers and consumers run on.
+    ///
+    /// @author evanbergstrom
+    /// @since 1.0
+    public enum Threads {
+
+        /// Platform threads, each of which is backed by an operating system thread.
+        PLATFORM,
+
+        /// Virtual threads, which are scheduled by the JVM on a pool of carrier threads.
+        VIRTUAL;
+
+        private @NotNull ThreadFactory factory(final @NotNull String name) {
+            return switch (this) {
+                case PLATFORM -> Thread.ofPlatform().name(name, 0).daemon(true).factory();
+                case VIRTUAL -> Thread.ofVirtual().name(name, 0).factory();
+            };
+        }
+    }
+
+    /// The outcome of a run of the harness.
+    ///
+    /// @param latencies    the time in nanoseconds from when each message was put into the queue until it was
+    ///                     first polled from it.
+    /// @param sent         the number of messages put into the queue.
+    /// @param received     the number of distinct messages polled from the queue.
+    /// @param duplicates   the number of times that a message was polled from the queue after the first time.
+    /// @param elapsedNanos the time in nanoseconds from the start of the run until all the threads had finished.
+    /// @author evanbergstrom
+    /// @since 1.0
+    public record Result(@NotNull LatencyHistogram latencies, int sent, int received, int duplicates,
+                         long elapsedNanos) {
+    }
+
+    private final int producers;
+    private final int consumers;
+    private final Threads threads;
+    private final long intervalNanos;
+    private final long pollTimeoutNanos;
+    private final long timeoutNanos;
+
+    private ProducerConsumerHarness(final Builder builder) {
+        this.producers = builder.producers;
+        this.consumers = builder.consumers;
+        this.threads = builder.threads;
+        this.intervalNanos = builder.interval.toNanos();
+        this.pollTimeoutNanos = builder.pollTimeout.toNanos();
+        this.timeoutNanos = builder.timeout.toNanos();
+    }
+
+    /// Returns a builder for a harness.
+    /// @return a builder.
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /// Passes the messages through the queue and returns the latencies. The run ends when every message has been
+    /// received, or when the [timeout][Builder#timeout(Duration)] expires, in which case the threads that are still
+    /// running are interrupted and the result has fewer messages received than sent.
+    /// @param <E> the type of the messages.
+    /// @param queue the queue to pass the messages through, which should be empty.
+    /// @param messages the messages, which must be distinct.
+    /// @return the result of the run.
+    /// @throws IllegalArgumentException if the messages are not distinct.
+    /// @throws IllegalStateException if a producer or consumer throws a checked exception; unchecked exceptions and
+    ///                               errors, including assertion failures, are rethrown as they are.
+    /// @throws InterruptedException if the current thread is interrupted while waiting for the run to end.
+    public <E> @NotNull Result run(final @NotNull BlockingQueue<E> queue, final @NotNull List<E> messages)
+            throws InterruptedException {
+        final Map<E, Integer> indexes = new HashMap<>(2 * messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            if (indexes.put(messages.get(i), i) != null) {
+                throw new IllegalArgumentException("the messages are not distinct: " + messages.get(i));
+            }
+        }
+
+        final AtomicLongArray sentAt = new AtomicLongArray(messages.size());
+        final AtomicIntegerArray deliveries = new AtomicIntegerArray(messages.size());
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger remaining = new AtomicInteger(messages.size());
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<LatencyHistogram> histograms = new ArrayList<>(consumers);
+        final List<Thread> workers = new ArrayList<>(producers + consumers);
+
+        final ThreadFactory producerFactory = threads.factory("producer-");
+        for (int p = 0; p < producers; p++) {
+            final int first = p;
+            workers.add(producerFactory.newThread(guarded(failure, () -> {
+                start.await();
+                for (int i = first; i < messages.size(); i += producers) {
+                    if (intervalNanos > 0) {
+                        LockSupport.parkNanos(intervalNanos);
+                    }
+                    sentAt.set(i, System.nanoTime());
+                    queue.put(messages.get(i));
+                    sent.incrementAndGet();
+                }
+            })));
+        }
+
+        final long deadline = System.nanoTime() + timeoutNanos;
+        final ThreadFactory consumerFactory = threads.factory("consumer-");
+        for (int c = 0; c < consumers; c++) {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            histograms.add(histogram);
+            workers.add(consumerFactory.newThread(guarded(failure, () -> {
+                start.await();
+                while (remaining.get() > 0 && System.nanoTime() - deadline < 0) {
+                    final E message = queue.poll(pollTimeoutNanos, TimeUnit.NANOSECONDS);
+                    if (message != null) {
+                        final long receivedAt = System.nanoTime();
+                        final Integer index = indexes.get(message);
+                        if (index == null) {
+                            throw new IllegalStateException("an unknown message was received: " + message);
+                        }
+                        if (deliveries.getAndIncrement(index) == 0) {
+                            histogram.record(Math.max(0L, receivedAt - sentAt.get(index)));
+                            remaining.decrementAndGet();
+                        } else {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }
+            })));
+        }
+
+        final long started = System.nanoTime();
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join(Duration.ofNanos(Math.max(1L, deadline - System.nanoTime())));
+        }
+        final long elapsed = System.nanoTime() - started;
+
+        // A producer can still be blocked on a full queue if the consumers gave up at the deadline.
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        final Throwable thrown = failure.get();
+        if (thrown instanceof RuntimeException e) {
+            throw e;
+        } else if (thrown instanceof Error e) {
+            throw e;
+        } else if (thrown != null) {
+            throw new IllegalStateException("a producer or consumer failed", thrown);
+        }
+
+        final LatencyHistogram latencies = new LatencyHistogram();
+        histograms.forEach(latencies::add);
+        return new Result(latencies, sent.get(), messages.size() - remaining.get(), duplicates.get(), elapsed);
+    }
+
+    // The body of a producer or consumer, which may be interrupted when the run ends.
+    @FunctionalInterface
+    private interface Worker {
+        void work() throws Exception;
+    }
+
+    // Runs the worker, keeping the first exception thrown by any worker so that it can be rethrown by run().
+    private static @NotNull Runnable guarded(final @NotNull AtomicReference<Throwable> failure,
+                                             final @NotNull Worker worker) {
+        return () -> {
+            try {
+                worker.work();
+            } catch (InterruptedException e) {
+                // The run has ended.
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+        };
+    }
+
+    /// A builder for a [ProducerConsumerHarness].
+    ///
+    /// @author evanbergstrom
+    /// @since 1.0
+    public static final class Builder {
+        private int producers = 1;
+        private int consumers = 1;
+        private Threads threads = Threads.PLATFORM;
+        private Duration interval = Duration.ofNanos(20_000);
+        private Duration pollTimeout = Duration.ofMillis(50);
+        private Duration timeout = Duration.ofSeconds(30);
+
+        private Builder() {}
+
+        /// Sets the number of producer threads.
+        /// @param producers the number of producers.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `producers` is less than one.
+        public @NotNull Builder producers(final int producers) {
+            if (producers < 1) {
+                throw new IllegalArgumentException("producers must be positive: " + producers);
+            }
+            this.producers = producers;
+            return this;
+        }
+
+        /// Sets the number of consumer threads.
+        /// @param consumers the number of consumers.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `consumers` is less than one.
+        public @NotNull Builder consumers(final int consumers) {
+            if (consumers < 1) {
+                throw new IllegalArgumentException("consumers must be positive: " + consumers);
+            }
+            this.consumers = consumers;
+            return this;
+        }
+
+        /// Sets the kind of thread that the producers and consumers run on.
+        /// @param threads the kind of thread.
+        /// @return this builder.
+        public @NotNull Builder threads(final @NotNull Threads threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /// Sets the time that each producer waits before putting each message into the queue.
+        /// @param interval the interval, which may be zero.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `interval` is negative.
+        public @NotNull Builder interval(final @NotNull Duration interval) {
+            if (interval.isNegative()) {
+                throw new IllegalArgumentException("interval must not be negative: " + interval);
+            }
+            this.interval = interval;
+            return this;
+        }
+
+        /// Sets the time that a consumer waits for a message before checking whether the run has ended.
+        /// @param pollTimeout the timeout for each poll.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `pollTimeout` is not positive.
+        public @NotNull Builder pollTimeout(final @NotNull Duration pollTimeout) {
+            if (pollTimeout.isNegative() || pollTimeout.isZero()) {
+                throw new IllegalArgumentException("pollTimeout must be positive: " + pollTimeout);
+            }
+            this.pollTimeout = pollTimeout;
+            return this;
+        }
+
+        /// Sets the longest time that a run may take before the threads are stopped.
+        /// @param timeout the timeout for a run.
+        /// @return this builder.
+        /// @throws IllegalArgumentException if `timeout` is not positive.
+        public @NotNull Builder timeout(final @NotNull Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("timeout must be positive: " + timeout);
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /// Builds the harness.
+        /// @return the harness.
+        public @NotNull ProducerConsumerHarness build() {
+            return new ProducerConsumerHarness(this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.perf;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/// This class consists exclusively of static methods that compute the statistics used to compare performance
+/// measurements. The methods do not assume that the measurements are normally distributed, since timing samples
+/// are usually skewed by garbage collection and scheduling noise.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public final class Statistics {
+
+    private Statistics() {}
+
+    /// Returns the median of the samples.
+    /// @param samples the samples.
+    /// @return the median value.
+    /// @throws IllegalArgumentException if there are no samples.
+    public static double median(final double @NotNull [] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("no samples");
+        }
+        final double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        final int mid = sorted.length / 2;
+        return (sorted.length % 2 == 1) ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    /// Returns the one-sided p-value of the Mann-Whitney U test for the hypothesis that values in `current` tend to
+    /// be larger than the values in `baseline`. A small p-value means that the current samples are significantly
+    /// larger (_i.e._ slower) than the baseline. The p-value is computed with the normal approximation, corrected
+    /// for ties, which is accurate for samples of five or more values.
+    ///
+    /// @param current the current samples.
+    /// @param baseline the baseline samples.
+    /// @return the p-value, between 0 and 1.
+    /// @throws IllegalArgumentException if either array is empty.
+    public static double mannWhitneyGreater(final double @NotNull [] current, final double @NotNull [] baseline) {
+        final int n1 = current.length;
+        final int n2 = baseline.length;
+        if (n1 == 0 || n2 == 0) {
+            throw new IllegalArgumentException("no samples");
+        }
+
+        final int n = n1 + n2;
+        final double[] values = new double[n];
+        final boolean[] isCurrent = new boolean[n];
+        final Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = (i < n1) ? current[i] : baseline[i - n1];
+            isCurrent[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double rankSum = 0.0;
+        double tieCorrection = 0.0;
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && values[order[j + 1]] == values[order[i]]) {
+                j++;
+            }
+            final double rank = (i + j + 2) / 2.0;
+            for (int k = i; k <= j; k++) {
+                if (isCurrent[order[k]]) {
+                    rankSum += rank;
+                }
+            }
+            final double t = j - i + 1;
+            tieCorrection += t * t * t - t;
+            i = j + 1;
+        }
+
+        final double u = rankSum - n1 * (n1 + 1) / 2.0;
+        final double mean = n1 * (double) n2 / 2.0;
+        final double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0.0) {
+            return 0.5;
+        }
+        final double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return upperTail(z);
+    }
+
+    /// Returns the probability that a standard normal variable is greater than `z`.
+    /// @param z the z-score.
+    /// @return the upper tail probability.
+    public static double upperTail(final double z) {
+        return 0.5 * erfc(z / Math.sqrt(2.0));
+    }
+
+    // Complementary error function, using the Chebyshev approximation from Numerical Recipes (error < 1.2e-7).
+    private static double erfc(final double x) {
+        final double z = Math.abs(x);
+        final double t = 1.0 / (1.0 + 0.5 * z);
+        final double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return (x >= 0.0) ? r : 2.0 - r;
+    }
+}
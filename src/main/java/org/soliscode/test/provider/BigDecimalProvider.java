@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+
+/// Provides instances of the class [BigDecimal] for the purposes of testing.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see BigDecimal
+public class BigDecimalProvider implements BigNumberProvider<BigDecimal> {
+
+    /// Returns the `BigDecimal` value.
+    /// @param value the value.
+    /// @return the same `BigDecimal` value.
+    @Override
+    public @NotNull BigDecimal createValue(final @NotNull BigDecimal value) {
+        return value;
+    }
+}
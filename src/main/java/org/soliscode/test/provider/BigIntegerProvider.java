@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/// Provides instances of the class [BigInteger] for the purposes of testing.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see BigInteger
+public class BigIntegerProvider implements BigNumberProvider<BigInteger> {
+
+    /// Creates an instance of the [BigInteger] class with a numeric value equal to an integral `BigDecimal` value.
+    /// @param value the value.
+    /// @return an instance of the `BigInteger` class.
+    /// @throws ArithmeticException if the value has a fractional part.
+    @Override
+    public @NotNull BigInteger createValue(final @NotNull BigDecimal value) {
+        return value.toBigIntegerExact();
+    }
+
+    /// Returns `false`, since a `BigInteger` cannot represent a fraction.
+    /// @return `false`.
+    @Override
+    public boolean permitsFractions() {
+        return false;
+    }
+}
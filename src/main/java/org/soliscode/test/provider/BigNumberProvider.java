@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+
+/// Provides instances of a class that implements the [Number] interface with arbitrary precision, such as
+/// [BigDecimal] or [java.math.BigInteger], for the purposes of testing. Each instance is created from a `BigDecimal`
+/// with the same numeric value, so values outside the range of a `long` or a `double` can be created.
+///
+/// @param <T> The number.
+/// @author evanbergstrom
+/// @since 1.0
+public interface BigNumberProvider<T extends Number> extends ObjectProvider<T> {
+
+    /// Creates an instance of the number class with a numeric value equal to a `BigDecimal` value. The value is an
+    /// integer unless [#permitsFractions()] returns `true`.
+    ///
+    /// @param value the value.
+    /// @return an instance of the number class.
+    @NotNull T createValue(@NotNull BigDecimal value);
+
+    /// Returns `true` if the number class can represent values with a fractional part, which is the default.
+    /// @return `true` if the number class can represent fractions.
+    default boolean permitsFractions() {
+        return true;
+    }
+
+    @Override
+    default @NotNull T defaultInstance() {
+        return createValue(BigDecimal.ZERO);
+    }
+
+    @Override
+    default @NotNull T createInstance(final int seed) {
+        return createValue(BigDecimal.valueOf(seed));
+    }
+
+    @Override
+    default @NotNull T copyInstance(final @NotNull T o) {
+        return createValue(new BigDecimal(o.toString()));
+    }
+}
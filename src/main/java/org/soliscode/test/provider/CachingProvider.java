@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/// An object provider that serves the lists returned by [#createUniqueInstances(int, int)] from an [ElementCache].
+/// All other methods are delegated to the wrapped provider, so single instances are still created on each call.
+///
+/// The lists returned by `createUniqueInstances` are unmodifiable and shared between callers. Tests that need to
+/// change the elements should copy the list first. Collections created from the list by a [CollectionProvider]
+/// copy the elements, so each collection instance is still created fresh.
+///
+/// Instances of this class should be created using [Providers#cached(ObjectProvider)].
+///
+/// @param <T> the type being provided.
+/// @param provider the provider that creates the instances.
+/// @param cache the cache used to hold the element lists.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see ElementCache
+public record CachingProvider<T>(@NotNull ObjectProvider<T> provider, @NotNull ElementCache cache)
+        implements ObjectProvider<T> {
+
+    /// Creates a caching provider.
+    /// @param provider the provider that creates the instances.
+    /// @param cache the cache used to hold the element lists.
+    /// @throws NullPointerException if either argument is `null`.
+    public CachingProvider {
+        Objects.requireNonNull(provider);
+        Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public @NotNull T defaultInstance() {
+        return provider.defaultInstance();
+    }
+
+    @Override
+    public @NotNull T createInstance(final int seed) {
+        return provider.createInstance(seed);
+    }
+
+    @Override
+    public @NotNull T copyInstance(final @NotNull T other) {
+        return provider.copyInstance(other);
+    }
+
+    @Override
+    public int uniqueSizeLimit() {
+        return provider.uniqueSizeLimit();
+    }
+
+    /// Returns an unmodifiable list of unique instances, creating it with the wrapped provider only if the list is
+    /// not already in the cache.
+    ///
+    /// @param size the number of instances to create.
+    /// @param seed the seed to use to create elements.
+    /// @return an unmodifiable list of the instances.
+    /// @throws IllegalArgumentException if size is greater than `uniqueSizeLimit()`
+    /// @complexity _constant time_ if the list is cached, otherwise _linear time_ based upon the `size` argument.
+    @Override
+    public @NotNull List<T> createUniqueInstances(final int size, final int seed) {
+        if (size > uniqueSizeLimit()) {
+            throw new IllegalArgumentException("cannot create " + size + " unique instances, limit is " + uniqueSizeLimit());
+        }
+        return cache.get(provider, size, seed, () -> provider.createUniqueInstances(size, seed));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.SplittableRandom;
+
+/// Provides instances of a class that implements the [CharSequence] interface for the purposes of testing. The
+/// content of each instance is a string of characters drawn from an [alphabet][#alphabet()], so the length and the
+/// characters of the sequences being tested can be controlled. The same seed always creates the same content.
+///
+/// The only method that must be implemented is [#createInstance(CharSequence)], which creates an instance of the
+/// class being tested with the given characters; [CharSequenceProviders] creates providers from a constructor.
+///
+/// @param <S> The char sequence type.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CharSequenceProviders
+public interface CharSequenceProvider<S extends CharSequence> extends ObjectProvider<S> {
+
+    /// The default alphabet, which is the lowercase ASCII letters.
+    String LOWERCASE_ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    /// The minimum length ({@value}) of the instances created by [#createInstance(int)].
+    int DEFAULT_LENGTH = 16;
+
+    /// Creates an instance of the class being tested with the given characters.
+    /// @param chars the characters of the instance.
+    /// @return an instance with the same characters.
+    @NotNull S createInstance(@NotNull CharSequence chars);
+
+    /// Returns the characters that the content of the instances is drawn from, which are the lowercase ASCII letters
+    /// by default. Override this method to test sequences of other characters, such as characters that do not fit in
+    /// a single byte. The alphabet must have at least two characters.
+    /// @return the alphabet.
+    default @NotNull String alphabet() {
+        return LOWERCASE_ALPHABET;
+    }
+
+    /// Creates a string of the given length with characters drawn from the [alphabet][#alphabet()] at random. The
+    /// same length and seed always create the same string.
+    /// @param length the length of the string.
+    /// @param seed the seed of the random characters.
+    /// @return the string.
+    /// @throws IllegalArgumentException if the length is negative.
+    default @NotNull String createChars(final int length, final int seed) {
+        if (length < 0) {
+            throw new IllegalArgumentException("negative length: " + length);
+        }
+        final String alphabet = alphabet();
+        final SplittableRandom random = new SplittableRandom(seed);
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+
+    /// Creates an instance of the given length with characters drawn from the [alphabet][#alphabet()] at random.
+    /// @param length the length of the instance.
+    /// @param seed the seed of the random characters.
+    /// @return an instance of the class being tested.
+    /// @throws IllegalArgumentException if the length is negative.
+    default @NotNull S createInstanceOfLength(final int length, final int seed) {
+        return createInstance(createChars(length, seed));
+    }
+
+    /// Creates an instance whose content is the seed written in the [alphabet][#alphabet()], used as the digits of a
+    /// number, padded on the left to at least [#DEFAULT_LENGTH] characters. Different seeds always create different
+    /// content.
+    /// @param seed a primitive integer value.
+    /// @return an instance of the class being tested.
+    @Override
+    default @NotNull S createInstance(final int seed) {
+        final String alphabet = alphabet();
+        final int base = alphabet.length();
+        final StringBuilder digits = new StringBuilder(DEFAULT_LENGTH);
+        long value = Integer.toUnsignedLong(seed);
+        do {
+            digits.append(alphabet.charAt((int) (value % base)));
+            value /= base;
+        } while (value > 0);
+        while (digits.length() < DEFAULT_LENGTH) {
+            digits.append(alphabet.charAt(0));
+        }
+        return createInstance(digits.reverse());
+    }
+
+    @Override
+    default @NotNull S defaultInstance() {
+        return createInstance("");
+    }
+
+    @Override
+    default @NotNull S copyInstance(final @NotNull S other) {
+        return createInstance(other.toString());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+import java.util.function.Function;
+
+/// Utility class for creating char sequence providers.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CharSequenceProvider
+public final class CharSequenceProviders {
+
+    private CharSequenceProviders() {}
+
+    /// Creates a char sequence provider that creates each instance by passing its content to a constructor, with
+    /// characters drawn from the lowercase ASCII letters.
+    ///
+    /// For example, to create a provider for a rope class:
+    /// ```java
+    ///     CharSequenceProvider<Rope> provider = CharSequenceProviders.from(Rope::of);
+    /// ```
+    /// @param <S> the char sequence type.
+    /// @param constructor the function that creates an instance with the given characters.
+    /// @return the char sequence provider.
+    /// @throws NullPointerException if the argument is `null`
+    public static <S extends CharSequence> @NotNull CharSequenceProvider<S> from(
+            final @NotNull Function<CharSequence, S> constructor) {
+        return from(constructor, CharSequenceProvider.LOWERCASE_ALPHABET);
+    }
+
+    /// Creates a char sequence provider that creates each instance by passing its content to a constructor, with
+    /// characters drawn from an alphabet.
+    /// @param <S> the char sequence type.
+    /// @param constructor the function that creates an instance with the given characters.
+    /// @param alphabet the characters that the content of the instances is drawn from.
+    /// @return the char sequence provider.
+    /// @throws NullPointerException if either argument is `null`
+    /// @throws IllegalArgumentException if the alphabet has fewer than two characters.
+    public static <S extends CharSequence> @NotNull CharSequenceProvider<S> from(
+            final @NotNull Function<CharSequence, S> constructor, final @NotNull String alphabet) {
+        Objects.requireNonNull(constructor);
+        if (alphabet.length() < 2) {
+            throw new IllegalArgumentException("the alphabet must have at least two characters: " + alphabet);
+        }
+        return new CharSequenceProvider<>() {
+            @Override
+            public @NotNull S createInstance(final @NotNull CharSequence chars) {
+                return constructor.apply(chars);
+            }
+
+            @Override
+            public @NotNull String alphabet() {
+                return alphabet;
+            }
+        };
+    }
+
+    /// Creates a char sequence provider for instances of [String].
+    /// @return the char sequence provider.
+    public static @NotNull CharSequenceProvider<String> provideString() {
+        return from(CharSequence::toString);
+    }
+
+    /// Creates a char sequence provider for instances of [StringBuilder].
+    /// @return the char sequence provider.
+    public static @NotNull CharSequenceProvider<StringBuilder> provideStringBuilder() {
+        return from(StringBuilder::new);
+    }
+
+    /// Creates a char sequence provider for read-only instances of [CharBuffer] that wrap a string.
+    /// @return the char sequence provider.
+    public static @NotNull CharSequenceProvider<CharBuffer> provideCharBuffer() {
+        return from(chars -> CharBuffer.wrap(chars.toString()));
+    }
+}
@@ -19,6 +19,8 @@ package org.soliscode.test.provider;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -69,6 +71,14 @@ public final class CollectionProviders {
         return CollectionProviders.from(LinkedList::new, LinkedList::new, LinkedList::new, elementProvider);
     }
 
+    /// Creates a collection provider for instances of [ArrayDeque] with elements creates using the specified
+    /// @param elementProvider the provider to use to create the elements.
+    /// @param <E> The type of the elements
+    /// @return the collection provider.
+    public static <E> CollectionProvider<E, ArrayDeque<E>> provideArrayDeque(final @NotNull ObjectProvider<E> elementProvider) {
+        return CollectionProviders.from(ArrayDeque::new, ArrayDeque::new, ArrayDeque::new, elementProvider);
+    }
+
     /// Creates a collection provider for instances of [HashSet] with elements creates using the specified
     /// @param elementProvider the provider to use to create the elements.
     /// @param <E> The type of the elements
@@ -77,6 +87,47 @@ public final class CollectionProviders {
         return CollectionProviders.from(HashSet::new, HashSet::new, HashSet::new, elementProvider);
     }
 
+    /// Creates a collection provider for instances of [LinkedHashSet] with elements creates using the specified
+    /// @param elementProvider the provider to use to create the elements.
+    /// @param <E> The type of the elements
+    /// @return the collection provider.
+    public static <E> CollectionProvider<E, LinkedHashSet<E>> provideLinkedHashSet(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return CollectionProviders.from(LinkedHashSet::new, LinkedHashSet::new, LinkedHashSet::new, elementProvider);
+    }
+
+    /// Creates a collection provider for instances of [TreeSet] with elements creates using the specified
+    /// @param elementProvider the provider to use to create the elements.
+    /// @param <E> The type of the elements
+    /// @return the collection provider.
+    public static <E> CollectionProvider<E, TreeSet<E>> provideTreeSet(final @NotNull ObjectProvider<E> elementProvider) {
+        return CollectionProviders.from(TreeSet::new, TreeSet::new, TreeSet::new, elementProvider);
+    }
+
+    /// Creates a collection provider for instances of [LinkedBlockingQueue] with elements creates using the specified
+    /// @param elementProvider the provider to use to create the elements.
+    /// @param <E> The type of the elements
+    /// @return the collection provider.
+    public static <E> CollectionProvider<E, LinkedBlockingQueue<E>> provideLinkedBlockingQueue(
+            final @NotNull ObjectProvider<E> elementProvider) {
+        return CollectionProviders.from(LinkedBlockingQueue::new, LinkedBlockingQueue::new, LinkedBlockingQueue::new,
+                elementProvider);
+    }
+
+    /// Creates a collection provider for instances of [ArrayBlockingQueue] with the specified capacity and elements
+    /// creates using the specified
+    /// @param elementProvider the provider to use to create the elements.
+    /// @param capacity the capacity of each queue.
+    /// @param <E> The type of the elements
+    /// @return the collection provider.
+    public static <E> CollectionProvider<E, ArrayBlockingQueue<E>> provideArrayBlockingQueue(
+            final @NotNull ObjectProvider<E> elementProvider, final int capacity) {
+        return CollectionProviders.from(() -> new ArrayBlockingQueue<>(capacity),
+                (q) -> new ArrayBlockingQueue<>(capacity, false, q),
+                (c) -> new ArrayBlockingQueue<>(capacity, false, c),
+                elementProvider);
+    }
+
     /// Creates a provider that wraps the provided collection from an underlying provider.
     /// @param <E> the element type.
     /// @param <C> the collection type provided by the underlying collection.
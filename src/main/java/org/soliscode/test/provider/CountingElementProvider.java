@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.perf.OperationCounter;
+
+import java.util.Objects;
+
+/// Provides instances of [CountingElement] that all record their method calls in the same [OperationCounter].
+///
+/// @param counter the counter used by the elements.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CountingElement
+public record CountingElementProvider(@NotNull OperationCounter counter) implements ObjectProvider<CountingElement> {
+
+    /// Creates a provider of counting elements.
+    /// @throws NullPointerException if the counter is `null`.
+    public CountingElementProvider {
+        Objects.requireNonNull(counter);
+    }
+
+    /// Creates a provider of counting elements that use a new counter.
+    public CountingElementProvider() {
+        this(new OperationCounter());
+    }
+
+    @Override
+    public @NotNull CountingElement defaultInstance() {
+        return createInstance(0);
+    }
+
+    @Override
+    public @NotNull CountingElement createInstance(final int seed) {
+        return new CountingElement(seed, counter);
+    }
+
+    @Override
+    public @NotNull CountingElement copyInstance(final @NotNull CountingElement other) {
+        return new CountingElement(other.value(), counter);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/// Converts the elements of a [MappedDataset] to and from their binary form. Each element is written by
+/// [#encode(Object, DataOutput)] and read from the mapped file by [#decode(MemorySegment, long, int)]. A codec whose
+/// elements always have the same number of bytes returns it from [#fixedWidth()], so the dataset does not need to
+/// store the offset of each element.
+///
+/// The [name][#name()] of the codec is stored in the file, so a dataset cannot be read with a different codec from
+/// the one that wrote it. Codecs for the common element types are created by [DatasetCodecs].
+///
+/// @param <E> The element type.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see DatasetCodecs
+public interface DatasetCodec<E> {
+
+    /// The value returned by [#fixedWidth()] for a codec whose elements have different numbers of bytes.
+    int VARIABLE_WIDTH = -1;
+
+    /// The layout of an `int` written by [DataOutput#writeInt(int)], which is big-endian and may not be aligned.
+    ValueLayout.OfInt INT_LAYOUT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /// The layout of a `long` written by [DataOutput#writeLong(long)], which is big-endian and may not be aligned.
+    ValueLayout.OfLong LONG_LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /// Returns the name of the codec, which is stored in the dataset file.
+    /// @return the name of the codec.
+    @NotNull String name();
+
+    /// Returns the number of bytes in each element, or [#VARIABLE_WIDTH] if the number of bytes depends on the
+    /// element, which is the default.
+    /// @return the number of bytes in each element.
+    default int fixedWidth() {
+        return VARIABLE_WIDTH;
+    }
+
+    /// Writes the binary form of an element. A codec with a [fixed width][#fixedWidth()] must write exactly that
+    /// number of bytes.
+    /// @param element the element to write.
+    /// @param out the output to write to.
+    /// @throws IOException if the element cannot be written.
+    /// @throws NullPointerException if the element is `null`.
+    void encode(@NotNull E element, @NotNull DataOutput out) throws IOException;
+
+    /// Reads an element from its binary form in the mapped file. Values written by [DataOutput] can be read with
+    /// [#INT_LAYOUT] and [#LONG_LAYOUT].
+    /// @param segment the segment that holds the dataset.
+    /// @param offset the offset of the first byte of the element.
+    /// @param length the number of bytes in the element.
+    /// @return the element.
+    @NotNull E decode(@NotNull MemorySegment segment, long offset, int length);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+/// Utility class for creating the codecs used to write and read a [MappedDataset].
+/// @author evanbergstrom
+/// @since 1.0
+/// @see DatasetCodec
+public final class DatasetCodecs {
+
+    private static final DatasetCodec<Integer> INTEGERS = new DatasetCodec<>() {
+        @Override
+        public @NotNull String name() {
+            return "int";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(final @NotNull Integer element, final @NotNull DataOutput out) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public @NotNull Integer decode(final @NotNull MemorySegment segment, final long offset, final int length) {
+            return segment.get(INT_LAYOUT, offset);
+        }
+    };
+
+    private static final DatasetCodec<Long> LONGS = new DatasetCodec<>() {
+        @Override
+        public @NotNull String name() {
+            return "long";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(final @NotNull Long element, final @NotNull DataOutput out) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public @NotNull Long decode(final @NotNull MemorySegment segment, final long offset, final int length) {
+            return segment.get(LONG_LAYOUT, offset);
+        }
+    };
+
+    private static final DatasetCodec<String> STRINGS = new DatasetCodec<>() {
+        @Override
+        public @NotNull String name() {
+            return "utf8";
+        }
+
+        @Override
+        public void encode(final @NotNull String element, final @NotNull DataOutput out) throws IOException {
+            out.write(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public @NotNull String decode(final @NotNull MemorySegment segment, final long offset, final int length) {
+            return new String(segment.asSlice(offset, length).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+        }
+    };
+
+    private DatasetCodecs() {}
+
+    /// Returns a codec for [Integer] elements, which are stored in four bytes.
+    /// @return the codec.
+    public static @NotNull DatasetCodec<Integer> integers() {
+        return INTEGERS;
+    }
+
+    /// Returns a codec for [Long] elements, which are stored in eight bytes.
+    /// @return the codec.
+    public static @NotNull DatasetCodec<Long> longs() {
+        return LONGS;
+    }
+
+    /// Returns a codec for [String] elements, which are stored in UTF-8.
+    /// @return the codec.
+    public static @NotNull DatasetCodec<String> strings() {
+        return STRINGS;
+    }
+}
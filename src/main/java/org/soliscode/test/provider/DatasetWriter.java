@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/// Utility class for writing the dataset files read by [MappedDataset]. A dataset can be written from the unique
+/// instances of any [ObjectProvider], so that a large fixture is generated once and then mapped by each test run, or
+/// from a collection of elements, such as keys sampled from production.
+///
+/// The file is written to a temporary file in the same directory and then moved into place, so a JVM that opens the
+/// dataset while another JVM is writing it sees either the old file or the complete new one.
+///
+/// ```java
+///     DatasetWriter.write(Path.of("keys.dataset"), DatasetCodecs.longs(), Providers.longProvider(), 10_000_000);
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see MappedDataset
+public final class DatasetWriter {
+
+    // The size of the buffers used to write the elements and their offsets.
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private DatasetWriter() {}
+
+    /// Writes a dataset with the unique instances created by a provider, starting with the seed `0`.
+    /// @param <E> the element type.
+    /// @param file the dataset file.
+    /// @param codec the codec used to write the elements.
+    /// @param provider the provider that creates the elements.
+    /// @param size the number of elements.
+    /// @throws IOException if the file cannot be written.
+    /// @throws IllegalArgumentException if the size is greater than the `uniqueSizeLimit()` of the provider.
+    public static <E> void write(final @NotNull Path file, final @NotNull DatasetCodec<E> codec,
+                                 final @NotNull ObjectProvider<E> provider, final int size) throws IOException {
+        write(file, codec, provider, size, 0);
+    }
+
+    /// Writes a dataset with the unique instances created by a provider, starting with a seed. The elements are the
+    /// same as those returned by [ObjectProvider#createUniqueInstances(int, int)], but they are written as they are
+    /// created, so neither the whole list nor the offsets of the elements are held in memory. The seed is stored in the dataset, and is returned by
+    /// [MappedDataset#seed()].
+    /// @param <E> the element type.
+    /// @param file the dataset file.
+    /// @param codec the codec used to write the elements.
+    /// @param provider the provider that creates the elements.
+    /// @param size the number of elements.
+    /// @param seed the seed of the first element.
+    /// @throws IOException if the file cannot be written.
+    /// @throws IllegalArgumentException if the size is greater than the `uniqueSizeLimit()` of the provider.
+    public static <E> void write(final @NotNull Path file, final @NotNull DatasetCodec<E> codec,
+                                 final @NotNull ObjectProvider<E> provider, final int size, final int seed)
+            throws IOException {
+        if (size < 0 || size > provider.uniqueSizeLimit()) {
+            throw new IllegalArgumentException("cannot create " + size + " unique instances, limit is "
+                    + provider.uniqueSizeLimit());
+        }
+        final Supplier<E> supplier = provider.uniqueInstanceSupplier(seed);
+        write(file, codec, new Iterator<>() {
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public E next() {
+                remaining--;
+                return supplier.get();
+            }
+        }, size, seed);
+    }
+
+    /// Writes a dataset with the elements of a collection, in iteration order.
+    /// @param <E> the element type.
+    /// @param file the dataset file.
+    /// @param codec the codec used to write the elements.
+    /// @param elements the elements to write.
+    /// @throws IOException if the file cannot be written.
+    /// @throws NullPointerException if the collection contains `null`.
+    public static <E> void write(final @NotNull Path file, final @NotNull DatasetCodec<E> codec,
+                                 final @NotNull Collection<? extends E> elements) throws IOException {
+        write(file, codec, elements.iterator(), elements.size(), MappedDataset.NO_SEED);
+    }
+
+    private static <E> void write(final @NotNull Path file, final @NotNull DatasetCodec<E> codec,
+                                  final @NotNull Iterator<? extends E> elements, final int size, final long seed)
+            throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            writeDataset(temp, codec, elements, size, seed);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static <E> void writeDataset(final @NotNull Path file, final @NotNull DatasetCodec<E> codec,
+                                         final @NotNull Iterator<? extends E> elements, final int size,
+                                         final long seed) throws IOException {
+        final byte[] name = codec.name().getBytes(StandardCharsets.UTF_8);
+        final int width = codec.fixedWidth();
+        final boolean variable = (width == DatasetCodec.VARIABLE_WIDTH);
+        final long offsetsStart = MappedDataset.HEADER_BYTES + name.length;
+        final long dataStart = offsetsStart + (variable ? (size + 1L) * Long.BYTES : 0);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The elements are streamed from the start of the data, and the offsets are written in blocks to the
+            // region reserved for them before the data, so neither is held in memory.
+            channel.position(dataStart);
+            final CountingOutputStream data = new CountingOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_BYTES));
+            final DataOutputStream out = new DataOutputStream(data);
+            final ByteBuffer offsets = ByteBuffer.allocate(variable ? BUFFER_BYTES : 0);
+            long offsetsPosition = offsetsStart;
+            if (variable) {
+                offsets.putLong(0L);
+            }
+            for (int i = 0; i < size; i++) {
+                final long start = data.count();
+                codec.encode(Objects.requireNonNull(elements.next()), out);
+                if (variable) {
+                    if (!offsets.hasRemaining()) {
+                        offsetsPosition = writeAt(channel, offsets, offsetsPosition);
+                    }
+                    offsets.putLong(data.count());
+                } else if (data.count() - start != width) {
+                    throw new IllegalStateException("codec " + codec.name() + " wrote " + (data.count() - start)
+                            + " bytes, but its width is " + width);
+                }
+            }
+            out.flush();
+            writeAt(channel, offsets, offsetsPosition);
+
+            final ByteBuffer header = ByteBuffer.allocate(Math.toIntExact(offsetsStart));
+            header.putInt(MappedDataset.MAGIC)
+                    .putInt(MappedDataset.VERSION)
+                    .putInt(size)
+                    .putInt(width)
+                    .putLong(seed)
+                    .putInt(name.length)
+                    .put(name);
+            writeAt(channel, header, 0);
+        }
+    }
+
+    // Writes the contents of the buffer to the channel at a position, clears the buffer, and returns the position
+    // after the bytes that were written. The position of the channel is not changed.
+    private static long writeAt(final @NotNull FileChannel channel, final @NotNull ByteBuffer buffer,
+                                final long position) throws IOException {
+        buffer.flip();
+        long next = position;
+        while (buffer.hasRemaining()) {
+            next += channel.write(buffer, next);
+        }
+        buffer.clear();
+        return next;
+    }
+
+    // Counts the bytes written to a stream in a long, since DataOutputStream#size() stops at Integer.MAX_VALUE.
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(final @NotNull OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.function.Supplier;
+
+/// A cache of the element lists created by object providers. Each entry is keyed by the provider that created the
+/// elements, the number of elements and the seed used to create them. The lists are stored as unmodifiable lists, so
+/// they can be shared between tests without the risk of one test changing the elements used by another.
+///
+/// The cache holds at most [#maxEntries()] lists and evicts the least recently used list when the limit is
+/// exceeded. The lists are held through soft references, so the garbage collector may also reclaim them when memory
+/// is low; a reclaimed list is simply created again on the next request.
+///
+/// Most tests should use the cache indirectly through [Providers#cached(ObjectProvider)]:
+/// ```java
+///     ObjectProvider<Integer> provider = Providers.cached(Providers.integerProvider());
+///     List<Integer> elements = provider.createUniqueInstances(1_000_000);
+/// ```
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CachingProvider
+public final class ElementCache {
+
+    /// The default maximum number of element lists ({@value}) held by a cache.
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final ElementCache SHARED = new ElementCache(DEFAULT_MAX_ENTRIES);
+
+    private record Key(@NotNull ObjectProvider<?> provider, int size, int seed) {}
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, SoftReference<List<?>>> entries;
+    private long hits;
+    private long misses;
+
+    /// Creates an element cache that holds at most `maxEntries` element lists.
+    /// @param maxEntries the maximum number of element lists to hold.
+    /// @throws IllegalArgumentException if `maxEntries` is less than one.
+    public ElementCache(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<List<?>>> eldest) {
+                return size() > ElementCache.this.maxEntries;
+            }
+        };
+    }
+
+    /// Returns the cache that is shared by all the cached providers created by [Providers#cached(ObjectProvider)].
+    /// @return the shared element cache.
+    public static @NotNull ElementCache shared() {
+        return SHARED;
+    }
+
+    /// Returns the element list for the provider, size and seed, creating it with the supplier if it is not in the
+    /// cache. The supplier is called without holding the lock for the cache, so two threads may occasionally create
+    /// the same list; only one of them is retained.
+    ///
+    /// @param <T> the element type.
+    /// @param provider the provider that creates the elements, used as part of the key.
+    /// @param size the number of elements, used as part of the key.
+    /// @param seed the seed used to create the elements, used as part of the key.
+    /// @param supplier creates the elements if they are not in the cache.
+    /// @return an unmodifiable list of the elements.
+    /// @throws NullPointerException if the provider or supplier is `null`.
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull List<T> get(final @NotNull ObjectProvider<T> provider, final int size, final int seed,
+                                    final @NotNull Supplier<List<T>> supplier) {
+        final Key key = new Key(Objects.requireNonNull(provider), size, seed);
+        synchronized (entries) {
+            final SoftReference<List<?>> ref = entries.get(key);
+            final List<?> cached = (ref != null) ? ref.get() : null;
+            if (cached != null) {
+                hits++;
+                return (List<T>) cached;
+            }
+            misses++;
+        }
+
+        final List<T> created = Collections.unmodifiableList(supplier.get());
+        synchronized (entries) {
+            entries.put(key, new SoftReference<>(created));
+        }
+        return created;
+    }
+
+    /// Returns the maximum number of element lists held by the cache.
+    /// @return the maximum number of entries.
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    /// Returns the number of element lists currently held by the cache, including any that have been reclaimed by
+    /// the garbage collector but not yet removed.
+    /// @return the number of entries.
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /// Returns the number of requests that were served from the cache.
+    /// @return the number of cache hits.
+    public long hits() {
+        synchronized (entries) {
+            return hits;
+        }
+    }
+
+    /// Returns the number of requests that had to create the element list.
+    /// @return the number of cache misses.
+    public long misses() {
+        synchronized (entries) {
+            return misses;
+        }
+    }
+
+    /// Removes all the element lists from the cache and resets the hit and miss counts.
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            hits = 0;
+            misses = 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/// A map provider that uses a set of functions to construct instances of the map. There are five elements required
+/// to create a map provider using this class:
+/// - Default constructor function
+/// - Copy constructor function
+/// - Map constructor function
+/// - Key provider
+/// - Value provider
+///
+/// For example, to create a map provider for a `HashMap` of Integer keys and String values:
+/// ```java
+///     MapProvider<Integer, String, HashMap<Integer, String>> provider = new FunctionalMapProvider<>(
+///         HashMap::new, HashMap::new, HashMap::new, Providers.integerProvider(), Providers.stringProvider());
+/// ```
+///
+/// @param <K> the key type for the map.
+/// @param <V> the value type for the map.
+/// @param <M> the map type.
+/// @author evanbergstrom
+/// @since 1.0
+public class FunctionalMapProvider<K, V, M extends Map<K, V>> extends FunctionalProvider<M>
+        implements MapProvider<K, V, M> {
+
+    /// Default number of entries to use for a test.
+    private static final int DEFAULT_SIZE = 10;
+
+    private final @NotNull Function<Map<K, V>, M> mapConstructor;
+    private final @NotNull ObjectProvider<K> keyProvider;
+    private final @NotNull ObjectProvider<V> valueProvider;
+
+    /// Create an instance of this map provider that uses the methods and providers specified in the arguments for
+    /// its implementation.
+    /// @param defaultConstructor the supplier to use to create default instances of the map.
+    /// @param copyConstructor the function to use to create a copy of the map.
+    /// @param mapConstructor the function to use to create an instance from another map.
+    /// @param keyProvider the key provider.
+    /// @param valueProvider the value provider.
+    /// @throws NullPointerException if any of the arguments are `null`
+    public FunctionalMapProvider(final @NotNull Supplier<M> defaultConstructor,
+                                 final @NotNull Function<M, M> copyConstructor,
+                                 final @NotNull Function<Map<K, V>, M> mapConstructor,
+                                 final @NotNull ObjectProvider<K> keyProvider,
+                                 final @NotNull ObjectProvider<V> valueProvider) {
+        super(defaultConstructor, copyConstructor);
+        this.mapConstructor = Objects.requireNonNull(mapConstructor);
+        this.keyProvider = Objects.requireNonNull(keyProvider);
+        this.valueProvider = Objects.requireNonNull(valueProvider);
+    }
+
+    @Override
+    public @NotNull ObjectProvider<K> keyProvider() {
+        return keyProvider;
+    }
+
+    @Override
+    public @NotNull ObjectProvider<V> valueProvider() {
+        return valueProvider;
+    }
+
+    @Override
+    public @NotNull M emptyInstance() {
+        return defaultInstance();
+    }
+
+    @Override
+    public @NotNull M createInstance(final @NotNull Map<K, V> m) {
+        return mapConstructor.apply(m);
+    }
+
+    @Override
+    public @NotNull M createInstance(final int seed) {
+        return createInstanceWithUniqueKeys(DEFAULT_SIZE, seed);
+    }
+
+    @Override
+    public @NotNull M createInstanceWithUniqueKeys(final int size) {
+        return createInstanceWithUniqueKeys(size, 0);
+    }
+
+    @Override
+    public @NotNull M createInstanceWithUniqueKeys(final int size, final int seed) {
+        final List<K> keys = keyProvider.createUniqueInstances(size, seed);
+        final List<V> values = valueProvider.createUniqueInstances(size, seed);
+        final Map<K, V> entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            entries.put(keys.get(i), values.get(i));
+        }
+        return createInstance(entries);
+    }
+}
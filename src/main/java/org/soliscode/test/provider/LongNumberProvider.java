@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+/// Provides instances of a class that implements the [Number] interface that represent a `long` value for the
+/// purposes of testing. Unlike an [IntegerNumberProvider], the values are not limited to the range of an `int`.
+///
+/// @param <T> The number.
+/// @author evanbergstrom
+/// @since 1.0
+public interface LongNumberProvider<T extends Number> extends IntegerNumberProvider<T> {
+
+    /// Creates an instance of the number class with a numeric value equal to the primitive `long` value.
+    ///
+    /// @param value the primitive long value.
+    /// @return an instance of the number class.
+    @NotNull T createLongValue(long value);
+
+    @Override
+    default @NotNull T createValue(final int value) {
+        return createLongValue(value);
+    }
+
+    @Override
+    default @NotNull T copyInstance(final @NotNull T o) {
+        return createLongValue(o.longValue());
+    }
+
+    /// The maximum `long` value that can be represented by the number class.
+    /// @return the maximum long value.
+    @SuppressWarnings("SameReturnValue")
+    default long maxLongValue() {
+        return Long.MAX_VALUE;
+    }
+
+    /// The minimum `long` value that can be represented by the number class.
+    /// @return the minimum long value.
+    @SuppressWarnings("SameReturnValue")
+    default long minLongValue() {
+        return Long.MIN_VALUE;
+    }
+
+    /// {@inheritDoc}
+    @Override
+    default @NotNull T maxValue() {
+        return createLongValue(maxLongValue());
+    }
+
+    /// {@inheritDoc}
+    @Override
+    default @NotNull T minValue() {
+        return createLongValue(minLongValue());
+    }
+}
@@ -22,13 +22,13 @@ import org.jetbrains.annotations.NotNull;
 /// @author evanbergstrom
 /// @since 1.0
 /// @see Long
-public class LongProvider implements IntegerNumberProvider<Long> {
+public class LongProvider implements LongNumberProvider<Long> {
 
     /// Creates an instance of the [Long] class with a numeric value equal to the primitive long value.
     /// @param value the primitive long value.
     /// @return an instance of the `Long` class.
     @Override
-    public @NotNull Long createValue(final int value) {
-        return (long)value;
+    public @NotNull Long createLongValue(final long value) {
+        return value;
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/// Provides instances of [Map] for use in testing.
+///
+/// @param <K> the key type for the map.
+/// @param <V> the value type for the map.
+/// @param <M> the map type.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CollectionProvider
+public interface MapProvider<K, V, M extends Map<K, V>> extends ObjectProvider<M> {
+
+    /// Returns the provider used to create keys for instances of the map.
+    /// @return the key provider.
+    @NotNull ObjectProvider<K> keyProvider();
+
+    /// Returns the provider used to create values for instances of the map.
+    /// @return the value provider.
+    @NotNull ObjectProvider<V> valueProvider();
+
+    /// Creates an instance of the map with no entries.
+    /// @return an instance of the map.
+    @NotNull M emptyInstance();
+
+    /// Creates an instance of the map with the same entries as the specified map.
+    /// @param m the entries to use for the map.
+    /// @return an instance of the map.
+    /// @throws NullPointerException if the argument is `null`.
+    @NotNull M createInstance(final @NotNull Map<K, V> m);
+
+    /// Creates an instance of the map with a specified number of entries. The keys are unique, and the entry at a
+    /// position in the iteration order of the keys created by the key provider is mapped to the value at the same
+    /// position in the list created by the value provider.
+    /// @param size the number of entries in the map.
+    /// @return an instance of the map.
+    @NotNull M createInstanceWithUniqueKeys(int size);
+
+    /// Creates an instance of the map with a specified number of entries, using the specified seed value to create
+    /// the keys and values.
+    /// @param size the number of entries in the map.
+    /// @param seed the seed value to use to create the keys and values.
+    /// @return an instance of the map.
+    @NotNull M createInstanceWithUniqueKeys(int size, int seed);
+}
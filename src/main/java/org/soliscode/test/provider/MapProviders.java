@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/// Utility class for creating map providers.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see CollectionProviders
+public final class MapProviders {
+
+    private MapProviders() {}
+
+    /// Create an instance of a map provider that uses the methods and providers specified in the arguments for its
+    /// implementation.
+    ///
+    /// For example, to create a map provider for a `HashMap` of Integer keys and String values:
+    /// ```java
+    ///     MapProvider<Integer, String, HashMap<Integer, String>> provider = MapProviders.from(HashMap::new,
+    ///         HashMap::new, HashMap::new, Providers.integerProvider(), Providers.stringProvider());
+    /// ```
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param <M> the map type.
+    /// @param defaultConstructor the supplier to use to create default instances of the map.
+    /// @param copyConstructor the function to use to create a copy of the map.
+    /// @param mapConstructor the function to use to create an instance from another map.
+    /// @param keyProvider the key provider.
+    /// @param valueProvider the value provider.
+    /// @return the map provider.
+    /// @throws NullPointerException if any of the arguments are `null`
+    public static <K, V, M extends Map<K, V>> @NotNull MapProvider<K, V, M> from(
+            final @NotNull Supplier<M> defaultConstructor,
+            final @NotNull Function<M, M> copyConstructor,
+            final @NotNull Function<Map<K, V>, M> mapConstructor,
+            final @NotNull ObjectProvider<K> keyProvider,
+            final @NotNull ObjectProvider<V> valueProvider) {
+        return new FunctionalMapProvider<>(defaultConstructor, copyConstructor, mapConstructor, keyProvider,
+                valueProvider);
+    }
+
+    /// Creates a map provider for instances of [HashMap] with keys and values created using the specified providers.
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param keyProvider the provider to use to create the keys.
+    /// @param valueProvider the provider to use to create the values.
+    /// @return the map provider.
+    public static <K, V> @NotNull MapProvider<K, V, HashMap<K, V>> provideHashMap(
+            final @NotNull ObjectProvider<K> keyProvider, final @NotNull ObjectProvider<V> valueProvider) {
+        return from(HashMap::new, HashMap::new, HashMap::new, keyProvider, valueProvider);
+    }
+
+    /// Creates a map provider for instances of [LinkedHashMap] with keys and values created using the specified
+    /// providers.
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param keyProvider the provider to use to create the keys.
+    /// @param valueProvider the provider to use to create the values.
+    /// @return the map provider.
+    public static <K, V> @NotNull MapProvider<K, V, LinkedHashMap<K, V>> provideLinkedHashMap(
+            final @NotNull ObjectProvider<K> keyProvider, final @NotNull ObjectProvider<V> valueProvider) {
+        return from(LinkedHashMap::new, LinkedHashMap::new, LinkedHashMap::new, keyProvider, valueProvider);
+    }
+
+    /// Creates a map provider for instances of [TreeMap] with keys and values created using the specified providers.
+    /// The keys are ordered by their natural ordering.
+    /// @param <K> the key type.
+    /// @param <V> the value type.
+    /// @param keyProvider the provider to use to create the keys.
+    /// @param valueProvider the provider to use to create the values.
+    /// @return the map provider.
+    public static <K, V> @NotNull MapProvider<K, V, TreeMap<K, V>> provideTreeMap(
+            final @NotNull ObjectProvider<K> keyProvider, final @NotNull ObjectProvider<V> valueProvider) {
+        return from(TreeMap::new, TreeMap::new, TreeMap::new, keyProvider, valueProvider);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+
+import static org.soliscode.test.provider.DatasetCodec.INT_LAYOUT;
+import static org.soliscode.test.provider.DatasetCodec.LONG_LAYOUT;
+
+/// A list of elements that is read from a memory-mapped file. Opening a dataset maps the file with
+/// [FileChannel#map(FileChannel.MapMode, long, long, Arena)] and reads only the header, so a very large dataset can
+/// be opened in milliseconds, and the pages of the file are shared by all of the JVMs that map it, such as forked
+/// test JVMs. Each element is decoded by the [DatasetCodec] when it is accessed. The mapping belongs to an
+/// [automatic arena][Arena#ofAuto()], so the file is unmapped once the dataset is no longer reachable. Datasets are
+/// written by [DatasetWriter].
+///
+/// # Format
+/// The file starts with a header that holds the [#MAGIC] number, the [#VERSION] of the format, the number of
+/// elements, the [fixed width][DatasetCodec#fixedWidth()] of the elements, the [seed][#seed()] of the first element
+/// as a `long`, and the length of the name of the codec, which follows as UTF-8. The other values are of type `int`.
+/// If the width is fixed, the elements follow the header. Otherwise, the header is followed by the offsets of the
+/// elements, as `size + 1` values of type `long` relative to the first element, and then the elements. All of the
+/// values are big-endian.
+///
+/// ```java
+///     MappedDataset<Long> keys = MappedDataset.open(Path.of("keys.dataset"), DatasetCodecs.longs());
+///     long first = keys.get(0);
+/// ```
+///
+/// @param <E> The element type.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see DatasetWriter
+/// @see MappedDatasetProvider
+public final class MappedDataset<E> {
+
+    /// The magic number ({@value}) at the start of a dataset file, which is `SLDS` in ASCII.
+    public static final int MAGIC = 0x534C4453;
+
+    /// The version ({@value}) of the format of the dataset files.
+    public static final int VERSION = 2;
+
+    /// The number of bytes ({@value}) in the header before the name of the codec.
+    static final int HEADER_BYTES = 5 * Integer.BYTES + Long.BYTES;
+
+    /// The seed stored in the header of a dataset that was not written from the unique instances of a provider,
+    /// which cannot be the seed of an `int`.
+    static final long NO_SEED = Long.MIN_VALUE;
+
+    private final @NotNull Path file;
+    private final @NotNull MemorySegment segment;
+    private final @NotNull DatasetCodec<E> codec;
+    private final int size;
+    private final int width;
+    private final long seed;
+    private final long offsetsStart;
+    private final long dataStart;
+    private final @NotNull List<E> elements = new Elements();
+
+    private MappedDataset(final @NotNull Path file, final @NotNull MemorySegment segment,
+                          final @NotNull DatasetCodec<E> codec) throws IOException {
+        this.file = file;
+        this.segment = segment;
+        this.codec = codec;
+
+        if (segment.get(INT_LAYOUT, 0) != MAGIC) {
+            throw new IOException("not a dataset file: " + file);
+        }
+        if (segment.get(INT_LAYOUT, Integer.BYTES) != VERSION) {
+            throw new IOException("unsupported dataset version " + segment.get(INT_LAYOUT, Integer.BYTES) + ": "
+                    + file);
+        }
+        this.size = segment.get(INT_LAYOUT, 2 * Integer.BYTES);
+        this.width = segment.get(INT_LAYOUT, 3 * Integer.BYTES);
+        this.seed = segment.get(LONG_LAYOUT, 4 * Integer.BYTES);
+        final int nameLength = segment.get(INT_LAYOUT, 4 * Integer.BYTES + Long.BYTES);
+        if (size < 0 || nameLength < 0 || HEADER_BYTES + (long) nameLength > segment.byteSize()) {
+            throw new IOException("corrupt dataset header: " + file);
+        }
+
+        final byte[] name = segment.asSlice(HEADER_BYTES, nameLength).toArray(ValueLayout.JAVA_BYTE);
+        final String codecName = new String(name, StandardCharsets.UTF_8);
+        if (!codecName.equals(codec.name()) || width != codec.fixedWidth()) {
+            throw new IllegalArgumentException("dataset " + file + " was written with codec " + codecName
+                    + ", not " + codec.name());
+        }
+
+        this.offsetsStart = HEADER_BYTES + nameLength;
+        final long dataLength;
+        if (width == DatasetCodec.VARIABLE_WIDTH) {
+            this.dataStart = offsetsStart + (size + 1L) * Long.BYTES;
+            dataLength = (dataStart <= segment.byteSize()) ? segment.get(LONG_LAYOUT, dataStart - Long.BYTES) : 0;
+        } else {
+            this.dataStart = offsetsStart;
+            dataLength = (long) size * width;
+        }
+        if (dataStart + dataLength > segment.byteSize()) {
+            throw new IOException("truncated dataset: " + file);
+        }
+    }
+
+    /// Opens a dataset file by mapping it into memory.
+    /// @param <E> the element type.
+    /// @param file the dataset file.
+    /// @param codec the codec that the dataset was written with.
+    /// @return the dataset.
+    /// @throws IOException if the file cannot be read or is not a valid dataset.
+    /// @throws IllegalArgumentException if the dataset was written with a different codec.
+    public static <E> @NotNull MappedDataset<E> open(final @NotNull Path file, final @NotNull DatasetCodec<E> codec)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new IOException("not a dataset file: " + file);
+            }
+            return new MappedDataset<>(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, length, Arena.ofAuto()),
+                    codec);
+        }
+    }
+
+    /// Returns the file that the dataset was read from.
+    /// @return the dataset file.
+    public @NotNull Path file() {
+        return file;
+    }
+
+    /// Returns the codec used to decode the elements.
+    /// @return the codec.
+    public @NotNull DatasetCodec<E> codec() {
+        return codec;
+    }
+
+    /// Returns the number of elements in the dataset.
+    /// @return the number of elements.
+    public int size() {
+        return size;
+    }
+
+    /// Returns the seed of the first element, if the dataset was written from the unique instances of a provider
+    /// with [DatasetWriter#write(Path, DatasetCodec, ObjectProvider, int, int)]. The seed is empty for a dataset that
+    /// was written from a collection.
+    /// @return the seed of the first element.
+    public @NotNull OptionalInt seed() {
+        return (seed == NO_SEED) ? OptionalInt.empty() : OptionalInt.of((int) seed);
+    }
+
+    /// Returns an element of the dataset, decoding it from the mapped file.
+    /// @param index the index of the element.
+    /// @return the element.
+    /// @throws IndexOutOfBoundsException if the index is out of range.
+    /// @complexity _constant time_.
+    public @NotNull E get(final int index) {
+        Objects.checkIndex(index, size);
+        if (width == DatasetCodec.VARIABLE_WIDTH) {
+            final long start = segment.get(LONG_LAYOUT, offsetsStart + (long) index * Long.BYTES);
+            final long end = segment.get(LONG_LAYOUT, offsetsStart + (index + 1L) * Long.BYTES);
+            return codec.decode(segment, dataStart + start, Math.toIntExact(end - start));
+        }
+        return codec.decode(segment, dataStart + (long) index * width, width);
+    }
+
+    /// Returns an unmodifiable list view of the elements, which decodes each element when it is accessed.
+    /// @return the elements of the dataset.
+    public @NotNull List<E> elements() {
+        return elements;
+    }
+
+    private class Elements extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public E get(final int index) {
+            return MappedDataset.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
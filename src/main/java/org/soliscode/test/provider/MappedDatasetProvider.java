@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Evan Bergstrom
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.soliscode.test.provider;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/// An object provider that reads the instances for the first seeds from a [MappedDataset], and delegates everything
+/// else to the provider that the dataset was written from. The instance for a seed `i` less than the size of the
+/// dataset is element `i`, which is the same instance the wrapped provider would create, so the provider can replace
+/// the wrapped provider in any test. Since the dataset is mapped rather than generated, a large fixture is available
+/// as soon as the file is opened, and a dataset of keys sampled from production can be replayed in the same way.
+///
+/// The provider can also be used as the element provider of a [CollectionProvider]:
+/// ```java
+///     ObjectProvider<Long> keys = Providers.mapped(Path.of("target/keys.dataset"), DatasetCodecs.longs(),
+///             Providers.longProvider(), 1_000_000);
+///     CollectionProvider<Long, ArrayList<Long>> lists = CollectionProviders.provideArrayList(keys);
+/// ```
+///
+/// Instances of this class are normally created using
+/// [Providers#mapped(java.nio.file.Path, DatasetCodec, ObjectProvider, int)], which writes the dataset if it does
+/// not already exist.
+///
+/// @param <T> the type being provided.
+/// @param dataset the dataset that holds the instances for the first seeds.
+/// @param provider the provider that the dataset was written from.
+/// @author evanbergstrom
+/// @since 1.0
+/// @see DatasetWriter
+public record MappedDatasetProvider<T>(@NotNull MappedDataset<T> dataset, @NotNull ObjectProvider<T> provider)
+        implements ObjectProvider<T> {
+
+    /// Creates a mapped dataset provider.
+    /// @param dataset the dataset that holds the instances for the first seeds.
+    /// @param provider the provider that the dataset was written from.
+    /// @throws NullPointerException if either argument is `null`.
+    public MappedDatasetProvider {
+        Objects.requireNonNull(dataset);
+        Objects.requireNonNull(provider);
+    }
+
+    @Override
+    public @NotNull T defaultInstance() {
+        return provider.defaultInstance();
+    }
+
+    /// Returns the element of the dataset at the index of the seed, or creates the instance with the wrapped provider
+    /// if the seed is not an index of the dataset.
+    /// @param seed a primitive integer value.
+    /// @return an instance of the class being provided.
+    @Override
+    public @NotNull T createInstance(final int seed) {
+        return (seed >= 0 && seed < dataset.size()) ? dataset.get(seed) : provider.createInstance(seed);
+    }
+
+    /// Returns a view of the elements of the dataset for the seeds, if they are all indexes of the dataset, so the
+    /// elements are decoded from the mapped file as they are accessed rather than copied to the heap. Otherwise, the
+    /// instances are created by the default implementation, reading the seeds that are in the dataset from the file.
+    ///
+    /// The view is unmodifiable. Tests that need to change the elements should copy the list first. Collections
+    /// created from the list by a [CollectionProvider] copy the elements, so each collection instance is still created
+    /// fresh.
+    /// @param size the number of instances to create.
+    /// @param seed the seed of the first instance.
+    /// @return a list of the instances.
+    /// @throws IllegalArgumentException if size is greater than `uniqueSizeLimit()`
+    /// @complexity _constant time_ for a range of the dataset, otherwise _linear time_ based upon the `size` argument.
+    @Override
+    public @NotNull List<T> createUniqueInstances(final int size, final int seed) {
+        if (size > uniqueSizeLimit()) {
+            throw new IllegalArgumentException("cannot create " + size + " unique instances, limit is " + uniqueSizeLimit());
+        }
+        if (size >= 0 && seed >= 0 && (long) seed + size <= dataset.size()) {
+            return dataset.elements().subList(seed, seed + size);
+        }
+        return ObjectProvider.super.createUniqueInstances(size, seed);
+    }
+
+    @Override
+    public @NotNull T copyInstance(final @NotNull T other) {
+        return provider.copyInstance(other);
+    }
+
+    /// Returns the unique size limit of the wrapped provider if the dataset was written from its unique instances,
+    /// starting with the seed `0`. Otherwise, such as for a dataset written from a collection, the instances that the
+    /// wrapped provider creates for the seeds after the dataset may be equal to elements of the dataset, so the limit
+    /// is the size of the dataset.
+    /// @return the maximum number of unique instances that can be created.
+    @Override
+    public int uniqueSizeLimit() {
+        return dataset.seed().equals(OptionalInt.of(0))
+                ? provider.uniqueSizeLimit()
+                : Math.min(dataset.size(), provider.uniqueSizeLimit());
+    }
+}
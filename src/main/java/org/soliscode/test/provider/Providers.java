@@ -18,17 +18,30 @@ package org.soliscode.test.provider;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
 /// Utility class for creating instances of object providers for value classes.
 /// @author evanbergstrom
 /// @since 1.0
 public final class Providers {
 
+    /// The number of elements ({@value}) of an existing dataset that are compared with the instances of the provider
+    /// by [#mapped(Path, DatasetCodec, ObjectProvider, int)] before the dataset is reused.
+    public static final int MAPPED_SAMPLES = 16;
+
+    private static final IntegerProvider INTEGER_PROVIDER = new IntegerProvider();
+
     private Providers() {}
 
-    /// Creates a provider for the [Integer] class.
+    /// Returns a provider for the [Integer] class. The provider is stateless, so the same instance is returned by
+    /// each call, which allows the element lists created by the provider to be shared through an [ElementCache].
     /// @return a provider of [Integer] objects.
     public static @NotNull IntegerProvider integerProvider() {
-        return new IntegerProvider();
+        return INTEGER_PROVIDER;
     }
 
     /// Creates a provider for the [Long] class.
@@ -55,9 +68,99 @@ public final class Providers {
         return new FloatProvider();
     }
 
+    /// Creates a provider for the [java.math.BigInteger] class.
+    /// @return a provider of `BigInteger` objects.
+    public static @NotNull BigIntegerProvider bigIntegerProvider() {
+        return new BigIntegerProvider();
+    }
+
+    /// Creates a provider for the [java.math.BigDecimal] class.
+    /// @return a provider of `BigDecimal` objects.
+    public static @NotNull BigDecimalProvider bigDecimalProvider() {
+        return new BigDecimalProvider();
+    }
+
     /// Creates a provider for the [String] class.
     /// @return a provider of [String] objects.
     public static StringProvider stringProvider() {
         return new StringProvider();
     }
+
+    /// Creates a provider that reads the instances for the first `size` seeds from a memory-mapped dataset file, and
+    /// delegates everything else to another provider. If the file does not exist, has fewer elements, was written
+    /// with a different codec or was not written from the unique instances of the provider, it is first written with
+    /// [DatasetWriter#write(Path, DatasetCodec, ObjectProvider, int)]. The file can then be shared by later test runs
+    /// and by forked test JVMs.
+    ///
+    /// An existing file is only reused if its [seed][MappedDataset#seed()] is `0`, and [#MAPPED_SAMPLES] of its
+    /// elements, spread over the dataset, are equal to the instances that the provider creates for the same seeds.
+    /// A change to the provider that does not change any of the sampled instances is not detected, so the file should
+    /// be deleted when the provider changes in that way.
+    /// ```java
+    ///     ObjectProvider<Long> keys = Providers.mapped(Path.of("target/keys.dataset"), DatasetCodecs.longs(),
+    ///             Providers.longProvider(), 1_000_000);
+    /// ```
+    /// @param <T> the type being provided.
+    /// @param file the dataset file.
+    /// @param codec the codec used to write and read the instances.
+    /// @param provider the provider that creates the instances.
+    /// @param size the number of instances in the dataset.
+    /// @return a provider that reads the instances from the dataset.
+    /// @throws UncheckedIOException if the dataset cannot be written or read.
+    /// @throws IllegalArgumentException if the size is greater than the `uniqueSizeLimit()` of the provider.
+    public static <T> @NotNull MappedDatasetProvider<T> mapped(final @NotNull Path file,
+                                                               final @NotNull DatasetCodec<T> codec,
+                                                               final @NotNull ObjectProvider<T> provider,
+                                                               final int size) {
+        try {
+            if (Files.isRegularFile(file)) {
+                try {
+                    final MappedDataset<T> dataset = MappedDataset.open(file, codec);
+                    if (dataset.size() >= size && writtenFrom(dataset, provider)) {
+                        return new MappedDatasetProvider<>(dataset, provider);
+                    }
+                } catch (IOException | IllegalArgumentException e) {
+                    // The file is not a usable dataset, so it is written again below.
+                }
+            }
+            DatasetWriter.write(file, codec, provider, size);
+            return new MappedDatasetProvider<>(MappedDataset.open(file, codec), provider);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create dataset " + file, e);
+        }
+    }
+
+    // Returns true if the dataset starts with the seed 0 and a sample of its elements are equal to the instances that
+    // the provider creates for the same seeds.
+    private static <T> boolean writtenFrom(final @NotNull MappedDataset<T> dataset,
+                                           final @NotNull ObjectProvider<T> provider) {
+        if (!dataset.seed().equals(OptionalInt.of(0))) {
+            return false;
+        }
+        final int size = dataset.size();
+        for (int i = 0; i < MAPPED_SAMPLES && size > 0; i++) {
+            final int seed = (i == MAPPED_SAMPLES - 1) ? size - 1 : (int) ((long) i * size / MAPPED_SAMPLES);
+            if (!dataset.get(seed).equals(provider.createInstance(seed))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Wraps a provider so that the element lists returned by `createUniqueInstances` are served from the
+    /// [shared element cache][ElementCache#shared()]. The lists are keyed by the provider, so the provider passed to
+    /// this method should be the same instance each time for the cache to be effective.
+    /// ```java
+    ///     ObjectProvider<Integer> provider = Providers.cached(Providers.integerProvider());
+    /// ```
+    /// @param <T> the type being provided.
+    /// @param provider the provider to wrap.
+    /// @return a provider that caches the element lists.
+    /// @throws NullPointerException if the provider is `null`.
+    public static <T> @NotNull CachingProvider<T> cached(final @NotNull ObjectProvider<T> provider) {
+        if (provider instanceof CachingProvider<T> caching) {
+            return caching;
+        }
+        return new CachingProvider<>(provider, ElementCache.shared());
+    }
 }
@@ -42,6 +42,26 @@ public class StringProvider implements ObjectProvider<String> {
         return String.valueOf(seed);
     }
 
+    /// Creates a string that starts with a prefix of the given length, followed by the string representation of a
+    /// primitive integer value. Every string created with the same prefix length has the same prefix, so strings
+    /// created with different seeds differ only after the prefix. These strings can be used to measure the cost of
+    /// comparing keys that share a long common prefix, such as paths or composite keys.
+    ///
+    /// @param prefixLength the length of the common prefix.
+    /// @param seed a primitive integer value.
+    /// @return an instance of the `String` class
+    /// @throws IllegalArgumentException if the prefix length is negative.
+    public @NotNull String createInstanceWithPrefix(final int prefixLength, final int seed) {
+        if (prefixLength < 0) {
+            throw new IllegalArgumentException("negative prefix length: " + prefixLength);
+        }
+        final StringBuilder builder = new StringBuilder(prefixLength + 11);
+        for (int i = 0; i < prefixLength; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.append(seed).toString();
+    }
+
     /// Creates a copy of the string value. Since instances of [String] are immutable, the copy is not performed and
     /// the value provided as an argument is returned.
     /// @param other the string value to copy.
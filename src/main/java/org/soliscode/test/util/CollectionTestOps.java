@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.TypeVariable;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 
@@ -125,6 +126,11 @@ public final class CollectionTestOps {
                 return collection.retainAll(c);
             }
 
+            @Override
+            public boolean removeIf(@NotNull final Predicate<? super E> filter) {
+                return collection.removeIf(filter);
+            }
+
             @Override
             public void clear() {
                 collection.clear();
@@ -234,6 +240,11 @@ public final class CollectionTestOps {
                 return list.retainAll(c);
             }
 
+            @Override
+            public boolean removeIf(final @NotNull Predicate<? super E> filter) {
+                return list.removeIf(filter);
+            }
+
             @Override
             public void clear() {
                 list.clear();
@@ -0,0 +1,81 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableCollection;
+import org.soliscode.test.contract.collection.AddAllPresizingContract;
+import org.soliscode.test.contract.support.WithArrayList;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [AddAllPresizingContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for AddAllPresizingContract class")
+public class AddAllPresizingContractTest extends ContractTest<Integer, BreakableCollection<Integer>> {
+
+    /// Verifies that the tests pass for a collection that stores its elements in a list.
+    @Nested
+    class WorkingCollectionTest extends AbstractTest
+            implements AddAllPresizingContract<Integer, BreakableCollection<Integer>>,
+            BreakableCollection.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array list.
+    @Nested
+    class ArrayListTest extends AbstractTest
+            implements AddAllPresizingContract<Integer, ArrayList<Integer>>,
+            WithArrayList<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array deque.
+    @Nested
+    class ArrayDequeTest extends AbstractTest
+            implements AddAllPresizingContract<Integer, ArrayDeque<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, ArrayDeque<Integer>> provider() {
+            return CollectionProviders.provideArrayDeque(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `AddAllPresizingContract` that will run on instances of
+    /// `BreakableCollection` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenCollectionContract
+            extends DynamicContract<Integer, BreakableCollection<Integer>>
+            implements AddAllPresizingContract<Integer, BreakableCollection<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenCollectionContract(final @NotNull Break b) {
+            super(b, BreakableCollection::collectionProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenCollectionContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenCollectionContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the addAll allocation breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForAddAllPresizing() {
+        return Arrays.asList(
+                failingTest("testAddAllGrowsAtMostOnce() fails with ADD_ALL_COPIES_THE_ARGUMENT break",
+                        BreakableCollection.ADD_ALL_COPIES_THE_ARGUMENT,
+                        DynamicBrokenCollectionContract::testAddAllGrowsAtMostOnce),
+
+                failingTest("testAddAllGrowsAtMostOnce() fails with ADD_ALL_ADDS_ONE_AT_A_TIME break",
+                        BreakableCollection.ADD_ALL_ADDS_ONE_AT_A_TIME,
+                        DynamicBrokenCollectionContract::testAddAllGrowsAtMostOnce)
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableBlockingQueue;
+import org.soliscode.test.contract.queue.BlockingQueueContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/// Tests for the [BlockingQueueContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for BlockingQueueContract class")
+public class BlockingQueueContractTest extends ContractTest<Integer, BreakableBlockingQueue<Integer>> {
+
+    /// The capacity of the bounded queues that are tested.
+    private static final int CAPACITY = 8;
+
+    /// Verifies that the tests all pass when testing a working blocking queue implementation. In this case,
+    /// instances of `BreakableBlockingQueue` are used that have no breaks specified.
+    @Nested
+    class WorkingBlockingQueueTest extends AbstractTest
+            implements BlockingQueueContract<Integer, BreakableBlockingQueue<Integer>>,
+            BreakableBlockingQueue.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests all pass when testing a working blocking queue implementation that has a capacity.
+    @Nested
+    class WorkingBoundedBlockingQueueTest extends AbstractTest
+            implements BlockingQueueContract<Integer, BreakableBlockingQueue<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, BreakableBlockingQueue<Integer>> provider() {
+            return BreakableBlockingQueue.blockingQueueProvider(elementProvider(), CAPACITY, Set.of());
+        }
+
+        @Override
+        public int capacity() {
+            return CAPACITY;
+        }
+    }
+
+    /// Verifies that the tests pass for a linked blocking queue.
+    @Nested
+    class LinkedBlockingQueueTest extends AbstractTest
+            implements BlockingQueueContract<Integer, LinkedBlockingQueue<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedBlockingQueue<Integer>> provider() {
+            return CollectionProviders.provideLinkedBlockingQueue(elementProvider());
+        }
+    }
+
+    /// Verifies that the tests pass for an array blocking queue.
+    @Nested
+    class ArrayBlockingQueueTest extends AbstractTest
+            implements BlockingQueueContract<Integer, ArrayBlockingQueue<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, ArrayBlockingQueue<Integer>> provider() {
+            return CollectionProviders.provideArrayBlockingQueue(elementProvider(), CAPACITY);
+        }
+
+        @Override
+        public int capacity() {
+            return CAPACITY;
+        }
+    }
+
+    /// Dynamically created instance of `BlockingQueueContract` that will run on bounded instances of
+    /// `BreakableBlockingQueue` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenBlockingQueueContract
+            extends DynamicContract<Integer, BreakableBlockingQueue<Integer>>
+            implements BlockingQueueContract<Integer, BreakableBlockingQueue<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenBlockingQueueContract(final @NotNull Break b) {
+            super(b, (ep, breaks) -> BreakableBlockingQueue.blockingQueueProvider(ep, CAPACITY, breaks));
+        }
+
+        @Override
+        public int capacity() {
+            return CAPACITY;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenBlockingQueueContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenBlockingQueueContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the blocking queue breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBlockingQueue() {
+        return Arrays.asList(
+                failingTest("testPutWaitsForSpace() fails with PUT_DOES_NOT_WAIT break",
+                        BreakableBlockingQueue.PUT_DOES_NOT_WAIT,
+                        DynamicBrokenBlockingQueueContract::testPutWaitsForSpace),
+
+                failingTest("testNullElementIsRejected() fails with PUT_IGNORES_NULL break",
+                        BreakableBlockingQueue.PUT_IGNORES_NULL,
+                        DynamicBrokenBlockingQueueContract::testNullElementIsRejected),
+
+                failingTest("testTakeWaitsForElement() fails with TAKE_DOES_NOT_WAIT break",
+                        BreakableBlockingQueue.TAKE_DOES_NOT_WAIT,
+                        DynamicBrokenBlockingQueueContract::testTakeWaitsForElement),
+
+                failingTest("testOfferWithTimeoutOnFullQueue() fails with OFFER_WITH_TIMEOUT_DOES_NOT_WAIT break",
+                        BreakableBlockingQueue.OFFER_WITH_TIMEOUT_DOES_NOT_WAIT,
+                        DynamicBrokenBlockingQueueContract::testOfferWithTimeoutOnFullQueue),
+
+                failingTest("testPollWithTimeoutReturnsWhenElementArrives() fails with POLL_WITH_TIMEOUT_SLEEPS break",
+                        BreakableBlockingQueue.POLL_WITH_TIMEOUT_SLEEPS,
+                        DynamicBrokenBlockingQueueContract::testPollWithTimeoutReturnsWhenElementArrives),
+
+                failingTest("testRemainingCapacity() fails with REMAINING_CAPACITY_IGNORES_SIZE break",
+                        BreakableBlockingQueue.REMAINING_CAPACITY_IGNORES_SIZE,
+                        DynamicBrokenBlockingQueueContract::testRemainingCapacity),
+
+                failingTest("testDrainToWithMaxElements() fails with DRAIN_TO_IGNORES_MAX_ELEMENTS break",
+                        BreakableBlockingQueue.DRAIN_TO_IGNORES_MAX_ELEMENTS,
+                        DynamicBrokenBlockingQueueContract::testDrainToWithMaxElements)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableCollection;
+import org.soliscode.test.contract.collection.BulkOperationComplexityContract;
+import org.soliscode.test.contract.support.WithArrayList;
+import org.soliscode.test.contract.support.WithCountingElement;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [BulkOperationComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for BulkOperationComplexityContract class")
+public class BulkOperationComplexityContractTest
+        extends ContractTest<CountingElement, BreakableCollection<CountingElement>> {
+
+    /// Verifies that the tests pass for a collection that stores its elements in a list.
+    @Nested
+    class WorkingCollectionTest extends AbstractTest
+            implements BulkOperationComplexityContract<BreakableCollection<CountingElement>>,
+            BreakableCollection.WithProvider<CountingElement>, WithCountingElement {
+    }
+
+    /// Verifies that the tests pass for a collection that stores its elements in a hash set.
+    @Nested
+    class WorkingHashedCollectionTest extends AbstractTest
+            implements BulkOperationComplexityContract<BreakableCollection<CountingElement>>, WithCountingElement {
+
+        @Override
+        public @NotNull CollectionProvider<CountingElement, BreakableCollection<CountingElement>> provider() {
+            return BreakableCollection.hashedCollectionProvider(elementProvider(), Collections.emptySet());
+        }
+
+        @Override
+        public @NotNull Complexity containsComplexity() {
+            return Complexity.CONSTANT;
+        }
+    }
+
+    /// Verifies that the tests pass for an array list.
+    @Nested
+    class ArrayListTest extends AbstractTest
+            implements BulkOperationComplexityContract<ArrayList<CountingElement>>,
+            WithArrayList<CountingElement>, WithCountingElement {
+    }
+
+    /// Verifies that the tests pass for a hash set.
+    @Nested
+    class HashSetTest extends AbstractTest
+            implements BulkOperationComplexityContract<HashSet<CountingElement>>, WithCountingElement {
+
+        @Override
+        public @NotNull CollectionProvider<CountingElement, HashSet<CountingElement>> provider() {
+            return CollectionProviders.provideHashSet(elementProvider());
+        }
+
+        @Override
+        public @NotNull Complexity containsComplexity() {
+            return Complexity.CONSTANT;
+        }
+    }
+
+    /// Dynamically created instance of `BulkOperationComplexityContract` that will run on instances of
+    /// `BreakableCollection` that store their elements in a hash set and have a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenHashedCollectionContract
+            extends DynamicContract<CountingElement, BreakableCollection<CountingElement>>
+            implements BulkOperationComplexityContract<BreakableCollection<CountingElement>>, WithCountingElement {
+
+        protected DynamicBrokenHashedCollectionContract(final @NotNull Break b) {
+            super(b, BreakableCollection::hashedCollectionProvider);
+        }
+
+        @Override
+        public @NotNull Complexity containsComplexity() {
+            return Complexity.CONSTANT;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenHashedCollectionContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenHashedCollectionContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the bulk operation breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBulkOperations() {
+        return Arrays.asList(
+                failingTest("testRemoveAllWithHashedArgumentIsLinear() fails with REMOVE_ALL_COPIES_THE_ARGUMENT break",
+                        BreakableCollection.REMOVE_ALL_COPIES_THE_ARGUMENT,
+                        DynamicBrokenHashedCollectionContract::testRemoveAllWithHashedArgumentIsLinear),
+
+                failingTest("testRetainAllWithHashedArgumentIsLinear() fails with RETAIN_ALL_COPIES_THE_ARGUMENT break",
+                        BreakableCollection.RETAIN_ALL_COPIES_THE_ARGUMENT,
+                        DynamicBrokenHashedCollectionContract::testRetainAllWithHashedArgumentIsLinear),
+
+                failingTest("testContainsAllWithHashedArgument() fails with CONTAINS_ALL_SCANS_THE_COLLECTION break",
+                        BreakableCollection.CONTAINS_ALL_SCANS_THE_COLLECTION,
+                        DynamicBrokenHashedCollectionContract::testContainsAllWithHashedArgument),
+
+                failingTest("testContainsAllWithListArgument() fails with CONTAINS_ALL_SCANS_THE_COLLECTION break",
+                        BreakableCollection.CONTAINS_ALL_SCANS_THE_COLLECTION,
+                        DynamicBrokenHashedCollectionContract::testContainsAllWithListArgument)
+        );
+    }
+}
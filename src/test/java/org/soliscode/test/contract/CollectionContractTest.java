@@ -291,6 +291,18 @@ public class CollectionContractTest extends ContractTest<Integer, BreakableColle
         );
     }
 
+    /// Test factory for tests of the cost of the removeIf() method that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the removeIf() method.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForRemoveIfCost() {
+        return Arrays.asList(
+                failingTest("testRemoveIfCallsPredicateOncePerElement() fails with REMOVE_IF_SKIPS_FIRST_ELEMENT break",
+                        BreakableCollection.REMOVE_IF_SKIPS_FIRST_ELEMENT,
+                        DynamicBrokenCollectionContract::testRemoveIfCallsPredicateOncePerElement)
+        );
+    }
+
     /// Test factory for tests of the removeIf() method that should fail for various breaks.
     ///
     /// @return a collection of dynamic tests of the removeIf() method.
@@ -343,4 +355,28 @@ public class CollectionContractTest extends ContractTest<Integer, BreakableColle
                         DynamicBrokenCollectionContract::testRemoveAllThrowsOnNullCollection)
             );
     }
-}
\ No newline at end of file
+
+    /// Test factory for tests of the memory allocated by the toArray() methods that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the toArray() methods.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForToArrayAllocation() {
+        return Arrays.asList(
+                failingTest("testToArrayCopiesOnce() fails with TO_ARRAY_COPIES_TWICE break",
+                        BreakableCollection.TO_ARRAY_COPIES_TWICE,
+                        DynamicBrokenCollectionContract::testToArrayCopiesOnce),
+
+                failingTest("testToArrayStoreReturnsLargeEnoughArray() fails with TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY break",
+                        BreakableCollection.TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY,
+                        DynamicBrokenCollectionContract::testToArrayStoreReturnsLargeEnoughArray),
+
+                failingTest("testToArrayStoreDoesNotAllocate() fails with TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY break",
+                        BreakableCollection.TO_ARRAY_STORE_ALLOCATES_NEW_ARRAY,
+                        DynamicBrokenCollectionContract::testToArrayStoreDoesNotAllocate),
+
+                failingTest("testToArrayGeneratorCopiesOnce() fails with TO_ARRAY_GENERATOR_COPIES_TWICE break",
+                        BreakableCollection.TO_ARRAY_GENERATOR_COPIES_TWICE,
+                        DynamicBrokenCollectionContract::testToArrayGeneratorCopiesOnce)
+        );
+    }
+}
@@ -2,18 +2,17 @@ package org.soliscode.test.contract;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.opentest4j.AssertionFailedError;
 import org.soliscode.test.breakable.Break;
 
-import java.util.function.Consumer;
-
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
 public abstract class ContractTest<E,C extends Iterable<E>> {
 
     protected <X extends DynamicContract<E,C>> DynamicTest failingTest(String description, Break aBreak,
-                                      Consumer<X> test) {
+                                      ThrowingConsumer<X> test) {
         return dynamicTest(description, () -> {
             assertThrows(AssertionFailedError.class,
                     () -> test.accept(createTest(aBreak)));
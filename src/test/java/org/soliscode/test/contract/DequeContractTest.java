@@ -0,0 +1,90 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableDeque;
+import org.soliscode.test.contract.deque.DequeContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [DequeContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for DequeContract class")
+public class DequeContractTest extends ContractTest<Integer, BreakableDeque<Integer>> {
+
+    /// Verifies that the tests all pass when testing a working Deque implementation. In this case, instances of
+    /// `BreakableDeque` are used that have no breaks specified.
+    @Nested
+    class WorkingDequeTest extends AbstractTest
+            implements DequeContract<Integer, BreakableDeque<Integer>>,
+            BreakableDeque.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements DequeContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `DequeContract` that will run on instances of `BreakableDeque` with a
+    /// specified break. This contract will be expected to fail on certain tests depending on the specific break that
+    /// is being used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenDequeContract extends DynamicContract<Integer, BreakableDeque<Integer>>
+            implements DequeContract<Integer, BreakableDeque<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenDequeContract(final @NotNull Break b) {
+            super(b, BreakableDeque::dequeProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenDequeContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenDequeContract(b);
+    }
+
+    /// Test factory for tests of the deque methods that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the deque methods.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForDequeMethods() {
+        return Arrays.asList(
+                failingTest("testOfferAndPollAreFifo() fails with POLL_REMOVES_LAST_ELEMENT break",
+                        BreakableDeque.POLL_REMOVES_LAST_ELEMENT,
+                        DynamicBrokenDequeContract::testOfferAndPollAreFifo),
+
+                failingTest("testOfferAndPollAreFifo() fails with OFFER_DOES_NOT_ADD_ELEMENT break",
+                        BreakableDeque.OFFER_DOES_NOT_ADD_ELEMENT,
+                        DynamicBrokenDequeContract::testOfferAndPollAreFifo),
+
+                failingTest("testPush() fails with PUSH_ADDS_TO_END break",
+                        BreakableDeque.PUSH_ADDS_TO_END,
+                        DynamicBrokenDequeContract::testPush),
+
+                failingTest("testPop() fails with PUSH_ADDS_TO_END break",
+                        BreakableDeque.PUSH_ADDS_TO_END,
+                        DynamicBrokenDequeContract::testPop),
+
+                failingTest("testDescendingIterator() fails with DESCENDING_ITERATOR_IS_NOT_REVERSED break",
+                        BreakableDeque.DESCENDING_ITERATOR_IS_NOT_REVERSED,
+                        DynamicBrokenDequeContract::testDescendingIterator),
+
+                failingTest("testDescendingIteratorRemove() fails with DESCENDING_ITERATOR_IS_NOT_REVERSED break",
+                        BreakableDeque.DESCENDING_ITERATOR_IS_NOT_REVERSED,
+                        DynamicBrokenDequeContract::testDescendingIteratorRemove)
+        );
+    }
+}
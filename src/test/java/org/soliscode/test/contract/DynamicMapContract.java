@@ -0,0 +1,35 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.contract.support.MapContractSupport;
+import org.soliscode.test.provider.MapProvider;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+public abstract class DynamicMapContract<K, V, M extends Map<K, V>> extends AbstractTest
+        implements MapContractSupport<K, V, M> {
+
+    /// Creates a map provider from the key provider, the value provider and the breaks.
+    @FunctionalInterface
+    interface ProviderCreator<K, V, M extends Map<K, V>> {
+        MapProvider<K, V, M> create(ObjectProvider<K> keyProvider, ObjectProvider<V> valueProvider, Set<Break> breaks);
+    }
+
+    private final Set<Break> breaks;
+    private final ProviderCreator<K, V, M> providerCreator;
+
+    DynamicMapContract(final Break b, final ProviderCreator<K, V, M> providerCreator) {
+        this.breaks = (b == null) ? Collections.emptySet() : Set.of(b);
+        this.providerCreator = providerCreator;
+    }
+
+    @Override
+    public @NotNull MapProvider<K, V, M> provider() {
+        return providerCreator.create(keyProvider(), valueProvider(), breaks);
+    }
+}
@@ -0,0 +1,103 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableSequencedCollection;
+import org.soliscode.test.contract.sequenced.EndOperationComplexityContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [EndOperationComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for EndOperationComplexityContract class")
+public class EndOperationComplexityContractTest
+        extends ContractTest<Integer, BreakableSequencedCollection<Integer>> {
+
+    /// Verifies that the tests pass for a sequenced collection that stores its elements in a linked list.
+    @Nested
+    class WorkingSequencedCollectionTest extends AbstractTest
+            implements EndOperationComplexityContract<Integer, BreakableSequencedCollection<Integer>>,
+            BreakableSequencedCollection.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array deque.
+    @Nested
+    class ArrayDequeTest extends AbstractTest
+            implements EndOperationComplexityContract<Integer, ArrayDeque<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, ArrayDeque<Integer>> provider() {
+            return CollectionProviders.provideArrayDeque(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `EndOperationComplexityContract` that will run on instances of
+    /// `BreakableSequencedCollection` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenSequencedCollectionContract
+            extends DynamicContract<Integer, BreakableSequencedCollection<Integer>>
+            implements EndOperationComplexityContract<Integer, BreakableSequencedCollection<Integer>>,
+            WithIntegerElement {
+
+        protected DynamicBrokenSequencedCollectionContract(final @NotNull Break b) {
+            super(b, BreakableSequencedCollection::sequencedCollectionProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenSequencedCollectionContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenSequencedCollectionContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the end operation breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForEndOperations() {
+        return Arrays.asList(
+                failingTest("testAddFirstIsConstantTime() fails with ADD_FIRST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.ADD_FIRST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testAddFirstIsConstantTime),
+
+                failingTest("testAddLastIsConstantTime() fails with ADD_LAST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.ADD_LAST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testAddLastIsConstantTime),
+
+                failingTest("testRemoveFirstIsConstantTime() fails with REMOVE_FIRST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.REMOVE_FIRST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testRemoveFirstIsConstantTime),
+
+                failingTest("testRemoveLastIsConstantTime() fails with REMOVE_LAST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.REMOVE_LAST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testRemoveLastIsConstantTime),
+
+                failingTest("testGetFirstIsConstantTime() fails with GET_FIRST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.GET_FIRST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testGetFirstIsConstantTime),
+
+                failingTest("testGetLastIsConstantTime() fails with GET_LAST_IS_LINEAR_TIME break",
+                        BreakableSequencedCollection.GET_LAST_IS_LINEAR_TIME,
+                        DynamicBrokenSequencedCollectionContract::testGetLastIsConstantTime),
+
+                failingTest("testReversedIsView() fails with REVERSED_COPIES_THE_ELEMENTS break",
+                        BreakableSequencedCollection.REVERSED_COPIES_THE_ELEMENTS,
+                        DynamicBrokenSequencedCollectionContract::testReversedIsView),
+
+                failingTest("testReversedDoesNotCopy() fails with REVERSED_COPIES_THE_ELEMENTS break",
+                        BreakableSequencedCollection.REVERSED_COPIES_THE_ELEMENTS,
+                        DynamicBrokenSequencedCollectionContract::testReversedDoesNotCopy),
+
+                failingTest("testReversedIteratorDoesNotCopy() fails with REVERSED_ITERATOR_COPIES_THE_ELEMENTS break",
+                        BreakableSequencedCollection.REVERSED_ITERATOR_COPIES_THE_ELEMENTS,
+                        DynamicBrokenSequencedCollectionContract::testReversedIteratorDoesNotCopy)
+        );
+    }
+}
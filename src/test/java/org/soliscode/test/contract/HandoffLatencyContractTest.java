@@ -0,0 +1,118 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableBlockingQueue;
+import org.soliscode.test.contract.queue.HandoffLatencyContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/// Tests for the [HandoffLatencyContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for HandoffLatencyContract class")
+public class HandoffLatencyContractTest extends ContractTest<Integer, BreakableBlockingQueue<Integer>> {
+
+    /// Verifies that the tests pass for a breakable blocking queue that has no breaks.
+    @Nested
+    class WorkingBlockingQueueTest extends AbstractTest
+            implements HandoffLatencyContract<Integer, BreakableBlockingQueue<Integer>>,
+            BreakableBlockingQueue.WithProvider<Integer>, WithIntegerElement {
+
+        @Override
+        public long lockAcquisitions(final @NotNull BreakableBlockingQueue<Integer> queue) {
+            return queue.lockAcquisitions();
+        }
+    }
+
+    /// Verifies that the tests pass for a linked blocking queue.
+    @Nested
+    class LinkedBlockingQueueTest extends AbstractTest
+            implements HandoffLatencyContract<Integer, LinkedBlockingQueue<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedBlockingQueue<Integer>> provider() {
+            return CollectionProviders.provideLinkedBlockingQueue(elementProvider());
+        }
+    }
+
+    /// Verifies that the tests pass for a small array blocking queue, which makes the producers wait for the
+    /// consumers, with more producers than consumers.
+    @Nested
+    class ArrayBlockingQueueTest extends AbstractTest
+            implements HandoffLatencyContract<Integer, ArrayBlockingQueue<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, ArrayBlockingQueue<Integer>> provider() {
+            return CollectionProviders.provideArrayBlockingQueue(elementProvider(), 16);
+        }
+
+        @Override
+        public int handoffProducers() {
+            return 4;
+        }
+
+        @Override
+        public int handoffConsumers() {
+            return 1;
+        }
+    }
+
+    /// Dynamically created instance of `HandoffLatencyContract` that will run on instances of
+    /// `BreakableBlockingQueue` with a specified break. A single consumer is used, so that every message waits for
+    /// the consumer to finish sleeping when polling is broken; with several consumers, their sleeps overlap and the
+    /// median latency depends upon how they are staggered.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenBlockingQueueContract
+            extends DynamicContract<Integer, BreakableBlockingQueue<Integer>>
+            implements HandoffLatencyContract<Integer, BreakableBlockingQueue<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenBlockingQueueContract(final @NotNull Break b) {
+            super(b, BreakableBlockingQueue::blockingQueueProvider);
+        }
+
+        @Override
+        public int handoffConsumers() {
+            return 1;
+        }
+
+        @Override
+        public long lockAcquisitions(final @NotNull BreakableBlockingQueue<Integer> queue) {
+            return queue.lockAcquisitions();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenBlockingQueueContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenBlockingQueueContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the hand-off breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForHandoffLatency() {
+        return Arrays.asList(
+                failingTest("testHandoffLatencyOnPlatformThreads() fails with POLL_WITH_TIMEOUT_SLEEPS break",
+                        BreakableBlockingQueue.POLL_WITH_TIMEOUT_SLEEPS,
+                        (DynamicBrokenBlockingQueueContract t) -> t.testHandoffLatencyOnPlatformThreads(entry -> {})),
+
+                failingTest("testHandoffLatencyOnVirtualThreads() fails with POLL_WITH_TIMEOUT_SLEEPS break",
+                        BreakableBlockingQueue.POLL_WITH_TIMEOUT_SLEEPS,
+                        (DynamicBrokenBlockingQueueContract t) -> t.testHandoffLatencyOnVirtualThreads(entry -> {})),
+
+                failingTest("testDrainToTransfersInBatch() fails with DRAIN_TO_POLLS_EACH_ELEMENT break",
+                        BreakableBlockingQueue.DRAIN_TO_POLLS_EACH_ELEMENT,
+                        DynamicBrokenBlockingQueueContract::testDrainToTransfersInBatch)
+        );
+    }
+}
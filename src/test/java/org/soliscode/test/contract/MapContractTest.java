@@ -0,0 +1,177 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableMap;
+import org.soliscode.test.contract.map.MapContract;
+import org.soliscode.test.contract.support.WithIntegerKey;
+import org.soliscode.test.contract.support.WithStringValue;
+import org.soliscode.test.provider.MapProvider;
+import org.soliscode.test.provider.MapProviders;
+
+import java.util.*;
+
+/// Tests for the [MapContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for MapContract class")
+public class MapContractTest extends MapContractTestBase<Integer, String, BreakableMap<Integer, String>> {
+
+    /// Verifies that the tests all pass when testing a working Map implementation. In this case, instances of
+    /// `BreakableMap` are used that have no breaks specified.
+    @Nested
+    class WorkingMapTest extends AbstractTest
+            implements MapContract<Integer, String, BreakableMap<Integer, String>>,
+            BreakableMap.WithProvider<Integer, String>, WithIntegerKey, WithStringValue {
+    }
+
+    /// Verifies that the tests pass for an unmodifiable map, which throws an `UnsupportedOperationException` from
+    /// each of the modification methods.
+    @Nested
+    class UnmodifiableMapTest extends AbstractTest
+            implements MapContract<Integer, String, Map<Integer, String>>, WithIntegerKey, WithStringValue {
+
+        public UnmodifiableMapTest() {
+            doesNotSupportModification();
+        }
+
+        @Override
+        public @NotNull MapProvider<Integer, String, Map<Integer, String>> provider() {
+            return MapProviders.from(
+                    Collections::emptyMap,
+                    (m) -> Collections.unmodifiableMap(new HashMap<>(m)),
+                    (m) -> Collections.unmodifiableMap(new HashMap<>(m)),
+                    keyProvider(), valueProvider());
+        }
+
+        // The entry set of an unmodifiable map wraps each entry to prevent calls to setValue.
+        @Override
+        public void testEntrySetIterationAllocatesConstantMemory() {
+        }
+    }
+
+    /// Verifies that the tests pass for a hash map.
+    @Nested
+    class HashMapTest extends AbstractTest
+            implements MapContract<Integer, String, HashMap<Integer, String>>, WithIntegerKey, WithStringValue {
+
+        @Override
+        public @NotNull MapProvider<Integer, String, HashMap<Integer, String>> provider() {
+            return MapProviders.provideHashMap(keyProvider(), valueProvider());
+        }
+    }
+
+    /// Verifies that the tests pass for a linked hash map.
+    @Nested
+    class LinkedHashMapTest extends AbstractTest
+            implements MapContract<Integer, String, LinkedHashMap<Integer, String>>, WithIntegerKey, WithStringValue {
+
+        @Override
+        public @NotNull MapProvider<Integer, String, LinkedHashMap<Integer, String>> provider() {
+            return MapProviders.provideLinkedHashMap(keyProvider(), valueProvider());
+        }
+    }
+
+    /// Verifies that the tests pass for a tree map, which does not permit `null` keys.
+    @Nested
+    class TreeMapTest extends AbstractTest
+            implements MapContract<Integer, String, TreeMap<Integer, String>>, WithIntegerKey, WithStringValue {
+
+        @Override
+        public @NotNull MapProvider<Integer, String, TreeMap<Integer, String>> provider() {
+            return MapProviders.provideTreeMap(keyProvider(), valueProvider());
+        }
+
+        @Override
+        public boolean permitNullKeys() {
+            return false;
+        }
+    }
+
+    /// Dynamically created instance of `MapContract` that will run on instances of `BreakableMap` with a specified
+    /// break. This contract will be expected to fail on certain tests depending on the specific break that is being
+    /// used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenMapContract
+            extends DynamicMapContract<Integer, String, BreakableMap<Integer, String>>
+            implements MapContract<Integer, String, BreakableMap<Integer, String>>, WithIntegerKey, WithStringValue {
+
+        protected DynamicBrokenMapContract(final @NotNull Break b) {
+            super(b, BreakableMap::mapProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenMapContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenMapContract(b);
+    }
+
+    /// Test factory for tests of the modification methods that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the modification methods.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForModification() {
+        return Arrays.asList(
+                failingTest("testPutWithExistingKeys() fails with PUT_ALWAYS_RETURNS_NULL break",
+                        BreakableMap.PUT_ALWAYS_RETURNS_NULL,
+                        DynamicBrokenMapContract::testPutWithExistingKeys),
+
+                failingTest("testRemove() fails with REMOVE_DOES_NOT_REMOVE_ENTRY break",
+                        BreakableMap.REMOVE_DOES_NOT_REMOVE_ENTRY,
+                        DynamicBrokenMapContract::testRemove),
+
+                failingTest("testPutIfAbsentWithExistingKey() fails with PUT_IF_ABSENT_REPLACES_VALUE break",
+                        BreakableMap.PUT_IF_ABSENT_REPLACES_VALUE,
+                        DynamicBrokenMapContract::testPutIfAbsentWithExistingKey),
+
+                failingTest("testComputeIfAbsentWithExistingKey() fails with COMPUTE_IF_ABSENT_ALWAYS_COMPUTES break",
+                        BreakableMap.COMPUTE_IF_ABSENT_ALWAYS_COMPUTES,
+                        DynamicBrokenMapContract::testComputeIfAbsentWithExistingKey),
+
+                failingTest("testMergeWithExistingKey() fails with MERGE_IGNORES_EXISTING_VALUE break",
+                        BreakableMap.MERGE_IGNORES_EXISTING_VALUE,
+                        DynamicBrokenMapContract::testMergeWithExistingKey)
+        );
+    }
+
+    /// Test factory for tests of the views that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the views.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForViews() {
+        return Arrays.asList(
+                failingTest("testKeySetIsView() fails with KEY_SET_IS_A_COPY break",
+                        BreakableMap.KEY_SET_IS_A_COPY,
+                        DynamicBrokenMapContract::testKeySetIsView),
+
+                failingTest("testKeySetRemove() fails with KEY_SET_IS_A_COPY break",
+                        BreakableMap.KEY_SET_IS_A_COPY,
+                        DynamicBrokenMapContract::testKeySetRemove),
+
+                failingTest("testEntrySetValue() fails with ENTRY_SET_ITERATOR_COPIES_ENTRIES break",
+                        BreakableMap.ENTRY_SET_ITERATOR_COPIES_ENTRIES,
+                        DynamicBrokenMapContract::testEntrySetValue),
+
+                failingTest("testEntrySetIteratorRemove() fails with ENTRY_SET_ITERATOR_COPIES_ENTRIES break",
+                        BreakableMap.ENTRY_SET_ITERATOR_COPIES_ENTRIES,
+                        DynamicBrokenMapContract::testEntrySetIteratorRemove)
+        );
+    }
+
+    /// Test factory for the performance tests that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic performance tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForPerformance() {
+        return List.of(
+                failingTest("testEntrySetIterationAllocatesConstantMemory() fails with "
+                                + "ENTRY_SET_ITERATOR_COPIES_ENTRIES break",
+                        BreakableMap.ENTRY_SET_ITERATOR_COPIES_ENTRIES,
+                        DynamicBrokenMapContract::testEntrySetIterationAllocatesConstantMemory)
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableMap;
+import org.soliscode.test.contract.map.MapLookupComplexityContract;
+import org.soliscode.test.contract.support.WithCountingKey;
+import org.soliscode.test.contract.support.WithStringValue;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.MapProvider;
+import org.soliscode.test.provider.MapProviders;
+
+import java.util.*;
+
+/// Tests for the [MapLookupComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for MapLookupComplexityContract class")
+public class MapLookupComplexityContractTest
+        extends MapContractTestBase<CountingElement, String, BreakableMap<CountingElement, String>> {
+
+    /// Verifies that the tests pass for a breakable map that has no breaks.
+    @Nested
+    class WorkingMapTest extends AbstractTest
+            implements MapLookupComplexityContract<String, BreakableMap<CountingElement, String>>,
+            BreakableMap.WithProvider<CountingElement, String>, WithCountingKey, WithStringValue {
+    }
+
+    /// Verifies that the tests pass for a hash map.
+    @Nested
+    class HashMapTest extends AbstractTest
+            implements MapLookupComplexityContract<String, HashMap<CountingElement, String>>,
+            WithCountingKey, WithStringValue {
+
+        @Override
+        public @NotNull MapProvider<CountingElement, String, HashMap<CountingElement, String>> provider() {
+            return MapProviders.provideHashMap(keyProvider(), valueProvider());
+        }
+    }
+
+    /// Verifies that the tests pass for a tree map, which finds a key in logarithmic time.
+    @Nested
+    class TreeMapTest extends AbstractTest
+            implements MapLookupComplexityContract<String, TreeMap<CountingElement, String>>,
+            WithCountingKey, WithStringValue {
+
+        @Override
+        public @NotNull MapProvider<CountingElement, String, TreeMap<CountingElement, String>> provider() {
+            return MapProviders.provideTreeMap(keyProvider(), valueProvider());
+        }
+
+        @Override
+        public @NotNull Complexity lookupComplexity() {
+            return Complexity.LOGARITHMIC;
+        }
+    }
+
+    /// Dynamically created instance of `MapLookupComplexityContract` that will run on instances of `BreakableMap`
+    /// with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenMapContract
+            extends DynamicMapContract<CountingElement, String, BreakableMap<CountingElement, String>>
+            implements MapLookupComplexityContract<String, BreakableMap<CountingElement, String>>,
+            WithCountingKey, WithStringValue {
+
+        protected DynamicBrokenMapContract(final @NotNull Break b) {
+            super(b, BreakableMap::mapProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenMapContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenMapContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the lookup breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForLookups() {
+        return Arrays.asList(
+                failingTest("testGetComplexity() fails with GET_SCANS_ENTRIES break",
+                        BreakableMap.GET_SCANS_ENTRIES,
+                        DynamicBrokenMapContract::testGetComplexity),
+
+                failingTest("testGetMissingKeyComplexity() fails with GET_SCANS_ENTRIES break",
+                        BreakableMap.GET_SCANS_ENTRIES,
+                        DynamicBrokenMapContract::testGetMissingKeyComplexity),
+
+                failingTest("testPutExistingKeyComplexity() fails with PUT_SCANS_ENTRIES break",
+                        BreakableMap.PUT_SCANS_ENTRIES,
+                        DynamicBrokenMapContract::testPutExistingKeyComplexity),
+
+                failingTest("testPutNewKeysComplexity() fails with PUT_SCANS_ENTRIES break",
+                        BreakableMap.PUT_SCANS_ENTRIES,
+                        DynamicBrokenMapContract::testPutNewKeysComplexity)
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableNavigableSet;
+import org.soliscode.test.contract.sorted.NavigableSetContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [NavigableSetContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for NavigableSetContract class")
+public class NavigableSetContractTest extends ContractTest<Integer, BreakableNavigableSet<Integer>> {
+
+    /// Verifies that the tests all pass when testing a working NavigableSet implementation. In this case, instances
+    /// of `BreakableNavigableSet` are used that have no breaks specified.
+    @Nested
+    class WorkingNavigableSetTest extends AbstractTest
+            implements NavigableSetContract<Integer, BreakableNavigableSet<Integer>>,
+            BreakableNavigableSet.WithProvider<Integer>, WithIntegerElement, DoesNotPermitNulls,
+            DoesNotPermitIncompatibleTypes {
+    }
+
+    /// Verifies that the tests pass for a tree set.
+    @Nested
+    class TreeSetTest extends AbstractTest
+            implements NavigableSetContract<Integer, TreeSet<Integer>>, WithIntegerElement, DoesNotPermitNulls,
+            DoesNotPermitIncompatibleTypes {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, TreeSet<Integer>> provider() {
+            return CollectionProviders.provideTreeSet(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `NavigableSetContract` that will run on instances of `BreakableNavigableSet`
+    /// with a specified break. This contract will be expected to fail on certain tests depending on the specific
+    /// break that is being used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenNavigableSetContract
+            extends DynamicContract<Integer, BreakableNavigableSet<Integer>>
+            implements NavigableSetContract<Integer, BreakableNavigableSet<Integer>>, WithIntegerElement,
+            DoesNotPermitNulls, DoesNotPermitIncompatibleTypes {
+
+        protected DynamicBrokenNavigableSetContract(final @NotNull Break b) {
+            super(b, BreakableNavigableSet::navigableSetProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenNavigableSetContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenNavigableSetContract(b);
+    }
+
+    /// Test factory for tests of the navigation methods that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the navigation methods.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForNavigation() {
+        return Arrays.asList(
+                failingTest("testCeiling() fails with CEILING_IS_EXCLUSIVE break",
+                        BreakableNavigableSet.CEILING_IS_EXCLUSIVE,
+                        DynamicBrokenNavigableSetContract::testCeiling),
+
+                failingTest("testLower() fails with LOWER_IS_INCLUSIVE break",
+                        BreakableNavigableSet.LOWER_IS_INCLUSIVE,
+                        DynamicBrokenNavigableSetContract::testLower)
+        );
+    }
+
+    /// Test factory for tests of the views that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the views.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForViews() {
+        return Arrays.asList(
+                failingTest("testRangeViewIsBackedBySet() fails with SUB_SET_COPIES_RANGE break",
+                        BreakableNavigableSet.SUB_SET_COPIES_RANGE,
+                        DynamicBrokenNavigableSetContract::testRangeViewIsBackedBySet),
+
+                failingTest("testHeadSet() fails with HEAD_SET_IS_INCLUSIVE break",
+                        BreakableNavigableSet.HEAD_SET_IS_INCLUSIVE,
+                        DynamicBrokenNavigableSetContract::testHeadSet),
+
+                failingTest("testDescendingSet() fails with DESCENDING_SET_IS_NOT_REVERSED break",
+                        BreakableNavigableSet.DESCENDING_SET_IS_NOT_REVERSED,
+                        DynamicBrokenNavigableSetContract::testDescendingSet)
+        );
+    }
+}
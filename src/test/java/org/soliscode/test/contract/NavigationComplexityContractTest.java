@@ -0,0 +1,79 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableNavigableSet;
+import org.soliscode.test.contract.sorted.NavigationComplexityContract;
+import org.soliscode.test.contract.support.WithCountingElement;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [NavigationComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for NavigationComplexityContract class")
+public class NavigationComplexityContractTest
+        extends ContractTest<CountingElement, BreakableNavigableSet<CountingElement>> {
+
+    /// Verifies that the tests pass for a navigable set that has no breaks.
+    @Nested
+    class WorkingNavigableSetTest extends AbstractTest
+            implements NavigationComplexityContract<BreakableNavigableSet<CountingElement>>,
+            BreakableNavigableSet.WithProvider<CountingElement>, WithCountingElement {
+    }
+
+    /// Verifies that the tests pass for a tree set.
+    @Nested
+    class TreeSetTest extends AbstractTest
+            implements NavigationComplexityContract<TreeSet<CountingElement>>, WithCountingElement {
+
+        @Override
+        public @NotNull CollectionProvider<CountingElement, TreeSet<CountingElement>> provider() {
+            return CollectionProviders.provideTreeSet(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `NavigationComplexityContract` that will run on instances of
+    /// `BreakableNavigableSet` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenNavigableSetContract
+            extends DynamicContract<CountingElement, BreakableNavigableSet<CountingElement>>
+            implements NavigationComplexityContract<BreakableNavigableSet<CountingElement>>, WithCountingElement {
+
+        protected DynamicBrokenNavigableSetContract(final @NotNull Break b) {
+            super(b, BreakableNavigableSet::navigableSetProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenNavigableSetContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenNavigableSetContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the complexity breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForComplexity() {
+        return Arrays.asList(
+                failingTest("testNavigationIsLogarithmic() fails with FLOOR_SCANS_ELEMENTS break",
+                        BreakableNavigableSet.FLOOR_SCANS_ELEMENTS,
+                        DynamicBrokenNavigableSetContract::testNavigationIsLogarithmic),
+
+                failingTest("testRangeViewCreationIsConstant() fails with SUB_SET_COPIES_RANGE break",
+                        BreakableNavigableSet.SUB_SET_COPIES_RANGE,
+                        DynamicBrokenNavigableSetContract::testRangeViewCreationIsConstant),
+
+                failingTest("testNarrowSubSetIterationIsLogarithmic() fails with RANGE_VIEW_SCANS_SET break",
+                        BreakableNavigableSet.RANGE_VIEW_SCANS_SET,
+                        DynamicBrokenNavigableSetContract::testNarrowSubSetIterationIsLogarithmic)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableList;
+import org.soliscode.test.contract.list.NestedSubListContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [NestedSubListContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for NestedSubListContract class")
+public class NestedSubListContractTest extends ContractTest<Integer, BreakableList<Integer>> {
+
+    /// Verifies that the tests pass for a list that returns the sublist views of an `ArrayList`.
+    @Nested
+    class WorkingListTest extends AbstractTest
+            implements NestedSubListContract<Integer, BreakableList<Integer>>,
+            BreakableList.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list, which uses the sublist views of `AbstractList`.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements NestedSubListContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `NestedSubListContract` that will run on instances of `BreakableList` with a
+    /// specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenListContract extends DynamicContract<Integer, BreakableList<Integer>>
+            implements NestedSubListContract<Integer, BreakableList<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenListContract(final @NotNull Break b) {
+            super(b, BreakableList::listProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenListContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenListContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the nested sublist breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForNestedSubList() {
+        return List.of(
+                failingTest("testNestedSubListGetIsIndependentOfDepth() fails with SUB_LIST_NESTS_VIEWS break",
+                        BreakableList.SUB_LIST_NESTS_VIEWS,
+                        DynamicBrokenListContract::testNestedSubListGetIsIndependentOfDepth)
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableIntList;
+import org.soliscode.test.contract.offheap.OffHeapCollectionContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.perf.NativeMemoryTracker;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [OffHeapCollectionContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for OffHeapCollectionContract class")
+public class OffHeapCollectionContractTest {
+
+    /// Verifies that the tests all pass when testing a working off-heap list. In this case, instances of
+    /// `BreakableIntList` are used that have no breaks specified.
+    @Nested
+    class WorkingIntListTest extends AbstractTest
+            implements OffHeapCollectionContract<Integer, BreakableIntList>, BreakableIntList.WithProvider,
+            WithIntegerElement {
+
+        private final NativeMemoryTracker tracker = new NativeMemoryTracker();
+
+        @Override
+        public @NotNull NativeMemoryTracker memoryTracker() {
+            return tracker;
+        }
+
+        @Override
+        public @NotNull Runnable traversal(final @NotNull BreakableIntList collection) {
+            return () -> collection.forEachInt(Blackhole::consume);
+        }
+    }
+
+    /// Dynamically created instance of `OffHeapCollectionContract` that will run on instances of `BreakableIntList`
+    /// with a specified break, and visits the elements with the primitive iterator of the list. This contract will be
+    /// expected to fail on certain tests depending on the specific break that is being used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenIntListContract extends DynamicContract<Integer, BreakableIntList>
+            implements OffHeapCollectionContract<Integer, BreakableIntList>, WithIntegerElement {
+
+        private final NativeMemoryTracker tracker;
+
+        protected DynamicBrokenIntListContract(final Break b) {
+            this(b, new NativeMemoryTracker());
+        }
+
+        private DynamicBrokenIntListContract(final Break b, final NativeMemoryTracker tracker) {
+            super(b, (elementProvider, breaks) -> BreakableIntList.intListProvider(elementProvider, tracker, breaks));
+            this.tracker = tracker;
+        }
+
+        @Override
+        public @NotNull NativeMemoryTracker memoryTracker() {
+            return tracker;
+        }
+
+        @Override
+        public @NotNull Runnable traversal(final @NotNull BreakableIntList collection) {
+            return () -> {
+                int hash = 0;
+                for (PrimitiveIterator.OfInt i = collection.intIterator(); i.hasNext(); ) {
+                    hash ^= i.nextInt();
+                }
+                Blackhole.consume(hash);
+            };
+        }
+    }
+
+    /// Dynamically created instance of `OffHeapCollectionContract` that will run on instances of `BreakableIntList`
+    /// with no breaks, and visits the elements with the default traversal, which boxes each element.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBoxingIntListContract extends DynamicContract<Integer, BreakableIntList>
+            implements OffHeapCollectionContract<Integer, BreakableIntList>, WithIntegerElement {
+
+        private final NativeMemoryTracker tracker;
+
+        protected DynamicBoxingIntListContract() {
+            this(new NativeMemoryTracker());
+        }
+
+        private DynamicBoxingIntListContract(final NativeMemoryTracker tracker) {
+            super(null, (elementProvider, breaks) -> BreakableIntList.intListProvider(elementProvider, tracker));
+            this.tracker = tracker;
+        }
+
+        @Override
+        public @NotNull NativeMemoryTracker memoryTracker() {
+            return tracker;
+        }
+    }
+
+    /// Test factory for tests of releasing native memory that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of releasing native memory.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForNativeMemory() {
+        return Arrays.asList(
+                failingTest("testClearReleasesNativeMemory() fails with CLEAR_KEEPS_STORAGE break",
+                        new DynamicBrokenIntListContract(BreakableIntList.CLEAR_KEEPS_STORAGE),
+                        DynamicBrokenIntListContract::testClearReleasesNativeMemory),
+
+                failingTest("testCloseReleasesNativeMemory() fails with GROW_LEAKS_OLD_STORAGE break",
+                        new DynamicBrokenIntListContract(BreakableIntList.GROW_LEAKS_OLD_STORAGE),
+                        DynamicBrokenIntListContract::testCloseReleasesNativeMemory)
+        );
+    }
+
+    /// Test factory for tests of traversing the elements that should fail when elements are copied or boxed.
+    ///
+    /// @return a collection of dynamic tests of traversing the elements.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForTraversal() {
+        return Arrays.asList(
+                failingTest("testTraversalDoesNotAllocatePerElement() fails with INT_ITERATOR_COPIES_TO_HEAP break",
+                        new DynamicBrokenIntListContract(BreakableIntList.INT_ITERATOR_COPIES_TO_HEAP),
+                        DynamicBrokenIntListContract::testTraversalDoesNotAllocatePerElement),
+
+                failingTest("testTraversalDoesNotAllocatePerElement() fails when the iterator boxes the elements",
+                        new DynamicBoxingIntListContract(),
+                        DynamicBoxingIntListContract::testTraversalDoesNotAllocatePerElement)
+        );
+    }
+
+    // The memory tracker is closed after the test, since a dynamic test does not call the @AfterEach methods.
+    private static <X extends OffHeapCollectionContract<Integer, BreakableIntList>> DynamicTest failingTest(
+            final String description, final X contract, final ThrowingConsumer<X> test) {
+        return dynamicTest(description, () -> {
+            try {
+                assertThrows(AssertionFailedError.class, () -> test.accept(contract));
+            } finally {
+                contract.closeMemoryTracker();
+            }
+        });
+    }
+}
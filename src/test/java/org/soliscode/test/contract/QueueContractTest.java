@@ -0,0 +1,86 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableDeque;
+import org.soliscode.test.contract.queue.QueueContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [QueueContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for QueueContract class")
+public class QueueContractTest extends ContractTest<Integer, BreakableDeque<Integer>> {
+
+    /// Verifies that the tests all pass when testing a working Queue implementation. In this case, instances of
+    /// `BreakableDeque` are used that have no breaks specified.
+    @Nested
+    class WorkingQueueTest extends AbstractTest
+            implements QueueContract<Integer, BreakableDeque<Integer>>,
+            BreakableDeque.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements QueueContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `QueueContract` that will run on instances of `BreakableDeque` with a
+    /// specified break. This contract will be expected to fail on certain tests depending on the specific break that
+    /// is being used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenQueueContract extends DynamicContract<Integer, BreakableDeque<Integer>>
+            implements QueueContract<Integer, BreakableDeque<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenQueueContract(final @NotNull Break b) {
+            super(b, BreakableDeque::dequeProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenQueueContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenQueueContract(b);
+    }
+
+    /// Test factory for tests of the queue methods that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of the queue methods.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForQueueMethods() {
+        return Arrays.asList(
+                failingTest("testOffer() fails with OFFER_DOES_NOT_ADD_ELEMENT break",
+                        BreakableDeque.OFFER_DOES_NOT_ADD_ELEMENT,
+                        DynamicBrokenQueueContract::testOffer),
+
+                failingTest("testPoll() fails with POLL_DOES_NOT_REMOVE_ELEMENT break",
+                        BreakableDeque.POLL_DOES_NOT_REMOVE_ELEMENT,
+                        DynamicBrokenQueueContract::testPoll),
+
+                failingTest("testPoll() fails with POLL_REMOVES_LAST_ELEMENT break",
+                        BreakableDeque.POLL_REMOVES_LAST_ELEMENT,
+                        DynamicBrokenQueueContract::testPoll),
+
+                failingTest("testPollOnEmptyQueue() fails with POLL_THROWS_WHEN_EMPTY break",
+                        BreakableDeque.POLL_THROWS_WHEN_EMPTY,
+                        DynamicBrokenQueueContract::testPollOnEmptyQueue),
+
+                failingTest("testPeekOnEmptyQueue() fails with PEEK_THROWS_WHEN_EMPTY break",
+                        BreakableDeque.PEEK_THROWS_WHEN_EMPTY,
+                        DynamicBrokenQueueContract::testPeekOnEmptyQueue)
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableDeque;
+import org.soliscode.test.contract.queue.QueueThroughputContract;
+import org.soliscode.test.contract.queue.SteadyStateFootprintContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [QueueThroughputContract] and [SteadyStateFootprintContract] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for QueueThroughputContract and SteadyStateFootprintContract classes")
+public class QueueThroughputContractTest extends ContractTest<Integer, BreakableDeque<Integer>> {
+
+    /// Verifies that the tests pass for a breakable deque that has no breaks.
+    @Nested
+    class WorkingDequeTest extends AbstractTest
+            implements QueueThroughputContract<Integer, BreakableDeque<Integer>>,
+            SteadyStateFootprintContract<Integer, BreakableDeque<Integer>>,
+            BreakableDeque.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array deque.
+    @Nested
+    class ArrayDequeTest extends AbstractTest
+            implements QueueThroughputContract<Integer, ArrayDeque<Integer>>,
+            SteadyStateFootprintContract<Integer, ArrayDeque<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, ArrayDeque<Integer>> provider() {
+            return CollectionProviders.provideArrayDeque(elementProvider());
+        }
+    }
+
+    /// Verifies that the throughput tests pass for a linked list, which is not array-based and so does not use the
+    /// footprint contract.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements QueueThroughputContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of the contracts that will run on instances of `BreakableDeque` with a
+    /// specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenDequeContract extends DynamicContract<Integer, BreakableDeque<Integer>>
+            implements QueueThroughputContract<Integer, BreakableDeque<Integer>>,
+            SteadyStateFootprintContract<Integer, BreakableDeque<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenDequeContract(final @NotNull Break b) {
+            super(b, BreakableDeque::dequeProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenDequeContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenDequeContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the performance breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForQueuePerformance() {
+        return Arrays.asList(
+                failingTest("testOfferIsConstantTime() fails with OFFER_IS_LINEAR_TIME break",
+                        BreakableDeque.OFFER_IS_LINEAR_TIME,
+                        DynamicBrokenDequeContract::testOfferIsConstantTime),
+
+                failingTest("testPollIsConstantTime() fails with POLL_IS_LINEAR_TIME break",
+                        BreakableDeque.POLL_IS_LINEAR_TIME,
+                        DynamicBrokenDequeContract::testPollIsConstantTime),
+
+                failingTest("testSteadyStateFootprintIsBounded() fails with BUFFER_DOES_NOT_WRAP break",
+                        BreakableDeque.BUFFER_DOES_NOT_WRAP,
+                        DynamicBrokenDequeContract::testSteadyStateFootprintIsBounded)
+        );
+    }
+}
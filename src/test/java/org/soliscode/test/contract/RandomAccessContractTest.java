@@ -0,0 +1,81 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableList;
+import org.soliscode.test.contract.list.RandomAccessContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [RandomAccessContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for RandomAccessContract class")
+public class RandomAccessContractTest extends ContractTest<Integer, BreakableList<Integer>> {
+
+    /// Verifies that the tests pass for a list that declares `RandomAccess` and has constant time positional access.
+    @Nested
+    class WorkingListTest extends AbstractTest
+            implements RandomAccessContract<Integer, BreakableList<Integer>>,
+            BreakableList.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list, which does not declare `RandomAccess` and has linear time
+    /// positional access.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements RandomAccessContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `RandomAccessContract` that will run on instances of `BreakableList` with a
+    /// specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenListContract extends DynamicContract<Integer, BreakableList<Integer>>
+            implements RandomAccessContract<Integer, BreakableList<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenListContract(final @NotNull Break b) {
+            super(b, BreakableList::listProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenListContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenListContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the positional access breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForRandomAccess() {
+        return Arrays.asList(
+                failingTest("testGetIsConsistentWithRandomAccess() fails with GET_IS_LINEAR_TIME break",
+                        BreakableList.GET_IS_LINEAR_TIME,
+                        DynamicBrokenListContract::testGetIsConsistentWithRandomAccess),
+
+                failingTest("testSetIsConsistentWithRandomAccess() fails with SET_IS_LINEAR_TIME break",
+                        BreakableList.SET_IS_LINEAR_TIME,
+                        DynamicBrokenListContract::testSetIsConsistentWithRandomAccess),
+
+                failingTest("testGetIsConsistentWithRandomAccess() fails with RANDOM_ACCESS_IS_NOT_DECLARED break",
+                        BreakableList.RANDOM_ACCESS_IS_NOT_DECLARED,
+                        DynamicBrokenListContract::testGetIsConsistentWithRandomAccess),
+
+                failingTest("testSetIsConsistentWithRandomAccess() fails with RANDOM_ACCESS_IS_NOT_DECLARED break",
+                        BreakableList.RANDOM_ACCESS_IS_NOT_DECLARED,
+                        DynamicBrokenListContract::testSetIsConsistentWithRandomAccess)
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableCollection;
+import org.soliscode.test.contract.collection.RemoveIfComplexityContract;
+import org.soliscode.test.contract.support.WithArrayList;
+import org.soliscode.test.contract.support.WithIntegerElement;
+
+import java.util.*;
+
+/// Tests for the [RemoveIfComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for RemoveIfComplexityContract class")
+public class RemoveIfComplexityContractTest extends ContractTest<Integer, BreakableCollection<Integer>> {
+
+    /// Verifies that the tests pass for a collection that stores its elements in a list.
+    @Nested
+    class WorkingCollectionTest extends AbstractTest
+            implements RemoveIfComplexityContract<Integer, BreakableCollection<Integer>>,
+            BreakableCollection.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array list.
+    @Nested
+    class ArrayListTest extends AbstractTest
+            implements RemoveIfComplexityContract<Integer, ArrayList<Integer>>,
+            WithArrayList<Integer>, WithIntegerElement {
+    }
+
+    /// Dynamically created instance of `RemoveIfComplexityContract` that will run on instances of
+    /// `BreakableCollection` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenCollectionContract
+            extends DynamicContract<Integer, BreakableCollection<Integer>>
+            implements RemoveIfComplexityContract<Integer, BreakableCollection<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenCollectionContract(final @NotNull Break b) {
+            super(b, BreakableCollection::collectionProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenCollectionContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenCollectionContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the removeIf cost breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForRemoveIfCost() {
+        return List.of(
+                failingTest("testRemoveIfIsLinearTime() fails with REMOVE_IF_SHIFTS_PER_ELEMENT break",
+                        BreakableCollection.REMOVE_IF_SHIFTS_PER_ELEMENT,
+                        DynamicBrokenCollectionContract::testRemoveIfIsLinearTime)
+        );
+    }
+}
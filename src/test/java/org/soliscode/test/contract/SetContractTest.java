@@ -0,0 +1,94 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableSet;
+import org.soliscode.test.contract.set.SetContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [SetContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for SetContract class")
+public class SetContractTest extends ContractTest<Integer, BreakableSet<Integer>> {
+
+    /// Verifies that the tests all pass when testing a working Set implementation. In this case, instances of
+    /// `BreakableSet` are used that have no breaks specified.
+    @Nested
+    class WorkingSetTest extends AbstractTest
+            implements SetContract<Integer, BreakableSet<Integer>>, BreakableSet.WithProvider<Integer>,
+            WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked hash set.
+    @Nested
+    class LinkedHashSetTest extends AbstractTest
+            implements SetContract<Integer, LinkedHashSet<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedHashSet<Integer>> provider() {
+            return CollectionProviders.provideLinkedHashSet(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `SetContract` that will run on instances of `BreakableSet` with a specified
+    /// break. This contract will be expected to fail on certain tests depending on the specific break that is being
+    /// used.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenSetContract extends DynamicContract<Integer, BreakableSet<Integer>>
+            implements SetContract<Integer, BreakableSet<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenSetContract(final @NotNull Break b) {
+            super(b, BreakableSet::setProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenSetContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenSetContract(b);
+    }
+
+    /// Test factory for tests of set equality that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of set equality.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForEquality() {
+        return Arrays.asList(
+                failingTest("testEqualsSetWithSameElements() fails with EQUALS_REQUIRES_SAME_TYPE break",
+                        BreakableSet.EQUALS_REQUIRES_SAME_TYPE,
+                        DynamicBrokenSetContract::testEqualsSetWithSameElements),
+
+                failingTest("testHashCodeIsSumOfElementHashCodes() fails with HASH_CODE_DEPENDS_ON_ORDER break",
+                        BreakableSet.HASH_CODE_DEPENDS_ON_ORDER,
+                        DynamicBrokenSetContract::testHashCodeIsSumOfElementHashCodes)
+        );
+    }
+
+    /// Test factory for tests of adding existing elements that should fail for various breaks.
+    ///
+    /// @return a collection of dynamic tests of adding existing elements.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForDuplicates() {
+        return Arrays.asList(
+                failingTest("testAddExistingElementDoesNotModifySet() fails with ADD_REINSERTS_EXISTING_ELEMENT break",
+                        BreakableSet.ADD_REINSERTS_EXISTING_ELEMENT,
+                        DynamicBrokenSetContract::testAddExistingElementDoesNotModifySet),
+
+                failingTest("testAddAllExistingElementsDoesNotModifySet() fails with ADD_REINSERTS_EXISTING_ELEMENT break",
+                        BreakableSet.ADD_REINSERTS_EXISTING_ELEMENT,
+                        DynamicBrokenSetContract::testAddAllExistingElementsDoesNotModifySet),
+
+                failingTest("testAddExistingElementDoesNotAllocate() fails with ADD_ALLOCATES_ENTRY break",
+                        BreakableSet.ADD_ALLOCATES_ENTRY,
+                        DynamicBrokenSetContract::testAddExistingElementDoesNotAllocate)
+        );
+    }
+}
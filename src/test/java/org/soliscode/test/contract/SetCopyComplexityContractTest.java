@@ -0,0 +1,76 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableSet;
+import org.soliscode.test.contract.set.SetCopyComplexityContract;
+import org.soliscode.test.contract.support.WithCountingElement;
+import org.soliscode.test.perf.Complexity;
+import org.soliscode.test.perf.CountingElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [SetCopyComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for SetCopyComplexityContract class")
+public class SetCopyComplexityContractTest extends ContractTest<CountingElement, BreakableSet<CountingElement>> {
+
+    /// Verifies that the tests pass for a set that has no breaks.
+    @Nested
+    class WorkingSetTest extends AbstractTest
+            implements SetCopyComplexityContract<BreakableSet<CountingElement>>,
+            BreakableSet.WithProvider<CountingElement>, WithCountingElement {
+    }
+
+    /// Verifies that the tests pass for a tree set, which is allowed to take `O(n log n)` time to copy a collection.
+    @Nested
+    class TreeSetTest extends AbstractTest
+            implements SetCopyComplexityContract<TreeSet<CountingElement>>, WithCountingElement {
+
+        @Override
+        public @NotNull CollectionProvider<CountingElement, TreeSet<CountingElement>> provider() {
+            return CollectionProviders.provideTreeSet(elementProvider());
+        }
+
+        @Override
+        public @NotNull Complexity copyComplexity() {
+            return Complexity.LINEARITHMIC;
+        }
+    }
+
+    /// Dynamically created instance of `SetCopyComplexityContract` that will run on instances of `BreakableSet` with
+    /// a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenSetContract
+            extends DynamicContract<CountingElement, BreakableSet<CountingElement>>
+            implements SetCopyComplexityContract<BreakableSet<CountingElement>>, WithCountingElement {
+
+        protected DynamicBrokenSetContract(final @NotNull Break b) {
+            super(b, BreakableSet::setProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenSetContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenSetContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the copy break.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForCopy() {
+        return Arrays.asList(
+                failingTest("testCopyWithDuplicatesHasCopyComplexity() fails with COPY_SCANS_FOR_DUPLICATES break",
+                        BreakableSet.COPY_SCANS_FOR_DUPLICATES,
+                        DynamicBrokenSetContract::testCopyWithDuplicatesHasCopyComplexity)
+        );
+    }
+}
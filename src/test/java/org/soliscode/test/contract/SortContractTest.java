@@ -0,0 +1,117 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableList;
+import org.soliscode.test.contract.list.SortContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.perf.Baselines;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [SortContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for SortContract class")
+public class SortContractTest extends ContractTest<Integer, BreakableList<Integer>> {
+
+    /// Verifies that the tests pass for a list that sorts its elements in place.
+    @Nested
+    class WorkingListTest extends AbstractTest
+            implements SortContract<Integer, BreakableList<Integer>>,
+            BreakableList.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list, which copies its elements into an array to sort them.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements SortContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `SortContract` that will run on instances of `BreakableList` with a specified
+    /// break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenListContract extends DynamicContract<Integer, BreakableList<Integer>>
+            implements SortContract<Integer, BreakableList<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenListContract(final @NotNull Break b) {
+            super(b, BreakableList::listProvider);
+        }
+
+        /// Compares the broken lists with the baselines recorded for the working list, without ever recording them.
+        @Override
+        public @NotNull Baselines baselines() {
+            final Baselines defaults = Baselines.defaults();
+            return new Baselines(defaults.store(), false, defaults.alpha(), defaults.tolerance());
+        }
+
+        @Override
+        public @NotNull String baselineGroup() {
+            return WorkingListTest.class.getName();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenListContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenListContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the sort breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForSort() {
+        return Arrays.asList(
+                failingTest("testSort() fails with SORT_DOES_NOT_SORT_THE_ELEMENTS break",
+                        BreakableList.SORT_DOES_NOT_SORT_THE_ELEMENTS,
+                        DynamicBrokenListContract::testSort),
+
+                failingTest("testSort() fails with SORT_REVERSES_THE_ORDER break",
+                        BreakableList.SORT_REVERSES_THE_ORDER,
+                        DynamicBrokenListContract::testSort),
+
+                failingTest("testSortWithNullComparator() fails with SORT_THROWS_ON_NULL_ARGUMENT break",
+                        BreakableList.SORT_THROWS_ON_NULL_ARGUMENT,
+                        DynamicBrokenListContract::testSortWithNullComparator),
+
+                failingTest("testSortIsStable() fails with SORT_IS_NOT_STABLE break",
+                        BreakableList.SORT_IS_NOT_STABLE,
+                        DynamicBrokenListContract::testSortIsStable),
+
+                failingTest("testSortComparisonsAreLinearithmic() fails with SORT_USES_INSERTION_SORT break",
+                        BreakableList.SORT_USES_INSERTION_SORT,
+                        DynamicBrokenListContract::testSortComparisonsAreLinearithmic),
+
+                failingTest("testSortComparisonsAreLinearForSortedInput() fails with SORT_IS_NOT_ADAPTIVE break",
+                        BreakableList.SORT_IS_NOT_ADAPTIVE,
+                        DynamicBrokenListContract::testSortComparisonsAreLinearForSortedInput),
+
+                failingTest("testSortComparisonsAreLinearForReverseSortedInput() fails with SORT_IS_NOT_ADAPTIVE break",
+                        BreakableList.SORT_IS_NOT_ADAPTIVE,
+                        DynamicBrokenListContract::testSortComparisonsAreLinearForReverseSortedInput),
+
+                failingTest("testSortComparisonsAreLinearForReverseSortedInput() fails with SORT_USES_INSERTION_SORT break",
+                        BreakableList.SORT_USES_INSERTION_SORT,
+                        DynamicBrokenListContract::testSortComparisonsAreLinearForReverseSortedInput),
+
+                failingTest("testSortCopiesAtMostOnce() fails with SORT_COPIES_TWICE break",
+                        BreakableList.SORT_COPIES_TWICE,
+                        DynamicBrokenListContract::testSortCopiesAtMostOnce),
+
+                failingTest("testSortComparisonsHaveNotRegressed() fails with SORT_COMPARES_TWICE break",
+                        BreakableList.SORT_COMPARES_TWICE,
+                        DynamicBrokenListContract::testSortComparisonsHaveNotRegressed)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableList;
+import org.soliscode.test.contract.list.SubListContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [SubListContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for SubListContract class")
+public class SubListContractTest extends ContractTest<Integer, BreakableList<Integer>> {
+
+    /// Verifies that the tests pass for a list that returns the sublist views of an `ArrayList`.
+    @Nested
+    class WorkingListTest extends AbstractTest
+            implements SubListContract<Integer, BreakableList<Integer>>,
+            BreakableList.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a linked list, which uses the sublist views of `AbstractList`.
+    @Nested
+    class LinkedListTest extends AbstractTest
+            implements SubListContract<Integer, LinkedList<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, LinkedList<Integer>> provider() {
+            return CollectionProviders.provideLinkedList(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `SubListContract` that will run on instances of `BreakableList` with a specified
+    /// break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenListContract extends DynamicContract<Integer, BreakableList<Integer>>
+            implements SubListContract<Integer, BreakableList<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenListContract(final @NotNull Break b) {
+            super(b, BreakableList::listProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenListContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenListContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the subList breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForSubList() {
+        return Arrays.asList(
+                failingTest("testSubListWritesAreVisibleInList() fails with SUB_LIST_COPIES_THE_ELEMENTS break",
+                        BreakableList.SUB_LIST_COPIES_THE_ELEMENTS,
+                        DynamicBrokenListContract::testSubListWritesAreVisibleInList),
+
+                failingTest("testListWritesAreVisibleInSubList() fails with SUB_LIST_COPIES_THE_ELEMENTS break",
+                        BreakableList.SUB_LIST_COPIES_THE_ELEMENTS,
+                        DynamicBrokenListContract::testListWritesAreVisibleInSubList),
+
+                failingTest("testSubListDoesNotCopy() fails with SUB_LIST_COPIES_THE_ELEMENTS break",
+                        BreakableList.SUB_LIST_COPIES_THE_ELEMENTS,
+                        DynamicBrokenListContract::testSubListDoesNotCopy),
+
+                failingTest("testSubListIsInvalidatedByStructuralChange() fails with SUB_LIST_IS_NOT_FAIL_FAST break",
+                        BreakableList.SUB_LIST_IS_NOT_FAIL_FAST,
+                        DynamicBrokenListContract::testSubListIsInvalidatedByStructuralChange)
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package org.soliscode.test.contract;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableIterable;
+import org.soliscode.test.contract.iterable.TraversalThroughputContract;
+import org.soliscode.test.contract.support.WithArrayList;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.CollectionProviders;
+
+import java.util.*;
+
+/// Tests for the [TraversalThroughputContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for TraversalThroughputContract class")
+public class TraversalThroughputContractTest extends ContractTest<Integer, BreakableIterable<Integer>> {
+
+    /// Verifies that the tests pass for an iterable that has no breaks.
+    @Nested
+    class WorkingIterableTest extends AbstractTest
+            implements TraversalThroughputContract<Integer, BreakableIterable<Integer>>,
+            BreakableIterable.WithProvider<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for an array list.
+    @Nested
+    class ArrayListTest extends AbstractTest
+            implements TraversalThroughputContract<Integer, ArrayList<Integer>>,
+            WithArrayList<Integer>, WithIntegerElement {
+    }
+
+    /// Verifies that the tests pass for a hash set.
+    @Nested
+    class HashSetTest extends AbstractTest
+            implements TraversalThroughputContract<Integer, HashSet<Integer>>, WithIntegerElement {
+
+        @Override
+        public @NotNull CollectionProvider<Integer, HashSet<Integer>> provider() {
+            return CollectionProviders.provideHashSet(elementProvider());
+        }
+    }
+
+    /// Dynamically created instance of `TraversalThroughputContract` that will run on instances of
+    /// `BreakableIterable` with a specified break.
+    @Disabled("Used only for dynamic test generation")
+    protected static class DynamicBrokenIterableContract
+            extends DynamicContract<Integer, BreakableIterable<Integer>>
+            implements TraversalThroughputContract<Integer, BreakableIterable<Integer>>, WithIntegerElement {
+
+        protected DynamicBrokenIterableContract(final @NotNull Break b) {
+            super(b, BreakableIterable::iterableProvider);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NotNull DynamicBrokenIterableContract createTest(final @NotNull Break b) {
+        return new DynamicBrokenIterableContract(b);
+    }
+
+    /// Test factory for the tests that should fail for the traversal breaks.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForTraversal() {
+        return List.of(
+                failingTest("testForEachIsAsFastAsIterator() fails with FOR_EACH_WALKS_FROM_START break",
+                        BreakableIterable.FOR_EACH_WALKS_FROM_START,
+                        DynamicBrokenIterableContract::testForEachIsAsFastAsIterator)
+        );
+    }
+}
@@ -2,16 +2,21 @@ package org.soliscode.test.interfaces;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.soliscode.test.AbstractTest;
 import org.soliscode.test.assertions.Assertions;
 import org.soliscode.test.contract.collection.CollectionContract;
 import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.perf.Blackhole;
 import org.soliscode.test.provider.CollectionProvider;
 import org.soliscode.test.provider.FunctionalCollectionProvider;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 /// Tests for the [CollectionOnly] class.
 ///
@@ -35,4 +40,35 @@ public class CollectionOnlyTest extends AbstractTest implements CollectionContra
         Collection<Integer> iterable = new CollectionOnly<>();
         Assertions.assertImplementsOnly(Collection.class, iterable);
     }
+
+    /// Test that narrowing to `Collection` delegates to the source, so that later changes are visible.
+    @Test
+    @DisplayName("Interfaces.narrowToCollection delegates to the source")
+    public void testNarrowIsView() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        final Collection<Integer> narrowed = Interfaces.narrowToCollection(source);
+        source.add(4);
+        assertIterableEquals(List.of(1, 2, 3, 4), narrowed);
+    }
+
+    /// Test that a snapshot of `Collection` copies the source, so that later changes are not visible.
+    @Test
+    @DisplayName("Interfaces.snapshotToCollection copies the source")
+    public void testSnapshotIsCopy() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        final Collection<Integer> snapshot = Interfaces.snapshotToCollection(source);
+        source.add(4);
+        assertIterableEquals(List.of(1, 2, 3), snapshot);
+    }
+
+    /// Test that narrowing to `Collection` does not copy the elements.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Interfaces.narrowToCollection allocates a constant amount of memory")
+    public void testNarrowAllocatesConstantMemory() {
+        assertConstantAllocation(size -> {
+            final List<Integer> source = elementProvider().createUniqueInstances(size);
+            return () -> Blackhole.consume(Interfaces.narrowToCollection(source));
+        });
+    }
 }
@@ -0,0 +1,61 @@
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.assertions.Assertions;
+import org.soliscode.test.contract.sequenced.SequencedCollectionContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.FunctionalCollectionProvider;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+/// Tests for the [DequeOnly] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see DequeOnly
+@DisplayName("Tests for the DequeOnly class")
+public class DequeOnlyTest extends AbstractTest implements SequencedCollectionContract<Integer, DequeOnly<Integer>>,
+        WithIntegerElement {
+
+    @Override
+    public @NotNull CollectionProvider<Integer, DequeOnly<Integer>> provider() {
+        // LinkedList is used as the deque, since ArrayDeque does not override equals and hashCode.
+        return new FunctionalCollectionProvider<>(() -> new DequeOnly<>(new LinkedList<>()),
+                (d) -> new DequeOnly<>(new LinkedList<>(d)),
+                (c) -> new DequeOnly<>(new LinkedList<>(c)), elementProvider());
+    }
+
+    /// Test that `DequeOnly` only implements the `Deque` interface.
+    @Test
+    @DisplayName("DequeOnly only implements the Deque interface.")
+    public void testDequeIsOnlyInterface() {
+        Deque<Integer> deque = new DequeOnly<>();
+        Assertions.assertImplementsOnly(Deque.class, deque);
+    }
+
+    /// Test that the queue and stack methods of `DequeOnly` are delegated to the deque.
+    @Test
+    @DisplayName("DequeOnly delegates the queue and stack methods to the deque")
+    public void testQueueAndStackMethods() {
+        final Deque<Integer> source = new ArrayDeque<>();
+        final Deque<Integer> deque = Interfaces.narrowToDeque(source);
+        deque.offer(2);
+        deque.push(1);
+        deque.offerLast(3);
+        assertIterableEquals(List.of(1, 2, 3), source);
+        assertIterableEquals(List.of(3, 2, 1), deque.reversed());
+        assertEquals(1, deque.pop());
+        assertEquals(3, deque.pollLast());
+        assertEquals(2, deque.peek());
+    }
+}
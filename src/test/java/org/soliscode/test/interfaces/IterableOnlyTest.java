@@ -2,16 +2,22 @@ package org.soliscode.test.interfaces;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.soliscode.test.AbstractTest;
 import org.soliscode.test.assertions.Assertions;
 import org.soliscode.test.contract.iterable.IterableContract;
+import org.soliscode.test.contract.support.PerformanceSupport;
 import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.perf.Blackhole;
 import org.soliscode.test.provider.CollectionProvider;
 import org.soliscode.test.provider.FunctionalCollectionProvider;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 
 /// Tests for the [IterableOnly] class.
@@ -21,7 +27,7 @@ import java.util.Collection;
 /// @see IterableOnly
 @DisplayName("Tests for the IterableOnly class")
 public class IterableOnlyTest extends AbstractTest implements IterableContract<Integer, IterableOnly<Integer>>,
-        WithIntegerElement {
+        PerformanceSupport, WithIntegerElement {
 
     @Override
     public @NotNull CollectionProvider<Integer, IterableOnly<Integer>> provider() {
@@ -36,4 +42,35 @@ public class IterableOnlyTest extends AbstractTest implements IterableContract<I
         Iterable<Integer> iterable = new IterableOnly<>();
         Assertions.assertImplementsOnly(Iterable.class, iterable);
     }
+
+    /// Test that narrowing to `Iterable` delegates to the source, so that later changes are visible.
+    @Test
+    @DisplayName("Interfaces.narrowToIterable delegates to the source")
+    public void testNarrowIsView() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        final Iterable<Integer> narrowed = Interfaces.narrowToIterable(source);
+        source.add(4);
+        assertIterableEquals(List.of(1, 2, 3, 4), narrowed);
+    }
+
+    /// Test that a snapshot of `Iterable` copies the source, so that later changes are not visible.
+    @Test
+    @DisplayName("Interfaces.snapshotToIterable copies the source")
+    public void testSnapshotIsCopy() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        final Iterable<Integer> snapshot = Interfaces.snapshotToIterable(source);
+        source.add(4);
+        assertIterableEquals(List.of(1, 2, 3), snapshot);
+    }
+
+    /// Test that narrowing to `Iterable` does not copy the elements.
+    @Test
+    @Tag(PERFORMANCE_TAG)
+    @DisplayName("Interfaces.narrowToIterable allocates a constant amount of memory")
+    public void testNarrowAllocatesConstantMemory() {
+        assertConstantAllocation(size -> {
+            final List<Integer> source = elementProvider().createUniqueInstances(size);
+            return () -> Blackhole.consume(Interfaces.narrowToIterable(source));
+        });
+    }
 }
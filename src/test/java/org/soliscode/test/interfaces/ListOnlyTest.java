@@ -0,0 +1,79 @@
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.assertions.Assertions;
+import org.soliscode.test.contract.list.ListContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.FunctionalCollectionProvider;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [ListOnly] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see ListOnly
+@DisplayName("Tests for the ListOnly class")
+public class ListOnlyTest extends AbstractTest implements ListContract<Integer, ListOnly<Integer>>,
+        WithIntegerElement {
+
+    @Override
+    public @NotNull CollectionProvider<Integer, ListOnly<Integer>> provider() {
+        return new FunctionalCollectionProvider<>(() -> ListOnly.view(new ArrayList<>()),
+                (l) -> ListOnly.view(new ArrayList<>(l)),
+                (c) -> ListOnly.view(new ArrayList<>(c)), elementProvider());
+    }
+
+    /// Test that `ListOnly` only implements the `List` interface.
+    @Test
+    @DisplayName("ListOnly only implements the List interface.")
+    public void testListIsOnlyInterface() {
+        List<Integer> list = new ListOnly<>();
+        Assertions.assertImplementsOnly(List.class, list);
+    }
+
+    /// Test that narrowing a list carries over the `RandomAccess` marker interface only when the list has it.
+    @Test
+    @DisplayName("Interfaces.narrowToList preserves the RandomAccess marker")
+    public void testNarrowPreservesRandomAccess() {
+        assertInstanceOf(RandomAccess.class, Interfaces.narrowToList(new ArrayList<>()));
+        assertInstanceOf(RandomAccess.class, Interfaces.narrowToList(new ArrayList<>(List.of(1, 2, 3)).subList(0, 2)));
+        assertFalse(Interfaces.narrowToList(new LinkedList<>()) instanceof RandomAccess);
+        Assertions.assertImplementsOnly(List.of(List.class, RandomAccess.class),
+                Interfaces.narrowToList(new ArrayList<>()));
+    }
+
+    /// Test that creating a view of a `null` list throws a `NullPointerException`.
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("ListOnly.view throws on a null list")
+    public void testViewThrowsOnNull() {
+        assertThrows(NullPointerException.class, () -> ListOnly.view(null));
+    }
+
+    /// Test that the spliterator of the narrowed list is the spliterator of the list, rather than the default one
+    /// built upon the iterator.
+    @Test
+    @DisplayName("ListOnly delegates the spliterator to the list")
+    public void testSpliteratorIsDelegated() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        assertEquals(source.spliterator().getClass(), Interfaces.narrowToList(source).spliterator().getClass());
+    }
+
+    /// Test that narrowing to `List` delegates to the source, so that later changes are visible.
+    @Test
+    @DisplayName("Interfaces.narrowToList delegates to the source")
+    public void testNarrowIsView() {
+        final List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        final List<Integer> narrowed = Interfaces.narrowToList(source);
+        source.add(4);
+        assertIterableEquals(List.of(1, 2, 3, 4), narrowed);
+        assertEquals(List.of(4, 3, 2, 1), narrowed.reversed());
+    }
+}
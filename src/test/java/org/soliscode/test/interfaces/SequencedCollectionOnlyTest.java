@@ -0,0 +1,38 @@
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.assertions.Assertions;
+import org.soliscode.test.contract.sequenced.SequencedCollectionContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.FunctionalCollectionProvider;
+
+import java.util.ArrayList;
+import java.util.SequencedCollection;
+
+/// Tests for the [SequencedCollectionOnly] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see SequencedCollectionOnly
+@DisplayName("Tests for the SequencedCollectionOnly class")
+public class SequencedCollectionOnlyTest extends AbstractTest
+        implements SequencedCollectionContract<Integer, SequencedCollectionOnly<Integer>>, WithIntegerElement {
+
+    @Override
+    public @NotNull CollectionProvider<Integer, SequencedCollectionOnly<Integer>> provider() {
+        return new FunctionalCollectionProvider<>(SequencedCollectionOnly::new, SequencedCollectionOnly::new,
+                (c) -> new SequencedCollectionOnly<>(new ArrayList<>(c)), elementProvider());
+    }
+
+    /// Test that `SequencedCollectionOnly` only implements the `SequencedCollection` interface.
+    @Test
+    @DisplayName("SequencedCollectionOnly only implements the SequencedCollection interface.")
+    public void testSequencedCollectionIsOnlyInterface() {
+        SequencedCollection<Integer> collection = new SequencedCollectionOnly<>();
+        Assertions.assertImplementsOnly(SequencedCollection.class, collection);
+    }
+}
@@ -0,0 +1,51 @@
+package org.soliscode.test.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.assertions.Assertions;
+import org.soliscode.test.contract.DoesNotPermitDuplicates;
+import org.soliscode.test.contract.collection.CollectionContract;
+import org.soliscode.test.contract.support.WithIntegerElement;
+import org.soliscode.test.provider.CollectionProvider;
+import org.soliscode.test.provider.FunctionalCollectionProvider;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Tests for the [SetOnly] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+/// @see SetOnly
+@DisplayName("Tests for the SetOnly class")
+public class SetOnlyTest extends AbstractTest implements CollectionContract<Integer, SetOnly<Integer>>,
+        WithIntegerElement, DoesNotPermitDuplicates {
+
+    @Override
+    public @NotNull CollectionProvider<Integer, SetOnly<Integer>> provider() {
+        return new FunctionalCollectionProvider<>(SetOnly::new, SetOnly::new,
+                (c) -> new SetOnly<>(new HashSet<>(c)), elementProvider());
+    }
+
+    /// Test that `SetOnly` only implements the `Set` interface.
+    @Test
+    @DisplayName("SetOnly only implements the Set interface.")
+    public void testSetIsOnlyInterface() {
+        Set<Integer> set = new SetOnly<>();
+        Assertions.assertImplementsOnly(Set.class, set);
+    }
+
+    /// Test that the spliterator of the narrowed set is the spliterator of the set, so that it keeps characteristics
+    /// such as `SIZED`.
+    @Test
+    @DisplayName("SetOnly delegates the spliterator to the set")
+    public void testSpliteratorIsDelegated() {
+        final Set<Integer> source = new HashSet<>(Set.of(1, 2, 3));
+        assertEquals(source.spliterator().characteristics(),
+                Interfaces.narrowToSet(source).spliterator().characteristics());
+    }
+}
@@ -0,0 +1,17 @@
+package org.soliscode.test.numeric;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.numeric.BigNumberContract;
+import org.soliscode.test.provider.BigNumberProvider;
+import org.soliscode.test.provider.Providers;
+
+import java.math.BigInteger;
+
+public class BigIntegerTest extends AbstractTest implements BigNumberContract<BigInteger> {
+
+    @Override
+    public @NotNull BigNumberProvider<BigInteger> provider() {
+        return Providers.bigIntegerProvider();
+    }
+}
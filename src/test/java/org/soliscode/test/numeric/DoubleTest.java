@@ -0,0 +1,9 @@
+package org.soliscode.test.numeric;
+
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.numeric.FloatingPointContract;
+import org.soliscode.test.contract.support.WithDouble;
+
+public class DoubleTest extends AbstractTest implements FloatingPointContract<Double>, WithDouble {
+
+}
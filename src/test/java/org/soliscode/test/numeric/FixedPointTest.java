@@ -0,0 +1,147 @@
+package org.soliscode.test.numeric;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.numeric.NumberConversionContract;
+import org.soliscode.test.perf.Blackhole;
+import org.soliscode.test.provider.FunctionalProvider;
+import org.soliscode.test.provider.ObjectProvider;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [NumberConversionContract] class, using a fixed-point number type.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for the NumberConversionContract class")
+public class FixedPointTest {
+
+    /// A fixed-point number with four decimal places, stored as the number of ten-thousandths.
+    public static class FixedPoint extends Number {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /// The number of units in one.
+        public static final long SCALE = 10_000L;
+
+        /// The number of ten-thousandths.
+        protected final long units;
+
+        /// Creates a fixed-point number from the number of ten-thousandths.
+        /// @param units the number of ten-thousandths.
+        public FixedPoint(final long units) {
+            this.units = units;
+        }
+
+        @Override
+        public int intValue() {
+            return (int) longValue();
+        }
+
+        @Override
+        public long longValue() {
+            return units / SCALE;
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) doubleValue();
+        }
+
+        @Override
+        public double doubleValue() {
+            return (double) units / SCALE;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof FixedPoint other && units == other.units;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(units);
+        }
+    }
+
+    /// A fixed-point number that converts itself to a double through a [BigDecimal], which allocates memory for each
+    /// conversion.
+    public static class AllocatingFixedPoint extends FixedPoint {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /// Creates a fixed-point number from the number of ten-thousandths.
+        /// @param units the number of ten-thousandths.
+        public AllocatingFixedPoint(final long units) {
+            super(units);
+        }
+
+        @Override
+        public double doubleValue() {
+            final BigDecimal value = BigDecimal.valueOf(units, 4);
+            Blackhole.consume(value);
+            return value.doubleValue();
+        }
+    }
+
+    private static <T extends FixedPoint> @NotNull ObjectProvider<T> fixedPointProvider(
+            final @NotNull LongFunction<T> constructor) {
+        return new FunctionalProvider<>(
+                () -> constructor.apply(0),
+                (n) -> constructor.apply(n.units),
+                (seed) -> constructor.apply(seed * 1_234L));
+    }
+
+    /// Verifies that the tests pass for a fixed-point number that converts without allocating memory.
+    @Nested
+    @DisplayName("Test NumberConversionContract with a fixed-point number")
+    class FixedPointConversionTest extends AbstractTest implements NumberConversionContract<FixedPoint> {
+        @Override
+        public @NotNull ObjectProvider<FixedPoint> provider() {
+            return fixedPointProvider(FixedPoint::new);
+        }
+    }
+
+    /// Instance of `NumberConversionContract` that tests a fixed-point number that allocates memory for each
+    /// conversion to a double. This contract will be expected to fail on the `doubleValue` and `floatValue` tests.
+    @Disabled("Used only for dynamic test generation")
+    protected static class AllocatingFixedPointContract extends AbstractTest
+            implements NumberConversionContract<AllocatingFixedPoint> {
+        @Override
+        public @NotNull ObjectProvider<AllocatingFixedPoint> provider() {
+            return fixedPointProvider(AllocatingFixedPoint::new);
+        }
+    }
+
+    /// Test factory for the tests that should fail for a fixed-point number that allocates memory.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForAllocatingFixedPoint() {
+        return Arrays.asList(
+                failingTest("testDoubleValueDoesNotAllocate() fails for a doubleValue that creates a BigDecimal",
+                        AllocatingFixedPointContract::testDoubleValueDoesNotAllocate),
+
+                failingTest("testFloatValueDoesNotAllocate() fails for a floatValue that creates a BigDecimal",
+                        AllocatingFixedPointContract::testFloatValueDoesNotAllocate)
+        );
+    }
+
+    private static DynamicTest failingTest(final String description,
+                                           final ThrowingConsumer<AllocatingFixedPointContract> test) {
+        return dynamicTest(description, () -> assertThrows(AssertionFailedError.class,
+                () -> test.accept(new AllocatingFixedPointContract())));
+    }
+}
@@ -0,0 +1,15 @@
+package org.soliscode.test.numeric;
+
+import org.jetbrains.annotations.NotNull;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.numeric.FloatingPointContract;
+import org.soliscode.test.provider.DoubleNumberProvider;
+import org.soliscode.test.provider.Providers;
+
+public class FloatTest extends AbstractTest implements FloatingPointContract<Float> {
+
+    @Override
+    public @NotNull DoubleNumberProvider<Float> provider() {
+        return Providers.floatProvider();
+    }
+}
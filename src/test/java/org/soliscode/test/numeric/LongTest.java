@@ -0,0 +1,9 @@
+package org.soliscode.test.numeric;
+
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.numeric.LongContract;
+import org.soliscode.test.contract.support.WithLong;
+
+public class LongTest extends AbstractTest implements LongContract<Long>, WithLong {
+
+}
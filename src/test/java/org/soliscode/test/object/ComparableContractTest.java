@@ -0,0 +1,119 @@
+package org.soliscode.test.object;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.object.ComparableContract;
+import org.soliscode.test.contract.object.ComparatorContract;
+import org.soliscode.test.provider.FunctionalProvider;
+import org.soliscode.test.provider.ObjectProvider;
+import org.soliscode.test.provider.StringProvider;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [ComparableContract] and [ComparatorContract] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for the ComparableContract class")
+public class ComparableContractTest {
+
+    /// A key with three components that is ordered by each component in turn, in the manner of a composite database
+    /// key.
+    /// @param tenant the first component of the key.
+    /// @param account the second component of the key.
+    /// @param sequence the last component of the key.
+    public record CompositeKey(String tenant, String account, int sequence) implements Comparable<CompositeKey> {
+
+        private static final Comparator<CompositeKey> ORDER = Comparator.comparing(CompositeKey::tenant)
+                .thenComparing(CompositeKey::account)
+                .thenComparingInt(CompositeKey::sequence);
+
+        @Override
+        public int compareTo(final @NotNull CompositeKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /// Verifies that the tests pass for a composite key whose components are created by a [StringProvider].
+    @Nested
+    @DisplayName("Test ComparableContract with a composite key")
+    class CompositeKeyTest extends AbstractTest implements ComparableContract<CompositeKey> {
+
+        private final StringProvider strings = new StringProvider();
+
+        @Override
+        public @NotNull ObjectProvider<CompositeKey> provider() {
+            return new FunctionalProvider<>(
+                    () -> new CompositeKey("", "", 0),
+                    (k) -> new CompositeKey(k.tenant(), k.account(), k.sequence()),
+                    (seed) -> new CompositeKey(strings.createInstanceWithPrefix(8, seed / 16),
+                            strings.createInstanceWithPrefix(8, seed % 16), seed));
+        }
+    }
+
+    /// Instance of `ComparatorContract` that tests a broken comparator for strings. This contract will be expected to
+    /// fail on certain tests depending on the comparator.
+    @Disabled("Used only for dynamic test generation")
+    protected static class BrokenComparatorContract extends AbstractTest implements ComparatorContract<String> {
+
+        private final Comparator<String> comparator;
+
+        protected BrokenComparatorContract(final @NotNull Comparator<String> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public @NotNull Comparator<? super String> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public @NotNull ObjectProvider<String> provider() {
+            return new StringProvider();
+        }
+    }
+
+    /// Test factory for the tests that should fail for broken comparators.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBrokenComparators() {
+        return Arrays.asList(
+                failingTest("testComparisonIsAntisymmetric() fails for a comparator that is never negative",
+                        (a, b) -> a.equals(b) ? 0 : 1,
+                        BrokenComparatorContract::testComparisonIsAntisymmetric),
+
+                failingTest("testComparisonIsTransitive() fails for a cyclic comparator",
+                        ComparableContractTest::compareCyclically,
+                        BrokenComparatorContract::testComparisonIsTransitive),
+
+                failingTest("testComparisonIsConsistentWithEquals() fails for a comparator by length",
+                        Comparator.comparingInt(String::length),
+                        BrokenComparatorContract::testComparisonIsConsistentWithEquals)
+        );
+    }
+
+    private static DynamicTest failingTest(final String description, final Comparator<String> comparator,
+                                           final ThrowingConsumer<BrokenComparatorContract> test) {
+        return dynamicTest(description, () -> assertThrows(AssertionFailedError.class,
+                () -> test.accept(new BrokenComparatorContract(comparator))));
+    }
+
+    // Orders the numbers like rock, paper, scissors: each number is greater than the numbers that are one more,
+    // modulo three, so the ordering is antisymmetric but not transitive.
+    private static int compareCyclically(final String a, final String b) {
+        final int x = Integer.parseInt(a);
+        final int y = Integer.parseInt(b);
+        return switch (Math.floorMod(x - y, 3)) {
+            case 1 -> 1;
+            case 2 -> -1;
+            default -> Integer.compare(x, y);
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package org.soliscode.test.object;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.object.ComparableContract;
+import org.soliscode.test.contract.object.ComparisonCostContract;
+import org.soliscode.test.object.ComparableContractTest.CompositeKey;
+import org.soliscode.test.provider.FunctionalProvider;
+import org.soliscode.test.provider.ObjectProvider;
+import org.soliscode.test.provider.StringProvider;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [ComparisonCostContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for the ComparisonCostContract class")
+public class ComparisonCostContractTest {
+
+    /// Verifies that the tests pass for strings, which are compared one character at a time.
+    @Nested
+    @DisplayName("Test ComparisonCostContract with strings")
+    class StringKeyTest extends AbstractTest implements ComparableContract<String>, ComparisonCostContract<String> {
+
+        private final StringProvider strings = new StringProvider();
+
+        @Override
+        public @NotNull ObjectProvider<String> provider() {
+            return strings;
+        }
+
+        @Override
+        public @NotNull List<String> equalPrefixInstances(final int prefixLength) {
+            return List.of(strings.createInstanceWithPrefix(prefixLength, 1),
+                    strings.createInstanceWithPrefix(prefixLength, 2));
+        }
+    }
+
+    /// Verifies that the tests pass for a composite key whose first component is shared by the instances.
+    @Nested
+    @DisplayName("Test ComparisonCostContract with a composite key")
+    class CompositeKeyTest extends AbstractTest
+            implements ComparableContract<CompositeKey>, ComparisonCostContract<CompositeKey> {
+
+        private final StringProvider strings = new StringProvider();
+
+        @Override
+        public @NotNull ObjectProvider<CompositeKey> provider() {
+            return new FunctionalProvider<>(
+                    () -> new CompositeKey("", "", 0),
+                    (k) -> new CompositeKey(k.tenant(), k.account(), k.sequence()),
+                    (seed) -> new CompositeKey(strings.createInstanceWithPrefix(8, seed / 16),
+                            strings.createInstanceWithPrefix(8, seed % 16), seed));
+        }
+
+        @Override
+        public @NotNull List<CompositeKey> equalPrefixInstances(final int prefixLength) {
+            final String tenant = strings.createInstanceWithPrefix(prefixLength, 0);
+            return List.of(new CompositeKey(tenant, "a", 1), new CompositeKey(tenant, "b", 2));
+        }
+    }
+
+    /// Instance of `ComparisonCostContract` that tests a comparator for strings that rescans the common prefix. This
+    /// contract will be expected to fail the cost test.
+    @Disabled("Used only for dynamic test generation")
+    protected static class BrokenComparisonCostContract extends AbstractTest
+            implements ComparisonCostContract<String> {
+
+        @Override
+        public @NotNull Comparator<? super String> comparator() {
+            return ComparisonCostContractTest::compareByRescanning;
+        }
+
+        @Override
+        public @NotNull ObjectProvider<String> provider() {
+            return new StringProvider();
+        }
+
+        @Override
+        public @NotNull List<String> equalPrefixInstances(final int prefixLength) {
+            final StringProvider strings = new StringProvider();
+            return List.of(strings.createInstanceWithPrefix(prefixLength, 1),
+                    strings.createInstanceWithPrefix(prefixLength, 2));
+        }
+    }
+
+    /// Test factory for the tests that should fail for a comparator that rescans the prefix.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBrokenComparators() {
+        return Arrays.asList(
+                dynamicTest("testComparisonCostOfEqualPrefixes() fails for a comparator that rescans the prefix",
+                        () -> assertThrows(AssertionFailedError.class,
+                                () -> new BrokenComparisonCostContract().testComparisonCostOfEqualPrefixes()))
+        );
+    }
+
+    // Orders the strings lexicographically, but checks the whole prefix again for each character, which takes
+    // quadratic time in the length of the common prefix.
+    private static int compareByRescanning(final String a, final String b) {
+        final int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < n && a.regionMatches(0, b, 0, i + 1)) {
+            i++;
+        }
+        return (i < n) ? Character.compare(a.charAt(i), b.charAt(i)) : Integer.compare(a.length(), b.length());
+    }
+}
@@ -1,8 +1,8 @@
 package org.soliscode.test.object;
 
 import org.soliscode.test.AbstractTest;
+import org.soliscode.test.contract.object.ComparableContract;
 import org.soliscode.test.contract.support.WithString;
 
-public class StringTest extends AbstractTest implements WithString  {
-
+public class StringTest extends AbstractTest implements WithString, ComparableContract<String> {
 }
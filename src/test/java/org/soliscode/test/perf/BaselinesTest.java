@@ -0,0 +1,90 @@
+package org.soliscode.test.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [Baselines], [BaselineStore] and [Statistics] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class BaselinesTest {
+
+    private static final double[] BASELINE = {100, 102, 98, 101, 99, 103, 97, 100, 101, 99};
+    private static final double[] SAME = {101, 99, 100, 98, 102, 100, 103, 97, 100, 101};
+    private static final double[] SLOWER = {150, 152, 148, 151, 149, 153, 147, 150, 151, 149};
+
+    @Test
+    @DisplayName("Test that the store round-trips the baselines")
+    public void testStoreRoundTrip(@TempDir Path directory) {
+        BaselineStore store = new BaselineStore(directory);
+        assertNull(store.get("group", "a"));
+
+        store.put("group", "a", BASELINE);
+        store.put("group", "b \"quoted\"", new double[]{1.5, -2e-3});
+
+        assertArrayEquals(BASELINE, store.get("group", "a"));
+        assertArrayEquals(new double[]{1.5, -2e-3}, store.get("group", "b \"quoted\""));
+        assertEquals(2, store.load("group").size());
+        assertTrue(store.file("group").toFile().exists());
+    }
+
+    @Test
+    @DisplayName("Test that a malformed baseline file is reported")
+    public void testMalformedFile(@TempDir Path directory) throws Exception {
+        BaselineStore store = new BaselineStore(directory);
+        java.nio.file.Files.writeString(store.file("bad"), "{\"a\": [1, x]}");
+        assertThrows(IllegalStateException.class, () -> store.load("bad"));
+    }
+
+    @Test
+    @DisplayName("Test the Mann-Whitney U test on shifted and identical distributions")
+    public void testMannWhitney() {
+        assertTrue(Statistics.mannWhitneyGreater(SLOWER, BASELINE) < 0.001);
+        assertTrue(Statistics.mannWhitneyGreater(SAME, BASELINE) > 0.1);
+        assertTrue(Statistics.mannWhitneyGreater(BASELINE, SLOWER) > 0.99);
+        assertEquals(100.0, Statistics.median(BASELINE));
+    }
+
+    @Test
+    @DisplayName("Test that only significant regressions fail")
+    public void testAssertNoRegression(@TempDir Path directory) {
+        BaselineStore store = new BaselineStore(directory);
+        store.save("group", Map.of("m", BASELINE));
+        Baselines baselines = new Baselines(store, false, 0.01, 0.10);
+
+        baselines.assertNoRegression("group", "m", SAME);
+        baselines.assertNoRegression("group", "unrecorded", SLOWER);
+        assertThrows(AssertionFailedError.class, () -> baselines.assertNoRegression("group", "m", SLOWER));
+    }
+
+    @Test
+    @DisplayName("Test that a small but significant change within the tolerance passes")
+    public void testTolerance() {
+        double[] slightlySlower = new double[BASELINE.length];
+        for (int i = 0; i < BASELINE.length; i++) {
+            slightlySlower[i] = BASELINE[i] + 5;
+        }
+        Baselines baselines = new Baselines(new BaselineStore(Path.of("unused")), false, 0.01, 0.10);
+        assertFalse(baselines.isRegression(slightlySlower, BASELINE));
+        assertTrue(baselines.isRegression(SLOWER, BASELINE));
+    }
+
+    @Test
+    @DisplayName("Test that record mode replaces the baseline")
+    public void testRecordMode(@TempDir Path directory) {
+        BaselineStore store = new BaselineStore(directory);
+        store.save("group", Map.of("m", BASELINE));
+
+        new Baselines(store, true, 0.01, 0.10).assertNoRegression("group", "m", SLOWER);
+
+        assertArrayEquals(SLOWER, store.get("group", "m"));
+        new Baselines(store, false, 0.01, 0.10).assertNoRegression("group", "m", SLOWER);
+    }
+}
@@ -0,0 +1,102 @@
+package org.soliscode.test.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [ComplexityEstimator] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class ComplexityEstimatorTest {
+
+    private static final int[] SIZES = {1_000, 2_000, 4_000, 8_000, 16_000, 32_000, 64_000};
+
+    private final ComplexityEstimator estimator = ComplexityEstimator.builder().sizes(SIZES).build();
+
+    @Test
+    @DisplayName("Test that each model is selected for exact operation counts")
+    public void testExactCounts() {
+        for (Complexity c : Complexity.values()) {
+            ComplexityEstimate estimate = estimator.estimateCount(n -> 7 + (long) (3 * c.growth(n)));
+            assertEquals(c, estimate.complexity(), estimate::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that each model is selected for noisy measurements")
+    public void testNoisyValues() {
+        Random random = new Random(17);
+        for (Complexity c : Complexity.values()) {
+            double[] values = new double[SIZES.length];
+            for (int i = 0; i < SIZES.length; i++) {
+                values[i] = (5 + 10 * c.growth(SIZES[i])) * (1 + 0.05 * random.nextGaussian());
+            }
+            assertEquals(c, estimator.fit(SIZES, values).complexity());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a single outlier is trimmed from the fit")
+    public void testOutlierIsTrimmed() {
+        double[] values = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            values[i] = 10.0 * SIZES[i];
+        }
+        values[2] *= 20;
+        assertEquals(Complexity.LINEAR, estimator.fit(SIZES, values).complexity());
+    }
+
+    @Test
+    @DisplayName("Test that the time samples are taken after the warm-up rounds")
+    public void testSampleTime() {
+        ComplexityEstimator sampler = ComplexityEstimator.builder().warmups(3).repetitions(7).build();
+        int[] runs = {0};
+        double[] samples = sampler.sampleTime(() -> () -> runs[0]++);
+        assertEquals(7, samples.length);
+        assertEquals(10, runs[0]);
+        assertTrue(Arrays.stream(samples).allMatch(t -> t >= 0));
+    }
+
+    @Test
+    @DisplayName("Test that zero counts are constant")
+    public void testZeroCounts() {
+        assertEquals(Complexity.CONSTANT, estimator.estimateCount(n -> 0).complexity());
+    }
+
+    @Test
+    @DisplayName("Test the assertions on operation counts")
+    public void testAssertCountAtMost() {
+        estimator.assertCountAtMost(Complexity.LINEAR, n -> n);
+        estimator.assertCountAtMost(Complexity.QUADRATIC, n -> n);
+        assertThrows(AssertionFailedError.class, () -> estimator.assertCountAtMost(Complexity.LINEAR, n -> (long) n * n));
+    }
+
+    @Test
+    @DisplayName("Test that a quadratic operation is detected by timing")
+    public void testAssertTimeAtMost() {
+        ComplexityEstimator timed = ComplexityEstimator.builder().sizes(1_000, 2_000, 4_000, 8_000, 16_000).build();
+        assertThrows(AssertionFailedError.class, () -> timed.assertTimeAtMost(Complexity.LINEAR, size -> {
+            List<Integer> list = new ArrayList<>();
+            return () -> {
+                for (int i = 0; i < size; i++) {
+                    list.addFirst(i);
+                }
+            };
+        }));
+    }
+
+    @Test
+    @DisplayName("Test the validation of the builder")
+    public void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.builder().sizes(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.builder().sizes(0, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.builder().repetitions(0));
+        assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.builder().trim(1.0));
+        assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.builder().attempts(0));
+    }
+}
@@ -0,0 +1,110 @@
+package org.soliscode.test.perf;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/// Tests for the [ContractMetricsExtension] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class ContractMetricsExtensionTest {
+
+    /// A contract with a single test method, used to check that the contract name is recorded.
+    interface SampleContract {
+
+        @Test
+        default void testAllocates() {
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                list.add(i);
+            }
+            assertEquals(10_000, list.size());
+        }
+    }
+
+    /// A test class that is run through the test kit rather than directly by the build.
+    @ExtendWith(ContractMetricsExtension.class)
+    static class SampleTest implements SampleContract {
+
+        @Test
+        void testFails() {
+            fail("expected failure");
+        }
+
+        @Test
+        void testAborts() {
+            Assumptions.assumeTrue(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a JSON and CSV report is written for the test class")
+    public void testReportIsWritten(@TempDir Path directory) throws IOException {
+        EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(SampleTest.class))
+                .configurationParameter(ContractMetricsExtension.DIRECTORY_PARAMETER, directory.toString())
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(1).failed(1).aborted(1));
+
+        Path csv = directory.resolve(SampleTest.class.getName() + ".csv");
+        Path json = directory.resolve(SampleTest.class.getName() + ".json");
+        assertTrue(Files.exists(csv));
+        assertTrue(Files.exists(json));
+
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(ContractMetrics.CSV_HEADER, lines.getFirst());
+        assertEquals(4, lines.size());
+
+        String allocates = lines.stream().filter(l -> l.contains("testAllocates")).findFirst().orElseThrow();
+        assertTrue(allocates.contains(SampleContract.class.getName()));
+        assertTrue(allocates.contains(",successful,"));
+        if (Allocations.isSupported()) {
+            String[] fields = allocates.split(",");
+            assertTrue(Long.parseLong(fields[6]) > 0);
+        }
+        assertTrue(lines.stream().anyMatch(l -> l.contains("testFails") && l.contains(",failed,")));
+        assertTrue(lines.stream().anyMatch(l -> l.contains("testAborts") && l.contains(",aborted,")));
+
+        String report = Files.readString(json);
+        assertTrue(report.startsWith("["));
+        assertTrue(report.contains("\"method\":\"testAllocates\""));
+    }
+
+    @Test
+    @DisplayName("Test that no report is written when the extension is disabled")
+    public void testDisabled(@TempDir Path directory) throws IOException {
+        EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(SampleTest.class))
+                .configurationParameter(ContractMetricsExtension.DIRECTORY_PARAMETER, directory.toString())
+                .configurationParameter(ContractMetricsExtension.ENABLED_PARAMETER, "false")
+                .execute();
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the JSON values are escaped")
+    public void testJsonEscaping() {
+        ContractMetrics metrics = new ContractMetrics("a\"b", "c\\d", "m", "x,y\n", "successful", 1, 2, 3, 4);
+        assertEquals("{\"implementation\":\"a\\\"b\",\"contract\":\"c\\\\d\",\"method\":\"m\","
+                + "\"displayName\":\"x,y\\n\",\"outcome\":\"successful\",\"wallNanos\":1,\"allocatedBytes\":2,"
+                + "\"gcMillis\":3,\"gcCount\":4}", metrics.toJson());
+        assertEquals("a\"b,c\\d,m,\"x,y\n\",successful,1,2,3,4".replace("a\"b", "\"a\"\"b\""), metrics.toCsv());
+    }
+}
@@ -0,0 +1,112 @@
+package org.soliscode.test.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [LatencyHistogram] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Test that an empty histogram reports zero")
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.min());
+        assertEquals(0, histogram.max());
+        assertEquals(0.0, histogram.mean());
+        assertEquals(0, histogram.valueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("Test that small values are recorded exactly")
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(1, histogram.min());
+        assertEquals(100, histogram.max());
+        assertEquals(50.5, histogram.mean());
+        assertEquals(50, histogram.valueAtPercentile(50.0));
+        assertEquals(99, histogram.valueAtPercentile(99.0));
+        assertEquals(100, histogram.valueAtPercentile(100.0));
+        assertEquals(1, histogram.valueAtPercentile(0.0));
+    }
+
+    @Test
+    @DisplayName("Test that percentiles are within the relative error of the exact values")
+    public void testPercentilesAreWithinRelativeError() {
+        Random random = new Random(11);
+        long[] values = new long[100_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 30);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {1.0, 25.0, 50.0, 90.0, 99.0, 99.9, 100.0}) {
+            long exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+            long reported = histogram.valueAtPercentile(percentile);
+            assertTrue(reported >= exact, () -> percentile + ": " + reported + " < " + exact);
+            assertTrue(reported - exact <= exact / LatencyHistogram.SUB_BUCKETS,
+                    () -> percentile + ": " + reported + " is not within the error of " + exact);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the largest value can be recorded")
+    public void testLargestValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(0);
+        assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(100.0));
+        assertEquals(0, histogram.valueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("Test that adding histograms combines their values")
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        first.record(20);
+        second.record(5);
+        second.record(1_000_000);
+        first.add(second);
+        first.add(new LatencyHistogram());
+        assertEquals(4, first.count());
+        assertEquals(5, first.min());
+        assertEquals(1_000_000, first.max());
+        assertEquals(10, first.valueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("Test that reset removes the recorded values")
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    @DisplayName("Test that invalid arguments are rejected")
+    public void testInvalidArguments() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(Double.NaN));
+    }
+}
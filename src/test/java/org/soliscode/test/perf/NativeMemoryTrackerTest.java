@@ -0,0 +1,59 @@
+package org.soliscode.test.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [NativeMemoryTracker] and [CountingArena] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class NativeMemoryTrackerTest {
+
+    @Test
+    @DisplayName("Test that a counting arena counts the bytes allocated")
+    public void testCountingArena() {
+        CountingArena arena = new CountingArena(Arena.ofConfined());
+        arena.allocate(100);
+        arena.allocate(24, 8);
+        assertEquals(124, arena.allocatedBytes());
+        assertEquals(2, arena.allocations());
+        assertTrue(arena.isOpen());
+        arena.close();
+        assertFalse(arena.isOpen());
+        assertEquals(124, arena.allocatedBytes());
+    }
+
+    @Test
+    @DisplayName("Test that the tracker counts the bytes held by open arenas")
+    public void testLiveBytes() {
+        try (NativeMemoryTracker tracker = new NativeMemoryTracker()) {
+            CountingArena first = tracker.get();
+            CountingArena second = tracker.get();
+            first.allocate(64);
+            second.allocate(32);
+            assertEquals(96, tracker.liveBytes());
+            assertEquals(2, tracker.openArenas());
+
+            first.close();
+            assertEquals(32, tracker.liveBytes());
+            assertEquals(96, tracker.allocatedBytes());
+            assertEquals(1, tracker.openArenas());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that closing the tracker closes the open arenas")
+    public void testCloseReleasesOpenArenas() {
+        NativeMemoryTracker tracker = new NativeMemoryTracker();
+        CountingArena arena = tracker.get();
+        arena.allocate(64);
+        tracker.close();
+        assertFalse(arena.isOpen());
+        assertEquals(0, tracker.liveBytes());
+        assertEquals(0, tracker.openArenas());
+    }
+}
@@ -0,0 +1,90 @@
+package org.soliscode.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [ElementCache] and [CachingProvider] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class ElementCacheTest {
+
+    @Test
+    @DisplayName("Test that the same element list is returned for the same provider, size and seed")
+    public void testCachedListIsShared() {
+        ElementCache cache = new ElementCache(4);
+        CachingProvider<Integer> provider = new CachingProvider<>(Providers.integerProvider(), cache);
+
+        List<Integer> first = provider.createUniqueInstances(100, 3);
+        List<Integer> second = provider.createUniqueInstances(100, 3);
+
+        assertSame(first, second);
+        assertEquals(Providers.integerProvider().createUniqueInstances(100, 3), first);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    @DisplayName("Test that different sizes and seeds are cached separately")
+    public void testSizeAndSeedArePartOfTheKey() {
+        ElementCache cache = new ElementCache(4);
+        CachingProvider<Integer> provider = new CachingProvider<>(Providers.integerProvider(), cache);
+
+        assertEquals(10, provider.createUniqueInstances(10).size());
+        assertEquals(20, provider.createUniqueInstances(20).size());
+        assertEquals(List.of(5, 6), provider.createUniqueInstances(2, 5));
+        assertEquals(3, cache.size());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    @DisplayName("Test that the cached element lists are unmodifiable")
+    public void testCachedListIsUnmodifiable() {
+        CachingProvider<Integer> provider = new CachingProvider<>(Providers.integerProvider(), new ElementCache(4));
+        List<Integer> elements = provider.createUniqueInstances(10);
+        assertThrows(UnsupportedOperationException.class, () -> elements.add(11));
+        assertThrows(UnsupportedOperationException.class, () -> elements.remove(0));
+    }
+
+    @Test
+    @DisplayName("Test that the least recently used element list is evicted")
+    public void testLeastRecentlyUsedIsEvicted() {
+        ElementCache cache = new ElementCache(2);
+        CachingProvider<Integer> provider = new CachingProvider<>(Providers.integerProvider(), cache);
+
+        List<Integer> first = provider.createUniqueInstances(1);
+        provider.createUniqueInstances(2);
+        assertSame(first, provider.createUniqueInstances(1));
+        provider.createUniqueInstances(3);
+
+        assertEquals(2, cache.size());
+        assertSame(first, provider.createUniqueInstances(1));
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    @DisplayName("Test that the unique size limit of the provider is respected")
+    public void testUniqueSizeLimit() {
+        ObjectProvider<String> limited = new StringProvider() {
+            @Override
+            public int uniqueSizeLimit() {
+                return 5;
+            }
+        };
+        CachingProvider<String> provider = new CachingProvider<>(limited, new ElementCache(4));
+        assertThrows(IllegalArgumentException.class, () -> provider.createUniqueInstances(6));
+    }
+
+    @Test
+    @DisplayName("Test that wrapping a caching provider returns the same provider")
+    public void testCachedIsIdempotent() {
+        CachingProvider<Integer> provider = Providers.cached(Providers.integerProvider());
+        assertSame(provider, Providers.cached(provider));
+        assertSame(ElementCache.shared(), provider.cache());
+    }
+}
@@ -0,0 +1,179 @@
+package org.soliscode.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the [MappedDataset], [DatasetWriter] and [MappedDatasetProvider] classes.
+///
+/// @author evanbergstrom
+/// @since 1.0
+public class MappedDatasetTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Test that a dataset of fixed-width elements is read back from the unique instances of a provider")
+    public void testFixedWidthDataset() throws IOException {
+        Path file = directory.resolve("ints.dataset");
+        DatasetWriter.write(file, DatasetCodecs.integers(), Providers.integerProvider(), 1000, 5);
+
+        MappedDataset<Integer> dataset = MappedDataset.open(file, DatasetCodecs.integers());
+        assertEquals(1000, dataset.size());
+        assertEquals(Providers.integerProvider().createUniqueInstances(1000, 5), dataset.elements());
+        assertEquals(5, dataset.get(0));
+        assertEquals(OptionalInt.of(5), dataset.seed());
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.get(1000));
+    }
+
+    @Test
+    @DisplayName("Test that a dataset of variable-width elements is read back from a collection")
+    public void testVariableWidthDataset() throws IOException {
+        Path file = directory.resolve("strings.dataset");
+        List<String> elements = List.of("", "a", "key-0001", "ключ", "a😀b");
+        DatasetWriter.write(file, DatasetCodecs.strings(), elements);
+
+        MappedDataset<String> dataset = MappedDataset.open(file, DatasetCodecs.strings());
+        assertEquals(elements, dataset.elements());
+        assertEquals("ключ", dataset.get(3));
+    }
+
+    @Test
+    @DisplayName("Test that a dataset with more offsets than fit in the write buffer is read back")
+    public void testLargeVariableWidthDataset() throws IOException {
+        Path file = directory.resolve("large.dataset");
+        DatasetWriter.write(file, DatasetCodecs.strings(), Providers.stringProvider(), 20_000);
+
+        MappedDataset<String> dataset = MappedDataset.open(file, DatasetCodecs.strings());
+        assertEquals(Providers.stringProvider().createUniqueInstances(20_000), dataset.elements());
+    }
+
+    @Test
+    @DisplayName("Test that an empty dataset can be written and read")
+    public void testEmptyDataset() throws IOException {
+        Path file = directory.resolve("empty.dataset");
+        DatasetWriter.write(file, DatasetCodecs.longs(), List.of());
+        assertTrue(MappedDataset.open(file, DatasetCodecs.longs()).elements().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test that a dataset cannot be read with a different codec")
+    public void testCodecMismatch() throws IOException {
+        Path file = directory.resolve("longs.dataset");
+        DatasetWriter.write(file, DatasetCodecs.longs(), List.of(1L, 2L));
+        assertThrows(IllegalArgumentException.class, () -> MappedDataset.open(file, DatasetCodecs.integers()));
+    }
+
+    @Test
+    @DisplayName("Test that a file that is not a dataset, or is truncated, cannot be opened")
+    public void testInvalidFiles() throws IOException {
+        Path text = Files.writeString(directory.resolve("text.dataset"), "this is not a dataset file");
+        assertThrows(IOException.class, () -> MappedDataset.open(text, DatasetCodecs.strings()));
+
+        Path file = directory.resolve("truncated.dataset");
+        DatasetWriter.write(file, DatasetCodecs.longs(), List.of(1L, 2L, 3L));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MappedDataset.open(file, DatasetCodecs.longs()));
+    }
+
+    @Test
+    @DisplayName("Test that the mapped provider reads the first seeds from the dataset and delegates the others")
+    public void testMappedProvider() {
+        MappedDatasetProvider<String> provider = Providers.mapped(directory.resolve("provider.dataset"),
+                DatasetCodecs.strings(), Providers.stringProvider(), 100);
+        StringProvider strings = Providers.stringProvider();
+
+        assertEquals(100, provider.dataset().size());
+        assertEquals(strings.createInstance(42), provider.createInstance(42));
+        assertEquals(strings.createInstance(100), provider.createInstance(100));
+        assertEquals(strings.defaultInstance(), provider.defaultInstance());
+        assertEquals(strings.createUniqueInstances(150, 20), provider.createUniqueInstances(150, 20));
+    }
+
+    @Test
+    @DisplayName("Test that the unique instances in the dataset are a view of the dataset rather than a copy")
+    public void testMappedProviderUniqueInstancesAreNotCopied() {
+        MappedDatasetProvider<Long> provider = Providers.mapped(directory.resolve("view.dataset"),
+                DatasetCodecs.longs(), Providers.longProvider(), 100);
+
+        List<Long> view = provider.createUniqueInstances(50, 20);
+        assertEquals(provider.dataset().elements().subList(20, 70), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, -1L));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+
+        List<Long> copied = provider.createUniqueInstances(50, 80);
+        assertEquals(Providers.longProvider().createUniqueInstances(50, 80), copied);
+        copied.set(0, -1L);
+        assertEquals(80L, provider.createInstance(80));
+    }
+
+    @Test
+    @DisplayName("Test that an existing dataset is reused, and rewritten if it is too small")
+    public void testMappedProviderReusesDataset() throws IOException {
+        Path file = directory.resolve("reused.dataset");
+        Providers.mapped(file, DatasetCodecs.integers(), Providers.integerProvider(), 100);
+
+        MappedDatasetProvider<Integer> reused = Providers.mapped(file, DatasetCodecs.integers(),
+                Providers.integerProvider(), 50);
+        assertEquals(100, reused.dataset().size());
+
+        MappedDatasetProvider<Integer> rewritten = Providers.mapped(file, DatasetCodecs.integers(),
+                Providers.integerProvider(), 200);
+        assertEquals(200, rewritten.dataset().size());
+        assertEquals(200, MappedDataset.open(file, DatasetCodecs.integers()).size());
+    }
+
+    @Test
+    @DisplayName("Test that a dataset written from a different provider, or from a collection, is rewritten")
+    public void testMappedProviderRewritesStaleDataset() throws IOException {
+        Path file = directory.resolve("stale.dataset");
+        Providers.mapped(file, DatasetCodecs.integers(), Providers.integerProvider(), 100);
+
+        ObjectProvider<Integer> negating = new FunctionalProvider<>(() -> 0, (i) -> i, (seed) -> -seed);
+        MappedDatasetProvider<Integer> rewritten = Providers.mapped(file, DatasetCodecs.integers(), negating, 50);
+        assertEquals(50, rewritten.dataset().size());
+        assertEquals(-7, rewritten.createInstance(7));
+
+        DatasetWriter.write(file, DatasetCodecs.integers(), List.of(0, 1, 2));
+        MappedDatasetProvider<Integer> written = Providers.mapped(file, DatasetCodecs.integers(),
+                Providers.integerProvider(), 3);
+        assertEquals(OptionalInt.of(0), written.dataset().seed());
+    }
+
+    @Test
+    @DisplayName("Test that the mapped provider limits the unique instances to a dataset written from a collection")
+    public void testMappedProviderUniqueSizeLimit() throws IOException {
+        Path collection = directory.resolve("collection.dataset");
+        DatasetWriter.write(collection, DatasetCodecs.longs(), List.of(3L, 1L, 2L));
+        MappedDataset<Long> sampled = MappedDataset.open(collection, DatasetCodecs.longs());
+        assertTrue(sampled.seed().isEmpty());
+        assertEquals(3, new MappedDatasetProvider<>(sampled, Providers.longProvider()).uniqueSizeLimit());
+
+        Path generated = directory.resolve("generated.dataset");
+        DatasetWriter.write(generated, DatasetCodecs.longs(), Providers.longProvider(), 3);
+        MappedDataset<Long> dataset = MappedDataset.open(generated, DatasetCodecs.longs());
+        assertEquals(Providers.longProvider().uniqueSizeLimit(),
+                new MappedDatasetProvider<>(dataset, Providers.longProvider()).uniqueSizeLimit());
+    }
+
+    @Test
+    @DisplayName("Test that the mapped provider can be used as the element provider of a collection provider")
+    public void testCollectionProvider() {
+        MappedDatasetProvider<Long> keys = Providers.mapped(directory.resolve("keys.dataset"), DatasetCodecs.longs(),
+                Providers.longProvider(), 1000);
+        ArrayList<Long> list = CollectionProviders.provideArrayList(keys).createInstanceWithUniqueElements(1000);
+        assertEquals(keys.dataset().elements(), list);
+    }
+}
@@ -0,0 +1,88 @@
+package org.soliscode.test.text;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableCharSequence;
+import org.soliscode.test.contract.text.CharAccessComplexityContract;
+import org.soliscode.test.provider.CharSequenceProvider;
+import org.soliscode.test.provider.CharSequenceProviders;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [CharAccessComplexityContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for the CharAccessComplexityContract class")
+public class CharAccessComplexityContractTest {
+
+    /// Verifies that the tests pass for [StringBuilder].
+    @Nested
+    @DisplayName("Test CharAccessComplexityContract with StringBuilder")
+    class StringBuilderTest extends AbstractTest implements CharAccessComplexityContract<StringBuilder> {
+        @Override
+        public @NotNull CharSequenceProvider<StringBuilder> provider() {
+            return CharSequenceProviders.provideStringBuilder();
+        }
+    }
+
+    /// Verifies that the tests pass for [CharBuffer].
+    @Nested
+    @DisplayName("Test CharAccessComplexityContract with CharBuffer")
+    class CharBufferTest extends AbstractTest implements CharAccessComplexityContract<CharBuffer> {
+        @Override
+        public @NotNull CharSequenceProvider<CharBuffer> provider() {
+            return CharSequenceProviders.provideCharBuffer();
+        }
+    }
+
+    /// Instance of `CharAccessComplexityContract` that tests a broken char sequence. This contract will be expected
+    /// to fail on certain tests depending on the breaks.
+    @Disabled("Used only for dynamic test generation")
+    protected static class BrokenCharAccessComplexityContract extends AbstractTest
+            implements CharAccessComplexityContract<BreakableCharSequence> {
+
+        private final Set<Break> breaks;
+
+        protected BrokenCharAccessComplexityContract(final @NotNull Set<Break> breaks) {
+            this.breaks = breaks;
+        }
+
+        @Override
+        public @NotNull CharSequenceProvider<BreakableCharSequence> provider() {
+            return BreakableCharSequence.provider(breaks);
+        }
+    }
+
+    /// Test factory for the tests that should fail for broken char sequences.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBrokenCharSequences() {
+        return Arrays.asList(
+                failingTest("testLengthIsConstantTime() fails for a length that counts the characters",
+                        BreakableCharSequence.LENGTH_COUNTS_CHARS,
+                        BrokenCharAccessComplexityContract::testLengthIsConstantTime),
+
+                failingTest("testCharAtIsConstantTime() fails for a charAt that scans the sequence",
+                        BreakableCharSequence.CHAR_AT_SCANS,
+                        BrokenCharAccessComplexityContract::testCharAtIsConstantTime)
+        );
+    }
+
+    private static DynamicTest failingTest(final String description, final Break aBreak,
+                                           final ThrowingConsumer<BrokenCharAccessComplexityContract> test) {
+        return dynamicTest(description, () -> assertThrows(AssertionFailedError.class,
+                () -> test.accept(new BrokenCharAccessComplexityContract(Set.of(aBreak)))));
+    }
+}
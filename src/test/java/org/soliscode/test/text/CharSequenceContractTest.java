@@ -0,0 +1,137 @@
+package org.soliscode.test.text;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.opentest4j.AssertionFailedError;
+import org.soliscode.test.AbstractTest;
+import org.soliscode.test.breakable.Break;
+import org.soliscode.test.breakable.BreakableCharSequence;
+import org.soliscode.test.contract.text.CharSequenceContract;
+import org.soliscode.test.provider.CharSequenceProvider;
+import org.soliscode.test.provider.CharSequenceProviders;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/// Tests for the [CharSequenceContract] class.
+///
+/// @author evanbergstrom
+/// @since 1.0
+@DisplayName("Tests for the CharSequenceContract class")
+public class CharSequenceContractTest {
+
+    /// Verifies that the tests pass for [String], whose subsequences are copies.
+    @Nested
+    @DisplayName("Test CharSequenceContract with String")
+    class StringTest extends AbstractTest implements CharSequenceContract<String> {
+        @Override
+        public @NotNull CharSequenceProvider<String> provider() {
+            return CharSequenceProviders.provideString();
+        }
+    }
+
+    /// Verifies that the tests pass for [String] with characters that do not fit in a single byte.
+    @Nested
+    @DisplayName("Test CharSequenceContract with String of Greek characters")
+    class GreekStringTest extends AbstractTest implements CharSequenceContract<String> {
+        @Override
+        public @NotNull CharSequenceProvider<String> provider() {
+            return CharSequenceProviders.from(CharSequence::toString, "αβγδεζηθικλμνξοπρστυφχψω");
+        }
+    }
+
+    /// Verifies that the tests pass for [StringBuilder], whose subsequences are copies.
+    @Nested
+    @DisplayName("Test CharSequenceContract with StringBuilder")
+    class StringBuilderTest extends AbstractTest implements CharSequenceContract<StringBuilder> {
+        @Override
+        public @NotNull CharSequenceProvider<StringBuilder> provider() {
+            return CharSequenceProviders.provideStringBuilder();
+        }
+    }
+
+    /// Verifies that the tests pass for [CharBuffer], whose subsequences are views.
+    @Nested
+    @DisplayName("Test CharSequenceContract with CharBuffer")
+    class CharBufferTest extends AbstractTest implements CharSequenceContract<CharBuffer> {
+        @Override
+        public @NotNull CharSequenceProvider<CharBuffer> provider() {
+            return CharSequenceProviders.provideCharBuffer();
+        }
+
+        @Override
+        public boolean subSequenceIsView() {
+            return true;
+        }
+    }
+
+    /// Verifies that the tests pass for a [BreakableCharSequence] that has no breaks.
+    @Nested
+    @DisplayName("Test CharSequenceContract with BreakableCharSequence")
+    class BreakableCharSequenceTest extends AbstractTest implements CharSequenceContract<BreakableCharSequence> {
+        @Override
+        public @NotNull CharSequenceProvider<BreakableCharSequence> provider() {
+            return BreakableCharSequence.provider();
+        }
+
+        @Override
+        public boolean subSequenceIsView() {
+            return true;
+        }
+    }
+
+    /// Instance of `CharSequenceContract` that tests a broken char sequence. This contract will be expected to fail
+    /// on certain tests depending on the breaks.
+    @Disabled("Used only for dynamic test generation")
+    protected static class BrokenCharSequenceContract extends AbstractTest
+            implements CharSequenceContract<BreakableCharSequence> {
+
+        private final Set<Break> breaks;
+
+        protected BrokenCharSequenceContract(final @NotNull Set<Break> breaks) {
+            this.breaks = breaks;
+        }
+
+        @Override
+        public @NotNull CharSequenceProvider<BreakableCharSequence> provider() {
+            return BreakableCharSequence.provider(breaks);
+        }
+
+        @Override
+        public boolean subSequenceIsView() {
+            return true;
+        }
+    }
+
+    /// Test factory for the tests that should fail for broken char sequences.
+    ///
+    /// @return a collection of dynamic tests.
+    @TestFactory
+    public Collection<DynamicTest> dynamicTestsForBrokenCharSequences() {
+        return Arrays.asList(
+                failingTest("testSubSequence() fails for a subSequence whose end is inclusive",
+                        BreakableCharSequence.SUB_SEQUENCE_END_IS_INCLUSIVE,
+                        BrokenCharSequenceContract::testSubSequence),
+
+                failingTest("testSubSequenceAllocation() fails for a subSequence that copies the sequence",
+                        BreakableCharSequence.SUB_SEQUENCE_COPIES_SEQUENCE,
+                        BrokenCharSequenceContract::testSubSequenceAllocation),
+
+                failingTest("testCharsAllocatesConstantMemory() fails for a chars that copies the sequence",
+                        BreakableCharSequence.CHARS_COPIES_SEQUENCE,
+                        BrokenCharSequenceContract::testCharsAllocatesConstantMemory)
+        );
+    }
+
+    private static DynamicTest failingTest(final String description, final Break aBreak,
+                                           final ThrowingConsumer<BrokenCharSequenceContract> test) {
+        return dynamicTest(description, () -> assertThrows(AssertionFailedError.class,
+                () -> test.accept(new BrokenCharSequenceContract(Set.of(aBreak)))));
+    }
+}